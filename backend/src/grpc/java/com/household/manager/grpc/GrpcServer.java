@@ -0,0 +1,90 @@
+package com.household.manager.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the gRPC services of the application on {@code household.grpc.port},
+ * started and stopped together with the web server.
+ * <p>
+ * Calls run on virtual threads, so an ingest call may block on its batch
+ * write without holding a platform thread. Disabled with
+ * {@code household.grpc.enabled=false}; the services can still be bound to an
+ * in-process server.
+ */
+@Component
+@ConditionalOnProperty(name = "household.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private final List<BindableService> services;
+
+    @Value("${household.grpc.port:9090}")
+    private int port;
+
+    private ExecutorService executor;
+    private volatile Server server;
+
+    public GrpcServer(List<BindableService> services) {
+        this.services = services;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        ServerBuilder<?> builder = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                .executor(executor);
+        services.forEach(builder::addService);
+        try {
+            server = builder.build().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, ex);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                // open watch streams never complete by themselves
+                server.shutdownNow().awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        executor.shutdownNow();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * The port the server listens on, e.g. when started with port 0.
+     */
+    public int getPort() {
+        return server.getPort();
+    }
+}
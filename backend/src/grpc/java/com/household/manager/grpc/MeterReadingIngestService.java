@@ -0,0 +1,409 @@
+package com.household.manager.grpc;
+
+import com.household.manager.dto.MeterReadingChangesResponse;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.grpc.v1.Deletion;
+import com.household.manager.grpc.v1.IngestError;
+import com.household.manager.grpc.v1.IngestSummary;
+import com.household.manager.grpc.v1.MeterReading;
+import com.household.manager.grpc.v1.MeterReadingIngestGrpc;
+import com.household.manager.grpc.v1.ReadingChange;
+import com.household.manager.grpc.v1.WatchRequest;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import com.household.manager.service.MeterReadingService;
+import com.household.manager.service.MeterReadingSyncService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC service for smart-meter gateways: streamed ingestion of readings and
+ * watching reading changes.
+ * <p>
+ * Ingested readings are validated like REST requests and written in batches
+ * through {@link MeterReadingBatchWriter} with monotonic validation, either
+ * when {@code household.grpc.ingest.batch-size} readings are pending or
+ * {@code household.grpc.ingest.flush-interval-ms} after the first pending
+ * reading. A batch is written before the next message is taken from the
+ * stream, so a gateway cannot outrun the database. When a write fails the
+ * call ends with {@code UNAVAILABLE}; written batches stay, and resending the
+ * stream skips them as duplicates.
+ * <p>
+ * Watchers read the change log ({@link MeterReadingSyncService}) with their
+ * own change token whenever readings are committed ({@link ReadingChangeSignal})
+ * and at least every {@code household.grpc.watch.poll-interval-ms}, which also
+ * picks up writes of other instances. Delivery is at least once: every change
+ * carries the token to resume from. A watcher only reads further once its
+ * stream has room, so a slow client does not buffer changes on the server;
+ * one that accepts nothing for {@code household.grpc.watch.slow-client-timeout-ms}
+ * is disconnected with {@code RESOURCE_EXHAUSTED}.
+ */
+@Service
+@Slf4j
+public class MeterReadingIngestService extends MeterReadingIngestGrpc.MeterReadingIngestImplBase
+        implements DisposableBean {
+
+    /** Validation errors reported per ingest call; further invalid messages are only counted. */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final MeterReadingService meterReadingService;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+    private final MeterReadingSyncService meterReadingSyncService;
+    private final ReadingChangeSignal readingChangeSignal;
+    private final Validator validator;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService flushTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("grpc-ingest-flush-timer").daemon(true).factory());
+
+    @Value("${household.grpc.ingest.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${household.grpc.ingest.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${household.grpc.watch.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    @Value("${household.grpc.watch.slow-client-timeout-ms:30000}")
+    private long slowClientTimeoutMs;
+
+    public MeterReadingIngestService(MeterReadingService meterReadingService,
+                                     MeterReadingBatchWriter meterReadingBatchWriter,
+                                     MeterReadingSyncService meterReadingSyncService,
+                                     ReadingChangeSignal readingChangeSignal,
+                                     Validator validator) {
+        this.meterReadingService = meterReadingService;
+        this.meterReadingBatchWriter = meterReadingBatchWriter;
+        this.meterReadingSyncService = meterReadingSyncService;
+        this.readingChangeSignal = readingChangeSignal;
+        this.validator = validator;
+    }
+
+    @Override
+    public StreamObserver<MeterReading> ingestReadings(StreamObserver<IngestSummary> responseObserver) {
+        return new IngestCall(responseObserver);
+    }
+
+    @Override
+    public void watchReadings(WatchRequest request, StreamObserver<ReadingChange> responseObserver) {
+        Set<MeterType> meterTypes = EnumSet.noneOf(MeterType.class);
+        for (com.household.manager.grpc.v1.MeterType meterType : request.getMeterTypesList()) {
+            MeterType converted = MeterReadingMessages.toMeterType(meterType);
+            if (converted == null) {
+                responseObserver.onError(Status.INVALID_ARGUMENT
+                        .withDescription("Unknown meter type: " + meterType).asRuntimeException());
+                return;
+            }
+            meterTypes.add(converted);
+        }
+        if (request.getSinceToken() < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Change token must not be negative: " + request.getSinceToken())
+                    .asRuntimeException());
+            return;
+        }
+
+        Watch watch = new Watch((ServerCallStreamObserver<ReadingChange>) responseObserver,
+                meterTypes.isEmpty() ? EnumSet.allOf(MeterType.class) : meterTypes);
+        watch.call.setOnReadyHandler(watch::onReady);
+        watch.call.setOnCancelHandler(watch::onCancel);
+        watch.task = workers.submit(() -> watch.run(request));
+    }
+
+    @Override
+    public void destroy() {
+        flushTimer.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * One {@code IngestReadings} call. Messages of a call arrive one after the
+     * other; the lock orders them against the flush timer.
+     */
+    private final class IngestCall implements StreamObserver<MeterReading> {
+
+        private final StreamObserver<IngestSummary> responseObserver;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final IngestSummary.Builder summary = IngestSummary.newBuilder();
+        private final List<com.household.manager.model.entity.MeterReading> pending = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush;
+        private boolean closed;
+
+        IngestCall(StreamObserver<IngestSummary> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(MeterReading message) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                long index = summary.getReceived();
+                summary.setReceived(index + 1);
+
+                MeterReadingRequest request = MeterReadingMessages.toRequest(message);
+                Set<ConstraintViolation<MeterReadingRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    summary.setInvalid(summary.getInvalid() + 1);
+                    if (summary.getErrorsCount() < MAX_REPORTED_ERRORS) {
+                        summary.addErrors(IngestError.newBuilder()
+                                .setIndex(index)
+                                .setMessage(violations.stream()
+                                        .map(ConstraintViolation::getMessage)
+                                        .sorted()
+                                        .collect(Collectors.joining("; "))));
+                    }
+                    return;
+                }
+
+                pending.add(meterReadingService.buildMeterReading(request));
+                if (pending.size() >= batchSize) {
+                    flush();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = flushTimer.schedule(() -> workers.execute(this::flushScheduled),
+                            flushIntervalMs, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            lock.lock();
+            try {
+                closed = true;
+                cancelScheduledFlush();
+                log.debug("Ingest stream aborted by client after {} messages, {} pending readings discarded",
+                        summary.getReceived(), pending.size(), t);
+                pending.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            lock.lock();
+            try {
+                if (closed || !flush()) {
+                    return;
+                }
+                closed = true;
+                log.info("Ingested {} readings over gRPC: {} created, {} duplicates, {} rejected, {} invalid",
+                        summary.getReceived(), summary.getCreated(), summary.getDuplicates(),
+                        summary.getRejected(), summary.getInvalid());
+                responseObserver.onNext(summary.build());
+                responseObserver.onCompleted();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void flushScheduled() {
+            lock.lock();
+            try {
+                scheduledFlush = null;
+                if (!closed) {
+                    flush();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Write the pending readings; on failure the call is closed with an error.
+         *
+         * @return whether the write succeeded
+         */
+        private boolean flush() {
+            cancelScheduledFlush();
+            if (pending.isEmpty()) {
+                return true;
+            }
+            try {
+                BatchWriteResult result = meterReadingBatchWriter.writeBatch(new ArrayList<>(pending), true);
+                summary.setCreated(summary.getCreated() + result.created())
+                        .setDuplicates(summary.getDuplicates() + result.duplicates())
+                        .setRejected(summary.getRejected() + result.rejected());
+                pending.clear();
+                return true;
+            } catch (RuntimeException ex) {
+                log.error("Writing {} readings received over gRPC failed", pending.size(), ex);
+                closed = true;
+                pending.clear();
+                responseObserver.onError(Status.UNAVAILABLE
+                        .withDescription("Writing readings failed; resend the stream")
+                        .withCause(ex)
+                        .asRuntimeException());
+                return false;
+            }
+        }
+
+        private void cancelScheduledFlush() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+    }
+
+    /**
+     * One {@code WatchReadings} call, served by its own virtual thread.
+     */
+    private final class Watch {
+
+        private final ServerCallStreamObserver<ReadingChange> call;
+        private final Set<MeterType> meterTypes;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition ready = lock.newCondition();
+        private volatile boolean cancelled;
+        private volatile Future<?> task;
+
+        Watch(ServerCallStreamObserver<ReadingChange> call, Set<MeterType> meterTypes) {
+            this.call = call;
+            this.meterTypes = meterTypes;
+        }
+
+        void run(WatchRequest request) {
+            try {
+                long token = request.getFullSync() ? 0
+                        : request.getSinceToken() > 0 ? request.getSinceToken()
+                        : meterReadingSyncService.getLatestToken();
+                while (!cancelled) {
+                    long version = readingChangeSignal.version();
+                    MeterReadingChangesResponse changes = meterReadingSyncService.getChangesSince(token);
+                    if (changes.isReset()) {
+                        call.onError(Status.OUT_OF_RANGE
+                                .withDescription("Unknown change token " + token + "; watch again with full_sync")
+                                .asRuntimeException());
+                        return;
+                    }
+                    if (!send(changes, token)) {
+                        return;
+                    }
+                    token = changes.getNextToken();
+                    if (!changes.isHasMore()) {
+                        readingChangeSignal.awaitChange(version, pollIntervalMs, TimeUnit.MILLISECONDS);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (StatusRuntimeException ex) {
+                // cancelled by the client while sending
+                log.debug("Watch ended: {}", ex.getStatus());
+            } catch (RuntimeException ex) {
+                if (!cancelled) {
+                    log.error("Watching meter readings failed", ex);
+                    call.onError(Status.UNAVAILABLE.withDescription("Reading changes are unavailable")
+                            .withCause(ex).asRuntimeException());
+                }
+            }
+        }
+
+        /**
+         * Send the watched changes of one sync response. Every change but the
+         * last carries the token the response was read from, so resuming after
+         * any of them delivers the rest again.
+         *
+         * @return whether the watch continues
+         */
+        private boolean send(MeterReadingChangesResponse changes, long since) throws InterruptedException {
+            List<ReadingChange> messages = new ArrayList<>();
+            changes.getUpserts().stream()
+                    .filter(reading -> meterTypes.contains(reading.getMeterType()))
+                    .sorted(Comparator.comparing(MeterReadingResponse::getReadingDate)
+                            .thenComparing(MeterReadingResponse::getMeterType))
+                    .forEach(reading -> messages.add(ReadingChange.newBuilder()
+                            .setToken(since)
+                            .setUpserted(MeterReadingMessages.toMessage(reading))
+                            .build()));
+            // deletions do not record their meter type and go to every watcher
+            for (Long id : changes.getDeletedIds()) {
+                messages.add(ReadingChange.newBuilder()
+                        .setToken(since)
+                        .setDeleted(Deletion.newBuilder().setId(id))
+                        .build());
+            }
+            if (!messages.isEmpty()) {
+                int last = messages.size() - 1;
+                messages.set(last, messages.get(last).toBuilder().setToken(changes.getNextToken()).build());
+            }
+
+            for (ReadingChange message : messages) {
+                if (!awaitReady()) {
+                    return false;
+                }
+                call.onNext(message);
+            }
+            return !cancelled;
+        }
+
+        private boolean awaitReady() throws InterruptedException {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(slowClientTimeoutMs);
+            lock.lock();
+            try {
+                while (!call.isReady() && !cancelled) {
+                    if (nanos <= 0) {
+                        log.warn("Disconnecting reading watcher that accepted no changes for {} ms",
+                                slowClientTimeoutMs);
+                        call.onError(Status.RESOURCE_EXHAUSTED
+                                .withDescription("Client does not keep up with reading changes")
+                                .asRuntimeException());
+                        return false;
+                    }
+                    nanos = ready.awaitNanos(nanos);
+                }
+                return !cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onReady() {
+            lock.lock();
+            try {
+                ready.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onCancel() {
+            cancelled = true;
+            Future<?> running = task;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.household.manager.grpc;
+
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.grpc.v1.MeterReading;
+import com.household.manager.model.entity.MeterType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversion between protobuf messages and the DTOs of the REST API.
+ * <p>
+ * Values are sent as hundredths of the unit, the scale of
+ * {@code meter_readings.reading_value}. Reading times are the local date and
+ * time as seconds since 1970-01-01T00:00, without time zone like the stored
+ * reading date.
+ */
+final class MeterReadingMessages {
+
+    private MeterReadingMessages() {
+    }
+
+    /**
+     * The request a reading message stands for; an unset meter type or reading
+     * time becomes null and is reported by bean validation.
+     */
+    static MeterReadingRequest toRequest(MeterReading message) {
+        return MeterReadingRequest.builder()
+                .meterType(toMeterType(message.getMeterType()))
+                .readingValue(BigDecimal.valueOf(message.getValueHundredths(), 2))
+                .readingWeek(message.getReadingWeek() != 0 ? message.getReadingWeek() : null)
+                .readingDate(message.getReadingTime() != 0
+                        ? LocalDateTime.ofEpochSecond(message.getReadingTime(), 0, ZoneOffset.UTC)
+                        : null)
+                .notes(message.getNotes().isEmpty() ? null : message.getNotes())
+                .build();
+    }
+
+    static MeterReading toMessage(MeterReadingResponse response) {
+        MeterReading.Builder message = MeterReading.newBuilder()
+                .setId(response.getId())
+                .setMeterType(toMessage(response.getMeterType()))
+                .setValueHundredths(response.getReadingValue().setScale(2, RoundingMode.HALF_UP).unscaledValue()
+                        .longValueExact())
+                .setReadingTime(response.getReadingDate().toEpochSecond(ZoneOffset.UTC));
+        if (response.getReadingWeek() != null) {
+            message.setReadingWeek(response.getReadingWeek());
+        }
+        if (response.getNotes() != null) {
+            message.setNotes(response.getNotes());
+        }
+        return message.build();
+    }
+
+    static MeterType toMeterType(com.household.manager.grpc.v1.MeterType meterType) {
+        return switch (meterType) {
+            case ELECTRICITY -> MeterType.ELECTRICITY;
+            case GAS -> MeterType.GAS;
+            case WATER -> MeterType.WATER;
+            case METER_TYPE_UNSPECIFIED, UNRECOGNIZED -> null;
+        };
+    }
+
+    static com.household.manager.grpc.v1.MeterType toMessage(MeterType meterType) {
+        return switch (meterType) {
+            case ELECTRICITY -> com.household.manager.grpc.v1.MeterType.ELECTRICITY;
+            case GAS -> com.household.manager.grpc.v1.MeterType.GAS;
+            case WATER -> com.household.manager.grpc.v1.MeterType.WATER;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.household.manager.grpc;
+
+import com.household.manager.service.MeterDataChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wakes up reading watchers once written readings are committed.
+ * <p>
+ * Every commit of readings bumps a version; a watcher remembers the version
+ * it has caught up with and waits for the next one.
+ */
+@Component
+public class ReadingChangeSignal {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private long version;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeterDataChanged(MeterDataChangedEvent event) {
+        if (event.data() != MeterDataChangedEvent.Data.READINGS) {
+            return;
+        }
+        lock.lock();
+        try {
+            version++;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The current version, to pass to {@link #awaitChange} after reading the changes.
+     */
+    public long version() {
+        lock.lock();
+        try {
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until readings are written after {@code seen} was taken, or the timeout elapses.
+     *
+     * @param seen the version taken before the watcher read the changes
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return the current version
+     * @throws InterruptedException if the watcher is cancelled
+     */
+    public long awaitChange(long seen, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (version == seen && nanos > 0) {
+                nanos = changed.awaitNanos(nanos);
+            }
+            return version;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Binary streaming API for smart-meter gateways (gRPC).
+ * Built with the Maven profile {@code grpc} and served next to the REST API on
+ * its own port: gateways stream readings in, which are validated and written
+ * in batches like the write-ahead log and CSV import, and clients watch
+ * reading changes as they happen.
+ */
+package com.household.manager.grpc;
@@ -0,0 +1,183 @@
+package com.household.manager.grpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.grpc.v1.IngestSummary;
+import com.household.manager.grpc.v1.MeterReading;
+import com.household.manager.grpc.v1.MeterReadingIngestGrpc;
+import com.household.manager.grpc.v1.MeterType;
+import com.household.manager.grpc.v1.ReadingChange;
+import com.household.manager.grpc.v1.WatchRequest;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingSyncService;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MeterReadingIngestService} over an in-process channel.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MeterReadingIngestServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 6, 0);
+
+    @Autowired
+    private MeterReadingIngestService meterReadingIngestService;
+
+    @Autowired
+    private MeterReadingSyncService meterReadingSyncService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(meterReadingIngestService)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void ingest_ShouldWriteValidReadingsAndReportInvalidOnes() throws Exception {
+        List<MeterReading> readings = List.of(
+                reading(MeterType.GAS, 100_000, START),
+                reading(MeterType.GAS, 100_750, START.plusDays(1)),
+                reading(MeterType.METER_TYPE_UNSPECIFIED, 100_900, START.plusDays(2)),
+                reading(MeterType.GAS, 0, START.plusDays(3)),
+                reading(MeterType.ELECTRICITY, 4_200_050, START));
+
+        IngestSummary summary = ingest(readings);
+
+        assertThat(summary.getReceived()).isEqualTo(5);
+        assertThat(summary.getCreated()).isEqualTo(3);
+        assertThat(summary.getInvalid()).isEqualTo(2);
+        assertThat(summary.getErrorsList()).extracting(error -> error.getIndex()).containsExactly(2L, 3L);
+        assertThat(summary.getErrors(0).getMessage()).isEqualTo("Meter type is required");
+        assertThat(meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(
+                com.household.manager.model.entity.MeterType.GAS))
+                .first()
+                .satisfies(latest -> {
+                    assertThat(latest.getReadingValue()).isEqualByComparingTo("1007.50");
+                    assertThat(latest.getReadingDate()).isEqualTo(START.plusDays(1));
+                    assertThat(latest.getReadingWeek()).isEqualTo(10);
+                });
+
+        // resending the stream is idempotent
+        IngestSummary resent = ingest(readings);
+        assertThat(resent.getCreated()).isZero();
+        assertThat(resent.getDuplicates()).isEqualTo(3);
+        assertThat(meterReadingRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void watch_ShouldStreamChangesOfWatchedMeterTypes() throws Exception {
+        long token = meterReadingSyncService.getLatestToken();
+        WatchRequest request = WatchRequest.newBuilder()
+                .addMeterTypes(MeterType.GAS)
+                .setSinceToken(token)
+                .build();
+
+        try (Context.CancellableContext context = Context.current().withCancellation()) {
+            Iterator<ReadingChange> changes = context.call(() -> MeterReadingIngestGrpc.newBlockingStub(channel)
+                    .withDeadlineAfter(30, TimeUnit.SECONDS)
+                    .watchReadings(request));
+
+            ingest(List.of(
+                    reading(MeterType.WATER, 5_000, START),
+                    reading(MeterType.GAS, 100_000, START)));
+
+            ReadingChange change = changes.next();
+            assertThat(change.getToken()).isGreaterThan(token);
+            assertThat(change.getUpserted().getMeterType()).isEqualTo(MeterType.GAS);
+            assertThat(change.getUpserted().getValueHundredths()).isEqualTo(100_000);
+            assertThat(change.getUpserted().getReadingTime()).isEqualTo(START.toEpochSecond(ZoneOffset.UTC));
+            assertThat(change.getUpserted().getId()).isPositive();
+
+            ingest(List.of(reading(MeterType.GAS, 100_500, START.plusDays(1))));
+            assertThat(changes.next().getUpserted().getValueHundredths()).isEqualTo(100_500);
+        }
+    }
+
+    @Test
+    void readingMessage_ShouldBeFarSmallerThanJson() throws Exception {
+        MeterReading message = reading(MeterType.ELECTRICITY, 4_200_050, START);
+        MeterReadingRequest request = MeterReadingRequest.builder()
+                .meterType(com.household.manager.model.entity.MeterType.ELECTRICITY)
+                .readingValue(new BigDecimal("42000.50"))
+                .readingDate(START)
+                .build();
+
+        int protobufBytes = message.getSerializedSize();
+        int jsonBytes = objectMapper.writeValueAsBytes(request).length;
+
+        assertThat(protobufBytes).isLessThan(jsonBytes / 5);
+    }
+
+    private IngestSummary ingest(List<MeterReading> readings) throws Exception {
+        CompletableFuture<IngestSummary> summary = new CompletableFuture<>();
+        StreamObserver<MeterReading> stream = MeterReadingIngestGrpc.newStub(channel)
+                .ingestReadings(new StreamObserver<>() {
+                    @Override
+                    public void onNext(IngestSummary value) {
+                        summary.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        summary.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        readings.forEach(stream::onNext);
+        stream.onCompleted();
+        return summary.get(30, TimeUnit.SECONDS);
+    }
+
+    private static MeterReading reading(MeterType meterType, long valueHundredths, LocalDateTime readingDate) {
+        return MeterReading.newBuilder()
+                .setMeterType(meterType)
+                .setValueHundredths(valueHundredths)
+                .setReadingTime(readingDate.toEpochSecond(ZoneOffset.UTC))
+                .build();
+    }
+}
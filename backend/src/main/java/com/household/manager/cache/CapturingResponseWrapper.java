@@ -0,0 +1,149 @@
+package com.household.manager.cache;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Response wrapper that holds the body back and keeps it, up to {@code limit}
+ * bytes, until {@link #release()} writes it to the client. A larger body is
+ * passed through to the client as soon as it exceeds the limit.
+ * <p>
+ * Status and headers are set on the wrapped response directly.
+ */
+class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private ByteArrayOutputStream held = new ByteArrayOutputStream();
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CapturingResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+    }
+
+    /**
+     * The complete body, or null if it exceeded the limit or was released.
+     */
+    byte[] getCaptured() {
+        return held != null ? held.toByteArray() : null;
+    }
+
+    /**
+     * Write the body held back to the client; further output is passed through.
+     */
+    void release() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        passThrough();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new HoldingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (held == null) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (held != null) {
+            held.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (held != null) {
+            held.reset();
+        }
+        super.reset();
+    }
+
+    private void passThrough() throws IOException {
+        if (held == null) {
+            return;
+        }
+        byte[] body = held.toByteArray();
+        held = null;
+        if (body.length > 0) {
+            super.getOutputStream().write(body);
+        }
+    }
+
+    private final class HoldingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        HoldingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (held != null && held.size() + length <= limit) {
+                held.write(bytes, offset, length);
+                return;
+            }
+            passThrough();
+            delegate.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (held == null) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (held == null) {
+                delegate.close();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
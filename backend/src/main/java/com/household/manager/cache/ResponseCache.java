@@ -0,0 +1,252 @@
+package com.household.manager.cache;
+
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterDataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Size-bounded LRU cache of encoded response bodies, identity and gzip.
+ * <p>
+ * Every entry depends on a set of <em>tags</em>, one per kind of data
+ * ({@link MeterDataChangedEvent.Data}) and meter type. Writes are announced
+ * with {@link MeterDataChangedEvent}; after the writing transaction commits,
+ * all entries depending on an affected tag are removed and the tag's
+ * generation is incremented. A response is only stored if the generations of
+ * its tags did not change while it was produced, so a response computed from
+ * data read before a commit never outlives the invalidation of that commit.
+ * <p>
+ * Metrics: {@code household.response.cache.requests} (tag {@code result}:
+ * hit, miss or bypass), {@code household.response.cache.evictions} (tag
+ * {@code cause}: size or invalidation), and the gauges
+ * {@code household.response.cache.size} (bytes),
+ * {@code household.response.cache.max.size} and
+ * {@code household.response.cache.entries}.
+ */
+@Slf4j
+public class ResponseCache {
+
+    /** Rough per-entry overhead of map node, entry object, arrays and header map. */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private static final int TAG_COUNT = MeterDataChangedEvent.Data.values().length * MeterType.values().length;
+
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final AtomicLongArray generations = new AtomicLongArray(TAG_COUNT);
+    private long currentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Counter sizeEvictions;
+    private final Counter invalidations;
+
+    /**
+     * @param maxBytes maximum total size of all entries
+     * @param maxEntryBytes maximum size of a single identity-encoded body
+     * @param meterRegistry registry for the cache metrics
+     */
+    public ResponseCache(long maxBytes, int maxEntryBytes, MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.bypasses = requests(meterRegistry, "bypass");
+        this.sizeEvictions = evictions(meterRegistry, "size");
+        this.invalidations = evictions(meterRegistry, "invalidation");
+        Gauge.builder("household.response.cache.size", this, ResponseCache::currentBytes)
+                .baseUnit("bytes")
+                .description("Size of the cached response bodies")
+                .register(meterRegistry);
+        Gauge.builder("household.response.cache.max.size", this, cache -> cache.maxBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("household.response.cache.entries", this, ResponseCache::entryCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tag of one kind of data of one meter type.
+     */
+    public static int tag(MeterDataChangedEvent.Data data, MeterType meterType) {
+        return data.ordinal() * MeterType.values().length + meterType.ordinal();
+    }
+
+    /**
+     * Tags of one kind of data of all meter types.
+     */
+    public static long allTags(MeterDataChangedEvent.Data data) {
+        long tags = 0;
+        for (MeterType meterType : MeterType.values()) {
+            tags |= 1L << tag(data, meterType);
+        }
+        return tags;
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * Look up an entry and count the hit or miss.
+     *
+     * @param key request key
+     * @return the cached entry, or null
+     */
+    public Entry get(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    /**
+     * Count a request that is not cacheable, e.g. a HEAD request or an error response.
+     */
+    public void bypass() {
+        bypasses.increment();
+    }
+
+    /**
+     * Current version of a set of tags, to be passed to {@link #put} after the response was produced.
+     *
+     * @param tags bit set of tags
+     * @return sum of the tags' generations
+     */
+    public long version(long tags) {
+        long version = 0;
+        for (int tag = 0; tag < TAG_COUNT; tag++) {
+            if ((tags & (1L << tag)) != 0) {
+                version += generations.get(tag);
+            }
+        }
+        return version;
+    }
+
+    /**
+     * Store an entry, unless one of its tags was invalidated since {@code version}
+     * was taken or the entry exceeds the size limits.
+     *
+     * @param key request key
+     * @param entry the encoded response
+     * @param version result of {@link #version} before the response was produced
+     * @return whether the entry was stored
+     */
+    public boolean put(String key, Entry entry, long version) {
+        long size = entry.size() + 2L * key.length();
+        if (size > maxBytes) {
+            return false;
+        }
+        synchronized (entries) {
+            // checked under the lock, invalidate() increments generations under the same lock
+            if (version(entry.tags()) != version) {
+                return false;
+            }
+            Entry previous = entries.put(key, entry);
+            currentBytes += size;
+            if (previous != null) {
+                currentBytes -= previous.size() + 2L * key.length();
+            }
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> evicted = eldest.next();
+                eldest.remove();
+                currentBytes -= evicted.getValue().size() + 2L * evicted.getKey().length();
+                sizeEvictions.increment();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invalidate the entries depending on written data once the write is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeterDataChanged(MeterDataChangedEvent event) {
+        long tags = 0;
+        for (MeterType meterType : event.meterTypes()) {
+            tags |= 1L << tag(event.data(), meterType);
+        }
+        invalidate(tags);
+    }
+
+    /**
+     * Remove all entries depending on any of the given tags.
+     *
+     * @param tags bit set of tags
+     */
+    public void invalidate(long tags) {
+        int removed = 0;
+        synchronized (entries) {
+            for (int tag = 0; tag < TAG_COUNT; tag++) {
+                if ((tags & (1L << tag)) != 0) {
+                    generations.incrementAndGet(tag);
+                }
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> entry = iterator.next();
+                if ((entry.getValue().tags() & tags) != 0) {
+                    iterator.remove();
+                    currentBytes -= entry.getValue().size() + 2L * entry.getKey().length();
+                    removed++;
+                }
+            }
+        }
+        invalidations.increment(removed);
+        log.debug("Invalidated {} cached responses", removed);
+    }
+
+    private long currentBytes() {
+        synchronized (entries) {
+            return currentBytes;
+        }
+    }
+
+    private int entryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("household.response.cache.requests")
+                .description("Requests to cacheable endpoints by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("household.response.cache.evictions")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param tags bit set of the tags the response depends on
+     * @param headers response headers to replay, e.g. content type and CORS headers
+     * @param identity the uncompressed body
+     * @param gzip the gzip-compressed body, or null if compression does not pay off
+     */
+    public record Entry(long tags, Map<String, List<String>> headers, byte[] identity, byte[] gzip) {
+
+        long size() {
+            return ENTRY_OVERHEAD + identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.household.manager.cache;
+
+import com.household.manager.coalescing.SingleFlight;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterDataChangedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the hot list endpoints from {@link ResponseCache}.
+ * <p>
+ * Cached: {@code GET /v1/meter-readings}, {@code /v1/meter-readings/{type}},
+ * {@code /v1/utility-prices} and {@code /v1/utility-prices/{type}}, keyed by
+ * path, query string, {@code Accept} and {@code Origin} (CORS headers are part
+ * of the cached response). A hit writes the stored headers and the gzip or
+ * identity body, depending on {@code Accept-Encoding}, with a single write
+ * and without entering the dispatcher.
+ * <p>
+ * On a miss the body is held back in memory; a successful response is
+ * compressed once (best compression) and stored. Concurrent misses of the same
+ * key are coalesced: only the first request produces the response, the others
+ * wait and are served the stored entry, or produce their own response if it
+ * could not be stored. The first request writes its body to its client only
+ * after the others have been released, so a slow client holds up nobody else.
+ * <p>
+ * Bodies larger than the maximum entry size are passed through to the client
+ * and not cached. As the first request has to write such a body before it
+ * completes, waiting requests give up after {@code maxFillWait} and produce
+ * their own response.
+ */
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String READINGS_PATH = "/v1/meter-readings";
+    private static final String PRICES_PATH = "/v1/utility-prices";
+
+    /** Headers set by the container or per encoding, never replayed. */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "content-length", "content-encoding", "transfer-encoding", "date", "connection", "keep-alive");
+
+    private final ResponseCache responseCache;
+    private final SingleFlight<String, ResponseCache.Entry> fills;
+    private final Duration maxFillWait;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long tags = tags(request.getRequestURI().substring(request.getContextPath().length()));
+        if (tags == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            responseCache.bypass();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = key(request);
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseCache.Entry cached = responseCache.get(key);
+        if (cached != null) {
+            write(cached, acceptsGzip, response);
+            return;
+        }
+
+        CapturingResponseWrapper[] leader = new CapturingResponseWrapper[1];
+        ResponseCache.Entry filled;
+        try {
+            filled = fills.execute(key, maxFillWait, () -> {
+                leader[0] = new CapturingResponseWrapper(response, responseCache.maxEntryBytes());
+                return fill(key, tags, request, leader[0], chain);
+            });
+        } catch (IOException | ServletException | RuntimeException ex) {
+            if (leader[0] != null) {
+                throw ex;
+            }
+            filled = null;
+        } catch (TimeoutException ex) {
+            filled = null;
+        } catch (Exception ex) {
+            throw new ServletException(ex);
+        }
+        if (leader[0] != null) {
+            // the waiting requests have their entry, now write to this client
+            leader[0].release();
+            return;
+        }
+        if (filled != null) {
+            write(filled, acceptsGzip, response);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Produce the response and store it.
+     *
+     * @return the stored entry, or null if the response is not cacheable or was invalidated meanwhile
+     */
+    private ResponseCache.Entry fill(String key, long tags, HttpServletRequest request,
+                                     CapturingResponseWrapper capturing, FilterChain chain)
+            throws IOException, ServletException {
+        long version = responseCache.version(tags);
+        chain.doFilter(request, capturing);
+        capturing.flushBuffer();
+
+        byte[] body = capturing.getCaptured();
+        if (capturing.getStatus() != HttpServletResponse.SC_OK || body == null
+                || capturing.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return null;
+        }
+        ResponseCache.Entry entry = new ResponseCache.Entry(tags, headers(capturing), body, gzip(body));
+        return responseCache.put(key, entry, version) ? entry : null;
+    }
+
+    /**
+     * Tags of the data a path depends on, 0 for paths that are not cached.
+     */
+    static long tags(String path) {
+        if (path.equals(READINGS_PATH)) {
+            return ResponseCache.allTags(MeterDataChangedEvent.Data.READINGS);
+        }
+        if (path.equals(PRICES_PATH)) {
+            return ResponseCache.allTags(MeterDataChangedEvent.Data.PRICES);
+        }
+        if (path.startsWith(READINGS_PATH + "/")) {
+            return typeTag(MeterDataChangedEvent.Data.READINGS, path.substring(READINGS_PATH.length() + 1));
+        }
+        if (path.startsWith(PRICES_PATH + "/")) {
+            return typeTag(MeterDataChangedEvent.Data.PRICES, path.substring(PRICES_PATH.length() + 1));
+        }
+        return 0;
+    }
+
+    private static long typeTag(MeterDataChangedEvent.Data data, String segment) {
+        for (MeterType meterType : MeterType.values()) {
+            if (meterType.name().equals(segment)) {
+                return 1L << ResponseCache.tag(data, meterType);
+            }
+        }
+        return 0;
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return request.getRequestURI() + (query != null ? "?" + query : "")
+                + '\n' + request.getHeader(HttpHeaders.ACCEPT)
+                + '\n' + request.getHeader(HttpHeaders.ORIGIN);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+                    if (parameter.startsWith("q=") && Double.parseDouble(parameter.substring(2)) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void write(ResponseCache.Entry entry, boolean acceptsGzip, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        entry.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = entry.identity();
+        if (acceptsGzip && entry.gzip() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, List.copyOf(new ArrayList<>(response.getHeaders(name))));
+            }
+        }
+        if (response.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        }
+        return headers;
+    }
+
+    /**
+     * Gzip-compress a body, or null if that does not make it smaller.
+     */
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.size() < body.length ? compressed.toByteArray() : null;
+    }
+}
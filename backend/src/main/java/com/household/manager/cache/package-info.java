@@ -0,0 +1,6 @@
+/**
+ * HTTP response caching.
+ * Keeps the encoded bodies of hot list endpoints, identity and gzip, and
+ * invalidates them per data kind and meter type when writes are committed.
+ */
+package com.household.manager.cache;
@@ -0,0 +1,22 @@
+package com.household.manager.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent calls with equal
+ * arguments share one invocation (see {@link SingleFlight}).
+ * <p>
+ * Coalescing happens outside the method's transaction, so waiting callers
+ * hold no connection. Calls within an active transaction are never
+ * coalesced, as the caller may depend on its own uncommitted writes. The
+ * result is shared between callers and must be treated as immutable.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
@@ -0,0 +1,60 @@
+package com.household.manager.coalescing;
+
+import com.household.manager.service.MeterDataChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Runs {@link Coalesced} methods through one {@link SingleFlight} per method,
+ * keyed by the call arguments.
+ * <p>
+ * After a committed write of readings or prices, calls already in flight are
+ * no longer joined: they may have read the data before the write, and a caller
+ * that wrote and then reads expects to see its write.
+ */
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ConcurrentMap<Method, SingleFlight<List<Object>, Object>> flights = new ConcurrentHashMap<>();
+
+    public CoalescingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        SingleFlight<List<Object>, Object> flight = flights.computeIfAbsent(invocation.getMethod(),
+                method -> new SingleFlight<>(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                        meterRegistry.getObject()));
+        return flight.execute(Arrays.asList(invocation.getArguments().clone()), () -> proceed(invocation));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeterDataChanged(MeterDataChangedEvent event) {
+        flights.values().forEach(SingleFlight::forgetAll);
+    }
+
+    private static Object proceed(MethodInvocation invocation) throws Exception {
+        try {
+            return invocation.proceed();
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+    }
+}
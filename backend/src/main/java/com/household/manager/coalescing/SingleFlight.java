@@ -0,0 +1,133 @@
+package com.household.manager.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent identical computations: while a computation for a key
+ * is in flight, further callers with the same key wait for it and receive its
+ * result (or exception) instead of computing again.
+ * <p>
+ * The computation runs on the thread of the first caller (the leader). Results
+ * are shared, so they must not be modified by callers. Nothing is kept once a
+ * computation completes; a caller arriving afterwards computes again.
+ * <p>
+ * Metrics: {@code household.singleflight.calls}, tagged with the flight name
+ * and {@code result} leader or coalesced.
+ *
+ * @param <K> key type, e.g. method arguments
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    /**
+     * @param name name of the flight for metrics, e.g. the coalesced method
+     * @param meterRegistry registry for the call counters
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = calls(meterRegistry, name, "leader");
+        this.coalesced = calls(meterRegistry, name, "coalesced");
+    }
+
+    /**
+     * Run a computation, or join an identical one already in flight.
+     *
+     * @param key identifies identical computations
+     * @param computation the computation, run only if none is in flight for the key
+     * @return the result of this or the joined computation
+     * @throws Exception the exception of this or the joined computation
+     */
+    public V execute(K key, Computation<V> computation) throws Exception {
+        return execute(key, null, computation);
+    }
+
+    /**
+     * Run a computation, or join an identical one already in flight for at most
+     * a given time.
+     *
+     * @param key identifies identical computations
+     * @param maxWait how long to wait for a computation in flight, null to wait until it completes
+     * @param computation the computation, run only if none is in flight for the key
+     * @return the result of this or the joined computation
+     * @throws TimeoutException if the joined computation did not complete within {@code maxWait}
+     * @throws Exception the exception of this or the joined computation
+     */
+    public V execute(K key, Duration maxWait, Computation<V> computation) throws Exception {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing, maxWait);
+        }
+
+        leaders.increment();
+        try {
+            V result = computation.compute();
+            flight.complete(result);
+            return result;
+        } catch (Exception | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Let callers arriving from now on start new computations instead of
+     * joining those in flight, e.g. after the underlying data was changed.
+     * Callers already waiting still receive the result of their computation.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * Number of computations currently in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight, Duration maxWait) throws Exception {
+        try {
+            return maxWait != null ? flight.get(maxWait.toNanos(), TimeUnit.NANOSECONDS) : flight.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw (Error) ex.getCause();
+        } catch (CancellationException ex) {
+            throw new IllegalStateException("Coalesced computation was cancelled", ex);
+        }
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("household.singleflight.calls")
+                .description("Calls of coalesced computations by whether they computed or joined")
+                .tag("flight", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A computation that may throw checked exceptions.
+     */
+    @FunctionalInterface
+    public interface Computation<V> {
+        V compute() throws Exception;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Request coalescing (single-flight).
+ * Concurrent identical reads share one in-flight computation, so a burst of
+ * equal requests, e.g. right after a cache invalidation, costs one query.
+ */
+package com.household.manager.coalescing;
@@ -1,5 +1,6 @@
 package com.household.manager.config;
 
+import com.household.manager.importer.MeterReadingArchiveImporter;
 import com.household.manager.importer.MeterReadingCsvImporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,10 @@ import java.nio.file.Path;
 
 /**
  * Runs CSV import on startup when the household.import.csv property is set.
+ * <p>
+ * The property may name a single CSV file, a directory, a glob pattern or a
+ * ZIP archive; everything but a single file is imported in parallel by
+ * {@link MeterReadingArchiveImporter}.
  */
 @Component
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class CsvImportRunner implements CommandLineRunner {
     private String csvPath;
 
     private final MeterReadingCsvImporter importer;
+    private final MeterReadingArchiveImporter archiveImporter;
 
     @Override
     public void run(String... args) throws Exception {
@@ -29,7 +35,14 @@ public class CsvImportRunner implements CommandLineRunner {
         }
 
         log.info("Starting CSV import from {}", csvPath);
-        int created = importer.importFromPath(Path.of(csvPath));
-        log.info("CSV import completed. Created {} meter readings.", created);
+        if (archiveImporter.supports(csvPath)) {
+            MeterReadingArchiveImporter.ArchiveImportResult result = archiveImporter.importFrom(csvPath);
+            log.info("CSV import completed. Created {}, updated {} and skipped {} unchanged meter readings from {} files.",
+                    result.created(), result.updated(), result.unchanged(), result.files());
+            return;
+        }
+        MeterReadingCsvImporter.ImportResult result = importer.importFromPath(Path.of(csvPath));
+        log.info("CSV import completed. Created {}, updated {} and skipped {} unchanged meter readings.",
+                result.created(), result.updated(), result.unchanged());
     }
 }
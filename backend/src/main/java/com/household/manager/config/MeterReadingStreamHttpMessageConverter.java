@@ -0,0 +1,70 @@
+package com.household.manager.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.dto.MeterReadingStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes {@link MeterReadingStream} bodies with the generator of the negotiated
+ * format, so streamed lists support the same media types as regular responses
+ * (JSON, CBOR and Smile).
+ */
+public class MeterReadingStreamHttpMessageConverter extends AbstractHttpMessageConverter<MeterReadingStream> {
+
+    private final Map<MediaType, ObjectMapper> objectMappers;
+
+    /**
+     * @param objectMappers object mapper per supported media type, in order of preference
+     */
+    public MeterReadingStreamHttpMessageConverter(Map<MediaType, ObjectMapper> objectMappers) {
+        super(new ArrayList<>(objectMappers.keySet()).toArray(MediaType[]::new));
+        this.objectMappers = new LinkedHashMap<>(objectMappers);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return MeterReadingStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected MeterReadingStream readInternal(Class<? extends MeterReadingStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Meter reading streams are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(MeterReadingStream stream, HttpOutputMessage outputMessage) throws IOException {
+        ObjectMapper objectMapper = objectMapperFor(outputMessage.getHeaders().getContentType());
+        try (JsonGenerator generator = objectMapper.createGenerator(
+                StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            stream.writeTo(generator);
+        }
+    }
+
+    private ObjectMapper objectMapperFor(MediaType contentType) {
+        if (contentType != null) {
+            for (Map.Entry<MediaType, ObjectMapper> entry : objectMappers.entrySet()) {
+                if (entry.getKey().isCompatibleWith(contentType)) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return objectMappers.values().iterator().next();
+    }
+}
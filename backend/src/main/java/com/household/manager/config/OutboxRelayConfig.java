@@ -0,0 +1,54 @@
+package com.household.manager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.outbox.FileOutboxSink;
+import com.household.manager.outbox.OutboxProperties;
+import com.household.manager.outbox.OutboxRelay;
+import com.household.manager.outbox.OutboxSink;
+import com.household.manager.outbox.QueueOutboxSink;
+import com.household.manager.outbox.WebhookOutboxSink;
+import com.household.manager.service.OpenWriteTransactions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Relay of the change feed ({@code outbox_events}) to the sink selected by
+ * {@code household.outbox.sink}.
+ * <p>
+ * Enabled with {@code household.outbox.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "household.outbox.enabled", havingValue = "true")
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "household.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public FileOutboxSink fileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileOutboxSink(properties.getFilePath(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "household.outbox.sink", havingValue = "queue")
+    public QueueOutboxSink queueOutboxSink(OutboxProperties properties) {
+        return new QueueOutboxSink(properties.getQueueCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "household.outbox.sink", havingValue = "webhook")
+    public WebhookOutboxSink webhookOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        if (properties.getWebhookUrl() == null) {
+            throw new IllegalArgumentException("household.outbox.webhook-url is required for the webhook sink");
+        }
+        return new WebhookOutboxSink(properties.getWebhookUrl(), properties.getWebhookTimeout(), objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxProperties properties, OutboxSink sink, JdbcTemplate jdbcTemplate,
+                                   OpenWriteTransactions openWriteTransactions) {
+        return new OutboxRelay(properties, sink, jdbcTemplate, openWriteTransactions);
+    }
+}
@@ -0,0 +1,45 @@
+package com.household.manager.config;
+
+import com.household.manager.coalescing.Coalesced;
+import com.household.manager.coalescing.CoalescingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Single-flight coalescing of {@link Coalesced} service methods.
+ * <p>
+ * Enabled unless {@code household.coalescing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "household.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestCoalescingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static CoalescingInterceptor coalescingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CoalescingInterceptor(meterRegistry);
+    }
+
+    /**
+     * Declared as infrastructure advisor so the proxy creator that already
+     * handles {@code @Transactional} applies it without AspectJ. Ordered first,
+     * so callers waiting for an in-flight call hold no transaction or connection.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(CoalescingInterceptor coalescingInterceptor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class), coalescingInterceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.household.manager.config;
+
+import com.household.manager.cache.ResponseCache;
+import com.household.manager.cache.ResponseCacheFilter;
+import com.household.manager.coalescing.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Cache of the encoded (and gzip-compressed) responses of the meter reading
+ * and utility price lists.
+ * <p>
+ * Enabled unless {@code household.response-cache.enabled=false}; bounded by
+ * {@code household.response-cache.max-size}. Responses larger than
+ * {@code household.response-cache.max-entry-size} are not cached; requests
+ * waiting for such a response produce their own after
+ * {@code household.response-cache.max-fill-wait}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "household.response-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    @Bean
+    public ResponseCache responseCache(
+            @Value("${household.response-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${household.response-cache.max-entry-size:8MB}") DataSize maxEntrySize,
+            MeterRegistry meterRegistry) {
+        return new ResponseCache(maxSize.toBytes(), Math.toIntExact(maxEntrySize.toBytes()), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            @Value("${household.response-cache.max-fill-wait:2s}") Duration maxFillWait,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(new ResponseCacheFilter(
+                responseCache, new SingleFlight<>("ResponseCacheFilter.fill", meterRegistry), maxFillWait));
+        registration.addUrlPatterns("/v1/meter-readings", "/v1/meter-readings/*",
+                "/v1/utility-prices", "/v1/utility-prices/*");
+        return registration;
+    }
+}
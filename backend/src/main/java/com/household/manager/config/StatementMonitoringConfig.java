@@ -0,0 +1,74 @@
+package com.household.manager.config;
+
+import com.household.manager.monitoring.ServiceStatementInterceptor;
+import com.household.manager.monitoring.StatementBudgetInterceptor;
+import com.household.manager.monitoring.StatementBudgetProperties;
+import com.household.manager.monitoring.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL statement counting per request and service method with per-route budgets.
+ * <p>
+ * Enabled unless {@code household.statements.enabled=false}; see
+ * {@link StatementBudgetProperties} for budgets and the warn/fail mode.
+ */
+@Configuration
+@ConditionalOnProperty(name = "household.statements.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+@RequiredArgsConstructor
+public class StatementMonitoringConfig implements WebMvcConfigurer {
+
+    private final StatementBudgetProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Wrap the application data source so every executed statement is reported.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Count statements per method of every {@code @Service}.
+     * <p>
+     * Declared as infrastructure advisor so the proxy creator that already
+     * handles {@code @Transactional} applies it without AspectJ.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceStatementAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true),
+                new ServiceStatementInterceptor(meterRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(properties, meterRegistry.getObject()));
+    }
+}
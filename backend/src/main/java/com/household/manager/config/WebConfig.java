@@ -1,9 +1,20 @@
 package com.household.manager.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Web configuration for the application.
  * Configures CORS, interceptors, and other web-related settings.
@@ -24,4 +35,39 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * CBOR encoding for clients sending {@code Accept: application/cbor}.
+     * <p>
+     * Uses the application's Jackson configuration so DTO annotations and
+     * modules apply exactly as for JSON.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile encoding for clients sending {@code Accept: application/x-jackson-smile}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Streamed meter reading lists, written with the same object mappers as
+     * the JSON, CBOR and Smile converters.
+     */
+    @Bean
+    public MeterReadingStreamHttpMessageConverter meterReadingStreamHttpMessageConverter(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+            MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+        Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+        objectMappers.put(MediaType.APPLICATION_JSON, objectMapper);
+        objectMappers.put(MediaType.APPLICATION_CBOR, cborHttpMessageConverter.getObjectMapper());
+        objectMappers.put(new MediaType("application", "x-jackson-smile"), smileHttpMessageConverter.getObjectMapper());
+        return new MeterReadingStreamHttpMessageConverter(objectMappers);
+    }
 }
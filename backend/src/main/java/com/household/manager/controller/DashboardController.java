@@ -0,0 +1,43 @@
+package com.household.manager.controller;
+
+import com.household.manager.dto.DashboardResponse;
+import com.household.manager.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the dashboard summary.
+ * <p>
+ * Base URL: /api/v1/dashboard
+ */
+@RestController
+@RequestMapping("/v1/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:4200"})
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Get latest reading, consumption and current price of every meter type.
+     * <p>
+     * GET /api/v1/dashboard
+     * <p>
+     * Replaces the separate {@code /latest}, {@code /consumption} and
+     * {@code /current} requests per meter type. Always returns HTTP 200;
+     * missing data is omitted per meter type.
+     *
+     * @return dashboard summary of all meter types
+     */
+    @GetMapping
+    public ResponseEntity<DashboardResponse> getDashboard() {
+        log.debug("Received request to get dashboard summary");
+        return ResponseEntity.ok(dashboardService.getDashboard());
+    }
+}
@@ -0,0 +1,91 @@
+package com.household.manager.controller;
+
+import com.household.manager.dto.IntervalDataRequest;
+import com.household.manager.dto.IntervalDayResponse;
+import com.household.manager.dto.IntervalSampleResponse;
+import com.household.manager.dto.IntervalWriteResponse;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.IntervalDataService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for high-frequency interval data (e.g. 15-minute smart-meter values).
+ * <p>
+ * Interval data is stored separately from meter readings, compressed per
+ * meter-day (see {@link IntervalDataService}).
+ * <p>
+ * Base URL: /api/v1/interval-data
+ */
+@RestController
+@RequestMapping("/v1/interval-data")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:4200"})
+public class IntervalDataController {
+
+    private final IntervalDataService intervalDataService;
+
+    /**
+     * Store interval samples of a meter type.
+     * <p>
+     * POST /api/v1/interval-data/{type}
+     *
+     * @param type the meter type
+     * @param request validated samples
+     * @return counts of added, replaced and unchanged samples
+     */
+    @PostMapping("/{type}")
+    public ResponseEntity<IntervalWriteResponse> writeSamples(
+            @PathVariable MeterType type,
+            @Valid @RequestBody IntervalDataRequest request) {
+        log.info("Received {} interval samples for type: {}", request.getSamples().size(), type);
+        return ResponseEntity.ok(intervalDataService.writeSamples(type, request.getSamples()));
+    }
+
+    /**
+     * Get the samples of a meter type in a time range.
+     * <p>
+     * GET /api/v1/interval-data/{type}?from=2026-01-01T00:00:00&amp;to=2026-01-02T00:00:00
+     *
+     * @param type the meter type
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @return the samples in time order
+     */
+    @GetMapping("/{type}")
+    public ResponseEntity<List<IntervalSampleResponse>> getSamples(
+            @PathVariable MeterType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.debug("Received request to get {} interval samples from {} to {}", type, from, to);
+        return ResponseEntity.ok(intervalDataService.getSamples(type, from, to));
+    }
+
+    /**
+     * Get daily summaries (first and last sample, consumption) of a meter type.
+     * <p>
+     * GET /api/v1/interval-data/{type}/days?from=2026-01-01&amp;to=2026-02-01
+     *
+     * @param type the meter type
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @return one summary per day with samples
+     */
+    @GetMapping("/{type}/days")
+    public ResponseEntity<List<IntervalDayResponse>> getDays(
+            @PathVariable MeterType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("Received request to get {} interval days from {} to {}", type, from, to);
+        return ResponseEntity.ok(intervalDataService.getDays(type, from, to));
+    }
+}
@@ -1,23 +1,47 @@
 package com.household.manager.controller;
 
+import com.household.manager.dto.BillingPeriodConsumptionResponse;
+import com.household.manager.dto.IngestRejectionResponse;
 import com.household.manager.dto.ConsumptionResponse;
+import com.household.manager.dto.MeterReadingChangesResponse;
 import com.household.manager.dto.MeterReadingImportResponse;
 import com.household.manager.dto.MeterReadingRequest;
 import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.dto.MeterReadingStream;
+import com.household.manager.dto.MeterValueResponse;
+import com.household.manager.importer.ImportStreamFactory;
 import com.household.manager.importer.MeterReadingCsvImporter;
+import com.household.manager.ingest.IngestRejections;
+import com.household.manager.ingest.MeterReadingIngestBuffer;
 import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingJsonStreamer;
 import com.household.manager.service.MeterReadingService;
+import com.household.manager.service.MeterReadingSyncService;
+import com.household.manager.service.MeterValueService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 /**
  * REST Controller for meter reading operations.
@@ -34,21 +58,36 @@ import java.nio.charset.StandardCharsets;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:4200"})
 public class MeterReadingController {
 
+    private static final String CONTENT_SHA256_HEADER = "X-Content-SHA256";
+
     private final MeterReadingService meterReadingService;
+    private final MeterReadingSyncService meterReadingSyncService;
+    private final MeterReadingJsonStreamer meterReadingJsonStreamer;
+    private final MeterValueService meterValueService;
     private final MeterReadingCsvImporter meterReadingCsvImporter;
+    private final ImportStreamFactory importStreamFactory;
+    private final Optional<MeterReadingIngestBuffer> meterReadingIngestBuffer;
+    private final IngestRejections ingestRejections;
 
     /**
      * Create a new meter reading.
      * <p>
      * POST /api/v1/meter-readings
+     * <p>
+     * When write-ahead ingestion is enabled, the reading is acknowledged with
+     * HTTP 202 as soon as it is durable in the local log and persisted asynchronously.
      *
      * @param request validated meter reading request
-     * @return created meter reading with HTTP 201 status
+     * @return created meter reading with HTTP 201 status, or accepted reading with HTTP 202
      */
     @PostMapping
     public ResponseEntity<MeterReadingResponse> createMeterReading(
             @Valid @RequestBody MeterReadingRequest request) {
         log.info("Received request to create meter reading for type: {}", request.getMeterType());
+        if (meterReadingIngestBuffer.isPresent()) {
+            MeterReadingResponse accepted = meterReadingIngestBuffer.get().accept(request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
         MeterReadingResponse response = meterReadingService.createMeterReading(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -56,31 +95,75 @@ public class MeterReadingController {
     /**
      * Get all meter readings across all meter types.
      * <p>
-     * GET /api/v1/meter-readings
+     * GET /api/v1/meter-readings?fields={fields}
+     * <p>
+     * With {@code fields}, only the listed response fields are returned; charts
+     * use e.g. {@code fields=meterType,readingDate,readingValue}. The list is
+     * streamed from the database (see {@link MeterReadingJsonStreamer}).
      *
+     * @param fields optional comma-separated response fields
      * @return list of all meter readings
      */
     @GetMapping
-    public ResponseEntity<List<MeterReadingResponse>> getAllMeterReadings() {
+    public ResponseEntity<MeterReadingStream> getAllMeterReadings(
+            @RequestParam(required = false) String fields) {
         log.info("Received request to get all meter readings");
-        List<MeterReadingResponse> readings = meterReadingService.getAllMeterReadings();
-        return ResponseEntity.ok(readings);
+        return ResponseEntity.ok(meterReadingJsonStreamer.streamAll(fields));
+    }
+
+    /**
+     * Get meter readings changed since a change token.
+     * <p>
+     * GET /api/v1/meter-readings/changes?since={token}
+     * <p>
+     * Returns readings inserted, updated or deleted after the token, plus the
+     * token to use for the next request. Omit {@code since} (or send 0) for a full sync.
+     *
+     * @param since the last change token received by the client
+     * @return changed and deleted readings with the next change token
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<MeterReadingChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since) {
+        log.debug("Received request to get meter reading changes since token: {}", since);
+        MeterReadingChangesResponse changes = meterReadingSyncService.getChangesSince(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Get readings that were accepted by asynchronous ingestion (write-ahead
+     * log or MQTT) but could not be stored.
+     * <p>
+     * GET /api/v1/meter-readings/rejections?limit={limit}
+     *
+     * @param limit maximum number of rejections, 1 to 1000
+     * @return the most recent rejections, newest first
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @GetMapping("/rejections")
+    public ResponseEntity<List<IngestRejectionResponse>> getIngestRejections(
+            @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("Limit must be between 1 and 1000, got " + limit);
+        }
+        return ResponseEntity.ok(ingestRejections.findRecent(limit));
     }
 
     /**
      * Get all meter readings for a specific meter type.
      * <p>
-     * GET /api/v1/meter-readings/{type}
+     * GET /api/v1/meter-readings/{type}?fields={fields}
      *
      * @param type the meter type (ELECTRICITY, GAS, or WATER)
+     * @param fields optional comma-separated response fields, e.g. {@code readingDate,readingValue}
      * @return list of meter readings for the specified type
      */
     @GetMapping("/{type}")
-    public ResponseEntity<List<MeterReadingResponse>> getMeterReadingsByType(
-            @PathVariable MeterType type) {
+    public ResponseEntity<MeterReadingStream> getMeterReadingsByType(
+            @PathVariable MeterType type,
+            @RequestParam(required = false) String fields) {
         log.info("Received request to get meter readings for type: {}", type);
-        List<MeterReadingResponse> readings = meterReadingService.getMeterReadingsByType(type);
-        return ResponseEntity.ok(readings);
+        return ResponseEntity.ok(meterReadingJsonStreamer.streamByType(type, fields));
     }
 
     /**
@@ -121,13 +204,55 @@ public class MeterReadingController {
         return ResponseEntity.ok(consumption);
     }
 
+    /**
+     * Get the meter values at arbitrary instants.
+     * <p>
+     * GET /api/v1/meter-readings/{type}/value-at?timestamps=2026-01-15T00:00:00,2026-02-01T00:00:00
+     * <p>
+     * Values between two readings are interpolated linearly; instants outside
+     * the range of readings have no value.
+     *
+     * @param type the meter type
+     * @param timestamps the instants (ISO date-time, comma-separated or repeated)
+     * @return one value per instant, in request order
+     */
+    @GetMapping("/{type}/value-at")
+    public ResponseEntity<List<MeterValueResponse>> getValuesAt(
+            @PathVariable MeterType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) List<LocalDateTime> timestamps) {
+        log.debug("Received request to get {} values at {} instants", type, timestamps.size());
+        return ResponseEntity.ok(meterValueService.getValuesAt(type, timestamps));
+    }
+
+    /**
+     * Calculate the consumption of consecutive billing periods.
+     * <p>
+     * GET /api/v1/meter-readings/{type}/billing-periods?boundaries=2025-01-15T00:00:00,2025-02-15T00:00:00,...
+     * <p>
+     * Each boundary ends one period and starts the next; meter values at the
+     * boundaries are interpolated between the surrounding readings.
+     *
+     * @param type the meter type
+     * @param boundaries the period boundaries (ISO date-time, strictly ascending)
+     * @return consumption per billing period
+     */
+    @GetMapping("/{type}/billing-periods")
+    public ResponseEntity<List<BillingPeriodConsumptionResponse>> getBillingPeriodConsumption(
+            @PathVariable MeterType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) List<LocalDateTime> boundaries) {
+        log.info("Received request to calculate {} billing periods for type: {}", boundaries.size() - 1, type);
+        return ResponseEntity.ok(meterValueService.getBillingPeriodConsumption(type, boundaries));
+    }
+
     /**
      * Import meter readings from CSV upload.
      * <p>
      * POST /api/v1/meter-readings/import
+     * <p>
+     * A file whose content was imported before is skipped without parsing.
      *
      * @param file CSV file upload
-     * @return import result with created count
+     * @return import result with created, updated and unchanged counts
      */
     @PostMapping("/import")
     public ResponseEntity<MeterReadingImportResponse> importMeterReadings(
@@ -139,9 +264,23 @@ public class MeterReadingController {
                     .body(MeterReadingImportResponse.builder().createdCount(0).build());
         }
 
-        try (var reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
-            int created = meterReadingCsvImporter.importFromReader(reader);
-            return ResponseEntity.ok(MeterReadingImportResponse.builder().createdCount(created).build());
+        try {
+            // The multipart file is already buffered, so it can be hashed before parsing
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            if (meterReadingCsvImporter.isImported(contentHash)) {
+                log.info("CSV file {} was already imported, skipping", file.getOriginalFilename());
+                return ResponseEntity.ok(MeterReadingImportResponse.builder().alreadyImported(true).build());
+            }
+
+            try (var reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+                MeterReadingCsvImporter.ImportResult result = meterReadingCsvImporter.importFromReader(reader);
+                meterReadingCsvImporter.recordImport(contentHash, file.getOriginalFilename(), result);
+                return ResponseEntity.ok(toImportResponse(result));
+            }
         } catch (Exception ex) {
             log.error("CSV import failed", ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -149,6 +288,63 @@ public class MeterReadingController {
         }
     }
 
+    /**
+     * Import meter readings from a CSV request body streamed without multipart buffering.
+     * <p>
+     * POST /api/v1/meter-readings/import/stream
+     * <p>
+     * The body is the CSV file itself, optionally compressed with gzip or zstd
+     * (declared via {@code Content-Encoding} or {@code Content-Type}), e.g.
+     * {@code curl -H 'Content-Type: application/zstd' --data-binary @readings.csv.zst
+     * http://localhost:8080/api/v1/meter-readings/import/stream}.
+     * Readings are persisted in batches while the upload is still being received;
+     * batches written before a failure stay committed and are skipped as unchanged on retry.
+     * <p>
+     * Clients may declare the SHA-256 of the uncompressed file in the
+     * {@code X-Content-SHA256} header; if that content was imported before,
+     * the request returns immediately without reading the body.
+     *
+     * @param request the HTTP request providing the body stream
+     * @return import result with created, updated and unchanged counts
+     * @throws IOException if reading the request body fails
+     * @throws NoSuchAlgorithmException if SHA-256 is not available
+     */
+    @PostMapping(value = "/import/stream", consumes = {
+            "text/csv", "text/plain", "application/octet-stream", "application/gzip", "application/zstd"})
+    public ResponseEntity<MeterReadingImportResponse> importMeterReadingsStream(HttpServletRequest request)
+            throws IOException, NoSuchAlgorithmException {
+        log.info("Received streamed CSV import request: {} bytes, encoding {}",
+                request.getContentLengthLong(), request.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+        String declaredHash = request.getHeader(CONTENT_SHA256_HEADER);
+        if (declaredHash != null && meterReadingCsvImporter.isImported(declaredHash)) {
+            log.info("CSV content {} was already imported, skipping", declaredHash);
+            return ResponseEntity.ok(MeterReadingImportResponse.builder().alreadyImported(true).build());
+        }
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (Reader reader = importStreamFactory.openReader(
+                request.getInputStream(),
+                request.getContentLengthLong(),
+                request.getHeader(HttpHeaders.CONTENT_ENCODING),
+                request.getContentType(),
+                digest)) {
+            MeterReadingCsvImporter.ImportResult result = meterReadingCsvImporter.importFromReader(reader);
+            // Record the hash of what was actually received, not the declared one
+            meterReadingCsvImporter.recordImport(HexFormat.of().formatHex(digest.digest()), "upload", result);
+            return ResponseEntity.ok(toImportResponse(result));
+        }
+    }
+
+    private static MeterReadingImportResponse toImportResponse(MeterReadingCsvImporter.ImportResult result) {
+        return MeterReadingImportResponse.builder()
+                .createdCount(result.created())
+                .updatedCount(result.updated())
+                .unchangedCount(result.unchanged())
+                .alreadyImported(result.alreadyImported())
+                .build();
+    }
+
     /**
      * Exception handler for IllegalArgumentException.
      * <p>
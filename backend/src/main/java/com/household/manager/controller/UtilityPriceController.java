@@ -1,5 +1,7 @@
 package com.household.manager.controller;
 
+import com.household.manager.dto.UtilityPriceBatchRequest;
+import com.household.manager.dto.UtilityPriceBatchResponse;
 import com.household.manager.dto.UtilityPriceRequest;
 import com.household.manager.dto.UtilityPriceResponse;
 import com.household.manager.model.entity.MeterType;
@@ -46,33 +48,56 @@ public class UtilityPriceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Upload a whole utility price schedule for one meter type.
+     * <p>
+     * POST /api/v1/utility-prices/batch
+     * <p>
+     * All periods are validated together; if any period is invalid or overlaps,
+     * nothing is created and HTTP 409 is returned with one error per offending period.
+     *
+     * @param request validated schedule request
+     * @return created count and complete schedule with HTTP 201 status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<UtilityPriceBatchResponse> createUtilityPriceSchedule(
+            @Valid @RequestBody UtilityPriceBatchRequest request) {
+        log.info("Received request to create utility price schedule for type: {}", request.getMeterType());
+        UtilityPriceBatchResponse response = utilityPriceService.createUtilityPriceSchedule(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * Get all utility prices across all meter types.
      * <p>
-     * GET /api/v1/utility-prices
+     * GET /api/v1/utility-prices?fields={fields}
      *
+     * @param fields optional comma-separated response fields, e.g. {@code meterType,price,validFrom}
      * @return list of all utility prices
      */
     @GetMapping
-    public ResponseEntity<List<UtilityPriceResponse>> getAllUtilityPrices() {
+    public ResponseEntity<List<UtilityPriceResponse>> getAllUtilityPrices(
+            @RequestParam(required = false) String fields) {
         log.info("Received request to get all utility prices");
-        List<UtilityPriceResponse> prices = utilityPriceService.getAllUtilityPrices();
+        List<UtilityPriceResponse> prices = utilityPriceService.getAllUtilityPrices(fields);
         return ResponseEntity.ok(prices);
     }
 
     /**
      * Get all utility prices for a specific meter type.
      * <p>
-     * GET /api/v1/utility-prices/{type}
+     * GET /api/v1/utility-prices/{type}?fields={fields}
      *
      * @param type the meter type (ELECTRICITY or GAS)
+     * @param fields optional comma-separated response fields, e.g. {@code price,validFrom,validTo}
      * @return list of utility prices for the specified type
      */
     @GetMapping("/{type}")
     public ResponseEntity<List<UtilityPriceResponse>> getUtilityPricesByType(
-            @PathVariable MeterType type) {
+            @PathVariable MeterType type,
+            @RequestParam(required = false) String fields) {
         log.info("Received request to get utility prices for type: {}", type);
-        List<UtilityPriceResponse> prices = utilityPriceService.getUtilityPricesByMeterType(type);
+        List<UtilityPriceResponse> prices = utilityPriceService.getUtilityPricesByMeterType(type, fields);
         return ResponseEntity.ok(prices);
     }
 
@@ -0,0 +1,63 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the consumption within one billing period.
+ * <p>
+ * Start and end values are interpolated between the surrounding readings,
+ * so periods may start on any day. Value and consumption fields are omitted
+ * if a boundary lies outside the range of readings.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BillingPeriodConsumptionResponse {
+
+    /**
+     * Start of the period (inclusive)
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime periodStart;
+
+    /**
+     * End of the period (exclusive), the start of the next period
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime periodEnd;
+
+    /**
+     * Meter value at the start of the period
+     */
+    private BigDecimal startValue;
+
+    /**
+     * Meter value at the end of the period
+     */
+    private BigDecimal endValue;
+
+    /**
+     * Consumption within the period
+     */
+    private BigDecimal consumption;
+
+    /**
+     * Length of the period in days
+     */
+    private Integer days;
+
+    /**
+     * Average daily consumption within the period
+     */
+    private BigDecimal averageDailyConsumption;
+}
@@ -0,0 +1,40 @@
+package com.household.manager.dto;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the dashboard card of one meter type.
+ * <p>
+ * Each part is null if it does not exist (no reading yet, only one reading,
+ * no current price) or could not be loaded in time.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardMeterResponse {
+
+    /**
+     * Type of meter
+     */
+    private MeterType meterType;
+
+    /**
+     * Most recent reading, with consumption since the previous reading
+     */
+    private MeterReadingResponse latestReading;
+
+    /**
+     * Consumption between the two most recent readings
+     */
+    private ConsumptionResponse consumption;
+
+    /**
+     * Price valid today (electricity and gas only)
+     */
+    private UtilityPriceResponse currentPrice;
+}
@@ -0,0 +1,38 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the dashboard summary.
+ * <p>
+ * Contains everything the dashboard shows, so a page view needs a single request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+
+    /**
+     * One entry per meter type, in {@link com.household.manager.model.entity.MeterType} order
+     */
+    private List<DashboardMeterResponse> meters;
+
+    /**
+     * Whether some parts failed or timed out and are missing although they may exist
+     */
+    private boolean partial;
+
+    /**
+     * Time the summary was computed
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+}
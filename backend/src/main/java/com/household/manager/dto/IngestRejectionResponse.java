@@ -0,0 +1,63 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.household.manager.model.entity.MeterType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a reading that was acknowledged by asynchronous ingestion
+ * (write-ahead log or MQTT) but could not be stored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestRejectionResponse {
+
+    /**
+     * Unique identifier of the rejection.
+     */
+    private Long id;
+
+    /**
+     * Ingestion path the reading arrived on: {@code WAL} or {@code MQTT}.
+     */
+    private String source;
+
+    /**
+     * Type of meter of the rejected reading.
+     */
+    private MeterType meterType;
+
+    /**
+     * Reading date of the rejected reading.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime readingDate;
+
+    /**
+     * Reading value as received.
+     */
+    private String readingValue;
+
+    /**
+     * Notes of the rejected reading.
+     */
+    private String notes;
+
+    /**
+     * Why the reading was not stored.
+     */
+    private String reason;
+
+    /**
+     * When the reading was rejected.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime rejectedAt;
+}
@@ -0,0 +1,31 @@
+package com.household.manager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for uploading interval data (e.g. 15-minute smart-meter
+ * values) of one meter type.
+ * <p>
+ * Samples may span several days and arrive in any order; a sample at a time
+ * that is already stored replaces the stored value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntervalDataRequest {
+
+    /**
+     * The samples
+     */
+    @NotEmpty(message = "At least one sample is required")
+    private List<@Valid @NotNull IntervalSampleRequest> samples;
+}
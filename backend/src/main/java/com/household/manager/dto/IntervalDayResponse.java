@@ -0,0 +1,62 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the interval data summary of one meter-day.
+ * <p>
+ * Built from the chunk's summary columns, without decoding its samples.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntervalDayResponse {
+
+    /**
+     * The day
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    /**
+     * Number of samples stored for the day
+     */
+    private int sampleCount;
+
+    /**
+     * Time of the first sample of the day
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime firstTimestamp;
+
+    /**
+     * Meter value of the first sample of the day
+     */
+    private BigDecimal firstValue;
+
+    /**
+     * Time of the last sample of the day
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime lastTimestamp;
+
+    /**
+     * Meter value of the last sample of the day
+     */
+    private BigDecimal lastValue;
+
+    /**
+     * Consumption up to the last sample of the day since the last sample of the
+     * previous stored day (since the first sample of the day if there is none)
+     */
+    private BigDecimal consumption;
+}
@@ -0,0 +1,40 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One sample of high-frequency interval data within an {@link IntervalDataRequest}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntervalSampleRequest {
+
+    /**
+     * Time of the sample, to the second.
+     * <p>
+     * Format: ISO 8601 (yyyy-MM-dd'T'HH:mm:ss)
+     */
+    @NotNull(message = "Timestamp is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Meter value (register reading) at the sample time, with up to 2 decimal places
+     */
+    @NotNull(message = "Value is required")
+    @DecimalMin(value = "0.0", message = "Value must not be negative")
+    @Digits(integer = 8, fraction = 2, message = "Value must have at most 8 integer and 2 decimal digits")
+    private BigDecimal value;
+}
@@ -0,0 +1,36 @@
+package com.household.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the result of an interval data upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntervalWriteResponse {
+
+    /**
+     * Number of samples added
+     */
+    private int added;
+
+    /**
+     * Number of samples that replaced a stored sample with a different value at the same time
+     */
+    private int replaced;
+
+    /**
+     * Number of samples that were already stored with the same value
+     */
+    private int unchanged;
+
+    /**
+     * Number of meter-day chunks written (days without added or replaced samples are not rewritten)
+     */
+    private int chunks;
+}
@@ -0,0 +1,53 @@
+package com.household.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for incremental meter reading sync responses.
+ * <p>
+ * Contains all readings inserted, updated or deleted after the client's
+ * change token. Clients apply the upserts and deletions to their local copy
+ * and send {@link #nextToken} with the next request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeterReadingChangesResponse {
+
+    /**
+     * Change token to send as {@code since} with the next request
+     */
+    private long nextToken;
+
+    /**
+     * Whether the client must discard its local copy before applying this response.
+     * <p>
+     * Set when the client's token is unknown to the server (e.g. after a database reset);
+     * the response then contains the full data set.
+     */
+    private boolean reset;
+
+    /**
+     * Whether more changes are available; clients should request again with {@link #nextToken}
+     */
+    private boolean hasMore;
+
+    /**
+     * Readings that were created or updated, in their current state.
+     * <p>
+     * Includes the latest reading of every changed meter type with its
+     * recalculated consumption.
+     */
+    private List<MeterReadingResponse> upserts;
+
+    /**
+     * IDs of readings that were deleted
+     */
+    private List<Long> deletedIds;
+}
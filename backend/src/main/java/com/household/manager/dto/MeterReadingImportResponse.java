@@ -18,4 +18,19 @@ public class MeterReadingImportResponse {
      * Number of created meter readings.
      */
     private int createdCount;
+
+    /**
+     * Number of meter readings updated because their row was edited since the last import.
+     */
+    private int updatedCount;
+
+    /**
+     * Number of rows skipped because they are unchanged since the last import.
+     */
+    private int unchangedCount;
+
+    /**
+     * Whether the file was skipped because identical content had already been imported.
+     */
+    private boolean alreadyImported;
 }
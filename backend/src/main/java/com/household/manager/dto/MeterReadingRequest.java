@@ -2,6 +2,7 @@ package com.household.manager.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.household.manager.model.entity.MeterType;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -33,7 +34,8 @@ public class MeterReadingRequest {
     /**
      * The meter reading value.
      * <p>
-     * Must be a positive number with up to 2 decimal places.
+     * Must be a positive number with up to 2 decimal places and at most
+     * 99,999,999.99, the range of the stored column.
      * Units depend on meter type:
      * - ELECTRICITY: kWh
      * - GAS: m³
@@ -41,6 +43,7 @@ public class MeterReadingRequest {
      */
     @NotNull(message = "Reading value is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Reading value must be greater than zero")
+    @DecimalMax(value = "99999999.99", message = "Reading value must not exceed 99999999.99")
     private BigDecimal readingValue;
 
     /**
@@ -0,0 +1,24 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * A list of meter readings that is written directly to the response instead
+ * of being materialized as {@link MeterReadingResponse} objects.
+ * <p>
+ * The written array is identical to a serialized {@code List<MeterReadingResponse>}.
+ * The readings are queried while writing, so the stream may only be written once.
+ */
+@FunctionalInterface
+public interface MeterReadingStream {
+
+    /**
+     * Write the readings as an array.
+     *
+     * @param generator target generator (JSON, CBOR or Smile)
+     * @throws IOException if writing fails
+     */
+    void writeTo(JsonGenerator generator) throws IOException;
+}
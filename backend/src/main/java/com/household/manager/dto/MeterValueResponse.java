@@ -0,0 +1,41 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the meter value at an arbitrary instant.
+ * <p>
+ * Between two readings the value is interpolated linearly; before the first
+ * and after the last reading no value is known.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MeterValueResponse {
+
+    /**
+     * The requested instant
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    /**
+     * Meter value at the instant (null if outside the range of readings)
+     */
+    private BigDecimal value;
+
+    /**
+     * Whether the value was interpolated rather than read at exactly this instant
+     */
+    private boolean interpolated;
+}
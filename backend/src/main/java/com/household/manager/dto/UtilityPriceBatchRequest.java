@@ -0,0 +1,36 @@
+package com.household.manager.dto;
+
+import com.household.manager.model.entity.MeterType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for uploading a whole utility price schedule for one meter type.
+ * <p>
+ * The schedule is validated as a unit: either all periods are created or none.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityPriceBatchRequest {
+
+    /**
+     * Type of meter (ELECTRICITY or GAS only)
+     */
+    @NotNull(message = "Meter type is required")
+    private MeterType meterType;
+
+    /**
+     * Price periods of the schedule, in any order
+     */
+    @NotEmpty(message = "At least one price period is required")
+    private List<@Valid @NotNull UtilityPricePeriodRequest> prices;
+}
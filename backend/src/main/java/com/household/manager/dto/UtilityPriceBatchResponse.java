@@ -0,0 +1,34 @@
+package com.household.manager.dto;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for utility price schedule uploads.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityPriceBatchResponse {
+
+    /**
+     * Type of meter the schedule belongs to
+     */
+    private MeterType meterType;
+
+    /**
+     * Number of created utility prices
+     */
+    private int createdCount;
+
+    /**
+     * Complete price schedule for the meter type after the upload (newest first)
+     */
+    private List<UtilityPriceResponse> prices;
+}
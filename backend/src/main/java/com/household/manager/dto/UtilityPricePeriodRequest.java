@@ -0,0 +1,46 @@
+package com.household.manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One price period within a utility price schedule upload.
+ * <p>
+ * The meter type is given once for the whole schedule in {@link UtilityPriceBatchRequest}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityPricePeriodRequest {
+
+    /**
+     * Price per unit for the utility
+     */
+    @NotNull(message = "Price is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than zero")
+    private BigDecimal price;
+
+    /**
+     * Start date when this price becomes valid (inclusive)
+     */
+    @NotNull(message = "Valid from date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validFrom;
+
+    /**
+     * End date when this price is valid until (exclusive).
+     * <p>
+     * If null, the price is considered valid indefinitely.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate validTo;
+}
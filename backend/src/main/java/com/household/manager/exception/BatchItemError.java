@@ -0,0 +1,39 @@
+package com.household.manager.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Error for a single item of a batch request.
+ * Used in {@link ErrorResponse#getItemErrors()} so clients can correct individual items.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemError {
+
+    /**
+     * Zero-based index of the offending item in the request
+     */
+    private int index;
+
+    /**
+     * Human-readable error message
+     */
+    private String message;
+
+    /**
+     * Index of another request item the item conflicts with, if any
+     */
+    private Integer conflictingIndex;
+
+    /**
+     * ID of an existing resource the item conflicts with, if any
+     */
+    private Long conflictingId;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,4 +50,9 @@ public class ErrorResponse {
      * Validation errors map (field name -> error message)
      */
     private Map<String, String> validationErrors;
+
+    /**
+     * Per-item errors of a batch request
+     */
+    private List<BatchItemError> itemErrors;
 }
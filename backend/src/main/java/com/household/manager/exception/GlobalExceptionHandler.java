@@ -4,10 +4,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -75,6 +78,53 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle conflicting utility price schedule uploads.
+     *
+     * @param ex      The schedule conflict exception
+     * @param request The web request
+     * @return Error response with 409 status and one error per offending item
+     */
+    @ExceptionHandler(UtilityPriceScheduleConflictException.class)
+    public ResponseEntity<ErrorResponse> handleUtilityPriceScheduleConflictException(
+            UtilityPriceScheduleConflictException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .itemErrors(ex.getItemErrors())
+                .build();
+
+        log.warn("Utility price schedule conflict: {} item error(s)", ex.getItemErrors().size());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handle imports exceeding the configured size limits.
+     *
+     * @param ex      The size limit exception
+     * @param request The web request
+     * @return Error response with 413 status
+     */
+    @ExceptionHandler(ImportSizeLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleImportSizeLimitExceededException(
+            ImportSizeLimitExceededException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .error("Payload Too Large")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        log.warn("Import rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
     /**
      * Handle illegal argument exceptions.
      *
@@ -98,6 +148,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handle missing or unparsable request parameters and path variables,
+     * e.g. an unknown meter type or a malformed timestamp.
+     *
+     * @param ex      The parameter exception
+     * @param request The web request
+     * @return Error response with 400 status
+     */
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class})
+    public ResponseEntity<ErrorResponse> handleRequestParameterException(
+            Exception ex, WebRequest request) {
+
+        String message = ex instanceof MethodArgumentTypeMismatchException mismatch
+                ? "Invalid value for parameter '" + mismatch.getName() + "': " + mismatch.getValue()
+                : ex.getMessage();
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(message)
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        log.warn("Invalid request parameter: {}", message);
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handle request bodies of a content type the endpoint does not consume.
+     *
+     * @param ex      The media type exception
+     * @param request The web request
+     * @return Error response with 415 status
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMediaTypeNotSupportedException(
+            HttpMediaTypeNotSupportedException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value())
+                .error("Unsupported Media Type")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        log.warn("Unsupported content type: {}", ex.getContentType());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .headers(ex.getHeaders())
+                .body(errorResponse);
+    }
+
     /**
      * Handle all other unhandled exceptions.
      *
@@ -0,0 +1,12 @@
+package com.household.manager.exception;
+
+/**
+ * Exception thrown when an uploaded import exceeds the configured maximum size.
+ * This is handled by the GlobalExceptionHandler and mapped to HTTP 413.
+ */
+public class ImportSizeLimitExceededException extends RuntimeException {
+
+    public ImportSizeLimitExceededException(String message) {
+        super(message);
+    }
+}
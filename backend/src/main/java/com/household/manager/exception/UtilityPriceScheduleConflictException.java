@@ -0,0 +1,20 @@
+package com.household.manager.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Exception thrown when an uploaded utility price schedule contains invalid or overlapping periods.
+ * This is handled by the GlobalExceptionHandler and reported with one error per offending item.
+ */
+@Getter
+public class UtilityPriceScheduleConflictException extends RuntimeException {
+
+    private final List<BatchItemError> itemErrors;
+
+    public UtilityPriceScheduleConflictException(String message, List<BatchItemError> itemErrors) {
+        super(message);
+        this.itemErrors = itemErrors;
+    }
+}
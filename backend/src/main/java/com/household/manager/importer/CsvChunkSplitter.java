@@ -0,0 +1,148 @@
+package com.household.manager.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a CSV file into byte ranges that start at record boundaries, so the
+ * ranges can be parsed independently.
+ * <p>
+ * The file is cut into equally sized segments and the number of quote
+ * characters of every segment is counted in parallel. The running parity of
+ * these counts tells whether a segment starts inside a quoted field; each
+ * chunk boundary is then placed after the first line break outside quotes.
+ * <p>
+ * The parity only approximates the parser, which treats a quote in the middle
+ * of an unquoted field as a literal character. Such a quote can only move a
+ * boundary into a quoted field, which makes the preceding chunk end inside an
+ * unterminated quoted field and fail to parse. Callers therefore fall back to
+ * sequential parsing from the start of the first chunk that fails.
+ */
+final class CsvChunkSplitter {
+
+    private static final int SCAN_WINDOW = 1024 * 1024;
+
+    private CsvChunkSplitter() {
+    }
+
+    /**
+     * Split a file into at most {@code chunkCount} chunks.
+     *
+     * @param channel the file to split
+     * @param chunkCount the requested number of chunks
+     * @param executor executor for counting quotes in parallel
+     * @return non-empty, contiguous chunks covering the whole file in file order
+     * @throws IOException if the file cannot be read
+     */
+    static List<Chunk> split(FileChannel channel, int chunkCount, ExecutorService executor) throws IOException {
+        long size = channel.size();
+        if (chunkCount <= 1 || size < chunkCount) {
+            return List.of(new Chunk(0, size));
+        }
+
+        long[] segmentStarts = new long[chunkCount + 1];
+        for (int k = 0; k <= chunkCount; k++) {
+            segmentStarts[k] = size * k / chunkCount;
+        }
+
+        List<Callable<Boolean>> parityTasks = new ArrayList<>(chunkCount);
+        for (int k = 0; k < chunkCount; k++) {
+            long start = segmentStarts[k];
+            long end = segmentStarts[k + 1];
+            parityTasks.add(() -> hasOddQuoteCount(channel, start, end));
+        }
+        List<Boolean> oddQuotes = invokeAll(executor, parityTasks);
+
+        List<Chunk> chunks = new ArrayList<>(chunkCount);
+        long chunkStart = 0;
+        boolean inQuotes = false;
+        for (int k = 1; k < chunkCount; k++) {
+            inQuotes ^= oddQuotes.get(k - 1);
+            if (segmentStarts[k] < chunkStart) {
+                // the previous chunk already extends past this segment start
+                continue;
+            }
+            long boundary = nextRecordStart(channel, segmentStarts[k], inQuotes, size);
+            if (boundary >= size) {
+                break;
+            }
+            chunks.add(new Chunk(chunkStart, boundary));
+            chunkStart = boundary;
+        }
+        chunks.add(new Chunk(chunkStart, size));
+        return chunks;
+    }
+
+    private static boolean hasOddQuoteCount(FileChannel channel, long start, long end) throws IOException {
+        boolean odd = false;
+        for (long windowStart = start; windowStart < end; windowStart += SCAN_WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(SCAN_WINDOW, end - windowStart));
+            for (int i = 0, limit = window.limit(); i < limit; i++) {
+                if (window.get(i) == '"') {
+                    odd = !odd;
+                }
+            }
+        }
+        return odd;
+    }
+
+    /**
+     * Offset after the first line break outside quotes at or after {@code from}, or the file size.
+     */
+    private static long nextRecordStart(FileChannel channel, long from, boolean inQuotes, long size)
+            throws IOException {
+        for (long windowStart = from; windowStart < size; windowStart += SCAN_WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(SCAN_WINDOW, size - windowStart));
+            for (int i = 0, limit = window.limit(); i < limit; i++) {
+                byte b = window.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    return windowStart + i + 1;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Splitting CSV file interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (ex.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IllegalStateException("Splitting CSV file failed", ex.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Byte range {@code [start, end)} of a file.
+     */
+    record Chunk(long start, long end) {
+
+        long length() {
+            return end - start;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.household.manager.importer;
+
+import com.household.manager.importer.ImportOffsetStore.ImportOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Imports CSV files dropped into or appended to in a watched directory.
+ * <p>
+ * For every {@code .csv} file the byte offset after the last imported record
+ * is stored in {@code import_offsets}. When a file is created or grows, only
+ * the complete records after that offset are parsed and persisted through the
+ * importer's batched, fingerprint-based persistence; a partially written last
+ * line is left for the next round. Offsets survive restarts, and files that
+ * changed while the application was down are caught up on start.
+ * <p>
+ * A file that shrank or was replaced (different inode) is imported from the
+ * beginning again; thanks to the row fingerprints this only writes rows that
+ * actually changed. The offset is saved after the rows are committed, so a
+ * crash in between re-imports those rows as unchanged.
+ * <p>
+ * Enabled with {@code household.import.watch.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "household.import.watch.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CsvFolderWatcher implements SmartLifecycle {
+
+    /**
+     * Upper bound for one import step, so the mapped range stays small for huge files.
+     */
+    private static final long MAX_STEP_BYTES = 256L * 1024 * 1024;
+
+    @Value("${household.import.watch.dir:data/import}")
+    private String watchDir;
+
+    @Value("${household.import.watch.quiet-period-ms:1000}")
+    private long quietPeriodMs;
+
+    private final MeterReadingCsvImporter csvImporter;
+    private final ImportOffsetStore importOffsetStore;
+
+    private volatile boolean running;
+    private WatchService watchService;
+    private Path directory;
+    private Thread watcher;
+
+    @Override
+    public void start() {
+        directory = Path.of(watchDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(directory);
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not watch import directory " + directory, ex);
+        }
+        running = true;
+        watcher = Thread.ofPlatform()
+                .name("csv-folder-watcher")
+                .daemon(true)
+                .start(this::watchLoop);
+        log.info("Watching {} for CSV imports", directory);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close watch service", ex);
+        }
+        try {
+            watcher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watchLoop() {
+        Set<Path> pending = new LinkedHashSet<>();
+        boolean rescan = true;
+        while (running) {
+            try {
+                if (rescan) {
+                    pending.addAll(listCsvFiles());
+                    rescan = false;
+                }
+
+                // Collect events until the directory has been quiet for a while, then import
+                WatchKey key = pending.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(quietPeriodMs, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    for (Path file : pending) {
+                        importAppended(file);
+                    }
+                    pending.clear();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        rescan = true;
+                    } else if (event.context() instanceof Path name && isCsv(name)) {
+                        pending.add(directory.resolve(name));
+                    }
+                }
+                if (!key.reset()) {
+                    log.error("Import directory {} is no longer accessible, stopping watcher", directory);
+                    return;
+                }
+            } catch (ClosedWatchServiceException ex) {
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException ex) {
+                log.error("Watching import directory {} failed; rescanning", directory, ex);
+                pending.clear();
+                rescan = true;
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * Import the complete records appended to a file since its stored offset.
+     * Package-private for tests.
+     */
+    void importAppended(Path file) {
+        String filePath = file.toString();
+        try {
+            if (!Files.isRegularFile(file)) {
+                return;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            String fileKey = attributes.fileKey() != null ? attributes.fileKey().toString() : null;
+            long size = attributes.size();
+
+            long offset = importOffsetStore.find(filePath)
+                    .filter(stored -> Objects.equals(stored.fileKey(), fileKey) && stored.byteOffset() <= size)
+                    .map(ImportOffset::byteOffset)
+                    .orElse(0L);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (offset < size) {
+                    long end = CsvRecordBoundaries.lastRecordEnd(
+                            channel, offset, Math.min(size, offset + MAX_STEP_BYTES));
+                    if (end == offset) {
+                        break;
+                    }
+                    MeterReadingCsvImporter.ImportResult result = csvImporter.importRange(file, offset, end);
+                    importOffsetStore.save(filePath, new ImportOffset(fileKey, end));
+                    log.info("Imported bytes {}-{} of {}: {}", offset, end, file.getFileName(), result);
+                    offset = end;
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.error("Importing appended rows of {} failed; retrying on next change", file, ex);
+        }
+    }
+
+    private Set<Path> listCsvFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> isCsv(file.getFileName()))
+                    .sorted()
+                    .collect(LinkedHashSet::new, Set::add, Set::addAll);
+        }
+    }
+
+    private static boolean isCsv(Path name) {
+        return name.toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(quietPeriodMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
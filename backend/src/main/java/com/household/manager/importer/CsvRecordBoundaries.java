@@ -0,0 +1,72 @@
+package com.household.manager.importer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Finds the end of the last complete CSV record in a byte range, for tailing
+ * files that are still being appended to.
+ * <p>
+ * Unlike {@link CsvChunkSplitter}, which has to guess the quoting state in the
+ * middle of a file, the scan starts at a known record boundary and follows the
+ * same rules as the CSV parser: a quote only opens a quoted field at the start
+ * of a field, and {@code ""} inside a quoted field is an escaped quote.
+ */
+final class CsvRecordBoundaries {
+
+    private static final int SCAN_WINDOW = 1024 * 1024;
+
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private CsvRecordBoundaries() {
+    }
+
+    /**
+     * Offset after the last line break that ends a record in {@code [from, to)}.
+     *
+     * @param channel the file
+     * @param from offset of a record start
+     * @param to end of the range to scan
+     * @return end of the last complete record, or {@code from} if the range holds no complete record
+     * @throws IOException if the file cannot be read
+     */
+    static long lastRecordEnd(FileChannel channel, long from, long to) throws IOException {
+        long lastEnd = from;
+        int state = FIELD_START;
+        for (long windowStart = from; windowStart < to; windowStart += SCAN_WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+                    Math.min(SCAN_WINDOW, to - windowStart));
+            for (int i = 0, limit = window.limit(); i < limit; i++) {
+                byte b = window.get(i);
+                switch (state) {
+                    case QUOTED -> {
+                        if (b == '"') {
+                            state = QUOTE_IN_QUOTED;
+                        }
+                    }
+                    case QUOTE_IN_QUOTED -> {
+                        if (b == '"') {
+                            state = QUOTED;
+                        } else {
+                            state = afterUnquoted(b);
+                        }
+                    }
+                    case FIELD_START -> state = b == '"' ? QUOTED : afterUnquoted(b);
+                    default -> state = afterUnquoted(b);
+                }
+                if (b == '\n' && state == FIELD_START) {
+                    lastEnd = windowStart + i + 1;
+                }
+            }
+        }
+        return lastEnd;
+    }
+
+    private static int afterUnquoted(byte b) {
+        return b == ',' || b == '\n' || b == '\r' ? FIELD_START : UNQUOTED;
+    }
+}
@@ -0,0 +1,91 @@
+package com.household.manager.importer;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Reads and writes the fingerprints used for incremental re-imports:
+ * one per imported reading ({@code meter_readings.import_fingerprint}) and
+ * one per imported file ({@code import_files}).
+ * Also reads the ranges compacted by the retention job ({@code retention_watermarks}).
+ */
+@Component
+@RequiredArgsConstructor
+class ImportFingerprintStore {
+
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Load the fingerprints of all stored readings in a single query, along
+     * with the ranges compacted by the retention job.
+     */
+    ReadingFingerprints loadReadingFingerprints() {
+        ReadingFingerprints fingerprints = new ReadingFingerprints();
+        jdbcTemplate.query("SELECT meter_type, daily_before, weekly_before FROM retention_watermarks", rs -> {
+            Date weeklyBefore = rs.getDate("weekly_before");
+            fingerprints.compacted(
+                    MeterType.valueOf(rs.getString("meter_type")),
+                    rs.getTimestamp("daily_before").toLocalDateTime(),
+                    weeklyBefore != null ? weeklyBefore.toLocalDate() : null);
+        });
+        jdbcTemplate.query("SELECT meter_type, reading_date, import_fingerprint FROM meter_readings", rs -> {
+            fingerprints.put(
+                    MeterType.valueOf(rs.getString("meter_type")),
+                    rs.getTimestamp("reading_date").toLocalDateTime(),
+                    rs.getObject("import_fingerprint", Long.class));
+        });
+        return fingerprints;
+    }
+
+    /**
+     * Whether a file with the given content hash has already been imported.
+     *
+     * @param contentHash hex-encoded SHA-256 of the file content
+     * @throws IllegalArgumentException if the hash is not a hex-encoded SHA-256
+     */
+    boolean isImported(String contentHash) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM import_files WHERE content_hash = ?", Integer.class, normalize(contentHash));
+        return count != null && count > 0;
+    }
+
+    /**
+     * Record a completely imported file.
+     *
+     * @param contentHash hex-encoded SHA-256 of the file content
+     * @param source file name or other description of the source
+     * @param readingCount number of readings parsed from the file
+     */
+    void recordImport(String contentHash, String source, int readingCount) {
+        jdbcTemplate.update(
+                "INSERT INTO import_files (content_hash, source, reading_count) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE source = VALUES(source), reading_count = VALUES(reading_count), " +
+                "imported_at = CURRENT_TIMESTAMP",
+                normalize(contentHash), truncate(source), readingCount);
+    }
+
+    static String toContentHash(byte[] sha256) {
+        return HexFormat.of().formatHex(sha256);
+    }
+
+    private static String normalize(String contentHash) {
+        String hash = contentHash.trim().toLowerCase(Locale.ROOT);
+        if (!CONTENT_HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Content hash must be a hex-encoded SHA-256: " + contentHash);
+        }
+        return hash;
+    }
+
+    private static String truncate(String source) {
+        return source != null && source.length() > 255 ? source.substring(source.length() - 255) : source;
+    }
+}
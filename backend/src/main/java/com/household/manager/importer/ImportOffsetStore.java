@@ -0,0 +1,55 @@
+package com.household.manager.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists how far each watched CSV file has been imported ({@code import_offsets}).
+ */
+@Component
+@RequiredArgsConstructor
+class ImportOffsetStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Get the stored position of a file.
+     *
+     * @param filePath absolute path of the file
+     * @return the stored position, empty if the file was never imported
+     */
+    Optional<ImportOffset> find(String filePath) {
+        List<ImportOffset> offsets = jdbcTemplate.query(
+                "SELECT file_key, byte_offset FROM import_offsets WHERE file_path = ?",
+                (rs, rowNum) -> new ImportOffset(rs.getString("file_key"), rs.getLong("byte_offset")),
+                filePath);
+        return offsets.stream().findFirst();
+    }
+
+    /**
+     * Store the position up to which a file has been imported.
+     *
+     * @param filePath absolute path of the file
+     * @param offset the imported position
+     */
+    void save(String filePath, ImportOffset offset) {
+        jdbcTemplate.update(
+                "INSERT INTO import_offsets (file_path, file_key, byte_offset) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE file_key = VALUES(file_key), byte_offset = VALUES(byte_offset), " +
+                "updated_at = CURRENT_TIMESTAMP",
+                filePath, offset.fileKey(), offset.byteOffset());
+    }
+
+    /**
+     * Imported position of a file.
+     *
+     * @param fileKey identity of the file the offset belongs to, may be null if the file system has none
+     * @param byteOffset end of the last imported record
+     */
+    record ImportOffset(String fileKey, long byteOffset) {
+    }
+}
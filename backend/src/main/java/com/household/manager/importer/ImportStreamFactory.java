@@ -0,0 +1,128 @@
+package com.household.manager.importer;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.household.manager.exception.ImportSizeLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens streamed CSV uploads for import.
+ * <p>
+ * The request body is decompressed on the fly according to its
+ * {@code Content-Encoding} (or a compressed {@code Content-Type}), so parsing
+ * starts with the first bytes received and the upload is never buffered as a
+ * whole. Both the transferred and the decompressed size are limited.
+ */
+@Component
+@Slf4j
+public class ImportStreamFactory {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${household.import.max-upload-size:1GB}")
+    private DataSize maxUploadSize;
+
+    @Value("${household.import.max-uncompressed-size:4GB}")
+    private DataSize maxUncompressedSize;
+
+    /**
+     * Open a CSV reader on an upload stream.
+     *
+     * @param body the raw request body
+     * @param contentLength the declared content length, or -1 if unknown (chunked transfer)
+     * @param contentEncoding the {@code Content-Encoding} header, may be null
+     * @param contentType the {@code Content-Type} header, may be null
+     * @return buffered UTF-8 reader on the decompressed CSV
+     * @throws ImportSizeLimitExceededException if the declared content length exceeds the upload limit
+     * @throws IllegalArgumentException if the content encoding is not supported
+     * @throws IOException if the compressed stream header cannot be read
+     */
+    public Reader openReader(InputStream body, long contentLength, String contentEncoding, String contentType)
+            throws IOException {
+        return openReader(body, contentLength, contentEncoding, contentType, null);
+    }
+
+    /**
+     * Open a CSV reader on an upload stream and feed the decompressed bytes into a digest.
+     * <p>
+     * The digest is complete once the reader has been read to the end and
+     * equals the digest of the original, uncompressed file.
+     *
+     * @param body the raw request body
+     * @param contentLength the declared content length, or -1 if unknown (chunked transfer)
+     * @param contentEncoding the {@code Content-Encoding} header, may be null
+     * @param contentType the {@code Content-Type} header, may be null
+     * @param digest digest updated with the decompressed content, may be null
+     * @return buffered UTF-8 reader on the decompressed CSV
+     * @throws ImportSizeLimitExceededException if the declared content length exceeds the upload limit
+     * @throws IllegalArgumentException if the content encoding is not supported
+     * @throws IOException if the compressed stream header cannot be read
+     */
+    public Reader openReader(InputStream body, long contentLength, String contentEncoding, String contentType,
+                             MessageDigest digest) throws IOException {
+        if (contentLength > maxUploadSize.toBytes()) {
+            throw new ImportSizeLimitExceededException(String.format(
+                    "Upload of %d bytes exceeds the maximum of %d bytes", contentLength, maxUploadSize.toBytes()));
+        }
+
+        Compression compression = Compression.resolve(contentEncoding, contentType);
+        log.debug("Opening streamed import: {} bytes declared, compression {}", contentLength, compression);
+
+        InputStream in = new SizeLimitedInputStream(
+                new BufferedInputStream(body, BUFFER_SIZE), maxUploadSize.toBytes(), "Upload");
+        in = switch (compression) {
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+            case ZSTD -> new BufferedInputStream(new ZstdInputStream(in), BUFFER_SIZE);
+            case NONE -> in;
+        };
+        if (compression != Compression.NONE) {
+            in = new SizeLimitedInputStream(in, maxUncompressedSize.toBytes(), "Decompressed upload");
+        }
+        if (digest != null) {
+            in = new DigestInputStream(in, digest);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private enum Compression {
+        NONE,
+        GZIP,
+        ZSTD;
+
+        static Compression resolve(String contentEncoding, String contentType) {
+            if (contentEncoding != null && !contentEncoding.isBlank()) {
+                return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+                    case "gzip", "x-gzip" -> GZIP;
+                    case "zstd" -> ZSTD;
+                    case "identity" -> NONE;
+                    default -> throw new IllegalArgumentException(
+                            "Unsupported content encoding: " + contentEncoding + ". Supported: gzip, zstd");
+                };
+            }
+            if (contentType != null) {
+                String type = contentType.toLowerCase(Locale.ROOT);
+                if (type.startsWith("application/gzip") || type.startsWith("application/x-gzip")) {
+                    return GZIP;
+                }
+                if (type.startsWith("application/zstd")) {
+                    return ZSTD;
+                }
+            }
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.household.manager.importer;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Imports meter readings from many CSV files at once: a directory, a glob
+ * pattern (e.g. {@code /data/exports/verbrauch-*.csv}) or a ZIP archive.
+ * <p>
+ * Files are parsed in parallel on a bounded fork-join pool. The parsed readings
+ * are then merged per {@link MeterType} and sorted by reading date, so
+ * duplicates across files are detected and monotonic validation sees the
+ * readings in the same order as a single chronological file. Each meter type
+ * is persisted in date-ordered batches; different meter types are written in
+ * parallel since they do not share a write lock.
+ * <p>
+ * Like single-file imports, archive imports are incremental: readings whose
+ * source row is unchanged since the last import are skipped, edited rows
+ * update the stored reading (see {@link MeterReadingCsvImporter}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingArchiveImporter {
+
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private final MeterReadingCsvImporter csvImporter;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+    private final ImportFingerprintStore importFingerprintStore;
+
+    @Value("${household.import.parallelism:0}")
+    private int parallelism;
+
+    @Value("${household.import.flush-size:1000}")
+    private int flushSize;
+
+    @Value("${household.import.validate-monotonic:false}")
+    private boolean validateMonotonic;
+
+    /**
+     * Whether a location is handled by this importer rather than as a single CSV file.
+     *
+     * @param location directory, glob pattern or file path
+     * @return true for directories, glob patterns and ZIP files
+     */
+    public boolean supports(String location) {
+        if (isGlob(location)) {
+            return true;
+        }
+        Path path = Path.of(location);
+        return Files.isDirectory(path) || isZip(path);
+    }
+
+    /**
+     * Import all CSV files found at a location.
+     * <p>
+     * Directories contribute their {@code .csv} and {@code .zip} files, ZIP
+     * archives all {@code .csv} entries. Files are processed in name order.
+     *
+     * @param location directory, glob pattern or ZIP file
+     * @return import statistics
+     * @throws IOException if a file cannot be read
+     */
+    public ArchiveImportResult importFrom(String location) throws IOException {
+        List<Path> files = resolveFiles(location);
+        if (files.isEmpty()) {
+            log.warn("No CSV or ZIP files found at {}", location);
+            return new ArchiveImportResult(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        List<ZipFile> archives = new ArrayList<>();
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism > 0
+                ? parallelism : Runtime.getRuntime().availableProcessors())) {
+            List<CsvSource> sources = new ArrayList<>();
+            for (Path file : files) {
+                if (isZip(file)) {
+                    ZipFile archive = new ZipFile(file.toFile(), StandardCharsets.UTF_8);
+                    archives.add(archive);
+                    sources.addAll(zipSources(file, archive));
+                } else {
+                    sources.add(new CsvSource(file.toString(),
+                            () -> Files.newBufferedReader(file, StandardCharsets.UTF_8)));
+                }
+            }
+
+            long start = System.nanoTime();
+            log.info("Parsing {} CSV files from {} with parallelism {}", sources.size(), location, pool.getParallelism());
+            List<Callable<List<MeterReading>>> parseTasks = sources.stream()
+                    .<Callable<List<MeterReading>>>map(source -> () -> parse(source))
+                    .toList();
+            List<List<MeterReading>> parsedFiles = await(pool.invokeAll(parseTasks));
+            int parsed = parsedFiles.stream().mapToInt(List::size).sum();
+            Map<MeterType, List<MeterReading>> byType = mergeByType(parsedFiles);
+
+            log.info("Parsed {} readings in {} ms", parsed, (System.nanoTime() - start) / 1_000_000);
+
+            ReadingFingerprints fingerprints = importFingerprintStore.loadReadingFingerprints();
+            List<Callable<ArchiveImportResult>> writeTasks = byType.values().stream()
+                    .<Callable<ArchiveImportResult>>map(series -> () -> persist(series, fingerprints))
+                    .toList();
+            ArchiveImportResult result = new ArchiveImportResult(sources.size(), parsed, 0, 0, 0, 0, 0);
+            for (ArchiveImportResult written : await(pool.invokeAll(writeTasks))) {
+                result = result.plus(written);
+            }
+
+            log.info("Archive import from {} finished in {} ms: {}", location,
+                    (System.nanoTime() - start) / 1_000_000, result);
+            return result;
+        } finally {
+            for (ZipFile archive : archives) {
+                archive.close();
+            }
+        }
+    }
+
+    private List<Path> resolveFiles(String location) throws IOException {
+        if (isGlob(location)) {
+            Path base = globBase(location);
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + location);
+            try (Stream<Path> paths = Files.walk(base)) {
+                return paths.filter(Files::isRegularFile)
+                        .filter(matcher::matches)
+                        .sorted()
+                        .toList();
+            }
+        }
+
+        Path path = Path.of(location);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.list(path)) {
+                return paths.filter(Files::isRegularFile)
+                        .filter(file -> isZip(file) || hasExtension(file.getFileName().toString(), ".csv"))
+                        .sorted()
+                        .toList();
+            }
+        }
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("Import location not found: " + location);
+        }
+        return List.of(path);
+    }
+
+    private List<CsvSource> zipSources(Path file, ZipFile archive) {
+        return archive.stream()
+                .filter(entry -> !entry.isDirectory() && hasExtension(entry.getName(), ".csv"))
+                .sorted(Comparator.comparing(ZipEntry::getName))
+                .map(entry -> new CsvSource(file + "!" + entry.getName(), () -> new BufferedReader(
+                        new InputStreamReader(archive.getInputStream(entry), StandardCharsets.UTF_8))))
+                .toList();
+    }
+
+    private List<MeterReading> parse(CsvSource source) throws IOException {
+        try (Reader reader = source.opener().open()) {
+            List<MeterReading> readings = csvImporter.parse(reader);
+            log.debug("Parsed {} readings from {}", readings.size(), source.name());
+            return readings;
+        }
+    }
+
+    /**
+     * Merge the readings of all files per meter type, sorted by reading date.
+     * The sort is stable, so of several readings for the same date the one
+     * from the last file (in name order) is kept.
+     */
+    private Map<MeterType, List<MeterReading>> mergeByType(List<List<MeterReading>> parsedFiles) {
+        Map<MeterType, List<MeterReading>> byType = new EnumMap<>(MeterType.class);
+        for (List<MeterReading> readings : parsedFiles) {
+            for (MeterReading reading : readings) {
+                byType.computeIfAbsent(reading.getMeterType(), type -> new ArrayList<>()).add(reading);
+            }
+        }
+        byType.replaceAll((type, series) -> {
+            series.sort(Comparator.comparing(MeterReading::getReadingDate));
+            return lastPerDate(series);
+        });
+        return byType;
+    }
+
+    private static List<MeterReading> lastPerDate(List<MeterReading> sorted) {
+        List<MeterReading> merged = new ArrayList<>(sorted.size());
+        for (MeterReading reading : sorted) {
+            int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last).getReadingDate().equals(reading.getReadingDate())) {
+                merged.set(last, reading);
+            } else {
+                merged.add(reading);
+            }
+        }
+        return merged;
+    }
+
+    private ArchiveImportResult persist(List<MeterReading> series, ReadingFingerprints fingerprints) {
+        ArchiveImportResult result = new ArchiveImportResult(0, 0, 0, 0, 0, 0, 0);
+        for (int from = 0; from < series.size(); from += flushSize) {
+            ReadingFingerprints.Changes changes =
+                    fingerprints.classify(series.subList(from, Math.min(from + flushSize, series.size())));
+            BatchWriteResult written = meterReadingBatchWriter.writeBatch(changes.inserts(), validateMonotonic);
+            int updated = meterReadingBatchWriter.updateBatch(changes.updates());
+            result = result.plus(new ArchiveImportResult(0, 0, written.created(), updated, changes.unchanged(),
+                    written.duplicates(), written.rejected()));
+        }
+        return result;
+    }
+
+    private static <T> List<T> await(List<Future<T>> futures) throws IOException {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Archive import interrupted", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Archive import failed", cause);
+        }
+        return results;
+    }
+
+    private static boolean isGlob(String location) {
+        return location.chars().anyMatch(c -> GLOB_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Longest leading directory of a glob pattern that contains no glob characters.
+     */
+    private static Path globBase(String pattern) {
+        String prefix = pattern.substring(0, firstGlobIndex(pattern));
+        int separator = Math.max(prefix.lastIndexOf('/'), prefix.lastIndexOf(File.separatorChar));
+        return separator >= 0 ? Path.of(prefix.substring(0, separator + 1)) : Path.of("");
+    }
+
+    private static int firstGlobIndex(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return pattern.length();
+    }
+
+    private static boolean isZip(Path path) {
+        return Files.isRegularFile(path) && hasExtension(path.getFileName().toString(), ".zip");
+    }
+
+    private static boolean hasExtension(String name, String extension) {
+        return name.toLowerCase(Locale.ROOT).endsWith(extension);
+    }
+
+    @FunctionalInterface
+    private interface ReaderOpener {
+        Reader open() throws IOException;
+    }
+
+    private record CsvSource(String name, ReaderOpener opener) {
+    }
+
+    /**
+     * Outcome of an archive import.
+     *
+     * @param files number of CSV files (including ZIP entries) parsed
+     * @param parsed number of readings parsed from all files
+     * @param created number of inserted readings
+     * @param updated number of readings updated because their row was edited
+     * @param unchanged number of readings skipped because their row is unchanged since the last import
+     *                  or was removed by the retention job
+     * @param duplicates number of readings skipped because they were inserted concurrently
+     * @param rejected number of readings rejected by monotonic validation
+     */
+    public record ArchiveImportResult(int files, int parsed, int created, int updated, int unchanged,
+                                      int duplicates, int rejected) {
+
+        ArchiveImportResult plus(ArchiveImportResult other) {
+            return new ArchiveImportResult(files + other.files, parsed + other.parsed,
+                    created + other.created, updated + other.updated, unchanged + other.unchanged,
+                    duplicates + other.duplicates, rejected + other.rejected);
+        }
+    }
+}
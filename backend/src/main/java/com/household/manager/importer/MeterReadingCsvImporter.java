@@ -2,30 +2,56 @@ package com.household.manager.importer;
 
 import com.household.manager.model.entity.MeterReading;
 import com.household.manager.model.entity.MeterType;
-import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingBatchWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Imports meter readings from the "Ressourcenverbrauch - Gesamtübersicht Wochen" CSV format.
  * Focuses on meter readings only (electricity, gas, water).
+ * <p>
+ * Records are parsed as a stream and persisted in batches while the input is
+ * still being read, so memory use does not grow with the size of the file.
+ * Large files on disk are split at record boundaries and parsed in parallel.
+ * <p>
+ * Imports are incremental: every reading stores a fingerprint of the row it
+ * was imported from, so re-importing a grown or edited export only inserts new
+ * rows and updates edited ones. Files that were imported before are
+ * recognised by their content hash and skipped entirely.
  */
 @Component
 @RequiredArgsConstructor
@@ -41,99 +67,277 @@ public class MeterReadingCsvImporter {
     private static final int COL_GAS_READING = 7;
     private static final int COL_WATER_READING = 12;
 
-    private final MeterReadingRepository meterReadingRepository;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+    private final ImportFingerprintStore importFingerprintStore;
+
+    @Value("${household.import.flush-size:1000}")
+    private int flushSize;
+
+    @Value("${household.import.validate-monotonic:false}")
+    private boolean validateMonotonic;
+
+    @Value("${household.import.parallelism:0}")
+    private int parallelism;
+
+    @Value("${household.import.parallel-parse-threshold:64MB}")
+    private DataSize parallelParseThreshold;
+
+    @Value("${household.import.parse-chunk-size:128MB}")
+    private DataSize parseChunkSize;
 
     /**
      * Imports meter readings from the given CSV file path.
+     * <p>
+     * Files of at least {@code household.import.parallel-parse-threshold} are
+     * memory-mapped and parsed in parallel chunks (see {@link CsvChunkSplitter}).
+     * The chunks are persisted in file order with the same batches as a
+     * sequential import, so both modes produce exactly the same result.
+     * <p>
+     * A file whose content was already imported is skipped without parsing.
      *
      * @param csvPath path to the CSV file
-     * @return number of created meter readings
+     * @return import statistics
      */
-    public int importFromPath(Path csvPath) throws IOException {
+    public ImportResult importFromPath(Path csvPath) throws IOException {
         if (!Files.exists(csvPath)) {
             log.error("CSV file not found: {}", csvPath);
-            return 0;
+            return ImportResult.EMPTY;
         }
 
-        try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
-            return importFromReader(reader);
+        String contentHash = contentHash(csvPath);
+        if (importFingerprintStore.isImported(contentHash)) {
+            log.info("CSV file {} was already imported, skipping", csvPath);
+            return ImportResult.ALREADY_IMPORTED;
         }
+
+        long size = Files.size(csvPath);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ImportResult result;
+        if (size > 0 && size >= parallelParseThreshold.toBytes() && threads > 1) {
+            result = importMapped(csvPath, size, threads);
+        } else {
+            try (var reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+                result = importFromReader(reader);
+            }
+        }
+        recordImport(contentHash, csvPath.getFileName().toString(), result);
+        return result;
     }
 
     /**
-     * Imports meter readings from a reader (e.g., multipart upload).
+     * Imports meter readings from a reader (e.g., multipart upload or streamed request body).
+     * <p>
+     * Readings are written in batches of {@code household.import.flush-size}.
+     * Rows unchanged since the last import are skipped without a database
+     * query; edited rows update the existing reading in place.
      *
      * @param reader CSV reader
-     * @return number of created meter readings
+     * @return import statistics
      */
-    public int importFromReader(Reader reader) throws IOException {
-        CSVFormat format = CSVFormat.DEFAULT.builder()
-                .setTrim(true)
-                .setIgnoreEmptyLines(true)
-                .setQuote('"')
-                .build();
+    public ImportResult importFromReader(Reader reader) throws IOException {
+        ImportBatch batch = new ImportBatch(importFingerprintStore.loadReadingFingerprints());
+        parseInto(reader, batch);
+        ImportResult result = batch.finish();
+
+        log.info("CSV import finished: {}", result);
+        return result;
+    }
+
+    /**
+     * Imports the records in a byte range of a CSV file, e.g. the rows appended since the last import.
+     *
+     * @param csvPath path to the CSV file
+     * @param start offset of the first record
+     * @param end offset after the last complete record
+     * @return import statistics
+     */
+    public ImportResult importRange(Path csvPath, long start, long end) throws IOException {
+        ImportBatch batch = new ImportBatch(importFingerprintStore.loadReadingFingerprints());
+        try (FileChannel channel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+            InputStream in = new ByteBufferInputStream(
+                    channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            parseInto(newReader(in), batch);
+        }
+        return batch.finish();
+    }
+
+    /**
+     * Whether a file with the given content hash has already been imported.
+     *
+     * @param contentHash hex-encoded SHA-256 of the (uncompressed) file content
+     * @throws IllegalArgumentException if the hash is not a hex-encoded SHA-256
+     */
+    public boolean isImported(String contentHash) {
+        return importFingerprintStore.isImported(contentHash);
+    }
+
+    /**
+     * Remember a completely imported file, so an identical re-import is skipped.
+     *
+     * @param contentHash hex-encoded SHA-256 of the (uncompressed) file content
+     * @param source file name or description of the upload
+     * @param result statistics of the import
+     */
+    public void recordImport(String contentHash, String source, ImportResult result) {
+        importFingerprintStore.recordImport(contentHash, source, result.parsed());
+    }
 
-        int createdCount = 0;
+    private static String contentHash(Path csvPath) throws IOException {
+        MessageDigest digest = ReadingFingerprints.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(csvPath), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return ImportFingerprintStore.toContentHash(digest.digest());
+    }
+
+    private ImportResult importMapped(Path csvPath, long size, int threads) throws IOException {
+        long start = System.nanoTime();
+        int chunkCount = (int) Math.max(threads, Math.ceilDiv(size, parseChunkSize.toBytes()));
+        ImportBatch batch = new ImportBatch(importFingerprintStore.loadReadingFingerprints());
+
+        try (FileChannel channel = FileChannel.open(csvPath, StandardOpenOption.READ);
+             ForkJoinPool pool = new ForkJoinPool(threads)) {
+            List<CsvChunkSplitter.Chunk> chunks = CsvChunkSplitter.split(channel, chunkCount, pool);
+            log.info("Parsing {} ({} bytes) in {} chunks with parallelism {}", csvPath, size, chunks.size(), threads);
+
+            List<Future<ParsedChunk>> parsedChunks = chunks.stream()
+                    .<Future<ParsedChunk>>map(chunk -> pool.submit(() -> parseChunk(channel, chunk)))
+                    .toList();
+            for (int i = 0; i < chunks.size(); i++) {
+                ParsedChunk parsed;
+                try {
+                    parsed = parsedChunks.get(i).get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("CSV import interrupted", ex);
+                } catch (ExecutionException ex) {
+                    if (!(ex.getCause() instanceof IOException || ex.getCause() instanceof UncheckedIOException)) {
+                        throw new IllegalStateException("Parsing CSV chunk failed", ex.getCause());
+                    }
+                    // The chunk starts at a record boundary, but its end may not (see CsvChunkSplitter)
+                    long offset = chunks.get(i).start();
+                    log.warn("Parsing chunk at offset {} failed ({}), continuing sequentially",
+                            offset, ex.getCause().getMessage());
+                    parsedChunks.forEach(future -> future.cancel(false));
+                    try (FileChannel tail = FileChannel.open(csvPath, StandardOpenOption.READ).position(offset)) {
+                        parseInto(newReader(Channels.newInputStream(tail)), batch);
+                    }
+                    break;
+                }
+                parsed.replayInto(batch);
+            }
+        }
 
-        try (CSVParser parser = new CSVParser(reader, format)) {
+        ImportResult result = batch.finish();
+        log.info("CSV import finished in {} ms: {}", (System.nanoTime() - start) / 1_000_000, result);
+        return result;
+    }
+
+    private ParsedChunk parseChunk(FileChannel channel, CsvChunkSplitter.Chunk chunk) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+        List<MeterReading> readings = new ArrayList<>();
+        BitSet recordEnds = new BitSet();
+        try (CSVParser parser = openParser(newReader(new ByteBufferInputStream(buffer)))) {
             for (CSVRecord record : parser) {
-                LocalDate readingDate = parseDate(record, COL_DATE);
-                if (readingDate == null) {
-                    continue;
+                int before = readings.size();
+                parseRecord(record, readings);
+                if (readings.size() > before) {
+                    recordEnds.set(readings.size() - 1);
                 }
+            }
+        }
+        return new ParsedChunk(readings, recordEnds);
+    }
 
-                LocalDateTime readingDateTime = readingDate.atStartOfDay();
-                Integer readingWeek = parseInteger(getValue(record, COL_WEEK));
-
-                String electricityNote = getValue(record, COL_ELECTRICITY_NOTES);
-                String extraNote = findExtraNote(record, 13);
-                String combinedNote = combineNotes(electricityNote, extraNote);
-
-                createdCount += createReadingIfPresent(MeterType.ELECTRICITY,
-                        getValue(record, COL_ELECTRICITY_READING),
-                        readingDateTime,
-                        readingWeek,
-                        combinedNote);
-
-                createdCount += createReadingIfPresent(MeterType.GAS,
-                        getValue(record, COL_GAS_READING),
-                        readingDateTime,
-                        readingWeek,
-                        extraNote);
-
-                createdCount += createReadingIfPresent(MeterType.WATER,
-                        getValue(record, COL_WATER_READING),
-                        readingDateTime,
-                        readingWeek,
-                        extraNote);
+    private void parseInto(Reader reader, ImportBatch batch) throws IOException {
+        try (CSVParser parser = openParser(reader)) {
+            for (CSVRecord record : parser) {
+                parseRecord(record, batch.readings);
+                batch.endRecord();
             }
         }
+    }
 
-        log.info("CSV import finished. Created {} meter readings.", createdCount);
-        return createdCount;
+    /**
+     * UTF-8 reader that rejects malformed input, like {@link Files#newBufferedReader(Path)}.
+     */
+    private static Reader newReader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8.newDecoder()));
     }
 
-    private int createReadingIfPresent(MeterType meterType, String rawValue,
-                                       LocalDateTime readingDate, Integer readingWeek, String notes) {
-        BigDecimal readingValue = parseDecimal(rawValue);
-        if (readingValue == null) {
-            return 0;
+    /**
+     * Parses all meter readings from a reader without persisting them.
+     * <p>
+     * Thread-safe; used to parse several files in parallel before they are merged and persisted.
+     *
+     * @param reader CSV reader
+     * @return parsed meter readings in file order
+     */
+    public List<MeterReading> parse(Reader reader) throws IOException {
+        List<MeterReading> readings = new ArrayList<>();
+        try (CSVParser parser = openParser(reader)) {
+            for (CSVRecord record : parser) {
+                parseRecord(record, readings);
+            }
         }
+        return readings;
+    }
+
+    private CSVParser openParser(Reader reader) throws IOException {
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setTrim(true)
+                .setIgnoreEmptyLines(true)
+                .setQuote('"')
+                .build();
+        return new CSVParser(reader, format);
+    }
 
-        if (meterReadingRepository.existsByMeterTypeAndReadingDate(meterType, readingDate)) {
-            return 0;
+    private void parseRecord(CSVRecord record, List<MeterReading> readings) {
+        LocalDate readingDate = parseDate(record, COL_DATE);
+        if (readingDate == null) {
+            return;
         }
 
-        MeterReading meterReading = MeterReading.builder()
+        LocalDateTime readingDateTime = readingDate.atStartOfDay();
+        Integer readingWeek = parseInteger(getValue(record, COL_WEEK));
+
+        String electricityNote = getValue(record, COL_ELECTRICITY_NOTES);
+        String extraNote = findExtraNote(record, 13);
+        String combinedNote = combineNotes(electricityNote, extraNote);
+
+        addReadingIfPresent(readings, MeterType.ELECTRICITY,
+                getValue(record, COL_ELECTRICITY_READING),
+                readingDateTime,
+                readingWeek,
+                combinedNote);
+
+        addReadingIfPresent(readings, MeterType.GAS,
+                getValue(record, COL_GAS_READING),
+                readingDateTime,
+                readingWeek,
+                extraNote);
+
+        addReadingIfPresent(readings, MeterType.WATER,
+                getValue(record, COL_WATER_READING),
+                readingDateTime,
+                readingWeek,
+                extraNote);
+    }
+
+    private void addReadingIfPresent(List<MeterReading> readings, MeterType meterType, String rawValue,
+                                     LocalDateTime readingDate, Integer readingWeek, String notes) {
+        BigDecimal readingValue = parseDecimal(rawValue);
+        if (readingValue == null) {
+            return;
+        }
+
+        readings.add(MeterReading.builder()
                 .meterType(meterType)
                 .readingValue(readingValue)
                 .readingWeek(readingWeek)
                 .readingDate(readingDate)
                 .notes(notes)
-                .build();
-
-        meterReadingRepository.save(meterReading);
-        return 1;
+                .build());
     }
 
     private LocalDate parseDate(CSVRecord record, int index) {
@@ -236,4 +440,76 @@ public class MeterReadingCsvImporter {
         }
         return first + " | " + second;
     }
+
+    /**
+     * Readings of one chunk, with the index of the last reading of every record
+     * so batches can be cut exactly where a sequential import would cut them.
+     */
+    private record ParsedChunk(List<MeterReading> readings, BitSet recordEnds) {
+
+        void replayInto(ImportBatch batch) {
+            for (int i = 0; i < readings.size(); i++) {
+                batch.readings.add(readings.get(i));
+                if (recordEnds.get(i)) {
+                    batch.endRecord();
+                }
+            }
+        }
+    }
+
+    /**
+     * Readings waiting to be written; flushed after the record that fills the batch.
+     */
+    private final class ImportBatch {
+
+        private final List<MeterReading> readings = new ArrayList<>(flushSize);
+        private final ReadingFingerprints fingerprints;
+        private int parsed;
+        private int created;
+        private int updated;
+        private int unchanged;
+
+        ImportBatch(ReadingFingerprints fingerprints) {
+            this.fingerprints = fingerprints;
+        }
+
+        void endRecord() {
+            if (readings.size() >= flushSize) {
+                flush();
+            }
+        }
+
+        ImportResult finish() {
+            flush();
+            return new ImportResult(parsed, created, updated, unchanged, false);
+        }
+
+        private void flush() {
+            if (readings.isEmpty()) {
+                return;
+            }
+            ReadingFingerprints.Changes changes = fingerprints.classify(readings);
+            parsed += readings.size();
+            created += meterReadingBatchWriter.writeBatch(changes.inserts(), validateMonotonic).created();
+            updated += meterReadingBatchWriter.updateBatch(changes.updates());
+            unchanged += changes.unchanged();
+            readings.clear();
+        }
+    }
+
+    /**
+     * Outcome of a CSV import.
+     *
+     * @param parsed number of readings parsed from the file
+     * @param created number of inserted readings
+     * @param updated number of readings updated because their row was edited
+     * @param unchanged number of readings skipped because their row is unchanged since the last import
+     *                  or was removed by the retention job
+     * @param alreadyImported whether the whole file was skipped because it had been imported before
+     */
+    public record ImportResult(int parsed, int created, int updated, int unchanged, boolean alreadyImported) {
+
+        static final ImportResult EMPTY = new ImportResult(0, 0, 0, 0, false);
+        static final ImportResult ALREADY_IMPORTED = new ImportResult(0, 0, 0, 0, true);
+    }
 }
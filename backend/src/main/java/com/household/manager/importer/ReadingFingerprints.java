@@ -0,0 +1,162 @@
+package com.household.manager.importer;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * In-memory index of the stored import fingerprints, keyed by meter type and reading date.
+ * <p>
+ * Loaded once per import, so unchanged rows are recognised without a database
+ * query. The index is updated as readings are classified, which makes a later
+ * row for the same date within one import replace the earlier one.
+ * <p>
+ * Readings removed by the retention job have no stored fingerprint any more.
+ * Within the ranges it has compacted ({@link #compacted}) a row without a
+ * stored reading is therefore skipped, unless it would be the kept reading of
+ * its day or week, i.e. no later reading of that day or week is stored.
+ * <p>
+ * Different meter types may be classified concurrently; a single meter type
+ * must only be classified by one thread at a time.
+ */
+final class ReadingFingerprints {
+
+    private final Map<MeterType, NavigableMap<LocalDateTime, Long>> byType = new EnumMap<>(MeterType.class);
+    private final Map<MeterType, Compaction> compactions = new EnumMap<>(MeterType.class);
+
+    ReadingFingerprints() {
+        for (MeterType meterType : MeterType.values()) {
+            byType.put(meterType, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Register a stored reading.
+     *
+     * @param fingerprint the stored fingerprint, null if the reading was not imported
+     */
+    void put(MeterType meterType, LocalDateTime readingDate, Long fingerprint) {
+        byType.get(meterType).put(readingDate, fingerprint);
+    }
+
+    /**
+     * Register the ranges the retention job has compacted.
+     *
+     * @param dailyBefore readings before this are compacted to one per day
+     * @param weeklyBefore readings before this Monday are compacted to one per ISO week, null if none are
+     */
+    void compacted(MeterType meterType, LocalDateTime dailyBefore, LocalDate weeklyBefore) {
+        compactions.put(meterType, new Compaction(dailyBefore, weeklyBefore));
+    }
+
+    /**
+     * Fingerprint of the imported content of a reading (value, calendar week and notes).
+     * Meter type and reading date identify the reading and are not part of it.
+     */
+    static long fingerprint(MeterReading reading) {
+        String content = reading.getReadingValue().stripTrailingZeros().toPlainString()
+                + '\u001f' + Objects.toString(reading.getReadingWeek(), "")
+                + '\u001f' + Objects.toString(reading.getNotes(), "");
+        return ByteBuffer.wrap(sha256().digest(content.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    /**
+     * Split readings into new, changed and unchanged readings and set their fingerprints.
+     * <p>
+     * Stored readings without a fingerprint (entered via the API or imported
+     * before fingerprints existed) count as changed, so the import takes them over.
+     * Rows removed by the retention job count as unchanged.
+     */
+    Changes classify(List<MeterReading> readings) {
+        List<MeterReading> inserts = new ArrayList<>();
+        List<MeterReading> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (MeterReading reading : readings) {
+            long fingerprint = fingerprint(reading);
+            reading.setImportFingerprint(fingerprint);
+
+            NavigableMap<LocalDateTime, Long> stored = byType.get(reading.getMeterType());
+            boolean known = stored.containsKey(reading.getReadingDate());
+            if (!known && isCompactedAway(reading, stored)) {
+                unchanged++;
+                continue;
+            }
+            Long previous = stored.put(reading.getReadingDate(), fingerprint);
+            if (!known) {
+                inserts.add(reading);
+            } else if (previous == null || previous != fingerprint) {
+                updates.add(reading);
+            } else {
+                unchanged++;
+            }
+        }
+        return new Changes(inserts, updates, unchanged);
+    }
+
+    /**
+     * Whether a row without a stored reading lies in a compacted day or week
+     * that already has its kept reading later on. Like the retention job, the
+     * first reading of a meter type and annotated readings are always kept.
+     */
+    private boolean isCompactedAway(MeterReading reading, NavigableMap<LocalDateTime, Long> stored) {
+        Compaction compaction = compactions.get(reading.getMeterType());
+        LocalDateTime readingDate = reading.getReadingDate();
+        if (compaction == null || !readingDate.isBefore(compaction.dailyBefore())
+                || reading.getNotes() != null && !reading.getNotes().isEmpty()
+                || stored.isEmpty() || readingDate.isBefore(stored.firstKey())) {
+            return false;
+        }
+        LocalDateTime later = stored.higherKey(readingDate);
+        return later != null && later.isBefore(compaction.endOfBucket(readingDate));
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Result of {@link #classify}.
+     *
+     * @param inserts readings without a stored reading for their meter type and date
+     * @param updates readings whose stored reading was imported from different content
+     * @param unchanged number of readings identical to the last import or removed by the retention job
+     */
+    record Changes(List<MeterReading> inserts, List<MeterReading> updates, int unchanged) {
+    }
+
+    /**
+     * Compacted ranges of a meter type, see {@code MeterReadingRetentionJob}.
+     */
+    private record Compaction(LocalDateTime dailyBefore, LocalDate weeklyBefore) {
+
+        /**
+         * End of the day or week of which the retention job keeps one reading.
+         */
+        LocalDateTime endOfBucket(LocalDateTime readingDate) {
+            LocalDate day = readingDate.toLocalDate();
+            if (weeklyBefore != null && day.isBefore(weeklyBefore)) {
+                return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(1).atStartOfDay();
+            }
+            return day.plusDays(1).atStartOfDay();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.household.manager.importer;
+
+import com.household.manager.exception.ImportSizeLimitExceededException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that fails as soon as more than a maximum number of bytes has been read.
+ * <p>
+ * Applied before and after decompression, so neither an oversized upload nor a
+ * small upload that inflates to a huge CSV (compression bomb) is read to the end.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private final String description;
+    private long count;
+
+    SizeLimitedInputStream(InputStream in, long maxBytes, String description) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.description = description;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void advance(long bytes) {
+        count += bytes;
+        if (count > maxBytes) {
+            throw new ImportSizeLimitExceededException(
+                    String.format("%s exceeds the maximum of %d bytes", description, maxBytes));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.household.manager.ingest;
+
+import com.household.manager.dto.IngestRejectionResponse;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dead letters of asynchronous ingestion ({@code ingest_rejections}).
+ * <p>
+ * Readings acknowledged by the write-ahead log or received over MQTT are
+ * stored later, so a reading that turns out not to be storable cannot be
+ * refused to its sender any more. Such readings are recorded here and can be
+ * queried via {@code GET /api/v1/meter-readings/rejections}, so the log or
+ * queue they came from keeps draining.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestRejections {
+
+    /**
+     * Reason recorded for readings rejected by monotonic validation.
+     */
+    public static final String LESS_THAN_PREVIOUS = "Less than the previous reading";
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ingest_rejections (source, meter_type, reading_date, reading_value, notes, reason) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String RECENT_SQL =
+            "SELECT id, source, meter_type, reading_date, reading_value, notes, reason, rejected_at " +
+            "FROM ingest_rejections ORDER BY id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+
+    /**
+     * Record readings that could not be stored.
+     *
+     * @param source the ingestion path, e.g. {@code WAL}
+     * @param readings the rejected readings
+     * @param reason why they were rejected
+     */
+    public void record(String source, List<MeterReading> readings, String reason) {
+        if (readings.isEmpty()) {
+            return;
+        }
+        String truncated = reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+        jdbcTemplate.batchUpdate(INSERT_SQL, readings, readings.size(), (ps, reading) -> {
+            ps.setString(1, source);
+            ps.setString(2, reading.getMeterType().name());
+            ps.setTimestamp(3, Timestamp.valueOf(reading.getReadingDate()));
+            ps.setString(4, reading.getReadingValue().toPlainString());
+            ps.setString(5, reading.getNotes());
+            ps.setString(6, truncated);
+        });
+        log.warn("Rejected {} {} readings: {}", readings.size(), source, truncated);
+    }
+
+    /**
+     * Write a batch that failed as a whole one reading at a time, to isolate
+     * the readings that cannot be stored.
+     * <p>
+     * A reading whose write fails is recorded as rejection, unless the failure
+     * is one of the database itself (connection, timeout, deadlock): then the
+     * exception is rethrown and the caller retries later. Readings written
+     * before stay committed and are skipped as duplicates on that retry. The
+     * rejections are only recorded once all readings have been tried, so a
+     * retried pass does not record them twice. Readings rejected by monotonic
+     * validation are returned, not recorded.
+     *
+     * @param source the ingestion path, e.g. {@code WAL}
+     * @param readings the batch
+     * @param validateMonotonic whether to reject readings lower than the previous reading
+     * @return combined result of the single writes; readings recorded as rejection count as neither
+     */
+    public BatchWriteResult writeIsolated(String source, List<MeterReading> readings, boolean validateMonotonic) {
+        int created = 0;
+        int duplicates = 0;
+        List<MeterReading> rejected = new ArrayList<>();
+        Map<String, List<MeterReading>> failedByReason = new LinkedHashMap<>();
+        for (MeterReading reading : readings) {
+            BatchWriteResult result;
+            try {
+                result = meterReadingBatchWriter.writeBatch(List.of(reading), validateMonotonic);
+            } catch (TransientDataAccessException | DataAccessResourceFailureException
+                     | CannotCreateTransactionException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                failedByReason.computeIfAbsent(NestedExceptionUtils.getMostSpecificCause(ex).getMessage(),
+                        reason -> new ArrayList<>()).add(reading);
+                continue;
+            }
+            created += result.created();
+            duplicates += result.duplicates();
+            rejected.addAll(result.rejectedReadings());
+        }
+        failedByReason.forEach((reason, failed) -> record(source, failed, reason));
+        return new BatchWriteResult(created, duplicates, rejected);
+    }
+
+    /**
+     * Get the most recent rejections.
+     *
+     * @param limit maximum number of rejections
+     * @return rejections, newest first
+     */
+    public List<IngestRejectionResponse> findRecent(int limit) {
+        return jdbcTemplate.query(RECENT_SQL, (rs, rowNum) -> IngestRejectionResponse.builder()
+                .id(rs.getLong("id"))
+                .source(rs.getString("source"))
+                .meterType(MeterType.valueOf(rs.getString("meter_type")))
+                .readingDate(rs.getTimestamp("reading_date").toLocalDateTime())
+                .readingValue(rs.getString("reading_value"))
+                .notes(rs.getString("notes"))
+                .reason(rs.getString("reason"))
+                .rejectedAt(rs.getTimestamp("rejected_at").toLocalDateTime())
+                .build(), limit);
+    }
+}
@@ -0,0 +1,96 @@
+package com.household.manager.ingest;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduces a stream of meter values to at most one reading per meter type and
+ * interval.
+ * <p>
+ * The intervals are aligned to the clock (e.g. every full quarter hour). The
+ * last value received in an interval is held back until a value of a later
+ * interval arrives or the interval is over, then it is released for writing.
+ * Values equal to the previous value of the meter type (unchanged meters,
+ * redelivered or retained messages) and values older than the previous one
+ * are dropped.
+ * <p>
+ * Not thread-safe; the caller serializes access.
+ */
+final class MeterReadingCoalescer {
+
+    private final long intervalSeconds;
+    private final Map<MeterType, MeterReading> pending = new EnumMap<>(MeterType.class);
+    private final Map<MeterType, MeterReading> previous = new EnumMap<>(MeterType.class);
+
+    MeterReadingCoalescer(Duration interval) {
+        this.intervalSeconds = interval.toSeconds();
+    }
+
+    /**
+     * Add a received reading.
+     *
+     * @param reading the reading
+     * @return the reading released by it (the one held back for an earlier
+     *         interval, or the reading itself without an interval), or null
+     */
+    MeterReading offer(MeterReading reading) {
+        MeterType meterType = reading.getMeterType();
+        MeterReading last = previous.get(meterType);
+        if (last != null && (!reading.getReadingDate().isAfter(last.getReadingDate())
+                || sameValue(reading.getReadingValue(), last.getReadingValue()))) {
+            return null;
+        }
+        previous.put(meterType, reading);
+
+        if (intervalSeconds <= 0) {
+            return reading;
+        }
+        MeterReading held = pending.put(meterType, reading);
+        return held != null && interval(held.getReadingDate()) != interval(reading.getReadingDate()) ? held : null;
+    }
+
+    /**
+     * Release the readings held back for intervals that are over.
+     *
+     * @param now the current time
+     * @return the released readings
+     */
+    List<MeterReading> releaseCompleted(LocalDateTime now) {
+        List<MeterReading> released = new ArrayList<>();
+        long current = interval(now);
+        pending.values().removeIf(held -> {
+            if (interval(held.getReadingDate()) < current) {
+                released.add(held);
+                return true;
+            }
+            return false;
+        });
+        return released;
+    }
+
+    /**
+     * Release all held-back readings, e.g. on shutdown.
+     */
+    List<MeterReading> releaseAll() {
+        List<MeterReading> released = new ArrayList<>(pending.values());
+        pending.clear();
+        return released;
+    }
+
+    private long interval(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), intervalSeconds);
+    }
+
+    private static boolean sameValue(BigDecimal a, BigDecimal b) {
+        return a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,214 @@
+package com.household.manager.ingest;
+
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in ingestion mode that acknowledges meter readings once they are durable
+ * in a local write-ahead log instead of after a database commit.
+ * <p>
+ * A background drainer persists the logged readings to {@code meter_readings}
+ * in large batches through {@link MeterReadingBatchWriter}. Readings that were
+ * logged but not yet drained when the application stopped are replayed on the
+ * next start; the batch writer skips readings that already exist, so replay is
+ * idempotent.
+ * <p>
+ * Because readings are acknowledged before they reach the database, monotonic
+ * validation happens during draining: rejected readings are recorded in
+ * {@link IngestRejections}. A batch that keeps failing, e.g. because of a value
+ * the database refuses, is written one reading at a time after
+ * {@code household.ingest.wal.max-attempts} attempts; readings that still fail
+ * are recorded as rejections too, so the log keeps draining.
+ * <p>
+ * Enabled with {@code household.ingest.wal.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "household.ingest.wal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingIngestBuffer implements SmartLifecycle {
+
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private static final String SOURCE = "WAL";
+
+    @Value("${household.ingest.wal.path:data/ingest/meter-readings.wal}")
+    private String walPath;
+
+    @Value("${household.ingest.wal.capacity-bytes:67108864}")
+    private int capacityBytes;
+
+    @Value("${household.ingest.wal.group-commit-window-micros:200}")
+    private long groupCommitWindowMicros;
+
+    @Value("${household.ingest.wal.drain-batch-size:1000}")
+    private int drainBatchSize;
+
+    @Value("${household.ingest.wal.drain-interval-ms:200}")
+    private long drainIntervalMs;
+
+    @Value("${household.ingest.wal.max-attempts:5}")
+    private int maxAttempts;
+
+    private final MeterReadingService meterReadingService;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+    private final IngestRejections ingestRejections;
+
+    private volatile MeterReadingWriteAheadLog writeAheadLog;
+    private volatile boolean running;
+    private Thread drainer;
+
+    /**
+     * Append a meter reading to the write-ahead log and wait until it is durable.
+     *
+     * @param request validated meter reading request
+     * @return the accepted reading (without ID or consumption, which are assigned on persistence)
+     */
+    public MeterReadingResponse accept(MeterReadingRequest request) {
+        if (!running) {
+            throw new IllegalStateException("Meter reading ingest buffer is not running");
+        }
+        MeterReading reading = meterReadingService.buildMeterReading(request);
+        try {
+            long lsn = writeAheadLog.append(reading);
+            writeAheadLog.awaitDurable(lsn);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while logging meter reading", ex);
+        }
+
+        return MeterReadingResponse.builder()
+                .meterType(reading.getMeterType())
+                .readingValue(reading.getReadingValue())
+                .readingWeek(reading.getReadingWeek())
+                .readingDate(reading.getReadingDate())
+                .notes(reading.getNotes())
+                .build();
+    }
+
+    @Override
+    public void start() {
+        try {
+            writeAheadLog = MeterReadingWriteAheadLog.open(Path.of(walPath), capacityBytes,
+                    TimeUnit.MICROSECONDS.toNanos(groupCommitWindowMicros));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open meter reading write-ahead log at " + walPath, ex);
+        }
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("meter-reading-wal-drainer")
+                .daemon(true)
+                .start(this::drainLoop);
+        log.info("Meter reading write-ahead ingestion enabled ({})", walPath);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drainer.interrupt();
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (drainer.isAlive()) {
+            // still writing a batch: draining concurrently could write the same readings twice
+            log.warn("Write-ahead log drainer did not stop in time; pending readings will be replayed on next start");
+        } else {
+            try {
+                drainOnce(0);
+            } catch (RuntimeException ex) {
+                log.warn("Final write-ahead log drain failed; pending readings will be replayed on next start", ex);
+            }
+        }
+
+        try {
+            writeAheadLog.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close meter reading write-ahead log", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the embedded web server, so no request can
+     * reach the buffer while the log is closed.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        long backoffMs = drainIntervalMs;
+        int failedAttempts = 0;
+        while (running) {
+            try {
+                int drained = drainOnce(failedAttempts);
+                backoffMs = drainIntervalMs;
+                failedAttempts = 0;
+                if (drained == 0) {
+                    writeAheadLog.awaitPending(drainIntervalMs, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Draining meter reading write-ahead log failed; retrying in {} ms", backoffMs, ex);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+                failedAttempts++;
+            }
+        }
+    }
+
+    /**
+     * Write the next batch of pending readings.
+     *
+     * @param failedAttempts how often writing the batch has failed before
+     * @return the number of drained readings
+     */
+    private int drainOnce(int failedAttempts) {
+        MeterReadingWriteAheadLog.PendingBatch batch = writeAheadLog.readPending(drainBatchSize);
+        if (batch.readings().isEmpty()) {
+            return 0;
+        }
+        MeterReadingBatchWriter.BatchWriteResult result;
+        if (failedAttempts >= maxAttempts) {
+            log.warn("Write-ahead log batch of {} readings failed {} times, writing readings one at a time",
+                    batch.readings().size(), failedAttempts);
+            result = ingestRejections.writeIsolated(SOURCE, batch.readings(), true);
+        } else {
+            result = meterReadingBatchWriter.writeBatch(batch.readings(), true);
+        }
+        ingestRejections.record(SOURCE, result.rejectedReadings(), IngestRejections.LESS_THAN_PREVIOUS);
+        writeAheadLog.checkpoint(batch.endOffset());
+        log.debug("Drained {} readings from write-ahead log ({} created, {} duplicates, {} rejected)",
+                batch.readings().size(), result.created(), result.duplicates(), result.rejected());
+        return batch.readings().size();
+    }
+}
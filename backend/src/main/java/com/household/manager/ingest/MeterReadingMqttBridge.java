@@ -0,0 +1,395 @@
+package com.household.manager.ingest;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import com.household.manager.service.MeterReadingService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttCallbackExtended;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttTopic;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in subscriber that turns meter values published over MQTT by
+ * home-automation setups into meter readings.
+ * <p>
+ * Each configured topic filter belongs to a meter type. Payloads are either a
+ * plain number or a JSON object with the value (and optionally the reading
+ * time) at configurable JSON pointers. Values are validated like REST requests
+ * ({@link MeterReadingRequest}), reduced to one reading per meter type and
+ * {@code household.mqtt.min-interval} by {@link MeterReadingCoalescer}, and
+ * written in batches through {@link MeterReadingBatchWriter} with monotonic
+ * validation, i.e. a value lower than the previous reading is rejected just
+ * as {@link MeterReadingService#createMeterReading} would. Rejected readings
+ * are recorded in {@link IngestRejections}.
+ * <p>
+ * A batch that failed {@code household.mqtt.max-attempts} times is written
+ * one reading at a time, so a reading that cannot be stored is recorded as
+ * rejection instead of holding up the queue and, once it is full, the
+ * subscriber.
+ * <p>
+ * Released readings wait in a bounded queue for the writer. When the database
+ * falls behind and the queue is full, the subscriber callback blocks, the
+ * client stops reading from the connection and the broker holds back further
+ * messages. The broker also keeps QoS 1 messages while the application is
+ * down. Readings held back for the current interval are written on shutdown;
+ * a crash loses at most those.
+ * <p>
+ * Enabled with {@code household.mqtt.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "household.mqtt.enabled", havingValue = "true")
+@EnableConfigurationProperties(MqttBridgeProperties.class)
+@Slf4j
+public class MeterReadingMqttBridge implements SmartLifecycle, MqttCallbackExtended {
+
+    private static final long TICK_MS = 1000;
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+    private static final long DISCONNECT_TIMEOUT_MS = 5_000;
+    private static final String SOURCE = "MQTT";
+
+    private final MqttBridgeProperties properties;
+    private final MeterReadingService meterReadingService;
+    private final MeterReadingBatchWriter meterReadingBatchWriter;
+    private final IngestRejections ingestRejections;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final MeterReadingCoalescer coalescer;
+    private final BlockingQueue<MeterReading> queue;
+    /** Readings taken from the queue by the writer and not written yet. */
+    private final List<MeterReading> writerBatch = new ArrayList<>();
+    private final JsonPointer valuePointer;
+    private final JsonPointer timePointer;
+
+    private volatile boolean running;
+    private MqttClient client;
+    private Thread connector;
+    private Thread writer;
+
+    public MeterReadingMqttBridge(MqttBridgeProperties properties,
+                                  MeterReadingService meterReadingService,
+                                  MeterReadingBatchWriter meterReadingBatchWriter,
+                                  IngestRejections ingestRejections,
+                                  Validator validator,
+                                  ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.meterReadingService = meterReadingService;
+        this.meterReadingBatchWriter = meterReadingBatchWriter;
+        this.ingestRejections = ingestRejections;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.coalescer = new MeterReadingCoalescer(properties.getMinInterval());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.valuePointer = JsonPointer.compile(properties.getValuePointer());
+        this.timePointer = JsonPointer.compile(properties.getTimePointer());
+    }
+
+    @Override
+    public void start() {
+        if (properties.getTopics().isEmpty()) {
+            throw new IllegalStateException("MQTT bridge is enabled but no topics are configured (household.mqtt.topics)");
+        }
+        try {
+            client = new MqttClient(properties.getBrokerUrl(), properties.getClientId(), new MemoryPersistence());
+        } catch (MqttException ex) {
+            throw new IllegalStateException("Invalid MQTT broker URL " + properties.getBrokerUrl(), ex);
+        }
+        client.setCallback(this);
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("mqtt-bridge-writer")
+                .daemon(true)
+                .start(this::writeLoop);
+        connector = Thread.ofPlatform()
+                .name("mqtt-bridge-connector")
+                .daemon(true)
+                .start(this::connect);
+    }
+
+    @Override
+    public void stop() {
+        connector.interrupt();
+        // the writer keeps draining the queue until the client is disconnected,
+        // so a callback blocked on the full queue can finish
+        try {
+            if (client.isConnected()) {
+                client.disconnect(DISCONNECT_TIMEOUT_MS);
+            }
+            client.close(true);
+        } catch (MqttException ex) {
+            log.warn("Failed to disconnect from MQTT broker", ex);
+        }
+
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<MeterReading> remaining = new ArrayList<>(writerBatch);
+        queue.drainTo(remaining);
+        lock.lock();
+        try {
+            remaining.addAll(coalescer.releaseAll());
+        } finally {
+            lock.unlock();
+        }
+        try {
+            write(remaining, false);
+        } catch (RuntimeException ex) {
+            log.warn("Writing {} readings received over MQTT failed on shutdown", remaining.size(), ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void connectComplete(boolean reconnect, String serverURI) {
+        Map<MeterType, String> topics = properties.getTopics();
+        String[] filters = topics.values().toArray(String[]::new);
+        int[] qos = new int[filters.length];
+        Arrays.fill(qos, properties.getQos());
+        try {
+            client.subscribe(filters, qos);
+            log.info("{} MQTT broker {}, subscribed to {}", reconnect ? "Reconnected to" : "Connected to",
+                    serverURI, topics);
+        } catch (MqttException ex) {
+            log.error("Subscribing to MQTT topics {} failed", topics, ex);
+        }
+    }
+
+    @Override
+    public void connectionLost(Throwable cause) {
+        log.warn("Connection to MQTT broker lost, reconnecting: {}", cause.getMessage());
+    }
+
+    /**
+     * Called by the client for every message, one at a time. Blocks while the
+     * write queue is full.
+     */
+    @Override
+    public void messageArrived(String topic, MqttMessage message) throws InterruptedException {
+        MeterType meterType = meterTypeOf(topic);
+        if (meterType == null) {
+            return;
+        }
+        MeterReadingRequest request;
+        try {
+            request = parse(meterType, message.getPayload());
+        } catch (IOException | IllegalArgumentException | DateTimeException ex) {
+            log.warn("Ignoring unreadable MQTT payload on {}: {}", topic, ex.getMessage());
+            return;
+        }
+        Set<ConstraintViolation<MeterReadingRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            log.warn("Ignoring invalid {} reading on {}: {}", meterType, topic, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return;
+        }
+
+        MeterReading released;
+        lock.lock();
+        try {
+            released = coalescer.offer(meterReadingService.buildMeterReading(request));
+        } finally {
+            lock.unlock();
+        }
+        if (released != null) {
+            queue.put(released);
+        }
+    }
+
+    @Override
+    public void deliveryComplete(IMqttDeliveryToken token) {
+        // the bridge does not publish
+    }
+
+    private MeterType meterTypeOf(String topic) {
+        for (Map.Entry<MeterType, String> entry : properties.getTopics().entrySet()) {
+            if (MqttTopic.isMatched(entry.getValue(), topic)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The request for a payload: a plain number, or a JSON object with value
+     * and optional reading time. Values are rounded to the two decimals stored.
+     */
+    private MeterReadingRequest parse(MeterType meterType, byte[] payload) throws IOException {
+        String text = new String(payload, StandardCharsets.UTF_8).trim();
+        BigDecimal value;
+        LocalDateTime readingDate = null;
+        if (text.startsWith("{")) {
+            JsonNode json = objectMapper.readTree(text);
+            JsonNode valueNode = json.at(valuePointer);
+            if (!valueNode.isNumber() && !valueNode.isTextual()) {
+                throw new IllegalArgumentException("No value at " + valuePointer);
+            }
+            value = new BigDecimal(valueNode.asText());
+            JsonNode timeNode = json.at(timePointer);
+            if (timeNode.isNumber()) {
+                readingDate = LocalDateTime.ofInstant(Instant.ofEpochSecond(timeNode.asLong()), ZoneId.systemDefault());
+            } else if (timeNode.isTextual()) {
+                readingDate = parseTime(timeNode.asText());
+            }
+        } else {
+            value = new BigDecimal(text);
+        }
+        if (readingDate == null) {
+            readingDate = LocalDateTime.now();
+        }
+        return MeterReadingRequest.builder()
+                .meterType(meterType)
+                .readingValue(value.setScale(2, RoundingMode.HALF_UP))
+                .readingDate(readingDate.truncatedTo(ChronoUnit.SECONDS))
+                .build();
+    }
+
+    private static LocalDateTime parseTime(String time) {
+        try {
+            return OffsetDateTime.parse(time).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException ex) {
+            return LocalDateTime.parse(time);
+        }
+    }
+
+    private void connect() {
+        MqttConnectOptions options = new MqttConnectOptions();
+        options.setAutomaticReconnect(true);
+        options.setCleanSession(false);
+        if (properties.getUsername() != null) {
+            options.setUserName(properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.setPassword(properties.getPassword().toCharArray());
+        }
+
+        long backoffMs = TICK_MS;
+        while (running) {
+            try {
+                client.connect(options);
+                return;
+            } catch (MqttException ex) {
+                log.warn("Connecting to MQTT broker {} failed, retrying in {} ms: {}",
+                        properties.getBrokerUrl(), backoffMs, ex.getMessage());
+            }
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+        }
+    }
+
+    private void writeLoop() {
+        List<MeterReading> batch = writerBatch;
+        long backoffMs = TICK_MS;
+        int failedAttempts = 0;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    MeterReading first = queue.poll(TICK_MS, TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, properties.getBatchSize() - 1);
+                    }
+                    lock.lock();
+                    try {
+                        batch.addAll(coalescer.releaseCompleted(LocalDateTime.now()));
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+                if (failedAttempts >= properties.getMaxAttempts()) {
+                    log.warn("Batch of {} readings received over MQTT failed {} times, writing readings one at a time",
+                            batch.size(), failedAttempts);
+                }
+                write(batch, failedAttempts >= properties.getMaxAttempts());
+                batch.clear();
+                backoffMs = TICK_MS;
+                failedAttempts = 0;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Writing {} readings received over MQTT failed; retrying in {} ms",
+                        batch.size(), backoffMs, ex);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+                failedAttempts++;
+            }
+        }
+    }
+
+    /**
+     * Write readings and record those rejected; {@code isolated} writes them one
+     * at a time and records the readings that cannot be stored.
+     */
+    private void write(List<MeterReading> readings, boolean isolated) {
+        if (readings.isEmpty()) {
+            return;
+        }
+        BatchWriteResult result = isolated
+                ? ingestRejections.writeIsolated(SOURCE, readings, true)
+                : meterReadingBatchWriter.writeBatch(readings, true);
+        ingestRejections.record(SOURCE, result.rejectedReadings(), IngestRejections.LESS_THAN_PREVIOUS);
+        log.debug("Wrote {} readings received over MQTT ({} created, {} duplicates, {} rejected)",
+                readings.size(), result.created(), result.duplicates(), result.rejected());
+    }
+}
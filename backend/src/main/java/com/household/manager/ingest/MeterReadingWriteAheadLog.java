@@ -0,0 +1,433 @@
+package com.household.manager.ingest;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped write-ahead log for meter readings awaiting persistence.
+ * <p>
+ * The log is a single fixed-size file. Records are appended after a small header
+ * and made durable with group commit: concurrent appenders share one
+ * {@link MappedByteBuffer#force(int, int)} call instead of forcing individually.
+ * A drainer reads durable records from the checkpoint and advances it once they
+ * have been persisted; when the log is fully drained it rewinds to the start and
+ * bumps its generation so stale records are never replayed.
+ * <p>
+ * Record layout: {@code [int payloadLength][int generation][int crc32][payload]}.
+ */
+@Slf4j
+public class MeterReadingWriteAheadLog implements AutoCloseable {
+
+    private static final int MAGIC = 0x484D574C; // "HMWL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int HEADER_GENERATION_OFFSET = 8;
+    private static final int HEADER_CHECKPOINT_OFFSET = 16;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int NO_WEEK = Integer.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long groupCommitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+
+    private int generation;
+    private int writeOffset;
+    private int checkpointOffset;
+    /** Logical sequence number of the header position of the current generation. */
+    private long baseLsn;
+    private long durableLsn;
+    private boolean flushing;
+
+    private MeterReadingWriteAheadLog(FileChannel channel, MappedByteBuffer buffer, int capacity,
+                                      long groupCommitNanos) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.groupCommitNanos = groupCommitNanos;
+    }
+
+    /**
+     * Open (or create) a write-ahead log and recover its state.
+     * <p>
+     * Valid records between the stored checkpoint and the first torn or stale
+     * record are kept as pending and will be returned by {@link #readPending(int)}.
+     *
+     * @param file path of the log file
+     * @param capacity size of the mapped file in bytes
+     * @param groupCommitNanos how long a flush leader waits for more appenders before forcing
+     * @return the opened log
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MeterReadingWriteAheadLog open(Path file, int capacity, long groupCommitNanos) throws IOException {
+        if (capacity <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("Write-ahead log capacity too small: " + capacity);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean fresh = channel.size() == 0;
+            int mappedSize = fresh ? capacity : (int) Math.max(channel.size(), capacity);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+            MeterReadingWriteAheadLog wal = new MeterReadingWriteAheadLog(channel, buffer, mappedSize, groupCommitNanos);
+            if (fresh || buffer.getInt(0) != MAGIC) {
+                wal.initialize();
+            } else {
+                wal.recover();
+            }
+            return wal;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Append a reading to the log. The record is not durable until
+     * {@link #awaitDurable(long)} returns for the returned sequence number.
+     * <p>
+     * Blocks while the log is full until the drainer has caught up.
+     *
+     * @param reading the reading to append
+     * @return logical sequence number just after the appended record
+     * @throws InterruptedException if interrupted while waiting for space
+     */
+    public long append(MeterReading reading) throws InterruptedException {
+        byte[] payload = encode(reading);
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (recordSize > capacity - HEADER_SIZE) {
+            throw new IllegalArgumentException("Meter reading too large for write-ahead log: " + recordSize + " bytes");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        lock.lock();
+        try {
+            while (writeOffset + recordSize > capacity) {
+                spaceAvailable.await();
+            }
+            int offset = writeOffset;
+            buffer.putInt(offset + 4, generation);
+            buffer.putInt(offset + 8, (int) crc.getValue());
+            buffer.put(offset + RECORD_HEADER_SIZE, payload);
+            // Length last, so a torn record is never considered complete
+            buffer.putInt(offset, payload.length);
+            writeOffset = offset + recordSize;
+            return lsnOf(writeOffset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until every record up to the given sequence number has been forced to disk.
+     * <p>
+     * The first waiter becomes the flush leader: it waits for the group commit
+     * window so concurrent appenders can join, then forces the whole dirty range once.
+     *
+     * @param lsn sequence number returned by {@link #append(MeterReading)}
+     * @throws InterruptedException if interrupted while waiting for another flush
+     */
+    public void awaitDurable(long lsn) throws InterruptedException {
+        lock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (flushing) {
+                    flushed.await();
+                    continue;
+                }
+                flushing = true;
+                lock.unlock();
+                try {
+                    if (groupCommitNanos > 0) {
+                        LockSupport.parkNanos(groupCommitNanos);
+                    }
+                } finally {
+                    lock.lock();
+                }
+                flushDirtyRange();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushDirtyRange() {
+        long target = lsnOf(writeOffset);
+        int from = offsetOf(Math.max(durableLsn, baseLsn));
+        int to = writeOffset;
+        lock.unlock();
+        boolean success = false;
+        try {
+            if (to > from) {
+                buffer.force(from, to - from);
+            }
+            success = true;
+        } finally {
+            lock.lock();
+            flushing = false;
+            if (success) {
+                durableLsn = Math.max(durableLsn, target);
+            }
+            flushed.signalAll();
+        }
+    }
+
+    /**
+     * Wait until durable records are available for draining.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return true if at least one durable record is pending
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitPending(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (!hasDurablePending()) {
+                flushed.await(timeout, unit);
+            }
+            return hasDurablePending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Read durable records starting at the checkpoint.
+     *
+     * @param maxRecords maximum number of records to return
+     * @return pending readings and the offset to pass to {@link #checkpoint(int)} once persisted
+     */
+    public PendingBatch readPending(int maxRecords) {
+        int from;
+        int limit;
+        lock.lock();
+        try {
+            from = checkpointOffset;
+            limit = Math.min(writeOffset, offsetOf(durableLsn));
+        } finally {
+            lock.unlock();
+        }
+
+        List<MeterReading> readings = new ArrayList<>();
+        int offset = from;
+        while (offset < limit && readings.size() < maxRecords) {
+            int length = buffer.getInt(offset);
+            byte[] payload = new byte[length];
+            buffer.get(offset + RECORD_HEADER_SIZE, payload);
+            readings.add(decode(payload));
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        return new PendingBatch(readings, offset);
+    }
+
+    /**
+     * Advance the checkpoint after the records before {@code offset} have been persisted.
+     * Rewinds the log when it has been fully drained.
+     *
+     * @param offset end offset returned by {@link #readPending(int)}
+     */
+    public void checkpoint(int offset) {
+        lock.lock();
+        try {
+            checkpointOffset = offset;
+            if (checkpointOffset == writeOffset && durableLsn >= lsnOf(writeOffset)) {
+                rewind();
+            } else {
+                buffer.putInt(HEADER_CHECKPOINT_OFFSET, checkpointOffset);
+                buffer.force(0, HEADER_SIZE);
+            }
+            spaceAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of bytes between the checkpoint and the end of the log
+     */
+    public int pendingBytes() {
+        lock.lock();
+        try {
+            return writeOffset - checkpointOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.unlock();
+        }
+        channel.close();
+    }
+
+    private boolean hasDurablePending() {
+        return checkpointOffset < Math.min(writeOffset, offsetOf(durableLsn));
+    }
+
+    private void initialize() {
+        generation = 1;
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(HEADER_GENERATION_OFFSET, generation);
+        resetPositions();
+        buffer.force();
+    }
+
+    private void recover() {
+        generation = buffer.getInt(HEADER_GENERATION_OFFSET);
+        checkpointOffset = buffer.getInt(HEADER_CHECKPOINT_OFFSET);
+        if (checkpointOffset < HEADER_SIZE || checkpointOffset > capacity) {
+            throw new IllegalStateException("Corrupt write-ahead log checkpoint: " + checkpointOffset);
+        }
+
+        int offset = checkpointOffset;
+        int recovered = 0;
+        while (offset + RECORD_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + RECORD_HEADER_SIZE + length > capacity
+                    || buffer.getInt(offset + 4) != generation) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + RECORD_HEADER_SIZE, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 8)) {
+                break;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+            recovered++;
+        }
+
+        writeOffset = offset;
+        baseLsn = 0;
+        durableLsn = lsnOf(writeOffset);
+        if (writeOffset + 4 <= capacity) {
+            // Invalidate a torn tail so it cannot be mistaken for a record later
+            buffer.putInt(writeOffset, 0);
+        }
+
+        if (checkpointOffset == writeOffset) {
+            rewind();
+        } else {
+            buffer.force();
+            log.info("Recovered {} pending meter readings from write-ahead log", recovered);
+        }
+    }
+
+    private void rewind() {
+        baseLsn = lsnOf(writeOffset);
+        generation++;
+        buffer.putInt(HEADER_GENERATION_OFFSET, generation);
+        resetPositions();
+        buffer.force(0, HEADER_SIZE + 4);
+    }
+
+    private void resetPositions() {
+        writeOffset = HEADER_SIZE;
+        checkpointOffset = HEADER_SIZE;
+        buffer.putInt(HEADER_CHECKPOINT_OFFSET, checkpointOffset);
+        buffer.putInt(HEADER_SIZE, 0);
+    }
+
+    private long lsnOf(int offset) {
+        return baseLsn + (offset - HEADER_SIZE);
+    }
+
+    private int offsetOf(long lsn) {
+        return (int) (lsn - baseLsn) + HEADER_SIZE;
+    }
+
+    private static byte[] encode(MeterReading reading) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(reading.getMeterType().name());
+            out.writeUTF(reading.getReadingValue().toPlainString());
+            out.writeInt(reading.getReadingWeek() != null ? reading.getReadingWeek() : NO_WEEK);
+            out.writeLong(reading.getReadingDate().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(reading.getReadingDate().getNano());
+            byte[] notes = reading.getNotes() != null ? reading.getNotes().getBytes(StandardCharsets.UTF_8) : null;
+            out.writeInt(notes != null ? notes.length : -1);
+            if (notes != null) {
+                out.write(notes);
+            }
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static MeterReading decode(byte[] payload) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            MeterType meterType = MeterType.valueOf(in.readUTF());
+            BigDecimal readingValue = new BigDecimal(in.readUTF());
+            int week = in.readInt();
+            LocalDateTime readingDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            int notesLength = in.readInt();
+            String notes = null;
+            if (notesLength >= 0) {
+                notes = new String(in.readNBytes(notesLength), StandardCharsets.UTF_8);
+            }
+            return MeterReading.builder()
+                    .meterType(meterType)
+                    .readingValue(readingValue)
+                    .readingWeek(week != NO_WEEK ? week : null)
+                    .readingDate(readingDate)
+                    .notes(notes)
+                    .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Durable records read from the log.
+     *
+     * @param readings decoded readings in append order
+     * @param endOffset offset just after the last returned record
+     */
+    public record PendingBatch(List<MeterReading> readings, int endOffset) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.household.manager.ingest;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the MQTT bridge ({@code household.mqtt.*}).
+ * <p>
+ * Topics are configured per meter type, e.g.
+ * {@code household.mqtt.topics.ELECTRICITY=tele/power-meter/SENSOR} together
+ * with {@code household.mqtt.value-pointer=/ENERGY/Total} for Tasmota devices.
+ */
+@Data
+@ConfigurationProperties(prefix = "household.mqtt")
+public class MqttBridgeProperties {
+
+    /**
+     * Whether the bridge subscribes at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Broker URI, e.g. {@code tcp://localhost:1883} or {@code ssl://broker:8883}.
+     */
+    private String brokerUrl = "tcp://localhost:1883";
+
+    /**
+     * Client ID; the broker keeps the subscriptions and QoS 1 messages of this ID while the application is down.
+     */
+    private String clientId = "household-manager";
+
+    private String username;
+
+    private String password;
+
+    /**
+     * QoS of the subscriptions.
+     */
+    private int qos = 1;
+
+    /**
+     * Topic filter per meter type; MQTT wildcards are allowed.
+     */
+    private Map<MeterType, String> topics = new EnumMap<>(MeterType.class);
+
+    /**
+     * JSON pointer to the meter value in JSON payloads; plain numeric payloads are used as they are.
+     */
+    private String valuePointer = "/value";
+
+    /**
+     * JSON pointer to the reading time in JSON payloads (ISO-8601 or epoch seconds);
+     * the time of receipt is used when it is missing.
+     */
+    private String timePointer = "/time";
+
+    /**
+     * At most one reading per meter type and interval is stored: the last value
+     * received in the interval. Zero stores every changed value.
+     */
+    private Duration minInterval = Duration.ofMinutes(15);
+
+    /**
+     * Readings waiting to be written before the subscriber blocks and the broker
+     * has to hold back further messages.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Readings per batch write.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Failed attempts of a batch before it is written one reading at a time; readings that
+     * still fail are recorded as rejections.
+     */
+    private int maxAttempts = 5;
+}
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
  * to enable consumption monitoring and history tracking.
  */
 @Entity
-@Table(name = "meter_readings")
+@Table(name = "meter_readings",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_meter_readings_type_date",
+                columnNames = {"meter_type", "reading_date"}))
 @Getter
 @Setter
 @Builder
@@ -65,6 +68,15 @@ public class MeterReading {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    /**
+     * Fingerprint of the CSV row this reading was last imported from.
+     * <p>
+     * Null for readings entered via the API. Lets re-imports skip unchanged
+     * rows and update readings whose source row was edited.
+     */
+    @Column(name = "import_fingerprint")
+    private Long importFingerprint;
+
     /**
      * Timestamp when this record was created in the database
      */
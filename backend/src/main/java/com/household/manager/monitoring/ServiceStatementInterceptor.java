@@ -0,0 +1,42 @@
+package com.household.manager.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Counts the statements of every service method call in a nested
+ * {@link StatementScope} and attributes them to the enclosing request.
+ * <p>
+ * Recorded as {@code household.db.statements.method}, tagged with the method.
+ */
+public class ServiceStatementInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ServiceStatementInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = invocation.getMethod().getDeclaringClass().getSimpleName()
+                + "." + invocation.getMethod().getName();
+        StatementScope scope = StatementTracker.open(name);
+        try {
+            return invocation.proceed();
+        } finally {
+            scope.close();
+            if (scope.getStatements() > 0) {
+                StatementTracker.recordMethod(scope);
+                meterRegistry.ifAvailable(registry -> DistributionSummary.builder("household.db.statements.method")
+                        .description("SQL statements per service method call")
+                        .tag("method", name)
+                        .register(registry)
+                        .record(scope.getStatements()));
+            }
+        }
+    }
+}
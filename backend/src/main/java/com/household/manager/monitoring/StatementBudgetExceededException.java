@@ -0,0 +1,12 @@
+package com.household.manager.monitoring;
+
+/**
+ * Thrown instead of executing a SQL statement when the current request has
+ * used up its statement budget and {@code household.statements.mode=fail}.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.household.manager.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link StatementScope} for every handled request and checks the
+ * route's statement budget when the request completes.
+ * <p>
+ * Requests over budget and statements repeated at least
+ * {@code household.statements.repeat-threshold} times are logged as warnings
+ * with a per-service-method breakdown. Statement count and database time are
+ * recorded as {@code household.db.statements} and {@code household.db.time}.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".scope";
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            request.setAttribute(SCOPE_ATTRIBUTE, StatementTracker.open(name, properties.budgetFor(name),
+                    properties.getMode() == StatementBudgetProperties.Mode.FAIL));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof StatementScope scope)) {
+            return;
+        }
+        scope.close();
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+
+        DistributionSummary.builder("household.db.statements")
+                .description("SQL statements per request")
+                .tag("handler", scope.getName())
+                .register(meterRegistry)
+                .record(scope.getStatements());
+        Timer.builder("household.db.time")
+                .description("Database time per request")
+                .tag("handler", scope.getName())
+                .register(meterRegistry)
+                .record(scope.getDatabaseTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+
+        if (scope.isOverBudget()) {
+            log.warn("{} {} executed {} SQL statements ({} ms), budget is {}; per service method: {}",
+                    request.getMethod(), request.getRequestURI(), scope.getStatements(),
+                    scope.getDatabaseTime(TimeUnit.MILLISECONDS), scope.getBudget(), scope.getMethodStatements());
+        }
+        scope.getRepeatedStatements(properties.getRepeatThreshold()).forEach((sql, count) ->
+                log.warn("Possible N+1 query in {}: statement executed {} times: {}", scope.getName(), count, sql));
+        log.debug("{} executed {} SQL statements in {} ms", scope.getName(), scope.getStatements(),
+                scope.getDatabaseTime(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,55 @@
+package com.household.manager.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the SQL statement budgets ({@code household.statements.*}).
+ * <p>
+ * Budgets are keyed by handler method, e.g.
+ * {@code household.statements.budgets[MeterReadingController.getAllMeterReadings]=2};
+ * a negative budget disables the limit for that route.
+ */
+@Data
+@ConfigurationProperties(prefix = "household.statements")
+public class StatementBudgetProperties {
+
+    /**
+     * Whether statements are counted at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * What happens when a request exceeds its budget.
+     */
+    private Mode mode = Mode.WARN;
+
+    /**
+     * Budget for routes without an explicit entry in {@link #budgets}.
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * Number of executions of identical SQL within one request that is reported as a possible N+1 query.
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * Statement budget per handler method ({@code ControllerName.methodName}).
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    public int budgetFor(String handler) {
+        return budgets.getOrDefault(handler, defaultBudget);
+    }
+
+    public enum Mode {
+        /** Log a warning after the request */
+        WARN,
+        /** Fail the statement that exceeds the budget */
+        FAIL
+    }
+}
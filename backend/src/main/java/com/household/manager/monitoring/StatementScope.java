@@ -0,0 +1,109 @@
+package com.household.manager.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statements executed on one thread while the scope was open, e.g. during an
+ * HTTP request or a service method call. Scopes nest; a statement counts for
+ * every open scope. Tasks wrapped with {@link StatementTracker#propagate}
+ * record into the scopes of the submitting thread, so a scope may be updated
+ * by several threads at once.
+ * <p>
+ * Obtained from {@link StatementTracker#open}; closing it ends the recording.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    private final String name;
+    private final int budget;
+    private final boolean failOnBudgetExceeded;
+    private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+    private final Map<String, Integer> methodStatements = new LinkedHashMap<>();
+    private int statements;
+    private long nanos;
+    private boolean closed;
+
+    StatementScope(String name, int budget, boolean failOnBudgetExceeded) {
+        this.name = name;
+        this.budget = budget;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    synchronized void beforeStatement(String sql) {
+        if (failOnBudgetExceeded && budget >= 0 && statements >= budget) {
+            throw new StatementBudgetExceededException(String.format(
+                    "%s exceeded its budget of %d SQL statements with: %s", name, budget, sql));
+        }
+    }
+
+    synchronized void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    synchronized void recordMethod(String method, int methodStatementCount) {
+        methodStatements.merge(method, methodStatementCount, Integer::sum);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Maximum number of statements, negative for unlimited.
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    public synchronized boolean isOverBudget() {
+        return budget >= 0 && statements > budget;
+    }
+
+    public synchronized int getStatements() {
+        return statements;
+    }
+
+    public synchronized long getDatabaseTime(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Execution count per distinct SQL string, in order of first execution.
+     */
+    public synchronized Map<String, Integer> getStatementCounts() {
+        return Map.copyOf(statementCounts);
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times with identical SQL,
+     * the typical sign of an N+1 query.
+     */
+    public synchronized Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * Statements per service method called within this scope. Counts of nested
+     * service calls are included in the calling method's count as well.
+     */
+    public synchronized Map<String, Integer> getMethodStatements() {
+        return Map.copyOf(methodStatements);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            StatementTracker.close(this);
+        }
+    }
+}
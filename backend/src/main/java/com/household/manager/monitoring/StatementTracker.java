@@ -0,0 +1,102 @@
+package com.household.manager.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound registry of open {@link StatementScope}s.
+ * <p>
+ * {@link StatementCountingDataSource} reports every executed statement here;
+ * without an open scope on the current thread this is a no-op.
+ */
+public final class StatementTracker {
+
+    private static final ThreadLocal<Deque<StatementScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private StatementTracker() {
+    }
+
+    /**
+     * Start recording statements executed on the current thread.
+     *
+     * @param name name of the scope, e.g. the handler method
+     * @param budget maximum number of statements, negative for unlimited
+     * @param failOnBudgetExceeded whether a statement beyond the budget fails
+     *                             with {@link StatementBudgetExceededException}
+     * @return the open scope; close it to stop recording
+     */
+    public static StatementScope open(String name, int budget, boolean failOnBudgetExceeded) {
+        StatementScope scope = new StatementScope(name, budget, failOnBudgetExceeded);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * Start recording statements without a budget.
+     */
+    public static StatementScope open(String name) {
+        return open(name, -1, false);
+    }
+
+    /**
+     * Wrap a task that runs on another thread, e.g. a {@code CompletableFuture}
+     * step, so its statements count for the scopes open on the current thread
+     * (and their budgets apply).
+     *
+     * @param task the task
+     * @return the task, recording into the current scopes while it runs
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Deque<StatementScope> current = SCOPES.get();
+        if (current.isEmpty()) {
+            SCOPES.remove();
+            return task;
+        }
+        List<StatementScope> scopes = List.copyOf(current);
+        return () -> {
+            Deque<StatementScope> target = SCOPES.get();
+            for (int i = scopes.size() - 1; i >= 0; i--) {
+                target.push(scopes.get(i));
+            }
+            try {
+                return task.get();
+            } finally {
+                scopes.forEach(target::remove);
+                if (target.isEmpty()) {
+                    SCOPES.remove();
+                }
+            }
+        };
+    }
+
+    static void beforeStatement(String sql) {
+        for (StatementScope scope : SCOPES.get()) {
+            scope.beforeStatement(sql);
+        }
+    }
+
+    static void afterStatement(String sql, long elapsedNanos) {
+        for (StatementScope scope : SCOPES.get()) {
+            scope.recordStatement(sql, elapsedNanos);
+        }
+    }
+
+    /**
+     * Attribute the statements of a closed service method scope to all scopes still open.
+     */
+    static void recordMethod(StatementScope methodScope) {
+        for (StatementScope scope : SCOPES.get()) {
+            scope.recordMethod(methodScope.getName(), methodScope.getStatements());
+        }
+    }
+
+    static void close(StatementScope scope) {
+        Deque<StatementScope> scopes = SCOPES.get();
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Runtime instrumentation of database access.
+ * Counts SQL statements and database time per HTTP request and per service
+ * method, enforces per-route statement budgets and reports repeated statements (N+1 queries).
+ */
+package com.household.manager.monitoring;
@@ -0,0 +1,28 @@
+package com.household.manager.outbox;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.household.manager.model.entity.MeterType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A recorded write of a meter reading or utility price ({@code outbox_events}).
+ *
+ * @param seq sequence number, ascending in the order the writes were recorded; consumers deduplicate by it
+ * @param aggregate {@code METER_READING} or {@code UTILITY_PRICE}
+ * @param aggregateId ID of the reading or price
+ * @param meterType meter type of the reading or price
+ * @param operation {@code INSERT}, {@code UPDATE} or {@code DELETE}
+ * @param occurredAt when the write was recorded
+ * @param data the row after the write (before it, for deletes) as JSON object
+ */
+public record OutboxEvent(
+        long seq,
+        String aggregate,
+        long aggregateId,
+        MeterType meterType,
+        String operation,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS") LocalDateTime occurredAt,
+        @JsonRawValue String data) {
+}
@@ -0,0 +1,76 @@
+package com.household.manager.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of the change feed relay ({@code household.outbox.*}).
+ * <p>
+ * Events are recorded regardless of this configuration; it controls whether
+ * and where they are published, and how long they are kept.
+ */
+@Data
+@ConfigurationProperties(prefix = "household.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether the relay publishes events at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Built-in sink: {@code file}, {@code queue} or {@code webhook}. Any other
+     * value expects an {@link OutboxSink} bean provided by the application.
+     */
+    private String sink = "file";
+
+    /**
+     * Events per published batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How often the relay looks for new events when not woken by a write.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * First and maximum wait before a failed batch is published again.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    private Duration maxRetryBackoff = Duration.ofMinutes(1);
+
+    /**
+     * How long delivered events stay in the outbox; zero keeps them forever.
+     * Without the relay, events are purged after this time unless a sink has
+     * a checkpoint before them.
+     */
+    private Duration keepDelivered = Duration.ofDays(7);
+
+    /**
+     * When events are purged while the relay is disabled; {@code -} disables the schedule.
+     */
+    private String purgeCron = "0 45 3 * * *";
+
+    /**
+     * JSON lines file of the {@code file} sink.
+     */
+    private Path filePath = Path.of("data/outbox/events.jsonl");
+
+    /**
+     * Capacity of the {@code queue} sink.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Endpoint of the {@code webhook} sink.
+     */
+    private URI webhookUrl;
+
+    private Duration webhookTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,70 @@
+package com.household.manager.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Scheduled purge of {@code outbox_events} while the relay is disabled.
+ * <p>
+ * The triggers record every write whether or not a relay publishes the
+ * events, and the relay purges only what it has delivered. Without it, events
+ * older than {@code household.outbox.keep-delivered} are deleted here. When a
+ * sink has a checkpoint, i.e. a relay ran before and may be enabled again,
+ * only the events up to the oldest checkpoint are deleted, so a sink never
+ * misses an event it has not received yet.
+ * <p>
+ * Deletes in batches of {@code household.outbox.batch-size} events; runs at
+ * {@code household.outbox.purge-cron}.
+ */
+@Component
+@ConditionalOnProperty(name = "household.outbox.enabled", havingValue = "false", matchIfMissing = true)
+@EnableConfigurationProperties(OutboxProperties.class)
+@EnableScheduling
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxPurgeJob {
+
+    private static final String OLDEST_CHECKPOINT_SQL = "SELECT MIN(seq) FROM outbox_checkpoints";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_events WHERE seq <= ? AND created_at < ? ORDER BY seq LIMIT ?";
+
+    private final OutboxProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Purge the events that are no longer needed.
+     *
+     * @return the number of deleted events
+     */
+    @Scheduled(cron = "${household.outbox.purge-cron:0 45 3 * * *}")
+    public int run() {
+        if (properties.getKeepDelivered().isZero()) {
+            return 0;
+        }
+        Long oldestCheckpoint = jdbcTemplate.queryForObject(OLDEST_CHECKPOINT_SQL, Long.class);
+        long upTo = oldestCheckpoint != null ? oldestCheckpoint : Long.MAX_VALUE;
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(properties.getKeepDelivered()));
+        int batchSize = Math.max(1, properties.getBatchSize());
+
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, upTo, before, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize && !Thread.currentThread().isInterrupted());
+        if (purged > 0) {
+            log.info("Purged {} outbox events recorded before {}", purged, before);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,260 @@
+package com.household.manager.outbox;
+
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterDataChangedEvent;
+import com.household.manager.service.OpenWriteTransactions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the recorded writes of {@code outbox_events} in sequence order to
+ * an {@link OutboxSink}.
+ * <p>
+ * A single relay thread reads batches after the sink's checkpoint
+ * ({@code outbox_checkpoints}), publishes them and then advances the
+ * checkpoint: delivery is at least once, a batch interrupted by a failure or
+ * crash is published again. Failed batches are retried with exponential
+ * backoff and block later events, so the order is kept.
+ * <p>
+ * Sequence numbers are assigned when a write is recorded but become visible
+ * when it commits, so like the incremental sync the relay does not pass a gap
+ * in the sequence while it may be an uncommitted write: the writing
+ * transactions open when the gap is seen (see {@link OpenWriteTransactions})
+ * have to finish first, and a gap still there when the events are read after
+ * that is a rolled back write. Writes wake the relay after their commit, other
+ * writers (e.g. imports without events) are picked up at the poll interval.
+ * Delivered events older than {@code household.outbox.keep-delivered} are
+ * purged once the relay has caught up.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String EVENTS_SQL =
+            "SELECT seq, aggregate, aggregate_id, meter_type, operation, payload, created_at " +
+            "FROM outbox_events WHERE seq > ? ORDER BY seq LIMIT ?";
+
+    private static final String CHECKPOINT_SQL = "SELECT seq FROM outbox_checkpoints WHERE sink = ?";
+
+    private static final String SAVE_CHECKPOINT_SQL =
+            "INSERT INTO outbox_checkpoints (sink, seq) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE seq = VALUES(seq), updated_at = CURRENT_TIMESTAMP";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_events WHERE seq <= ? AND created_at < ? ORDER BY seq LIMIT ?";
+
+    private final OutboxProperties properties;
+    private final OutboxSink sink;
+    private final JdbcTemplate jdbcTemplate;
+    private final OpenWriteTransactions openWriteTransactions;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private boolean pendingWrites;
+
+    /** The first gap after the checkpoint while it may be an uncommitted write; relay thread only. */
+    private Gap gap;
+
+    private volatile boolean running;
+    private Thread relay;
+
+    public OutboxRelay(OutboxProperties properties, OutboxSink sink, JdbcTemplate jdbcTemplate,
+                       OpenWriteTransactions openWriteTransactions) {
+        this.properties = properties;
+        this.sink = sink;
+        this.jdbcTemplate = jdbcTemplate;
+        this.openWriteTransactions = openWriteTransactions;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        relay = Thread.ofPlatform()
+                .name("outbox-relay")
+                .daemon(true)
+                .start(this::relayLoop);
+        log.info("Relaying outbox events to {}", sink.name());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        relay.interrupt();
+        try {
+            relay.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Wake the relay once a write has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeterDataChanged(MeterDataChangedEvent event) {
+        lock.lock();
+        try {
+            pendingWrites = true;
+            written.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void relayLoop() {
+        long checkpoint = -1;
+        Duration backoff = properties.getRetryBackoff();
+        while (running) {
+            try {
+                if (checkpoint < 0) {
+                    checkpoint = loadCheckpoint();
+                }
+                List<OutboxEvent> batch = nextBatch(checkpoint);
+                if (!batch.isEmpty()) {
+                    sink.publish(batch);
+                    checkpoint = batch.get(batch.size() - 1).seq();
+                    jdbcTemplate.update(SAVE_CHECKPOINT_SQL, sink.name(), checkpoint);
+                    log.debug("Published {} outbox events to {} up to {}", batch.size(), sink.name(), checkpoint);
+                }
+                backoff = properties.getRetryBackoff();
+                if (batch.size() < properties.getBatchSize()) {
+                    purge(checkpoint);
+                    awaitWrites();
+                }
+            } catch (Exception ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Publishing outbox events to {} failed, retrying in {}", sink.name(), backoff, ex);
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2);
+                if (backoff.compareTo(properties.getMaxRetryBackoff()) > 0) {
+                    backoff = properties.getMaxRetryBackoff();
+                }
+            }
+        }
+    }
+
+    private long loadCheckpoint() {
+        List<Long> seqs = jdbcTemplate.queryForList(CHECKPOINT_SQL, Long.class, sink.name());
+        long checkpoint = seqs.isEmpty() ? 0 : seqs.get(0);
+        log.info("Outbox relay to {} continues after event {}", sink.name(), checkpoint);
+        return checkpoint;
+    }
+
+    /**
+     * The events after the checkpoint up to the first gap that may still be an uncommitted write.
+     */
+    private List<OutboxEvent> nextBatch(long checkpoint) {
+        List<OutboxEvent> events = jdbcTemplate.query(EVENTS_SQL, this::mapEvent, checkpoint, properties.getBatchSize());
+        List<OutboxEvent> batch = new ArrayList<>(events.size());
+        long previous = checkpoint;
+        for (OutboxEvent event : events) {
+            if (event.seq() != previous + 1 && !isRolledBack(previous + 1)) {
+                break;
+            }
+            batch.add(event);
+            previous = event.seq();
+        }
+        return batch;
+    }
+
+    /**
+     * Whether the gap starting at {@code seq}, found in events just read, is a
+     * rolled back write.
+     * <p>
+     * The gap's owner had recorded its write before the events were read. When
+     * the gap is first seen, the writing transactions open at that time are
+     * taken as its possible owners. Once none of them is open any more, the
+     * owner has committed or rolled back; a commit shows up in the next read,
+     * so a gap still there then is permanent.
+     */
+    private boolean isRolledBack(long seq) {
+        if (gap != null && gap.seq() == seq && gap.ownersFinished()) {
+            log.debug("Passing gap at outbox event {}, its write was rolled back", seq);
+            return true;
+        }
+        Optional<Set<String>> open = openWriteTransactions.find();
+        if (gap != null && gap.seq() == seq) {
+            if (open.isPresent() && Collections.disjoint(open.get(), gap.owners())) {
+                gap = new Gap(seq, gap.owners(), true);
+            }
+            return false;
+        }
+        // read after the events: without any open transaction the owner has already finished
+        gap = open.map(owners -> new Gap(seq, owners, owners.isEmpty())).orElse(null);
+        return false;
+    }
+
+    private void purge(long checkpoint) {
+        if (properties.getKeepDelivered().isZero()) {
+            return;
+        }
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(properties.getKeepDelivered()));
+        int purged = jdbcTemplate.update(PURGE_SQL, checkpoint, before, properties.getBatchSize());
+        if (purged > 0) {
+            log.debug("Purged {} delivered outbox events", purged);
+        }
+    }
+
+    private void awaitWrites() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!pendingWrites) {
+                written.await(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            pendingWrites = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private OutboxEvent mapEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxEvent(
+                rs.getLong("seq"),
+                rs.getString("aggregate"),
+                rs.getLong("aggregate_id"),
+                MeterType.valueOf(rs.getString("meter_type")),
+                rs.getString("operation"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getString("payload"));
+    }
+
+    /**
+     * A gap in the sequence at {@code seq} and the writing transactions open
+     * when it was first seen.
+     *
+     * @param ownersFinished whether none of them was open any more at a later check
+     */
+    private record Gap(long seq, Set<String> owners, boolean ownersFinished) {
+    }
+}
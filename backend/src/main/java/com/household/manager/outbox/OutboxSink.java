@@ -0,0 +1,27 @@
+package com.household.manager.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the change feed published by {@link OutboxRelay}.
+ * <p>
+ * Delivery is at least once: a batch that fails, or whose checkpoint is not
+ * saved before a crash, is published again. Consumers skip events whose
+ * sequence number they have already processed.
+ */
+public interface OutboxSink {
+
+    /**
+     * Stable name of the destination; the relay keeps its checkpoint per name.
+     */
+    String name();
+
+    /**
+     * Publish a batch of events.
+     *
+     * @param events events in ascending sequence order
+     * @throws IOException if the batch was not accepted as a whole; it is retried
+     */
+    void publish(List<OutboxEvent> events) throws IOException;
+}
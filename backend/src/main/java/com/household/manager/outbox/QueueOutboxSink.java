@@ -0,0 +1,43 @@
+package com.household.manager.outbox;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Publishes events to a bounded in-process queue, a stand-in for a message
+ * broker. The relay blocks while the queue is full.
+ */
+public class QueueOutboxSink implements OutboxSink {
+
+    private final BlockingQueue<OutboxEvent> queue;
+
+    public QueueOutboxSink(int capacity) {
+        this.queue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    /**
+     * The queue consumers take events from.
+     */
+    public BlockingQueue<OutboxEvent> queue() {
+        return queue;
+    }
+
+    @Override
+    public String name() {
+        return "queue";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws InterruptedIOException {
+        try {
+            for (OutboxEvent event : events) {
+                queue.put(event);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while publishing to the queue");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Change feed for downstream systems (transactional outbox).
+ * Database triggers record every write of readings and prices as event in the
+ * writing transaction; a relay publishes the events in order to a sink, or
+ * without it, a scheduled job purges them after a while.
+ */
+package com.household.manager.outbox;
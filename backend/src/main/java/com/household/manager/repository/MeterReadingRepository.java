@@ -2,7 +2,10 @@ package com.household.manager.repository;
 
 import com.household.manager.model.entity.MeterReading;
 import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.projection.MeterReadingSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -28,6 +31,16 @@ public interface MeterReadingRepository extends JpaRepository<MeterReading, Long
      */
     List<MeterReading> findByMeterTypeOrderByReadingDateDesc(MeterType meterType);
 
+    /**
+     * Find summaries of all meter readings for a specific meter type, ordered by date descending.
+     * <p>
+     * Selects only the summary columns; notes and audit timestamps are not read.
+     *
+     * @param meterType the type of meter to filter by
+     * @return reading summaries for the specified type, sorted by date (newest first)
+     */
+    List<MeterReadingSummary> findSummariesByMeterTypeOrderByReadingDateDesc(MeterType meterType);
+
     /**
      * Find the most recent meter reading for a specific meter type.
      * <p>
@@ -74,4 +87,23 @@ public interface MeterReadingRepository extends JpaRepository<MeterReading, Long
      * @return true if a reading exists, false otherwise
      */
     boolean existsByMeterTypeAndReadingDate(MeterType meterType, LocalDateTime readingDate);
+
+    /**
+     * Find the reading dates already stored for a meter type within a date range.
+     * <p>
+     * Only the date column is selected, so batch writers can de-duplicate
+     * a whole batch with a single query instead of one lookup per reading.
+     *
+     * @param meterType the type of meter
+     * @param start the start of the date range (inclusive)
+     * @param end the end of the date range (inclusive)
+     * @return reading dates within the specified range
+     */
+    @Query("SELECT mr.readingDate FROM MeterReading mr WHERE mr.meterType = :meterType " +
+           "AND mr.readingDate BETWEEN :start AND :end")
+    List<LocalDateTime> findReadingDatesBetween(
+            @Param("meterType") MeterType meterType,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
 }
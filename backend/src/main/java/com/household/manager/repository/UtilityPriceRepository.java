@@ -2,6 +2,7 @@ package com.household.manager.repository;
 
 import com.household.manager.model.entity.MeterType;
 import com.household.manager.model.entity.UtilityPrice;
+import com.household.manager.repository.projection.UtilityPriceSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,6 +31,23 @@ public interface UtilityPriceRepository extends JpaRepository<UtilityPrice, Long
      */
     List<UtilityPrice> findByMeterTypeOrderByValidFromDesc(MeterType meterType);
 
+    /**
+     * Find summaries of all utility prices for a specific meter type, ordered by valid from date descending.
+     * <p>
+     * Selects only the summary columns; audit timestamps are not read.
+     *
+     * @param meterType the type of meter
+     * @return price summaries for the specified type, newest first
+     */
+    List<UtilityPriceSummary> findSummariesByMeterTypeOrderByValidFromDesc(MeterType meterType);
+
+    /**
+     * Find summaries of all utility prices.
+     *
+     * @return price summaries of all meter types
+     */
+    List<UtilityPriceSummary> findSummariesBy();
+
     /**
      * Find the current price for a specific meter type on a given date.
      * <p>
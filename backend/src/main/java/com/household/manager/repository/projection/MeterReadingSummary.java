@@ -0,0 +1,25 @@
+package com.household.manager.repository.projection;
+
+import com.household.manager.model.entity.MeterType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Closed projection of {@link com.household.manager.model.entity.MeterReading}.
+ * <p>
+ * Selects only the columns needed for lists and charts. The {@code notes}
+ * TEXT column and the audit timestamps are never read.
+ */
+public interface MeterReadingSummary {
+
+    Long getId();
+
+    MeterType getMeterType();
+
+    BigDecimal getReadingValue();
+
+    Integer getReadingWeek();
+
+    LocalDateTime getReadingDate();
+}
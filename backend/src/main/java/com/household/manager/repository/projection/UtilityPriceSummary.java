@@ -0,0 +1,23 @@
+package com.household.manager.repository.projection;
+
+import com.household.manager.model.entity.MeterType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Closed projection of {@link com.household.manager.model.entity.UtilityPrice}
+ * without the audit timestamps.
+ */
+public interface UtilityPriceSummary {
+
+    Long getId();
+
+    MeterType getMeterType();
+
+    BigDecimal getPrice();
+
+    LocalDate getValidFrom();
+
+    LocalDate getValidTo();
+}
@@ -0,0 +1,4 @@
+/**
+ * Spring Data projections that select a subset of an entity's columns.
+ */
+package com.household.manager.repository.projection;
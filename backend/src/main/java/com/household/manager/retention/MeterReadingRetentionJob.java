@@ -0,0 +1,222 @@
+package com.household.manager.retention;
+
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterDataChangedEvent;
+import com.household.manager.service.MeterTypeLocks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scheduled compaction of aging meter readings.
+ * <p>
+ * Per meter type ({@link RetentionProperties.Policy}) readings younger than
+ * {@code keep-raw} are kept as they are. Of older readings one per day is kept,
+ * and of readings older than {@code keep-daily} one per ISO week. The kept
+ * reading of a day or week is its last one, i.e. the meter value at its end.
+ * Meter values are cumulative, so the consumption between two kept readings
+ * is exactly the sum of the consumptions of the removed readings in between:
+ * totals of the consumption calculation and the charts are conserved. The
+ * first reading of a meter type, as the base of all consumption, and readings
+ * with notes are always kept.
+ * <p>
+ * Each run walks the readings in date order in transactions of
+ * {@code household.retention.batch-size} readings, each under the write lock of
+ * the meter type and with a pause in between, so interactive writes are held
+ * up by at most one small transaction. A day or week is only thinned out
+ * while its later reading is part of the same transaction, so every commit
+ * leaves a consistent state. Nothing is left to delete in compacted days and
+ * weeks: an interrupted run is simply continued by the next one.
+ * <p>
+ * A completed run records the compacted ranges of the meter type in
+ * {@code retention_watermarks}. The importers skip rows in these ranges
+ * unless they would be the kept reading of their day or week, so re-importing
+ * a source does not bring the removed readings back. A kept reading imported
+ * there replaces the previously kept one with the next run.
+ * <p>
+ * Deletions are recorded in the change log like any other write, so sync
+ * clients drop the removed readings. Enabled with {@code household.retention.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "household.retention.enabled", havingValue = "true")
+@EnableConfigurationProperties(RetentionProperties.class)
+@EnableScheduling
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingRetentionJob {
+
+    private static final String FIRST_READING_SQL =
+            "SELECT MIN(reading_date) FROM meter_readings WHERE meter_type = ?";
+
+    private static final String READINGS_SQL =
+            "SELECT id, reading_date, notes IS NOT NULL AND notes <> '' AS annotated FROM meter_readings " +
+            "WHERE meter_type = ? AND reading_date >= ? AND reading_date < ? ORDER BY reading_date LIMIT ?";
+
+    private static final String DELETE_SQL = "DELETE FROM meter_readings WHERE id = ?";
+
+    private static final String WATERMARK_SQL =
+            "INSERT INTO retention_watermarks (meter_type, daily_before, weekly_before) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE daily_before = GREATEST(daily_before, VALUES(daily_before)), " +
+            "weekly_before = GREATEST(COALESCE(weekly_before, VALUES(weekly_before)), " +
+            "COALESCE(VALUES(weekly_before), weekly_before)), updated_at = CURRENT_TIMESTAMP";
+
+    private final RetentionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterTypeLocks meterTypeLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Compact the readings of all meter types.
+     */
+    @Scheduled(cron = "${household.retention.cron:0 30 3 * * *}")
+    public void run() {
+        for (MeterType meterType : MeterType.values()) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                compact(meterType, LocalDate.now());
+            } catch (RuntimeException ex) {
+                // committed batches stay compacted, the next run continues
+                log.error("Retention run failed for meter type {}", meterType, ex);
+            }
+        }
+    }
+
+    /**
+     * Compact the readings of a meter type according to its policy.
+     *
+     * @param meterType the meter type
+     * @param today the day the policy ages are counted from
+     * @return the number of deleted readings
+     */
+    public int compact(MeterType meterType, LocalDate today) {
+        RetentionProperties.Policy policy = properties.policyFor(meterType);
+        if (policy.getKeepRaw() == null) {
+            return 0;
+        }
+        LocalDate rawCutoff = today.minus(policy.getKeepRaw());
+        LocalDate weeklyCutoff = null;
+        if (policy.getKeepDaily() != null) {
+            weeklyCutoff = today.minus(policy.getKeepDaily()).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            if (weeklyCutoff.isAfter(rawCutoff)) {
+                weeklyCutoff = rawCutoff.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            }
+        }
+
+        LocalDateTime firstReading = jdbcTemplate.queryForObject(FIRST_READING_SQL, LocalDateTime.class,
+                meterType.name());
+        if (firstReading == null || !firstReading.isBefore(rawCutoff.atStartOfDay())) {
+            return 0;
+        }
+
+        Buckets buckets = new Buckets(meterType, firstReading, rawCutoff.atStartOfDay(), weeklyCutoff);
+        int batchSize = Math.max(2, properties.getBatchSize());
+        LocalDateTime cursor = firstReading;
+        int deleted = 0;
+        int batches = 0;
+        while (cursor != null) {
+            LocalDateTime from = cursor;
+            BatchResult batch = meterTypeLocks.withLock(meterType,
+                    () -> transactionTemplate.execute(status -> compactBatch(buckets, from, batchSize)));
+            deleted += batch.deleted();
+            batches++;
+            cursor = batch.next();
+            if (cursor != null && !pause()) {
+                log.info("Retention run for {} interrupted after {} deleted readings", meterType, deleted);
+                return deleted;
+            }
+        }
+        // the ranges only grow: readings removed stay removed when the policy is extended later
+        jdbcTemplate.update(WATERMARK_SQL, meterType.name(), Timestamp.valueOf(rawCutoff.atStartOfDay()),
+                weeklyCutoff);
+        log.info("Retention run for {}: {} readings before {} deleted in {} transactions",
+                meterType, deleted, rawCutoff, batches);
+        return deleted;
+    }
+
+    /**
+     * Thin out the readings from {@code from} on: a reading is deleted when a
+     * later reading of the same day or week follows in this batch. The last
+     * reading of the batch is examined again by the next batch.
+     */
+    private BatchResult compactBatch(Buckets buckets, LocalDateTime from, int batchSize) {
+        List<Reading> readings = jdbcTemplate.query(READINGS_SQL,
+                (rs, rowNum) -> new Reading(rs.getLong("id"),
+                        rs.getTimestamp("reading_date").toLocalDateTime(),
+                        rs.getBoolean("annotated")),
+                buckets.meterType().name(), Timestamp.valueOf(from), Timestamp.valueOf(buckets.rawCutoff()),
+                batchSize);
+
+        List<Object[]> deletions = new ArrayList<>();
+        for (int i = 0; i < readings.size() - 1; i++) {
+            Reading reading = readings.get(i);
+            if (!reading.annotated()
+                    && !reading.readingDate().equals(buckets.firstReading())
+                    && buckets.of(reading.readingDate()).equals(buckets.of(readings.get(i + 1).readingDate()))) {
+                deletions.add(new Object[]{reading.id()});
+            }
+        }
+        if (!deletions.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletions);
+            eventPublisher.publishEvent(MeterDataChangedEvent.readings(Set.of(buckets.meterType())));
+        }
+
+        LocalDateTime next = readings.size() < batchSize ? null : readings.get(readings.size() - 1).readingDate();
+        return new BatchResult(deletions.size(), next);
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Assigns readings to the day or week of which one reading is kept.
+     *
+     * @param weeklyCutoff start of the first day kept daily, a Monday; null if readings are kept daily forever
+     */
+    private record Buckets(MeterType meterType, LocalDateTime firstReading, LocalDateTime rawCutoff,
+                           LocalDate weeklyCutoff) {
+
+        LocalDate of(LocalDateTime readingDate) {
+            LocalDate day = readingDate.toLocalDate();
+            if (weeklyCutoff != null && day.isBefore(weeklyCutoff)) {
+                return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            }
+            return day;
+        }
+    }
+
+    private record Reading(long id, LocalDateTime readingDate, boolean annotated) {
+    }
+
+    /**
+     * @param deleted readings deleted by the batch
+     * @param next where the next batch starts, null if the batch reached the raw cutoff
+     */
+    private record BatchResult(int deleted, LocalDateTime next) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.household.manager.retention;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Period;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the reading retention job ({@code household.retention.*}).
+ * <p>
+ * The default policy applies to all meter types without an own entry in
+ * {@code policies}, e.g. {@code household.retention.policies.WATER.keep-raw=5y}.
+ */
+@Data
+@ConfigurationProperties(prefix = "household.retention")
+public class RetentionProperties {
+
+    /**
+     * Whether the job is scheduled at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * When the job runs; {@code -} disables the schedule.
+     */
+    private String cron = "0 30 3 * * *";
+
+    /**
+     * Readings examined per transaction. The meter type's write lock is held
+     * for one transaction only, so interactive writes wait for at most one batch.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between two transactions.
+     */
+    private Duration pause = Duration.ofMillis(200);
+
+    /**
+     * Policy of meter types without an own entry in {@code policies}.
+     */
+    private Policy defaultPolicy = new Policy();
+
+    /**
+     * Policy per meter type.
+     */
+    private Map<MeterType, Policy> policies = new EnumMap<>(MeterType.class);
+
+    /**
+     * Get the policy of a meter type.
+     */
+    public Policy policyFor(MeterType meterType) {
+        return policies.getOrDefault(meterType, defaultPolicy);
+    }
+
+    /**
+     * How long readings are kept at which resolution.
+     */
+    @Data
+    public static class Policy {
+
+        /**
+         * Age up to which all readings are kept; null keeps all readings of the meter type.
+         */
+        private Period keepRaw = Period.ofYears(2);
+
+        /**
+         * Age up to which one reading per day is kept, older data keeps one reading
+         * per week; null keeps daily readings forever.
+         */
+        private Period keepDaily = Period.ofYears(5);
+    }
+}
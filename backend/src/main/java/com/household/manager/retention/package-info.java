@@ -0,0 +1,6 @@
+/**
+ * Retention of meter readings.
+ * Aging high-resolution readings are thinned out to daily and weekly readings
+ * by a scheduled job, without changing consumption totals.
+ */
+package com.household.manager.retention;
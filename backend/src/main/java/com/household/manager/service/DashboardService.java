@@ -0,0 +1,133 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.DashboardMeterResponse;
+import com.household.manager.dto.DashboardResponse;
+import com.household.manager.dto.UtilityPriceResponse;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.monitoring.StatementTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service for the dashboard summary.
+ * <p>
+ * Collects latest reading, consumption and current price of every meter type
+ * for a single response. The parts are independent read-only queries and run
+ * concurrently on virtual threads, each with its own connection from the pool,
+ * so the response takes about as long as the slowest query rather than the
+ * sum of all. The SQL statements of the parts count for the calling request
+ * (see {@link StatementTracker#propagate}).
+ * <p>
+ * A part that fails or does not finish within {@code household.dashboard.timeout-ms}
+ * is left empty and the response is marked partial; missing data (no
+ * readings, a single reading, no current price) is not an error.
+ */
+@Service
+@Slf4j
+public class DashboardService implements DisposableBean {
+
+    private final MeterReadingService meterReadingService;
+    private final UtilityPriceService utilityPriceService;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${household.dashboard.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    public DashboardService(MeterReadingService meterReadingService, UtilityPriceService utilityPriceService) {
+        this.meterReadingService = meterReadingService;
+        this.utilityPriceService = utilityPriceService;
+    }
+
+    /**
+     * Get the dashboard summary of all meter types.
+     *
+     * @return one card per meter type
+     */
+    public DashboardResponse getDashboard() {
+        long start = System.nanoTime();
+        Map<MeterType, CompletableFuture<DashboardMeterResponse>> readings = new EnumMap<>(MeterType.class);
+        Map<MeterType, CompletableFuture<Optional<UtilityPriceResponse>>> prices = new EnumMap<>(MeterType.class);
+        for (MeterType meterType : MeterType.values()) {
+            readings.put(meterType, submit(() -> meterReadingService.summarizeLatestReadings(meterType)));
+            prices.put(meterType, submit(() -> utilityPriceService.findCurrentPrice(meterType)));
+        }
+
+        List<CompletableFuture<?>> parts = new ArrayList<>(readings.values());
+        parts.addAll(prices.values());
+        awaitAll(parts);
+
+        boolean partial = false;
+        List<DashboardMeterResponse> meters = new ArrayList<>(readings.size());
+        for (MeterType meterType : MeterType.values()) {
+            DashboardMeterResponse summary = result(readings.get(meterType), meterType, "readings");
+            Optional<UtilityPriceResponse> price = result(prices.get(meterType), meterType, "current price");
+            partial |= summary == null || price == null;
+
+            DashboardMeterResponse.DashboardMeterResponseBuilder meter = summary != null
+                    ? summary.toBuilder()
+                    : DashboardMeterResponse.builder().meterType(meterType);
+            meters.add(meter.currentPrice(price != null ? price.orElse(null) : null).build());
+        }
+
+        log.debug("Dashboard computed in {} ms{}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                partial ? " (partial)" : "");
+        return DashboardResponse.builder()
+                .meters(meters)
+                .partial(partial)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> part) {
+        return CompletableFuture.supplyAsync(StatementTracker.propagate(part), executor);
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> parts) {
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Dashboard parts did not finish within {} ms", timeoutMillis);
+        } catch (ExecutionException ex) {
+            // reported per part
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The result of a part, or null if it failed or is not done yet.
+     */
+    private static <T> T result(CompletableFuture<T> part, MeterType meterType, String name) {
+        if (!part.isDone()) {
+            part.cancel(false);
+            return null;
+        }
+        try {
+            return part.join();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to load {} of {} for the dashboard", name, meterType, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+}
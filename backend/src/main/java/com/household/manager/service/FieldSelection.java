@@ -0,0 +1,63 @@
+package com.household.manager.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset requested through a {@code fields} query parameter,
+ * e.g. {@code ?fields=readingDate,readingValue}.
+ * <p>
+ * An absent or blank parameter selects all fields.
+ */
+final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(Set.of());
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a comma-separated list of field names.
+     *
+     * @param fields the raw parameter value, may be null
+     * @param allowed the field names of the response type
+     * @return the parsed selection
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!allowed.contains(field)) {
+                throw new IllegalArgumentException(
+                        String.format("Unknown field '%s'. Supported fields: %s", field, String.join(", ", allowed)));
+            }
+        }
+        return selected.isEmpty() ? ALL : new FieldSelection(selected);
+    }
+
+    boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    boolean includes(String field) {
+        return fields.isEmpty() || fields.contains(field);
+    }
+
+    /**
+     * Whether all selected fields are available from a projection with the given fields.
+     */
+    boolean isCoveredBy(Set<String> available) {
+        return !fields.isEmpty() && available.containsAll(fields);
+    }
+}
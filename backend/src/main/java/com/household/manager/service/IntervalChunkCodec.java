@@ -0,0 +1,286 @@
+package com.household.manager.service;
+
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of the interval samples of one meter-day
+ * ({@code interval_chunks.data}).
+ * <p>
+ * Samples are pairs of a time in seconds (local date-time as epoch seconds)
+ * and a meter value in hundredths of the unit, in strictly ascending time
+ * order. Following Gorilla (Pelkonen et al., VLDB 2015) the chunk is a bit
+ * stream:
+ * <ul>
+ *     <li>a version byte, the sample count and the first sample as varints</li>
+ *     <li>per further sample the delta of the time delta: a single {@code 0}
+ *     bit when the interval is unchanged (every sample of a regular 15-minute
+ *     series), otherwise a prefix and a 7, 9, 12 or 32 bit value</li>
+ *     <li>per further sample the value delta: a single {@code 0} bit when it
+ *     equals the previous delta (e.g. an idle meter), otherwise {@code 1} and
+ *     the zigzag varint of the delta</li>
+ * </ul>
+ * A regular series of a cumulative meter takes about 10 bits per sample. The
+ * decoder streams the samples and stops at the end of the requested range.
+ */
+public final class IntervalChunkCodec {
+
+    private static final int VERSION = 1;
+
+    private IntervalChunkCodec() {
+    }
+
+    /**
+     * Receives decoded samples.
+     */
+    @FunctionalInterface
+    public interface SampleSink {
+
+        void accept(long time, long value);
+    }
+
+    /**
+     * Encode samples.
+     *
+     * @param times sample times in seconds, strictly ascending
+     * @param values sample values in hundredths, same length as {@code times}
+     * @return the chunk
+     * @throws IllegalArgumentException if the times are not strictly ascending
+     */
+    public static byte[] encode(long[] times, long[] values) {
+        if (times.length != values.length) {
+            throw new IllegalArgumentException("Got " + times.length + " times but " + values.length + " values");
+        }
+        BitWriter out = new BitWriter(16 + times.length * 2);
+        out.writeBits(VERSION, 8);
+        out.writeVarint(times.length);
+        if (times.length == 0) {
+            return out.toByteArray();
+        }
+        out.writeVarint(zigzag(times[0]));
+        out.writeVarint(zigzag(values[0]));
+
+        long previousTimeDelta = 0;
+        long previousValueDelta = 0;
+        for (int i = 1; i < times.length; i++) {
+            long timeDelta = times[i] - times[i - 1];
+            if (timeDelta <= 0) {
+                throw new IllegalArgumentException("Sample times must be strictly ascending at index " + i);
+            }
+            writeDeltaOfDelta(out, timeDelta - previousTimeDelta);
+            previousTimeDelta = timeDelta;
+
+            long valueDelta = values[i] - values[i - 1];
+            if (valueDelta == previousValueDelta) {
+                out.writeBits(0, 1);
+            } else {
+                out.writeBits(1, 1);
+                out.writeVarint(zigzag(valueDelta));
+            }
+            previousValueDelta = valueDelta;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode the samples of a chunk with {@code from <= time < to}; decoding
+     * stops at the first sample at or after {@code to}.
+     *
+     * @param chunk the chunk
+     * @param from start of the range in seconds, inclusive
+     * @param to end of the range in seconds, exclusive
+     * @param sink receives the samples in time order
+     * @return the number of samples passed to the sink
+     */
+    public static int decode(byte[] chunk, long from, long to, SampleSink sink) {
+        BitReader in = new BitReader(chunk);
+        readVersion(in);
+        long count = in.readVarint();
+        if (count == 0) {
+            return 0;
+        }
+        long time = unzigzag(in.readVarint());
+        long value = unzigzag(in.readVarint());
+        long timeDelta = 0;
+        long valueDelta = 0;
+        int emitted = 0;
+        for (long i = 0; ; i++) {
+            if (time >= to) {
+                break;
+            }
+            if (time >= from) {
+                sink.accept(time, value);
+                emitted++;
+            }
+            if (i + 1 == count) {
+                break;
+            }
+            timeDelta += readDeltaOfDelta(in);
+            time += timeDelta;
+            if (in.readBits(1) == 1) {
+                valueDelta = unzigzag(in.readVarint());
+            }
+            value += valueDelta;
+        }
+        return emitted;
+    }
+
+    /**
+     * Decode all samples of a chunk.
+     *
+     * @return times and values, as for {@link #encode}
+     */
+    public static long[][] decodeAll(byte[] chunk) {
+        int count = count(chunk);
+        long[] times = new long[count];
+        long[] values = new long[count];
+        int[] index = {0};
+        decode(chunk, Long.MIN_VALUE, Long.MAX_VALUE, (time, value) -> {
+            times[index[0]] = time;
+            values[index[0]] = value;
+            index[0]++;
+        });
+        return new long[][]{times, values};
+    }
+
+    /**
+     * The number of samples in a chunk, read from its header.
+     */
+    public static int count(byte[] chunk) {
+        BitReader in = new BitReader(chunk);
+        readVersion(in);
+        return Math.toIntExact(in.readVarint());
+    }
+
+    private static void readVersion(BitReader in) {
+        int version = (int) in.readBits(8);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported interval chunk version " + version);
+        }
+    }
+
+    private static void writeDeltaOfDelta(BitWriter out, long dod) {
+        if (dod == 0) {
+            out.writeBits(0b0, 1);
+        } else if (fits(dod, 7)) {
+            out.writeBits(0b10, 2);
+            out.writeBits(dod, 7);
+        } else if (fits(dod, 9)) {
+            out.writeBits(0b110, 3);
+            out.writeBits(dod, 9);
+        } else if (fits(dod, 12)) {
+            out.writeBits(0b1110, 4);
+            out.writeBits(dod, 12);
+        } else if (fits(dod, 32)) {
+            out.writeBits(0b1111, 4);
+            out.writeBits(dod, 32);
+        } else {
+            throw new IllegalArgumentException("Sample interval out of range: " + dod + " s");
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader in) {
+        if (in.readBits(1) == 0) {
+            return 0;
+        }
+        if (in.readBits(1) == 0) {
+            return in.readSignedBits(7);
+        }
+        if (in.readBits(1) == 0) {
+            return in.readSignedBits(9);
+        }
+        if (in.readBits(1) == 0) {
+            return in.readSignedBits(12);
+        }
+        return in.readSignedBits(32);
+    }
+
+    private static boolean fits(long value, int bits) {
+        long limit = 1L << (bits - 1);
+        return value >= -limit && value < limit;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class BitWriter {
+
+        private byte[] buffer;
+        private long bitPosition;
+
+        BitWriter(int capacity) {
+            buffer = new byte[Math.max(16, capacity)];
+        }
+
+        /** Write the lowest {@code bits} bits of {@code value}, most significant first. */
+        void writeBits(long value, int bits) {
+            for (int bit = bits - 1; bit >= 0; bit--) {
+                int index = (int) (bitPosition >>> 3);
+                if (index == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if (((value >>> bit) & 1) != 0) {
+                    buffer[index] |= (byte) (0x80 >>> (bitPosition & 7));
+                }
+                bitPosition++;
+            }
+        }
+
+        /** Unsigned varint in groups of 7 bits, each preceded by a continuation bit. */
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeBits(0x80 | (value & 0x7F), 8);
+                value >>>= 7;
+            }
+            writeBits(value, 8);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, (int) ((bitPosition + 7) >>> 3));
+        }
+    }
+
+    private static final class BitReader {
+
+        private final byte[] buffer;
+        private long bitPosition;
+
+        BitReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        long readBits(int bits) {
+            long value = 0;
+            for (int i = 0; i < bits; i++) {
+                int index = (int) (bitPosition >>> 3);
+                if (index >= buffer.length) {
+                    throw new IllegalArgumentException("Truncated interval chunk");
+                }
+                value = (value << 1) | ((buffer[index] >>> (7 - (bitPosition & 7))) & 1);
+                bitPosition++;
+            }
+            return value;
+        }
+
+        long readSignedBits(int bits) {
+            long value = readBits(bits);
+            return (value << (64 - bits)) >> (64 - bits);
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                long group = readBits(8);
+                value |= (group & 0x7F) << shift;
+                if ((group & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in interval chunk");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.IntervalDayResponse;
+import com.household.manager.dto.IntervalSampleRequest;
+import com.household.manager.dto.IntervalSampleResponse;
+import com.household.manager.dto.IntervalWriteResponse;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Service for high-frequency interval data, e.g. 15-minute values of smart meters.
+ * <p>
+ * Instead of one {@code meter_readings} row per value, the samples of a meter
+ * type and day are stored as one {@code interval_chunks} row: a compressed
+ * chunk ({@link IntervalChunkCodec}, about 10 bits per regular sample) and
+ * the first and last sample as columns. A year of 15-minute values of a
+ * meter takes 365 rows of some 130 bytes instead of 35,000 rows. Range
+ * queries read the chunks of the requested days by primary key and decode
+ * only up to the end of the range; daily summaries use the columns and do
+ * not decode at all.
+ * <p>
+ * Sample times are local date-times like reading dates, stored to the second.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IntervalDataService {
+
+    private static final String CHUNKS_SQL =
+            "SELECT chunk_date, data FROM interval_chunks " +
+            "WHERE meter_type = ? AND chunk_date BETWEEN ? AND ? ORDER BY chunk_date";
+
+    private static final String DAYS_SQL =
+            "SELECT chunk_date, sample_count, first_time, first_value, last_time, last_value FROM interval_chunks " +
+            "WHERE meter_type = ? AND chunk_date BETWEEN ? AND ? ORDER BY chunk_date";
+
+    private static final String PREVIOUS_LAST_VALUE_SQL =
+            "SELECT last_value FROM interval_chunks WHERE meter_type = ? AND chunk_date < ? " +
+            "ORDER BY chunk_date DESC LIMIT 1";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO interval_chunks (meter_type, chunk_date, sample_count, first_time, first_value, " +
+            "last_time, last_value, data, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sample_count = VALUES(sample_count), first_time = VALUES(first_time), " +
+            "first_value = VALUES(first_value), last_time = VALUES(last_time), last_value = VALUES(last_value), " +
+            "data = VALUES(data), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterTypeLocks meterTypeLocks;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${household.interval.max-query-days:366}")
+    private int maxQueryDays;
+
+    /**
+     * Store interval samples of a meter type.
+     * <p>
+     * The chunks of the affected days are read, merged with the new samples
+     * and written back in one transaction, under the write lock of the meter
+     * type. A sample at a stored time replaces the stored value; of several
+     * samples at the same time in one request the last one wins.
+     *
+     * @param meterType the meter type
+     * @param samples validated samples, in any order
+     * @return counts of added, replaced and unchanged samples
+     */
+    public IntervalWriteResponse writeSamples(MeterType meterType, List<IntervalSampleRequest> samples) {
+        NavigableMap<LocalDate, NavigableMap<Long, Long>> byDay = new TreeMap<>();
+        for (IntervalSampleRequest sample : samples) {
+            LocalDateTime timestamp = sample.getTimestamp().truncatedTo(ChronoUnit.SECONDS);
+            byDay.computeIfAbsent(timestamp.toLocalDate(), day -> new TreeMap<>())
+                    .put(toSeconds(timestamp), toHundredths(sample.getValue()));
+        }
+
+        IntervalWriteResponse response = meterTypeLocks.withLock(meterType,
+                () -> transactionTemplate.execute(status -> writeLocked(meterType, byDay)));
+        log.info("Stored {} interval samples: {} added, {} replaced, {} unchanged in {} chunks",
+                meterType, response.getAdded(), response.getReplaced(), response.getUnchanged(),
+                response.getChunks());
+        return response;
+    }
+
+    /**
+     * Get the samples of a meter type in a time range.
+     *
+     * @param meterType the meter type
+     * @param from start of the range, inclusive
+     * @param to end of the range, exclusive
+     * @return the samples in time order
+     * @throws IllegalArgumentException if the range is empty or longer than {@code household.interval.max-query-days}
+     */
+    @Transactional(readOnly = true)
+    public List<IntervalSampleResponse> getSamples(MeterType meterType, LocalDateTime from, LocalDateTime to) {
+        validateRange(from.toLocalDate(), to.minusSeconds(1).toLocalDate().plusDays(1), !from.isBefore(to));
+        long fromSeconds = toSeconds(from);
+        long toSeconds = toSeconds(to);
+
+        List<IntervalSampleResponse> result = new ArrayList<>();
+        jdbcTemplate.query(CHUNKS_SQL, rs -> {
+            IntervalChunkCodec.decode(rs.getBytes("data"), fromSeconds, toSeconds, (time, value) ->
+                    result.add(IntervalSampleResponse.builder()
+                            .timestamp(LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC))
+                            .value(BigDecimal.valueOf(value, 2))
+                            .build()));
+        }, meterType.name(), Date.valueOf(from.toLocalDate()), Date.valueOf(to.minusSeconds(1).toLocalDate()));
+        log.debug("Decoded {} {} interval samples between {} and {}", result.size(), meterType, from, to);
+        return result;
+    }
+
+    /**
+     * Get the daily summaries of a meter type, read from the chunk columns
+     * without decoding samples.
+     *
+     * @param meterType the meter type
+     * @param from first day, inclusive
+     * @param to last day, exclusive
+     * @return one summary per stored day, in date order
+     * @throws IllegalArgumentException if the range is empty or longer than {@code household.interval.max-query-days}
+     */
+    @Transactional(readOnly = true)
+    public List<IntervalDayResponse> getDays(MeterType meterType, LocalDate from, LocalDate to) {
+        validateRange(from, to, !from.isBefore(to));
+
+        List<IntervalDayResponse> days = jdbcTemplate.query(DAYS_SQL, (rs, rowNum) -> IntervalDayResponse.builder()
+                        .date(rs.getDate("chunk_date").toLocalDate())
+                        .sampleCount(rs.getInt("sample_count"))
+                        .firstTimestamp(rs.getTimestamp("first_time").toLocalDateTime())
+                        .firstValue(rs.getBigDecimal("first_value"))
+                        .lastTimestamp(rs.getTimestamp("last_time").toLocalDateTime())
+                        .lastValue(rs.getBigDecimal("last_value"))
+                        .build(),
+                meterType.name(), Date.valueOf(from), Date.valueOf(to.minusDays(1)));
+        if (days.isEmpty()) {
+            return days;
+        }
+
+        BigDecimal previous = jdbcTemplate.query(PREVIOUS_LAST_VALUE_SQL,
+                rs -> rs.next() ? rs.getBigDecimal(1) : null, meterType.name(), Date.valueOf(from));
+        for (IntervalDayResponse day : days) {
+            day.setConsumption(day.getLastValue().subtract(previous != null ? previous : day.getFirstValue()));
+            previous = day.getLastValue();
+        }
+        return days;
+    }
+
+    private IntervalWriteResponse writeLocked(MeterType meterType,
+                                              NavigableMap<LocalDate, NavigableMap<Long, Long>> byDay) {
+        Map<LocalDate, byte[]> existing = new HashMap<>();
+        jdbcTemplate.query(CHUNKS_SQL, rs -> {
+            existing.put(rs.getDate("chunk_date").toLocalDate(), rs.getBytes("data"));
+        }, meterType.name(), Date.valueOf(byDay.firstKey()), Date.valueOf(byDay.lastKey()));
+
+        int added = 0;
+        int replaced = 0;
+        int unchanged = 0;
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<LocalDate, NavigableMap<Long, Long>> day : byDay.entrySet()) {
+            NavigableMap<Long, Long> merged = new TreeMap<>();
+            byte[] chunk = existing.get(day.getKey());
+            if (chunk != null) {
+                IntervalChunkCodec.decode(chunk, Long.MIN_VALUE, Long.MAX_VALUE, merged::put);
+            }
+
+            boolean changed = false;
+            for (Map.Entry<Long, Long> sample : day.getValue().entrySet()) {
+                Long previous = merged.put(sample.getKey(), sample.getValue());
+                if (previous == null) {
+                    added++;
+                    changed = true;
+                } else if (!previous.equals(sample.getValue())) {
+                    replaced++;
+                    changed = true;
+                } else {
+                    unchanged++;
+                }
+            }
+            if (changed) {
+                rows.add(toRow(meterType, day.getKey(), merged, now));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        return IntervalWriteResponse.builder()
+                .added(added)
+                .replaced(replaced)
+                .unchanged(unchanged)
+                .chunks(rows.size())
+                .build();
+    }
+
+    private static Object[] toRow(MeterType meterType, LocalDate day, NavigableMap<Long, Long> samples,
+                                  Timestamp now) {
+        long[] times = new long[samples.size()];
+        long[] values = new long[samples.size()];
+        int i = 0;
+        for (Map.Entry<Long, Long> sample : samples.entrySet()) {
+            times[i] = sample.getKey();
+            values[i] = sample.getValue();
+            i++;
+        }
+        return new Object[]{
+                meterType.name(),
+                Date.valueOf(day),
+                samples.size(),
+                Timestamp.valueOf(LocalDateTime.ofEpochSecond(times[0], 0, ZoneOffset.UTC)),
+                BigDecimal.valueOf(values[0], 2),
+                Timestamp.valueOf(LocalDateTime.ofEpochSecond(times[i - 1], 0, ZoneOffset.UTC)),
+                BigDecimal.valueOf(values[i - 1], 2),
+                IntervalChunkCodec.encode(times, values),
+                now
+        };
+    }
+
+    private void validateRange(LocalDate from, LocalDate toExclusive, boolean empty) {
+        if (empty) {
+            throw new IllegalArgumentException("The end of the range must be after its start");
+        }
+        long days = ChronoUnit.DAYS.between(from, toExclusive);
+        if (days > maxQueryDays) {
+            throw new IllegalArgumentException("At most " + maxQueryDays + " days allowed per request, got " + days);
+        }
+    }
+
+    private static long toSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long toHundredths(BigDecimal value) {
+        return value.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+}
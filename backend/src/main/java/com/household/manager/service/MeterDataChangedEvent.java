@@ -0,0 +1,33 @@
+package com.household.manager.service;
+
+import com.household.manager.model.entity.MeterType;
+
+import java.util.Set;
+
+/**
+ * Published when meter readings or utility prices of some meter types are
+ * written. Published inside the writing transaction; listeners that depend on
+ * committed data listen after commit.
+ *
+ * @param data the kind of data that changed
+ * @param meterTypes the affected meter types
+ */
+public record MeterDataChangedEvent(Data data, Set<MeterType> meterTypes) {
+
+    public MeterDataChangedEvent {
+        meterTypes = Set.copyOf(meterTypes);
+    }
+
+    public static MeterDataChangedEvent readings(Set<MeterType> meterTypes) {
+        return new MeterDataChangedEvent(Data.READINGS, meterTypes);
+    }
+
+    public static MeterDataChangedEvent prices(MeterType meterType) {
+        return new MeterDataChangedEvent(Data.PRICES, Set.of(meterType));
+    }
+
+    public enum Data {
+        READINGS,
+        PRICES
+    }
+}
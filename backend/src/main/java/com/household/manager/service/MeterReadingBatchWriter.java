@@ -0,0 +1,247 @@
+package com.household.manager.service;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists many meter readings in a single transaction using JDBC batch inserts.
+ * <p>
+ * Used by ingestion paths that receive readings in bulk (write-ahead log drain,
+ * CSV import). Existing readings for the same meter type and reading date are
+ * skipped, which makes re-submitting a batch idempotent. Re-imports overwrite
+ * edited readings with {@link #updateBatch}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO meter_readings (meter_type, reading_value, reading_week, reading_date, notes, " +
+            "import_fingerprint, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE meter_readings SET reading_value = ?, reading_week = ?, notes = ?, import_fingerprint = ?, " +
+            "updated_at = ? WHERE meter_type = ? AND reading_date = ?";
+
+    private final MeterReadingRepository meterReadingRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterTypeLocks meterTypeLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${household.ingest.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
+
+    /**
+     * Write a batch of meter readings.
+     * <p>
+     * Readings are processed per meter type in reading-date order. Duplicates
+     * (already stored or repeated within the batch) are skipped. When
+     * {@code validateMonotonic} is set, each reading is checked against the
+     * latest reading exactly as {@link MeterReadingService#createMeterReading}
+     * would do when the readings were created one after another.
+     * <p>
+     * The write locks of all affected meter types are held for the whole
+     * transaction (see {@link MeterTypeLocks}).
+     *
+     * @param readings the readings to persist
+     * @param validateMonotonic whether to reject readings lower than the previous reading
+     * @return counts of created and duplicate readings and the rejected readings
+     */
+    public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+        if (readings.isEmpty()) {
+            return BatchWriteResult.EMPTY;
+        }
+
+        Map<MeterType, List<MeterReading>> byType = new EnumMap<>(MeterType.class);
+        for (MeterReading reading : readings) {
+            byType.computeIfAbsent(reading.getMeterType(), type -> new ArrayList<>()).add(reading);
+        }
+
+        return meterTypeLocks.withLocks(byType.keySet(),
+                () -> transactionTemplate.execute(status -> writeLocked(byType, validateMonotonic)));
+    }
+
+    /**
+     * Overwrite the value, calendar week, notes and import fingerprint of
+     * existing readings, identified by meter type and reading date.
+     * <p>
+     * Used by re-imports for rows edited in the source file. Readings that do
+     * not exist (any more) are ignored; no monotonic validation is applied.
+     *
+     * @param readings the new state of the readings
+     * @return number of updated readings
+     */
+    public int updateBatch(List<MeterReading> readings) {
+        if (readings.isEmpty()) {
+            return 0;
+        }
+
+        Set<MeterType> meterTypes = EnumSet.noneOf(MeterType.class);
+        readings.forEach(reading -> meterTypes.add(reading.getMeterType()));
+
+        return meterTypeLocks.withLocks(meterTypes, () -> transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, readings, jdbcBatchSize, (ps, reading) -> {
+                ps.setBigDecimal(1, reading.getReadingValue());
+                setNullableInt(ps, 2, reading.getReadingWeek());
+                ps.setString(3, reading.getNotes());
+                setNullableLong(ps, 4, reading.getImportFingerprint());
+                ps.setTimestamp(5, now);
+                ps.setString(6, reading.getMeterType().name());
+                ps.setTimestamp(7, Timestamp.valueOf(reading.getReadingDate()));
+            });
+            int updated = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    // SUCCESS_NO_INFO counts as one row: the key is unique
+                    updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                }
+            }
+            log.debug("Batch update finished: {} of {} readings updated", updated, readings.size());
+            if (updated > 0) {
+                eventPublisher.publishEvent(MeterDataChangedEvent.readings(meterTypes));
+            }
+            return updated;
+        }));
+    }
+
+    private BatchWriteResult writeLocked(Map<MeterType, List<MeterReading>> byType, boolean validateMonotonic) {
+        List<MeterReading> accepted = new ArrayList<>();
+        int duplicates = 0;
+        List<MeterReading> rejected = new ArrayList<>();
+
+        for (Map.Entry<MeterType, List<MeterReading>> entry : byType.entrySet()) {
+            MeterType meterType = entry.getKey();
+            List<MeterReading> series = entry.getValue();
+            series.sort(Comparator.comparing(MeterReading::getReadingDate));
+
+            Set<LocalDateTime> knownDates = new HashSet<>(meterReadingRepository.findReadingDatesBetween(
+                    meterType,
+                    series.get(0).getReadingDate(),
+                    series.get(series.size() - 1).getReadingDate()));
+
+            LocalDateTime latestDate = null;
+            BigDecimal latestValue = null;
+            if (validateMonotonic) {
+                MeterReading latest = meterReadingRepository.findTopByMeterTypeOrderByReadingDateDesc(meterType)
+                        .orElse(null);
+                if (latest != null) {
+                    latestDate = latest.getReadingDate();
+                    latestValue = latest.getReadingValue();
+                }
+            }
+
+            for (MeterReading reading : series) {
+                if (!knownDates.add(reading.getReadingDate())) {
+                    duplicates++;
+                    continue;
+                }
+                if (validateMonotonic) {
+                    if (latestValue != null && reading.getReadingValue().compareTo(latestValue) < 0) {
+                        log.warn("Rejecting {} reading {} at {}: less than previous reading {}",
+                                meterType, reading.getReadingValue(), reading.getReadingDate(), latestValue);
+                        knownDates.remove(reading.getReadingDate());
+                        rejected.add(reading);
+                        continue;
+                    }
+                    if (latestDate == null || reading.getReadingDate().isAfter(latestDate)) {
+                        latestDate = reading.getReadingDate();
+                        latestValue = reading.getReadingValue();
+                    }
+                }
+                accepted.add(reading);
+            }
+        }
+
+        insert(accepted);
+        log.debug("Batch write finished: {} created, {} duplicates, {} rejected",
+                accepted.size(), duplicates, rejected.size());
+        return new BatchWriteResult(accepted.size(), duplicates, rejected);
+    }
+
+    private void insert(List<MeterReading> readings) {
+        if (readings.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, readings, jdbcBatchSize, (ps, reading) -> {
+            ps.setString(1, reading.getMeterType().name());
+            ps.setBigDecimal(2, reading.getReadingValue());
+            setNullableInt(ps, 3, reading.getReadingWeek());
+            ps.setTimestamp(4, Timestamp.valueOf(reading.getReadingDate()));
+            ps.setString(5, reading.getNotes());
+            setNullableLong(ps, 6, reading.getImportFingerprint());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+
+        Set<MeterType> meterTypes = EnumSet.noneOf(MeterType.class);
+        readings.forEach(reading -> meterTypes.add(reading.getMeterType()));
+        eventPublisher.publishEvent(MeterDataChangedEvent.readings(meterTypes));
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    /**
+     * Outcome of a batch write.
+     *
+     * @param created number of inserted readings
+     * @param duplicates number of readings skipped because they already existed
+     * @param rejectedReadings readings rejected by monotonic validation
+     */
+    public record BatchWriteResult(int created, int duplicates, List<MeterReading> rejectedReadings) {
+
+        static final BatchWriteResult EMPTY = new BatchWriteResult(0, 0, List.of());
+
+        public BatchWriteResult {
+            rejectedReadings = List.copyOf(rejectedReadings);
+        }
+
+        /**
+         * Number of readings rejected by monotonic validation.
+         */
+        public int rejected() {
+            return rejectedReadings.size();
+        }
+    }
+}
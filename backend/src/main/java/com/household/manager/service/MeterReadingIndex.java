@@ -0,0 +1,171 @@
+package com.household.manager.service;
+
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory index of the readings of each meter type, for value lookups at
+ * arbitrary instants.
+ * <p>
+ * Per meter type, reading dates (epoch seconds) and values (hundredths, the
+ * scale of {@code reading_value}) are held in two sorted primitive arrays, so
+ * a lookup is a binary search without queries or allocations per reading.
+ * A meter type's index is loaded with one query on first use and rebuilt
+ * lazily after a {@link MeterDataChangedEvent} for its readings was committed.
+ * An index that was loaded while a write committed carries the old generation
+ * and is loaded again on its next use.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingIndex {
+
+    private static final String READINGS_SQL =
+            "SELECT reading_date, reading_value FROM meter_readings WHERE meter_type = ? ORDER BY reading_date";
+
+    /** Scale of {@code meter_readings.reading_value}. */
+    private static final int VALUE_SCALE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicReferenceArray<Series> series = new AtomicReferenceArray<>(MeterType.values().length);
+    private final AtomicLongArray generations = new AtomicLongArray(MeterType.values().length);
+
+    /**
+     * The sorted readings of a meter type, loading them if necessary.
+     *
+     * @param meterType the meter type
+     * @return the current index of the meter type's readings
+     */
+    public Series series(MeterType meterType) {
+        int slot = meterType.ordinal();
+        long generation = generations.get(slot);
+        Series current = series.get(slot);
+        if (current != null && current.generation == generation) {
+            return current;
+        }
+        Series loaded = load(meterType, generation);
+        series.set(slot, loaded);
+        return loaded;
+    }
+
+    /**
+     * Drop the index of every meter type whose readings were written, once the write is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeterDataChanged(MeterDataChangedEvent event) {
+        if (event.data() == MeterDataChangedEvent.Data.READINGS) {
+            event.meterTypes().forEach(this::evict);
+        }
+    }
+
+    /**
+     * Drop the index of a meter type, e.g. after readings were written without
+     * a {@link MeterDataChangedEvent}.
+     */
+    public void evict(MeterType meterType) {
+        generations.incrementAndGet(meterType.ordinal());
+        series.set(meterType.ordinal(), null);
+    }
+
+    private Series load(MeterType meterType, long generation) {
+        long start = System.nanoTime();
+        LongBuffer seconds = new LongBuffer();
+        LongBuffer values = new LongBuffer();
+        jdbcTemplate.query(READINGS_SQL, rs -> {
+            seconds.add(epochSecond(rs.getObject(1, LocalDateTime.class)));
+            values.add(rs.getBigDecimal(2).setScale(VALUE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        }, meterType.name());
+        Series loaded = new Series(generation, seconds.toArray(), values.toArray());
+        log.debug("Indexed {} readings for type {} in {} µs",
+                loaded.size(), meterType, (System.nanoTime() - start) / 1000);
+        return loaded;
+    }
+
+    static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Immutable, sorted readings of one meter type.
+     */
+    public static final class Series {
+
+        private final long generation;
+        private final long[] seconds;
+        private final long[] values;
+
+        Series(long generation, long[] seconds, long[] values) {
+            this.generation = generation;
+            this.seconds = seconds;
+            this.values = values;
+        }
+
+        public int size() {
+            return seconds.length;
+        }
+
+        /**
+         * The meter value at an instant, interpolated linearly between the
+         * readings before and after it.
+         *
+         * @param dateTime the instant
+         * @return the value, or null if the instant lies before the first or after the last reading
+         */
+        public BigDecimal valueAt(LocalDateTime dateTime) {
+            long second = epochSecond(dateTime);
+            int index = Arrays.binarySearch(seconds, second);
+            if (index >= 0) {
+                return BigDecimal.valueOf(values[index], VALUE_SCALE);
+            }
+            int next = -index - 1;
+            if (next == 0 || next == seconds.length) {
+                return null;
+            }
+            int previous = next - 1;
+            BigDecimal delta = BigDecimal.valueOf(values[next] - values[previous])
+                    .multiply(BigDecimal.valueOf(second - seconds[previous]))
+                    .divide(BigDecimal.valueOf(seconds[next] - seconds[previous]), 0, RoundingMode.HALF_UP);
+            return BigDecimal.valueOf(values[previous], VALUE_SCALE).add(delta.movePointLeft(VALUE_SCALE));
+        }
+
+        /**
+         * Whether a reading was taken exactly at an instant.
+         */
+        public boolean hasReadingAt(LocalDateTime dateTime) {
+            return Arrays.binarySearch(seconds, epochSecond(dateTime)) >= 0;
+        }
+    }
+
+    /**
+     * Growable primitive array, to load readings without boxing.
+     */
+    private static final class LongBuffer {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,562 @@
+package com.household.manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.dto.MeterReadingStream;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+/**
+ * Writes meter reading lists straight from the JDBC result set to the
+ * response generator, without entities or {@link MeterReadingResponse} objects.
+ * <p>
+ * The output is identical to serializing the lists returned by
+ * {@link MeterReadingService#getAllMeterReadings(String)} and
+ * {@link MeterReadingService#getMeterReadingsByType(MeterType, String)}:
+ * same fields in the same order, {@code null} fields omitted, the same order
+ * of readings and consumption for the latest reading of each meter type.
+ * Consumption is taken from the following reading with a window function, so
+ * each list is a single query. Field names are pre-encoded and timestamps are
+ * formatted into reused buffers, so a row costs little more than what the
+ * JDBC driver allocates for its values.
+ * <p>
+ * Rows are fetched in batches of {@code household.readings.stream-fetch-size}
+ * while the response is written; the connection is held until the response
+ * is complete.
+ * <p>
+ * The all-types list is queried per meter type on separate connections
+ * concurrently (see {@link MeterTypeFanOut#submitAll}). Each query fills a
+ * bounded queue of buffered rows, and the rows are merged newest first while
+ * they arrive, so the list starts as soon as every meter type delivered its
+ * first rows and is complete about when the slowest meter type is. As every
+ * query holds its connection until the response is written, the connections
+ * of all meter types are reserved together before the first query starts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingJsonStreamer {
+
+    private static final String NEWEST_FIRST_WINDOW =
+            " WINDOW newest_first AS (PARTITION BY meter_type ORDER BY reading_date DESC)";
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString METER_TYPE = new SerializedString("meterType");
+    private static final SerializableString READING_VALUE = new SerializedString("readingValue");
+    private static final SerializableString READING_WEEK = new SerializedString("readingWeek");
+    private static final SerializableString READING_DATE = new SerializedString("readingDate");
+    private static final SerializableString NOTES = new SerializedString("notes");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString CONSUMPTION = new SerializedString("consumption");
+    private static final SerializableString DAYS_SINCE_LAST_READING = new SerializedString("daysSinceLastReading");
+
+    /** Buffered rows per meter type while the all-types list is merged. */
+    private static final int MERGE_QUEUE_CAPACITY = 512;
+
+    /** Queue marker after the last row of a meter type. */
+    private static final Object END_OF_ROWS = new Object();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterTypeFanOut meterTypeFanOut;
+
+    @Value("${household.readings.stream-fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Stream all meter readings across all meter types.
+     *
+     * @param fields comma-separated response field names, or null for all fields
+     * @return the readings, queried when written
+     * @throws IllegalArgumentException if a field name is unknown
+     * @see MeterReadingService#getAllMeterReadings(String)
+     */
+    public MeterReadingStream streamAll(String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, MeterReadingService.RESPONSE_FIELDS);
+        if (!meterTypeFanOut.isEnabled()) {
+            // same order as the merged per-type lists of MeterReadingService
+            return stream(selection, "", " ORDER BY reading_date DESC, meter_type", null);
+        }
+        return streamMerged(selection);
+    }
+
+    /**
+     * Stream the meter readings of one meter type, newest first.
+     *
+     * @param meterType the type of meter
+     * @param fields comma-separated response field names, or null for all fields
+     * @return the readings, queried when written
+     * @throws IllegalArgumentException if a field name is unknown
+     * @see MeterReadingService#getMeterReadingsByType(MeterType, String)
+     */
+    public MeterReadingStream streamByType(MeterType meterType, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, MeterReadingService.RESPONSE_FIELDS);
+        return stream(selection, " WHERE meter_type = ?", " ORDER BY reading_date DESC", meterType);
+    }
+
+    private MeterReadingStream stream(FieldSelection selection, String where, String orderBy, MeterType meterType) {
+        RowLayout layout = new RowLayout(selection);
+        String sql = sql(layout, where, orderBy);
+        return generator -> {
+            generator.writeStartArray();
+            RowWriter writer = new RowWriter(layout, generator);
+            ResultSetColumns columns = new ResultSetColumns();
+            try {
+                query(sql, meterType, rs -> writer.writeRow(columns.of(rs)));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            generator.writeEndArray();
+        };
+    }
+
+    /**
+     * Stream all meter types, queried concurrently and merged by reading date
+     * descending, then by meter type.
+     */
+    private MeterReadingStream streamMerged(FieldSelection selection) {
+        RowLayout layout = new RowLayout(selection);
+        String sql = sql(layout, " WHERE meter_type = ?", " ORDER BY reading_date DESC");
+        return generator -> {
+            MeterType[] meterTypes = MeterType.values();
+            List<BlockingQueue<Object>> queues = new ArrayList<>(meterTypes.length);
+            for (int i = 0; i < meterTypes.length; i++) {
+                queues.add(new ArrayBlockingQueue<>(MERGE_QUEUE_CAPACITY));
+            }
+            List<Future<?>> producers = meterTypeFanOut.submitAll(
+                    meterType -> () -> produce(sql, meterType, layout, queues.get(meterType.ordinal())));
+            try {
+                generator.writeStartArray();
+                RowWriter writer = new RowWriter(layout, generator);
+                BufferedRow[] heads = new BufferedRow[meterTypes.length];
+                for (int i = 0; i < heads.length; i++) {
+                    heads[i] = next(queues.get(i));
+                }
+                for (int newest = newest(heads); newest >= 0; newest = newest(heads)) {
+                    writer.writeRow(heads[newest]);
+                    heads[newest] = next(queues.get(newest));
+                }
+                generator.writeEndArray();
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            } catch (SQLException ex) {
+                // not thrown by buffered rows
+                throw new IllegalStateException(ex);
+            } finally {
+                producers.forEach(producer -> producer.cancel(true));
+            }
+        };
+    }
+
+    /**
+     * Query the rows of one meter type into a queue, followed by
+     * {@link #END_OF_ROWS} or the failure.
+     */
+    private void produce(String sql, MeterType meterType, RowLayout layout, BlockingQueue<Object> queue) {
+        Object last = END_OF_ROWS;
+        try {
+            query(sql, meterType, rs -> {
+                try {
+                    queue.put(BufferedRow.of(rs, layout));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Merge of meter type " + meterType + " cancelled");
+                }
+            });
+        } catch (RuntimeException ex) {
+            last = ex;
+        }
+        try {
+            queue.put(last);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The next row of a meter type, or null after its last row.
+     */
+    private static BufferedRow next(BlockingQueue<Object> queue) throws IOException {
+        Object next;
+        try {
+            next = queue.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while merging meter readings");
+        }
+        if (next == END_OF_ROWS) {
+            return null;
+        }
+        if (next instanceof RuntimeException failure) {
+            throw failure;
+        }
+        return (BufferedRow) next;
+    }
+
+    /**
+     * Index of the head with the newest reading date, the lowest meter type on
+     * ties, or -1 if all meter types are done.
+     */
+    private static int newest(BufferedRow[] heads) {
+        int newest = -1;
+        for (int i = 0; i < heads.length; i++) {
+            if (heads[i] != null && (newest < 0 || heads[i].readingDate().isAfter(heads[newest].readingDate()))) {
+                newest = i;
+            }
+        }
+        return newest;
+    }
+
+    private static String sql(RowLayout layout, String where, String orderBy) {
+        return layout.selectClause() + " FROM meter_readings" + where
+                + (layout.withConsumption ? NEWEST_FIRST_WINDOW : "") + orderBy;
+    }
+
+    private void query(String sql, MeterType meterType, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            if (meterType != null) {
+                statement.setString(1, meterType.name());
+            }
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Selected columns and their result set indexes.
+     * <p>
+     * Without notes or audit timestamps only the columns of the reading
+     * summary are read; consumption adds the window columns.
+     */
+    private static final class RowLayout {
+
+        private final boolean id;
+        private final boolean meterType;
+        private final boolean readingValue;
+        private final boolean readingWeek;
+        private final boolean readingDate;
+        private final boolean notes;
+        private final boolean createdAt;
+        private final boolean updatedAt;
+        private final boolean consumption;
+        private final boolean daysSinceLastReading;
+        private final boolean fullRow;
+        private final boolean withConsumption;
+
+        RowLayout(FieldSelection selection) {
+            id = selection.includes("id");
+            meterType = selection.includes("meterType");
+            readingValue = selection.includes("readingValue");
+            readingWeek = selection.includes("readingWeek");
+            readingDate = selection.includes("readingDate");
+            notes = selection.includes("notes");
+            createdAt = selection.includes("createdAt");
+            updatedAt = selection.includes("updatedAt");
+            consumption = selection.includes("consumption");
+            daysSinceLastReading = selection.includes("daysSinceLastReading");
+            fullRow = notes || createdAt || updatedAt;
+            withConsumption = consumption || daysSinceLastReading;
+        }
+
+        /**
+         * Columns 1-5: id, meter_type, reading_value, reading_week, reading_date;
+         * then notes, created_at, updated_at (6-8) if needed; then recency,
+         * previous_value and previous_date (from {@link #consumptionColumn()}).
+         */
+        String selectClause() {
+            StringBuilder select = new StringBuilder("SELECT id, meter_type, reading_value, reading_week, reading_date");
+            if (fullRow) {
+                select.append(", notes, created_at, updated_at");
+            }
+            if (withConsumption) {
+                select.append(", ROW_NUMBER() OVER newest_first AS recency")
+                        .append(", LEAD(reading_value) OVER newest_first AS previous_value")
+                        .append(", LEAD(reading_date) OVER newest_first AS previous_date");
+            }
+            return select.toString();
+        }
+
+        int consumptionColumn() {
+            return fullRow ? 9 : 6;
+        }
+
+        int columnCount() {
+            return consumptionColumn() - 1 + (withConsumption ? 3 : 0);
+        }
+    }
+
+    /**
+     * Typed access to the columns of a row, see {@link RowLayout#selectClause()}.
+     */
+    private interface Columns {
+
+        long getLong(int column) throws SQLException;
+
+        String getString(int column) throws SQLException;
+
+        BigDecimal getBigDecimal(int column) throws SQLException;
+
+        Integer getInteger(int column) throws SQLException;
+
+        LocalDateTime getDateTime(int column) throws SQLException;
+    }
+
+    /**
+     * The current row of a result set.
+     */
+    private static final class ResultSetColumns implements Columns {
+
+        private ResultSet rs;
+
+        ResultSetColumns of(ResultSet rs) {
+            this.rs = rs;
+            return this;
+        }
+
+        @Override
+        public long getLong(int column) throws SQLException {
+            return rs.getLong(column);
+        }
+
+        @Override
+        public String getString(int column) throws SQLException {
+            return rs.getString(column);
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(int column) throws SQLException {
+            return rs.getBigDecimal(column);
+        }
+
+        @Override
+        public Integer getInteger(int column) throws SQLException {
+            int value = rs.getInt(column);
+            return rs.wasNull() ? null : value;
+        }
+
+        @Override
+        public LocalDateTime getDateTime(int column) throws SQLException {
+            return rs.getObject(column, LocalDateTime.class);
+        }
+    }
+
+    /**
+     * A row copied out of its result set, to be written by another thread.
+     */
+    private static final class BufferedRow implements Columns {
+
+        private final Object[] values;
+
+        private BufferedRow(Object[] values) {
+            this.values = values;
+        }
+
+        static BufferedRow of(ResultSet rs, RowLayout layout) throws SQLException {
+            ResultSetColumns columns = new ResultSetColumns().of(rs);
+            Object[] values = new Object[layout.columnCount()];
+            values[0] = columns.getLong(1);
+            values[1] = columns.getString(2);
+            values[2] = columns.getBigDecimal(3);
+            values[3] = columns.getInteger(4);
+            values[4] = columns.getDateTime(5);
+            if (layout.fullRow) {
+                values[5] = columns.getString(6);
+                values[6] = columns.getDateTime(7);
+                values[7] = columns.getDateTime(8);
+            }
+            if (layout.withConsumption) {
+                int consumptionColumn = layout.consumptionColumn();
+                values[consumptionColumn - 1] = columns.getLong(consumptionColumn);
+                values[consumptionColumn] = columns.getBigDecimal(consumptionColumn + 1);
+                values[consumptionColumn + 1] = columns.getDateTime(consumptionColumn + 2);
+            }
+            return new BufferedRow(values);
+        }
+
+        LocalDateTime readingDate() {
+            return (LocalDateTime) values[4];
+        }
+
+        @Override
+        public long getLong(int column) {
+            return (Long) values[column - 1];
+        }
+
+        @Override
+        public String getString(int column) {
+            return (String) values[column - 1];
+        }
+
+        @Override
+        public BigDecimal getBigDecimal(int column) {
+            return (BigDecimal) values[column - 1];
+        }
+
+        @Override
+        public Integer getInteger(int column) {
+            return (Integer) values[column - 1];
+        }
+
+        @Override
+        public LocalDateTime getDateTime(int column) {
+            return (LocalDateTime) values[column - 1];
+        }
+    }
+
+    /**
+     * Writes one JSON object per row, fields in {@link MeterReadingResponse} order.
+     */
+    private static final class RowWriter {
+
+        private final RowLayout layout;
+        private final JsonGenerator generator;
+        private final int consumptionColumn;
+        private final DateTimeBuffer readingDates = new DateTimeBuffer();
+        private final DateTimeBuffer createdDates = new DateTimeBuffer();
+        private final DateTimeBuffer updatedDates = new DateTimeBuffer();
+
+        RowWriter(RowLayout layout, JsonGenerator generator) {
+            this.layout = layout;
+            this.generator = generator;
+            this.consumptionColumn = layout.consumptionColumn();
+        }
+
+        /**
+         * Write a row, wrapping write failures for {@link RowCallbackHandler}.
+         */
+        void writeRow(Columns row) throws SQLException {
+            try {
+                write(row);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void write(Columns rs) throws SQLException, IOException {
+            BigDecimal value = layout.readingValue || layout.withConsumption ? rs.getBigDecimal(3) : null;
+            LocalDateTime date = layout.readingDate || layout.daysSinceLastReading ? rs.getDateTime(5) : null;
+
+            generator.writeStartObject();
+            if (layout.id) {
+                generator.writeFieldName(ID);
+                generator.writeNumber(rs.getLong(1));
+            }
+            if (layout.meterType) {
+                writeString(METER_TYPE, rs.getString(2));
+            }
+            if (layout.readingValue && value != null) {
+                generator.writeFieldName(READING_VALUE);
+                generator.writeNumber(value);
+            }
+            if (layout.readingWeek) {
+                Integer week = rs.getInteger(4);
+                if (week != null) {
+                    generator.writeFieldName(READING_WEEK);
+                    generator.writeNumber(week);
+                }
+            }
+            if (layout.readingDate) {
+                readingDates.write(generator, READING_DATE, date);
+            }
+            if (layout.notes) {
+                writeString(NOTES, rs.getString(6));
+            }
+            if (layout.createdAt) {
+                createdDates.write(generator, CREATED_AT, rs.getDateTime(7));
+            }
+            if (layout.updatedAt) {
+                updatedDates.write(generator, UPDATED_AT, rs.getDateTime(8));
+            }
+            if (layout.withConsumption && rs.getLong(consumptionColumn) == 1) {
+                BigDecimal previousValue = rs.getBigDecimal(consumptionColumn + 1);
+                if (previousValue != null) {
+                    if (layout.consumption) {
+                        generator.writeFieldName(CONSUMPTION);
+                        generator.writeNumber(value.subtract(previousValue));
+                    }
+                    if (layout.daysSinceLastReading) {
+                        LocalDateTime previousDate = rs.getDateTime(consumptionColumn + 2);
+                        generator.writeFieldName(DAYS_SINCE_LAST_READING);
+                        generator.writeNumber((int) ChronoUnit.DAYS.between(previousDate, date));
+                    }
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        private void writeString(SerializableString field, String value) throws IOException {
+            if (value != null) {
+                generator.writeFieldName(field);
+                generator.writeString(value);
+            }
+        }
+    }
+
+    /**
+     * Formats timestamps as {@code yyyy-MM-dd'T'HH:mm:ss} (the pattern of
+     * {@link MeterReadingResponse}) into a reused buffer. Consecutive equal
+     * timestamps, e.g. the readings of all meter types of one import row, are
+     * formatted once.
+     */
+    private static final class DateTimeBuffer {
+
+        private static final DateTimeFormatter FALLBACK_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+        private final char[] chars = "0000-00-00T00:00:00".toCharArray();
+        private LocalDateTime formatted;
+
+        void write(JsonGenerator generator, SerializableString field, LocalDateTime value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            generator.writeFieldName(field);
+            int year = value.getYear();
+            if (year < 0 || year > 9999) {
+                generator.writeString(FALLBACK_FORMAT.format(value));
+                return;
+            }
+            if (!value.equals(formatted)) {
+                digits(year, 0, 4);
+                digits(value.getMonthValue(), 5, 2);
+                digits(value.getDayOfMonth(), 8, 2);
+                digits(value.getHour(), 11, 2);
+                digits(value.getMinute(), 14, 2);
+                digits(value.getSecond(), 17, 2);
+                formatted = value;
+            }
+            generator.writeString(chars, 0, chars.length);
+        }
+
+        private void digits(int number, int offset, int length) {
+            for (int i = offset + length - 1; i >= offset; i--) {
+                chars[i] = (char) ('0' + number % 10);
+                number /= 10;
+            }
+        }
+    }
+}
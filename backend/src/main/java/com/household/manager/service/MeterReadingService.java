@@ -1,22 +1,40 @@
 package com.household.manager.service;
 
+import com.household.manager.coalescing.Coalesced;
 import com.household.manager.dto.ConsumptionResponse;
+import com.household.manager.dto.DashboardMeterResponse;
 import com.household.manager.dto.MeterReadingRequest;
 import com.household.manager.dto.MeterReadingResponse;
 import com.household.manager.exception.MeterReadingNotFoundException;
 import com.household.manager.model.entity.MeterReading;
 import com.household.manager.model.entity.MeterType;
 import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.repository.projection.MeterReadingSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -30,53 +48,108 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MeterReadingService {
 
+    /**
+     * MariaDB/MySQL error code of a unique key violation (ER_DUP_ENTRY)
+     */
+    private static final int DUPLICATE_ENTRY = 1062;
+
+    /**
+     * Field names of {@link MeterReadingResponse} supported by sparse fieldsets
+     */
+    static final Set<String> RESPONSE_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "meterType", "readingValue", "readingWeek", "readingDate", "notes",
+            "createdAt", "updatedAt", "consumption", "daysSinceLastReading")));
+
+    /**
+     * Response fields that can be served from {@link MeterReadingSummary}
+     */
+    static final Set<String> SUMMARY_FIELDS = Set.of(
+            "id", "meterType", "readingValue", "readingWeek", "readingDate", "consumption", "daysSinceLastReading");
+
     private final MeterReadingRepository meterReadingRepository;
+    private final MeterTypeLocks meterTypeLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterTypeFanOut meterTypeFanOut;
 
     /**
      * Create a new meter reading.
      * <p>
      * Validates that the new reading is not less than the previous reading
-     * (meters should only increase or reset).
+     * (meters should only increase or reset) and that no reading exists yet for
+     * the same meter type and date. Validation and insert run in one transaction
+     * while holding the meter type's write lock, so concurrent writers of the same
+     * meter type cannot interleave between the check and the insert.
      *
      * @param request the meter reading request containing meter data
      * @return response containing the created meter reading with calculated consumption
      * @throws IllegalArgumentException if the new reading is less than the previous reading
+     *                                  or a reading for the same date already exists
      */
-    @Transactional
     public MeterReadingResponse createMeterReading(MeterReadingRequest request) {
         log.info("Creating new meter reading for type: {}", request.getMeterType());
 
+        try {
+            return meterTypeLocks.withLock(request.getMeterType(),
+                    () -> transactionTemplate.execute(status -> insertMeterReading(request)));
+        } catch (DataIntegrityViolationException ex) {
+            if (!isDuplicateKey(ex)) {
+                throw ex;
+            }
+            // Unique key hit by a writer outside this instance's lock
+            throw duplicateReading(request.getMeterType(), request.getReadingDate());
+        }
+    }
+
+    private MeterReadingResponse insertMeterReading(MeterReadingRequest request) {
+        if (meterReadingRepository.existsByMeterTypeAndReadingDate(request.getMeterType(), request.getReadingDate())) {
+            throw duplicateReading(request.getMeterType(), request.getReadingDate());
+        }
+
         // Validate reading value against previous reading
         validateReadingValue(request.getMeterType(), request.getReadingValue());
 
-        MeterReading meterReading = MeterReading.builder()
+        MeterReading meterReading = buildMeterReading(request);
+
+        MeterReading savedReading = meterReadingRepository.save(meterReading);
+        log.info("Successfully created meter reading with ID: {}", savedReading.getId());
+        eventPublisher.publishEvent(MeterDataChangedEvent.readings(Set.of(savedReading.getMeterType())));
+
+        return convertToResponseWithConsumption(savedReading);
+    }
+
+    /**
+     * Build an unsaved meter reading entity from a request.
+     * <p>
+     * Resolves the calendar week from the reading date when it is not provided.
+     *
+     * @param request the meter reading request
+     * @return unsaved meter reading entity
+     */
+    public MeterReading buildMeterReading(MeterReadingRequest request) {
+        return MeterReading.builder()
                 .meterType(request.getMeterType())
                 .readingValue(request.getReadingValue())
                 .readingWeek(resolveReadingWeek(request))
                 .readingDate(request.getReadingDate())
                 .notes(request.getNotes())
                 .build();
-
-        MeterReading savedReading = meterReadingRepository.save(meterReading);
-        log.info("Successfully created meter reading with ID: {}", savedReading.getId());
-
-        return convertToResponseWithConsumption(savedReading);
     }
 
     /**
      * Get all meter readings across all meter types.
      * <p>
-     * Results are ordered by reading date descending (most recent first).
+     * Results are ordered by reading date descending (most recent first), readings
+     * of the same date by meter type. The meter types are loaded concurrently
+     * (see {@link MeterTypeFanOut}) and merged.
      *
      * @return list of all meter readings with consumption data
      */
-    @Transactional(readOnly = true)
+    @Coalesced
     public List<MeterReadingResponse> getAllMeterReadings() {
         log.debug("Retrieving all meter readings");
-        List<MeterReading> readings = meterReadingRepository.findAll();
-        return readings.stream()
-                .map(this::convertToResponseWithConsumption)
-                .collect(Collectors.toList());
+        return mergeNewestFirst(meterTypeFanOut.map(meterType ->
+                convertAllWithConsumption(meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(meterType))));
     }
 
     /**
@@ -87,13 +160,56 @@ public class MeterReadingService {
      * @param meterType the type of meter to retrieve readings for
      * @return list of meter readings for the specified type
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<MeterReadingResponse> getMeterReadingsByType(MeterType meterType) {
         log.debug("Retrieving meter readings for type: {}", meterType);
-        List<MeterReading> readings = meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(meterType);
-        return readings.stream()
-                .map(this::convertToResponseWithConsumption)
-                .collect(Collectors.toList());
+        return convertAllWithConsumption(meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(meterType));
+    }
+
+    /**
+     * Get all meter readings across all meter types, limited to the requested fields.
+     * <p>
+     * When all requested fields are part of {@link MeterReadingSummary}, only
+     * those columns are selected and the notes column is never read.
+     *
+     * @param fields comma-separated response field names, or null for all fields
+     * @return list of all meter readings containing only the requested fields
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    @Coalesced
+    public List<MeterReadingResponse> getAllMeterReadings(String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, RESPONSE_FIELDS);
+        if (selection.isAll()) {
+            return getAllMeterReadings();
+        }
+        List<MeterReadingResponse> readings = selection.isCoveredBy(SUMMARY_FIELDS)
+                ? mergeNewestFirst(meterTypeFanOut.map(meterType ->
+                        convertSummaries(meterReadingRepository.findSummariesByMeterTypeOrderByReadingDateDesc(meterType))))
+                : getAllMeterReadings();
+        return selectFields(readings, selection);
+    }
+
+    /**
+     * Get all meter readings for a specific meter type, limited to the requested fields.
+     *
+     * @param meterType the type of meter to retrieve readings for
+     * @param fields comma-separated response field names, or null for all fields
+     * @return list of meter readings for the specified type containing only the requested fields
+     * @throws IllegalArgumentException if a field name is unknown
+     * @see #getAllMeterReadings(String)
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<MeterReadingResponse> getMeterReadingsByType(MeterType meterType, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, RESPONSE_FIELDS);
+        if (selection.isAll()) {
+            return getMeterReadingsByType(meterType);
+        }
+        List<MeterReadingResponse> readings = selection.isCoveredBy(SUMMARY_FIELDS)
+                ? convertSummaries(meterReadingRepository.findSummariesByMeterTypeOrderByReadingDateDesc(meterType))
+                : getMeterReadingsByType(meterType);
+        return selectFields(readings, selection);
     }
 
     /**
@@ -103,13 +219,52 @@ public class MeterReadingService {
      * @return response containing the latest meter reading
      * @throws MeterReadingNotFoundException if no readings exist for this meter type
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public MeterReadingResponse getLatestReading(MeterType meterType) {
         log.debug("Retrieving latest reading for type: {}", meterType);
-        MeterReading reading = meterReadingRepository.findTopByMeterTypeOrderByReadingDateDesc(meterType)
+        return findLatestReading(meterType)
                 .orElseThrow(() -> new MeterReadingNotFoundException(
                         "No readings found for meter type: " + meterType));
-        return convertToResponseWithConsumption(reading);
+    }
+
+    /**
+     * Find the most recent meter reading for a specific meter type.
+     *
+     * @param meterType the type of meter
+     * @return the latest meter reading with consumption data, or empty if no readings exist
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public Optional<MeterReadingResponse> findLatestReading(MeterType meterType) {
+        // the two latest readings give both the latest reading and its consumption
+        List<MeterReading> lastTwoReadings = meterReadingRepository
+                .findTop2ByMeterTypeOrderByReadingDateDesc(meterType);
+        return lastTwoReadings.stream()
+                .findFirst()
+                .map(latest -> convertToResponse(latest, lastTwoReadings));
+    }
+
+    /**
+     * Get the latest reading and the consumption between the two most recent
+     * readings for a specific meter type with a single query.
+     *
+     * @param meterType the type of meter
+     * @return dashboard card without price; latest reading and consumption are
+     *         null if fewer than one or two readings exist
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public DashboardMeterResponse summarizeLatestReadings(MeterType meterType) {
+        List<MeterReading> lastTwoReadings = meterReadingRepository
+                .findTop2ByMeterTypeOrderByReadingDateDesc(meterType);
+        return DashboardMeterResponse.builder()
+                .meterType(meterType)
+                .latestReading(lastTwoReadings.isEmpty() ? null
+                        : convertToResponse(lastTwoReadings.get(0), lastTwoReadings))
+                .consumption(lastTwoReadings.size() < 2 ? null
+                        : buildConsumptionResponse(lastTwoReadings.get(0), lastTwoReadings.get(1)))
+                .build();
     }
 
     /**
@@ -119,6 +274,7 @@ public class MeterReadingService {
      * @return response containing detailed consumption information
      * @throws MeterReadingNotFoundException if fewer than two readings exist
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public ConsumptionResponse calculateConsumption(MeterType meterType) {
         log.debug("Calculating consumption for type: {}", meterType);
@@ -162,6 +318,23 @@ public class MeterReadingService {
                 });
     }
 
+    /**
+     * Whether an integrity violation is a unique key violation rather than e.g.
+     * a NOT NULL or range violation. The driver reports duplicates as plain
+     * integrity violations, so the error code decides.
+     */
+    static boolean isDuplicateKey(DataIntegrityViolationException ex) {
+        return ex instanceof DuplicateKeyException
+                || NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLException sqlException
+                && sqlException.getErrorCode() == DUPLICATE_ENTRY;
+    }
+
+    private IllegalArgumentException duplicateReading(MeterType meterType, LocalDateTime readingDate) {
+        log.warn("Duplicate reading for meter type {} at {}", meterType, readingDate);
+        return new IllegalArgumentException(
+                String.format("A reading for %s at %s already exists.", meterType, readingDate));
+    }
+
     /**
      * Convert a MeterReading entity to a response DTO with calculated consumption data.
      *
@@ -169,6 +342,40 @@ public class MeterReadingService {
      * @return response DTO with consumption information
      */
     private MeterReadingResponse convertToResponseWithConsumption(MeterReading reading) {
+        // Calculate consumption by finding the previous reading
+        List<MeterReading> lastTwoReadings = meterReadingRepository
+                .findTop2ByMeterTypeOrderByReadingDateDesc(reading.getMeterType());
+        return convertToResponse(reading, lastTwoReadings);
+    }
+
+    /**
+     * Convert a complete list of readings (all readings of every meter type
+     * contained) to response DTOs with consumption data.
+     * <p>
+     * The two latest readings per meter type are taken from the list itself,
+     * instead of querying them once per reading.
+     *
+     * @param readings all readings of the contained meter types, in any order
+     * @return response DTOs in the same order
+     */
+    private List<MeterReadingResponse> convertAllWithConsumption(List<MeterReading> readings) {
+        Map<MeterType, List<MeterReading>> lastTwoByType = new EnumMap<>(MeterType.class);
+        Comparator<MeterReading> newestFirst = Comparator.comparing(MeterReading::getReadingDate).reversed();
+        for (MeterReading reading : readings) {
+            List<MeterReading> lastTwo =
+                    lastTwoByType.computeIfAbsent(reading.getMeterType(), type -> new ArrayList<>(3));
+            lastTwo.add(reading);
+            lastTwo.sort(newestFirst);
+            if (lastTwo.size() > 2) {
+                lastTwo.remove(2);
+            }
+        }
+        return readings.stream()
+                .map(reading -> convertToResponse(reading, lastTwoByType.get(reading.getMeterType())))
+                .collect(Collectors.toList());
+    }
+
+    private MeterReadingResponse convertToResponse(MeterReading reading, List<MeterReading> lastTwoReadings) {
         MeterReadingResponse response = MeterReadingResponse.builder()
                 .id(reading.getId())
                 .meterType(reading.getMeterType())
@@ -180,10 +387,6 @@ public class MeterReadingService {
                 .updatedAt(reading.getUpdatedAt())
                 .build();
 
-        // Calculate consumption by finding the previous reading
-        List<MeterReading> lastTwoReadings = meterReadingRepository
-                .findTop2ByMeterTypeOrderByReadingDateDesc(reading.getMeterType());
-
         if (lastTwoReadings.size() == 2 && lastTwoReadings.get(0).getId().equals(reading.getId())) {
             MeterReading previousReading = lastTwoReadings.get(1);
             BigDecimal consumption = reading.getReadingValue()
@@ -200,6 +403,70 @@ public class MeterReadingService {
         return response;
     }
 
+    /**
+     * Convert reading summaries ordered by date descending to response DTOs.
+     * <p>
+     * Consumption is calculated for the latest reading of each meter type from
+     * the following reading of the same type, without further queries.
+     *
+     * @param summaries reading summaries, newest first
+     * @return response DTOs in the same order
+     */
+    private List<MeterReadingResponse> convertSummaries(List<MeterReadingSummary> summaries) {
+        List<MeterReadingResponse> responses = new ArrayList<>(summaries.size());
+        Map<MeterType, MeterReadingResponse> latestByType = new EnumMap<>(MeterType.class);
+        Set<MeterType> completed = EnumSet.noneOf(MeterType.class);
+
+        for (MeterReadingSummary summary : summaries) {
+            MeterReadingResponse response = MeterReadingResponse.builder()
+                    .id(summary.getId())
+                    .meterType(summary.getMeterType())
+                    .readingValue(summary.getReadingValue())
+                    .readingWeek(summary.getReadingWeek())
+                    .readingDate(summary.getReadingDate())
+                    .build();
+            responses.add(response);
+
+            MeterReadingResponse latest = latestByType.putIfAbsent(summary.getMeterType(), response);
+            if (latest != null && completed.add(summary.getMeterType())) {
+                latest.setConsumption(latest.getReadingValue().subtract(summary.getReadingValue()));
+                latest.setDaysSinceLastReading(
+                        (int) ChronoUnit.DAYS.between(summary.getReadingDate(), latest.getReadingDate()));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Merge per-type lists, each newest first, into one list ordered by reading
+     * date descending and then by meter type.
+     *
+     * @param byType the lists in meter type order
+     * @return the merged list
+     */
+    private static List<MeterReadingResponse> mergeNewestFirst(List<List<MeterReadingResponse>> byType) {
+        return MeterTypeFanOut.mergeSorted(byType,
+                Comparator.comparing(MeterReadingResponse::getReadingDate).reversed());
+    }
+
+    private static List<MeterReadingResponse> selectFields(List<MeterReadingResponse> readings, FieldSelection selection) {
+        return readings.stream()
+                .map(reading -> MeterReadingResponse.builder()
+                        .id(selection.includes("id") ? reading.getId() : null)
+                        .meterType(selection.includes("meterType") ? reading.getMeterType() : null)
+                        .readingValue(selection.includes("readingValue") ? reading.getReadingValue() : null)
+                        .readingWeek(selection.includes("readingWeek") ? reading.getReadingWeek() : null)
+                        .readingDate(selection.includes("readingDate") ? reading.getReadingDate() : null)
+                        .notes(selection.includes("notes") ? reading.getNotes() : null)
+                        .createdAt(selection.includes("createdAt") ? reading.getCreatedAt() : null)
+                        .updatedAt(selection.includes("updatedAt") ? reading.getUpdatedAt() : null)
+                        .consumption(selection.includes("consumption") ? reading.getConsumption() : null)
+                        .daysSinceLastReading(selection.includes("daysSinceLastReading")
+                                ? reading.getDaysSinceLastReading() : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Build a detailed consumption response from two meter readings.
      *
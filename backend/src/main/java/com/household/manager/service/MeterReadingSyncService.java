@@ -0,0 +1,242 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.MeterReadingChangesResponse;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for incremental synchronization of meter readings.
+ * <p>
+ * Every insert, update and delete of a meter reading is recorded by database
+ * triggers in {@code meter_reading_changes} under a monotonically increasing
+ * sequence number. The sequence number serves as change token: a client sends
+ * the last token it has seen and receives only readings changed since then,
+ * read with a single primary-key range scan joined to the current readings.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeterReadingSyncService {
+
+    private static final String CHANGES_SQL =
+            "SELECT c.seq, c.reading_id, c.meter_type AS change_meter_type, " +
+            "r.id, r.meter_type, r.reading_value, r.reading_week, r.reading_date, r.notes, r.created_at, r.updated_at " +
+            "FROM meter_reading_changes c LEFT JOIN meter_readings r ON r.id = c.reading_id " +
+            "WHERE c.seq > ? ORDER BY c.seq LIMIT ?";
+
+    private static final String MAX_SEQ_SQL = "SELECT MAX(seq) FROM meter_reading_changes";
+
+    /** How long the state of a gap is kept for clients still before it. */
+    private static final long GAP_RETENTION_NANOS = Duration.ofMinutes(10).toNanos();
+
+    /** {@link Gap#finishedAt()} of a gap whose owners may still be open. */
+    private static final long NOT_FINISHED = Long.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterReadingService meterReadingService;
+    private final OpenWriteTransactions openWriteTransactions;
+
+    @Value("${household.sync.max-changes:5000}")
+    private int maxChanges;
+
+    /** Gaps seen by any client, by the first missing sequence number. */
+    private final Map<Long, Gap> gaps = new ConcurrentHashMap<>();
+
+    /**
+     * Get all meter reading changes after a change token.
+     * <p>
+     * Multiple changes of the same reading are collapsed into its current
+     * state. Because the latest reading of a meter type is the only one that
+     * carries consumption data, the latest reading of every changed meter type
+     * is always part of the upserts.
+     * <p>
+     * Sequence numbers are assigned at insert time but become visible at commit
+     * time, so a gap in the sequence may be a transaction that has not committed
+     * yet. The returned token only advances past a gap once the writing
+     * transactions open when it was first seen (see {@link OpenWriteTransactions})
+     * have finished and the changes were read after that; until then changes
+     * after the gap are still returned and simply delivered again with the next
+     * request. Changes are read with statement-level snapshots (read committed)
+     * so that a gap filled by a commit in the meantime is noticed.
+     *
+     * @param since the last change token seen by the client, 0 for a full sync
+     * @return changes after the token and the token to continue from
+     * @throws IllegalArgumentException if the token is negative
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public MeterReadingChangesResponse getChangesSince(long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Change token must not be negative: " + since);
+        }
+
+        long readAt = System.nanoTime();
+        List<ChangeRow> rows = jdbcTemplate.query(CHANGES_SQL, this::mapChangeRow, since, maxChanges);
+        boolean reset = false;
+        if (rows.isEmpty() && since > 0) {
+            Long maxSeq = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class);
+            if (maxSeq == null || maxSeq < since) {
+                log.info("Unknown change token {} (latest is {}), sending full data set", since, maxSeq);
+                reset = true;
+                since = 0;
+                readAt = System.nanoTime();
+                rows = jdbcTemplate.query(CHANGES_SQL, this::mapChangeRow, since, maxChanges);
+            }
+        }
+
+        long nextToken = settledToken(since, rows, readAt);
+        boolean settled = rows.isEmpty() || nextToken == rows.get(rows.size() - 1).seq();
+        Map<Long, MeterReadingResponse> upserts = new LinkedHashMap<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        Set<MeterType> changedTypes = EnumSet.noneOf(MeterType.class);
+
+        for (ChangeRow row : rows) {
+            changedTypes.add(row.meterType());
+            if (row.reading() != null) {
+                deletedIds.remove(row.readingId());
+                upserts.put(row.readingId(), row.reading());
+            } else {
+                upserts.remove(row.readingId());
+                deletedIds.add(row.readingId());
+            }
+        }
+
+        for (MeterType meterType : changedTypes) {
+            meterReadingService.findLatestReading(meterType)
+                    .ifPresent(latest -> upserts.put(latest.getId(), latest));
+        }
+
+        log.debug("Sync since {}: {} upserts, {} deletions, next token {}",
+                since, upserts.size(), deletedIds.size(), nextToken);
+
+        return MeterReadingChangesResponse.builder()
+                .nextToken(nextToken)
+                .reset(reset)
+                .hasMore(settled && rows.size() == maxChanges)
+                .upserts(new ArrayList<>(upserts.values()))
+                .deletedIds(new ArrayList<>(deletedIds))
+                .build();
+    }
+
+    /**
+     * Get the latest change token, i.e. the token a client that has seen all
+     * current readings would continue from.
+     *
+     * @return the latest sequence number of the change log, 0 if it is empty
+     */
+    public long getLatestToken() {
+        Long maxSeq = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class);
+        return maxSeq != null ? maxSeq : 0;
+    }
+
+    /**
+     * The token after the changes up to the first gap that may still be an
+     * uncommitted write.
+     *
+     * @param readAt when the changes were read ({@link System#nanoTime()})
+     */
+    private long settledToken(long since, List<ChangeRow> rows, long readAt) {
+        long token = since;
+        for (ChangeRow row : rows) {
+            if (row.seq() != token + 1 && !isRolledBack(token + 1, readAt)) {
+                break;
+            }
+            token = row.seq();
+        }
+        return token;
+    }
+
+    /**
+     * Whether the gap starting at {@code seq}, found in changes read at
+     * {@code readAt}, is a rolled back write.
+     * <p>
+     * The gap's owner had written its row before the changes were read. When
+     * the gap is first seen, the writing transactions open at that time are
+     * taken as its possible owners. Once none of them is open any more, the
+     * owner has committed or rolled back; a commit shows up in every read
+     * after that, so a gap still there in such a read is permanent. The state
+     * is shared by all clients, so other writers starting later do not hold
+     * the gap up.
+     */
+    private boolean isRolledBack(long seq, long readAt) {
+        Gap gap = gaps.get(seq);
+        if (gap != null && gap.finishedAt() < readAt) {
+            return true;
+        }
+        Optional<Set<String>> open = openWriteTransactions.find();
+        if (open.isEmpty()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (gap == null) {
+            // read after the changes: without any open transaction the owner has already finished
+            gaps.putIfAbsent(seq, new Gap(open.get(), now, open.get().isEmpty() ? now : NOT_FINISHED));
+            gaps.values().removeIf(seen -> now - seen.seenAt() > GAP_RETENTION_NANOS);
+        } else if (gap.finishedAt() == NOT_FINISHED && Collections.disjoint(open.get(), gap.owners())) {
+            gaps.replace(seq, gap, new Gap(gap.owners(), gap.seenAt(), now));
+        }
+        return false;
+    }
+
+    private ChangeRow mapChangeRow(ResultSet rs, int rowNum) throws SQLException {
+        MeterReadingResponse reading = null;
+        if (rs.getObject("id") != null) {
+            reading = MeterReadingResponse.builder()
+                    .id(rs.getLong("id"))
+                    .meterType(MeterType.valueOf(rs.getString("meter_type")))
+                    .readingValue(rs.getBigDecimal("reading_value"))
+                    .readingWeek(rs.getObject("reading_week", Integer.class))
+                    .readingDate(toLocalDateTime(rs.getTimestamp("reading_date")))
+                    .notes(rs.getString("notes"))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .build();
+        }
+        return new ChangeRow(
+                rs.getLong("seq"),
+                rs.getLong("reading_id"),
+                MeterType.valueOf(rs.getString("change_meter_type")),
+                reading);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * One entry of the change log joined with the reading's current state (null if deleted).
+     */
+    private record ChangeRow(long seq, long readingId, MeterType meterType, MeterReadingResponse reading) {
+    }
+
+    /**
+     * A gap in the change log and the writing transactions open when it was first seen.
+     *
+     * @param seenAt when it was first seen ({@link System#nanoTime()})
+     * @param finishedAt when none of the owners was open any more, {@link #NOT_FINISHED} before
+     */
+    private record Gap(Set<String> owners, long seenAt, long finishedAt) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.household.manager.service;
+
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.monitoring.StatementTracker;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs per-meter-type work of all-types requests concurrently.
+ * <p>
+ * The series of the meter types are independent, so each is loaded on its own
+ * virtual thread with its own connection from the pool, and an all-types list
+ * takes about as long as its slowest meter type rather than the sum of all.
+ * The SQL statements of the tasks count for the calling request (see
+ * {@link StatementTracker#propagate}). Each meter type is read in its own
+ * transaction, i.e. consistent per meter type, which is all the per-type
+ * consumption needs.
+ * <p>
+ * With {@code household.readings.fan-out=false} the tasks run one after the
+ * other on the calling thread, e.g. for a small connection pool.
+ */
+@Component
+public class MeterTypeFanOut implements InitializingBean, DisposableBean {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${household.readings.fan-out:true}")
+    private boolean enabled = true;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int poolSize = 10;
+
+    @Value("${spring.datasource.hikari.connection-timeout:30000}")
+    private long connectionTimeoutMs = 30000;
+
+    /** Connections reserved by {@link #submitAll} tasks, at most the pool size. */
+    private Semaphore connections;
+
+    @Override
+    public void afterPropertiesSet() {
+        // a single caller needs one connection per meter type
+        connections = new Semaphore(Math.max(poolSize, MeterType.values().length), true);
+    }
+
+    /**
+     * Whether tasks run concurrently.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run a task for every meter type.
+     *
+     * @param task the per-type work
+     * @return the results in meter type order
+     * @throws RuntimeException the first failure of a task; the other tasks are cancelled
+     */
+    public <T> List<T> map(Function<MeterType, T> task) {
+        MeterType[] meterTypes = MeterType.values();
+        List<T> results = new ArrayList<>(meterTypes.length);
+        if (!enabled) {
+            for (MeterType meterType : meterTypes) {
+                results.add(task.apply(meterType));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(meterTypes.length);
+        for (MeterType meterType : meterTypes) {
+            futures.add(CompletableFuture.supplyAsync(
+                    StatementTracker.propagate(() -> task.apply(meterType)), executor));
+        }
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        } catch (CancellationException ex) {
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+        return results;
+    }
+
+    /**
+     * Start a task for every meter type, each on its own virtual thread,
+     * regardless of {@link #isEnabled()}. The SQL statements of the tasks count
+     * for the calling request.
+     * <p>
+     * For tasks that keep their connection until the caller has consumed their
+     * output, e.g. streamed queries: callers that each hold some of the
+     * connections they need and wait for the rest would exhaust the pool. A
+     * connection for every meter type is therefore reserved at once, out of a
+     * budget the size of the pool, before any task starts; a task returns its
+     * reservation when it has finished, or when it is cancelled before it started.
+     *
+     * @param task the per-type work
+     * @return the running tasks in meter type order; cancel them with interruption to stop them
+     * @throws CannotGetJdbcConnectionException if the connections cannot be reserved within the
+     *         connection timeout of the pool
+     */
+    public List<Future<?>> submitAll(Function<MeterType, Runnable> task) {
+        MeterType[] meterTypes = MeterType.values();
+        reserveConnections(meterTypes.length);
+        List<Future<?>> futures = new ArrayList<>(meterTypes.length);
+        try {
+            for (MeterType meterType : meterTypes) {
+                Runnable work = task.apply(meterType);
+                // the reservation is returned by the task once it ran, or on cancellation before it started
+                AtomicBoolean started = new AtomicBoolean();
+                Supplier<Void> propagated = StatementTracker.propagate(() -> {
+                    if (!started.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        work.run();
+                    } finally {
+                        connections.release();
+                    }
+                    return null;
+                });
+                FutureTask<Void> future = new FutureTask<>(propagated::get) {
+                    @Override
+                    protected void done() {
+                        if (started.compareAndSet(false, true)) {
+                            connections.release();
+                        }
+                    }
+                };
+                executor.execute(future);
+                futures.add(future);
+            }
+        } catch (RuntimeException ex) {
+            connections.release(meterTypes.length - futures.size());
+            futures.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+        return futures;
+    }
+
+    private void reserveConnections(int count) {
+        try {
+            if (!connections.tryAcquire(count, connectionTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new CannotGetJdbcConnectionException(String.format(
+                        "Timed out after %d ms reserving %d connections for meter types", connectionTimeoutMs, count));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while reserving connections for meter types");
+        }
+    }
+
+    /**
+     * Merge lists that are each sorted by {@code order} into one sorted list.
+     * On ties, elements of earlier lists come first.
+     *
+     * @param sorted the sorted lists, e.g. in meter type order
+     * @param order the order of each list and of the result
+     * @return a new list with all elements
+     */
+    public static <T> List<T> mergeSorted(List<? extends List<? extends T>> sorted, Comparator<? super T> order) {
+        int total = 0;
+        for (List<? extends T> list : sorted) {
+            total += list.size();
+        }
+        List<T> merged = new ArrayList<>(total);
+        // heads of the lists as {list, position}, compared by element and then list index
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, sorted.size()),
+                Comparator.<int[], T>comparing(head -> sorted.get(head[0]).get(head[1]), order)
+                        .thenComparingInt(head -> head[0]));
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!sorted.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<? extends T> list = sorted.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (++head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+}
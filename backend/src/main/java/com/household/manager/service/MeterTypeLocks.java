@@ -0,0 +1,74 @@
+package com.household.manager.service;
+
+import com.household.manager.model.entity.MeterType;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped write locks, one per {@link MeterType}.
+ * <p>
+ * Reading validation is a check-then-act sequence (read the latest reading,
+ * then insert). Holding the meter type's lock across the whole transaction,
+ * including its commit, serializes writers of the same meter type while writers
+ * of different meter types proceed in parallel. The database unique key on
+ * {@code (meter_type, reading_date)} remains the safety net across application instances.
+ */
+@Component
+public class MeterTypeLocks {
+
+    private final Map<MeterType, ReentrantLock> locks = new EnumMap<>(MeterType.class);
+
+    public MeterTypeLocks() {
+        for (MeterType meterType : MeterType.values()) {
+            locks.put(meterType, new ReentrantLock());
+        }
+    }
+
+    /**
+     * Run an action while holding the lock of a single meter type.
+     *
+     * @param meterType the meter type to lock
+     * @param action the action to run, typically a whole transaction
+     * @return the action's result
+     */
+    public <T> T withLock(MeterType meterType, Supplier<T> action) {
+        ReentrantLock lock = locks.get(meterType);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action while holding the locks of several meter types.
+     * <p>
+     * Locks are always acquired in enum order to avoid deadlocks between batch writers.
+     *
+     * @param meterTypes the meter types to lock
+     * @param action the action to run, typically a whole transaction
+     * @return the action's result
+     */
+    public <T> T withLocks(Collection<MeterType> meterTypes, Supplier<T> action) {
+        EnumSet<MeterType> ordered = meterTypes.isEmpty()
+                ? EnumSet.noneOf(MeterType.class)
+                : EnumSet.copyOf(meterTypes);
+        for (MeterType meterType : ordered) {
+            locks.get(meterType).lock();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (MeterType meterType : ordered) {
+                locks.get(meterType).unlock();
+            }
+        }
+    }
+}
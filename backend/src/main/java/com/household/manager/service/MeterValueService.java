@@ -0,0 +1,122 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.BillingPeriodConsumptionResponse;
+import com.household.manager.dto.MeterValueResponse;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for meter values at arbitrary instants, e.g. tariff or billing
+ * period boundaries between two readings.
+ * <p>
+ * Values are interpolated linearly between the surrounding readings and
+ * looked up in the {@link MeterReadingIndex}, so any number of instants
+ * costs at most one query per request.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeterValueService {
+
+    private final MeterReadingIndex meterReadingIndex;
+
+    @Value("${household.readings.max-instants:1000}")
+    private int maxInstants;
+
+    /**
+     * Get the meter values at several instants.
+     *
+     * @param meterType the type of meter
+     * @param timestamps the instants, in any order
+     * @return one value per instant, in request order
+     * @throws IllegalArgumentException if no or too many instants are given
+     */
+    public List<MeterValueResponse> getValuesAt(MeterType meterType, List<LocalDateTime> timestamps) {
+        validateCount(timestamps, 1);
+        MeterReadingIndex.Series series = meterReadingIndex.series(meterType);
+        List<MeterValueResponse> values = new ArrayList<>(timestamps.size());
+        for (LocalDateTime timestamp : timestamps) {
+            BigDecimal value = series.valueAt(timestamp);
+            values.add(MeterValueResponse.builder()
+                    .timestamp(timestamp)
+                    .value(value)
+                    .interpolated(value != null && !series.hasReadingAt(timestamp))
+                    .build());
+        }
+        return values;
+    }
+
+    /**
+     * Calculate the consumption of consecutive billing periods.
+     * <p>
+     * {@code n} ascending boundaries define {@code n - 1} periods; each
+     * boundary ends one period and starts the next.
+     *
+     * @param meterType the type of meter
+     * @param boundaries the period boundaries, strictly ascending
+     * @return the consumption per period
+     * @throws IllegalArgumentException if fewer than two, too many or unordered boundaries are given
+     */
+    public List<BillingPeriodConsumptionResponse> getBillingPeriodConsumption(MeterType meterType,
+                                                                             List<LocalDateTime> boundaries) {
+        validateCount(boundaries, 2);
+        for (int i = 1; i < boundaries.size(); i++) {
+            if (!boundaries.get(i).isAfter(boundaries.get(i - 1))) {
+                throw new IllegalArgumentException("Billing period boundaries must be strictly ascending: "
+                        + boundaries.get(i - 1) + " is not before " + boundaries.get(i));
+            }
+        }
+
+        MeterReadingIndex.Series series = meterReadingIndex.series(meterType);
+        List<BillingPeriodConsumptionResponse> periods = new ArrayList<>(boundaries.size() - 1);
+        BigDecimal startValue = series.valueAt(boundaries.get(0));
+        for (int i = 1; i < boundaries.size(); i++) {
+            LocalDateTime start = boundaries.get(i - 1);
+            LocalDateTime end = boundaries.get(i);
+            BigDecimal endValue = series.valueAt(end);
+            int days = (int) Duration.between(start, end).toDays();
+
+            BigDecimal consumption = null;
+            BigDecimal averageDailyConsumption = null;
+            if (startValue != null && endValue != null) {
+                consumption = endValue.subtract(startValue);
+                if (days > 0) {
+                    averageDailyConsumption = consumption.divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP);
+                }
+            }
+            periods.add(BillingPeriodConsumptionResponse.builder()
+                    .periodStart(start)
+                    .periodEnd(end)
+                    .startValue(startValue)
+                    .endValue(endValue)
+                    .consumption(consumption)
+                    .days(days)
+                    .averageDailyConsumption(averageDailyConsumption)
+                    .build());
+            startValue = endValue;
+        }
+        log.debug("Calculated {} billing periods for type {} from {} readings",
+                periods.size(), meterType, series.size());
+        return periods;
+    }
+
+    private void validateCount(List<LocalDateTime> instants, int min) {
+        if (instants == null || instants.size() < min) {
+            throw new IllegalArgumentException("At least " + min + " timestamp(s) required");
+        }
+        if (instants.size() > maxInstants) {
+            throw new IllegalArgumentException("At most " + maxInstants + " timestamps allowed per request, got "
+                    + instants.size());
+        }
+    }
+}
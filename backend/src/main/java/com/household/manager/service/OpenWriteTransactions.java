@@ -0,0 +1,76 @@
+package com.household.manager.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Open writing transactions of other database sessions, read from
+ * {@code information_schema.innodb_trx}.
+ * <p>
+ * The change logs ({@code meter_reading_changes}, {@code outbox_events}) are
+ * written by triggers under an AUTO_INCREMENT sequence that is assigned at
+ * insert time but becomes visible at commit time. A gap in the sequence is
+ * therefore either a write that has not committed yet or one that was rolled
+ * back and will never appear. Its owner modified rows before the sequence
+ * number was assigned (the trigger runs after the row write), so once none
+ * of the writing transactions open when the gap was seen is open any more,
+ * the gap is permanent and may be passed.
+ * <p>
+ * Reading {@code innodb_trx} requires the {@code PROCESS} privilege. Without
+ * it the open transactions are unknown and readers of the change logs keep
+ * waiting at gaps instead of skipping writes that may still commit, so the
+ * application does not start without it. Incremental sync is always served,
+ * so the privilege is checked whether or not the outbox relay is enabled.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenWriteTransactions implements InitializingBean {
+
+    private static final String OPEN_SQL =
+            "SELECT trx_id FROM information_schema.innodb_trx " +
+            "WHERE trx_rows_modified > 0 AND trx_mysql_thread_id <> CONNECTION_ID()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean unavailableLogged = new AtomicBoolean();
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            jdbcTemplate.queryForList(OPEN_SQL, String.class);
+        } catch (DataAccessException ex) {
+            throw new IllegalStateException("Cannot read open transactions from information_schema.innodb_trx; "
+                    + "grant the database user the PROCESS privilege (GRANT PROCESS ON *.* TO ...)", ex);
+        }
+    }
+
+    /**
+     * Get the ids of the transactions of other sessions that have modified rows
+     * and are not finished yet.
+     *
+     * @return the transaction ids, or empty if they cannot be read
+     */
+    public Optional<Set<String>> find() {
+        try {
+            Set<String> ids = new HashSet<>(jdbcTemplate.queryForList(OPEN_SQL, String.class));
+            unavailableLogged.set(false);
+            return Optional.of(ids);
+        } catch (DataAccessException ex) {
+            if (unavailableLogged.compareAndSet(false, true)) {
+                log.error("Cannot read open transactions, change log gaps are not passed until this is fixed "
+                        + "(the database user needs the PROCESS privilege): {}", ex.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+}
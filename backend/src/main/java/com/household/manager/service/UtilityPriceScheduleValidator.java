@@ -0,0 +1,100 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.UtilityPricePeriodRequest;
+import com.household.manager.exception.BatchItemError;
+import com.household.manager.model.entity.UtilityPrice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Validates a utility price schedule in memory.
+ * <p>
+ * All periods (existing and uploaded) are sorted by start date once and swept
+ * in order, keeping track of the period that reaches furthest. Any period starting
+ * before that end overlaps with it, so the whole schedule is checked in
+ * O(n log n) without a database query per period.
+ */
+final class UtilityPriceScheduleValidator {
+
+    private static final LocalDate OPEN_END = LocalDate.MAX;
+
+    private UtilityPriceScheduleValidator() {
+    }
+
+    /**
+     * Find invalid and overlapping periods in an uploaded schedule.
+     *
+     * @param periods the uploaded periods
+     * @param existing the prices already stored for the same meter type
+     * @return one error per offending uploaded period, ordered by index; empty if the schedule is valid
+     */
+    static List<BatchItemError> findConflicts(List<UtilityPricePeriodRequest> periods, List<UtilityPrice> existing) {
+        Map<Integer, BatchItemError> errors = new TreeMap<>();
+        List<Interval> intervals = new ArrayList<>(periods.size() + existing.size());
+
+        for (int i = 0; i < periods.size(); i++) {
+            UtilityPricePeriodRequest period = periods.get(i);
+            if (period.getValidTo() != null && !period.getValidFrom().isBefore(period.getValidTo())) {
+                errors.put(i, BatchItemError.builder()
+                        .index(i)
+                        .message(String.format("Valid from date (%s) must be before valid to date (%s)",
+                                period.getValidFrom(), period.getValidTo()))
+                        .build());
+                continue;
+            }
+            intervals.add(new Interval(period.getValidFrom(), endOf(period.getValidTo()), i, null));
+        }
+        for (UtilityPrice price : existing) {
+            intervals.add(new Interval(price.getValidFrom(), endOf(price.getValidTo()), -1, price.getId()));
+        }
+
+        intervals.sort(Comparator.comparing(Interval::from).thenComparing(Interval::to));
+
+        Interval furthest = null;
+        for (Interval current : intervals) {
+            if (furthest != null && current.from().isBefore(furthest.to())) {
+                if (current.isUploaded()) {
+                    errors.putIfAbsent(current.index(), overlap(current, furthest));
+                }
+                if (furthest.isUploaded()) {
+                    errors.putIfAbsent(furthest.index(), overlap(furthest, current));
+                }
+            }
+            if (furthest == null || current.to().isAfter(furthest.to())) {
+                furthest = current;
+            }
+        }
+
+        return new ArrayList<>(errors.values());
+    }
+
+    private static BatchItemError overlap(Interval item, Interval other) {
+        return BatchItemError.builder()
+                .index(item.index())
+                .message(String.format("The validity period (%s to %s) overlaps with %s",
+                        item.from(), item.to().equals(OPEN_END) ? "indefinite" : item.to(),
+                        other.isUploaded() ? "another period of the schedule" : "an existing price period"))
+                .conflictingIndex(other.isUploaded() ? other.index() : null)
+                .conflictingId(other.existingId())
+                .build();
+    }
+
+    private static LocalDate endOf(LocalDate validTo) {
+        return validTo != null ? validTo : OPEN_END;
+    }
+
+    /**
+     * Half-open validity interval [from, to) of an uploaded (index >= 0) or existing price.
+     */
+    private record Interval(LocalDate from, LocalDate to, int index, Long existingId) {
+
+        boolean isUploaded() {
+            return index >= 0;
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package com.household.manager.service;
 
+import com.household.manager.coalescing.Coalesced;
+import com.household.manager.dto.UtilityPriceBatchRequest;
+import com.household.manager.dto.UtilityPriceBatchResponse;
 import com.household.manager.dto.UtilityPriceRequest;
 import com.household.manager.dto.UtilityPriceResponse;
+import com.household.manager.exception.BatchItemError;
 import com.household.manager.exception.UtilityPriceNotFoundException;
+import com.household.manager.exception.UtilityPriceScheduleConflictException;
 import com.household.manager.model.entity.MeterType;
 import com.household.manager.model.entity.UtilityPrice;
 import com.household.manager.repository.UtilityPriceRepository;
+import com.household.manager.repository.projection.UtilityPriceSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +42,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UtilityPriceService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO utility_prices (meter_type, price, valid_from, valid_to, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Field names of {@link UtilityPriceResponse} supported by sparse fieldsets
+     */
+    private static final Set<String> RESPONSE_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "meterType", "price", "validFrom", "validTo", "createdAt", "updatedAt")));
+
+    /**
+     * Response fields that can be served from {@link UtilityPriceSummary}
+     */
+    private static final Set<String> SUMMARY_FIELDS = Set.of("id", "meterType", "price", "validFrom", "validTo");
+
     private final UtilityPriceRepository utilityPriceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new utility price.
@@ -57,10 +90,68 @@ public class UtilityPriceService {
 
         UtilityPrice savedPrice = utilityPriceRepository.save(utilityPrice);
         log.info("Successfully created utility price with ID: {}", savedPrice.getId());
+        eventPublisher.publishEvent(MeterDataChangedEvent.prices(savedPrice.getMeterType()));
 
         return convertToResponse(savedPrice);
     }
 
+    /**
+     * Create a whole utility price schedule for one meter type.
+     * <p>
+     * The schedule is checked in memory against itself and the existing periods
+     * (loaded with a single query), then persisted with one JDBC batch in a single
+     * transaction. If any period is invalid or overlaps, nothing is created.
+     *
+     * @param request the schedule containing the meter type and its price periods
+     * @return created count and the complete schedule for the meter type
+     * @throws IllegalArgumentException if the meter type does not support prices
+     * @throws UtilityPriceScheduleConflictException if any period is invalid or overlaps
+     */
+    @Transactional
+    public UtilityPriceBatchResponse createUtilityPriceSchedule(UtilityPriceBatchRequest request) {
+        MeterType meterType = request.getMeterType();
+        log.info("Creating utility price schedule with {} periods for type: {}",
+                request.getPrices().size(), meterType);
+
+        validateMeterType(meterType);
+
+        List<UtilityPrice> existing = utilityPriceRepository.findByMeterTypeOrderByValidFromDesc(meterType);
+        List<BatchItemError> conflicts = UtilityPriceScheduleValidator.findConflicts(request.getPrices(), existing);
+        if (!conflicts.isEmpty()) {
+            throw new UtilityPriceScheduleConflictException(
+                    String.format("%d of %d price periods for %s are invalid or overlap. No prices were created.",
+                            conflicts.size(), request.getPrices().size(), meterType),
+                    conflicts);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, request.getPrices(), request.getPrices().size(), (ps, period) -> {
+            ps.setString(1, meterType.name());
+            ps.setBigDecimal(2, period.getPrice());
+            ps.setDate(3, Date.valueOf(period.getValidFrom()));
+            if (period.getValidTo() != null) {
+                ps.setDate(4, Date.valueOf(period.getValidTo()));
+            } else {
+                ps.setNull(4, Types.DATE);
+            }
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        log.info("Successfully created {} utility prices for type: {}", request.getPrices().size(), meterType);
+        eventPublisher.publishEvent(MeterDataChangedEvent.prices(meterType));
+
+        List<UtilityPriceResponse> schedule = utilityPriceRepository.findByMeterTypeOrderByValidFromDesc(meterType)
+                .stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        return UtilityPriceBatchResponse.builder()
+                .meterType(meterType)
+                .createdCount(request.getPrices().size())
+                .prices(schedule)
+                .build();
+    }
+
     /**
      * Get all utility prices across all meter types.
      * <p>
@@ -96,6 +187,49 @@ public class UtilityPriceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get all utility prices across all meter types, limited to the requested fields.
+     * <p>
+     * When no audit timestamp is requested, only the {@link UtilityPriceSummary} columns are selected.
+     *
+     * @param fields comma-separated response field names, or null for all fields
+     * @return list of all utility prices containing only the requested fields
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    @Transactional(readOnly = true)
+    public List<UtilityPriceResponse> getAllUtilityPrices(String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, RESPONSE_FIELDS);
+        if (selection.isAll()) {
+            return getAllUtilityPrices();
+        }
+        List<UtilityPriceResponse> prices = selection.isCoveredBy(SUMMARY_FIELDS)
+                ? convertSummaries(utilityPriceRepository.findSummariesBy())
+                : getAllUtilityPrices();
+        return selectFields(prices, selection);
+    }
+
+    /**
+     * Get all utility prices for a specific meter type, limited to the requested fields.
+     *
+     * @param meterType the type of meter to retrieve prices for
+     * @param fields comma-separated response field names, or null for all fields
+     * @return list of utility prices for the specified type containing only the requested fields
+     * @throws IllegalArgumentException if a field name is unknown
+     * @see #getAllUtilityPrices(String)
+     */
+    @Transactional(readOnly = true)
+    public List<UtilityPriceResponse> getUtilityPricesByMeterType(MeterType meterType, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, RESPONSE_FIELDS);
+        if (selection.isAll()) {
+            return getUtilityPricesByMeterType(meterType);
+        }
+        validateMeterType(meterType);
+        List<UtilityPriceResponse> prices = selection.isCoveredBy(SUMMARY_FIELDS)
+                ? convertSummaries(utilityPriceRepository.findSummariesByMeterTypeOrderByValidFromDesc(meterType))
+                : getUtilityPricesByMeterType(meterType);
+        return selectFields(prices, selection);
+    }
+
     /**
      * Get the current price for a specific meter type.
      * <p>
@@ -105,17 +239,32 @@ public class UtilityPriceService {
      * @return response containing the current utility price
      * @throws UtilityPriceNotFoundException if no current price exists
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public UtilityPriceResponse getCurrentPriceForMeterType(MeterType meterType) {
         log.debug("Retrieving current price for type: {}", meterType);
         validateMeterType(meterType);
 
-        LocalDate today = LocalDate.now();
-        UtilityPrice price = utilityPriceRepository.findCurrentPriceForMeterType(meterType, today)
+        return findCurrentPrice(meterType)
                 .orElseThrow(() -> new UtilityPriceNotFoundException(
                         "No current price found for meter type: " + meterType));
+    }
 
-        return convertToResponse(price);
+    /**
+     * Find the price valid today for a specific meter type.
+     *
+     * @param meterType the type of meter
+     * @return the current utility price, or empty if none is valid today or the
+     *         meter type has no prices (water)
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public Optional<UtilityPriceResponse> findCurrentPrice(MeterType meterType) {
+        if (meterType != MeterType.ELECTRICITY && meterType != MeterType.GAS) {
+            return Optional.empty();
+        }
+        return utilityPriceRepository.findCurrentPriceForMeterType(meterType, LocalDate.now())
+                .map(this::convertToResponse);
     }
 
     /**
@@ -128,12 +277,12 @@ public class UtilityPriceService {
     public void deleteUtilityPrice(Long id) {
         log.info("Deleting utility price with ID: {}", id);
 
-        if (!utilityPriceRepository.existsById(id)) {
-            throw new UtilityPriceNotFoundException("Utility price not found with ID: " + id);
-        }
+        UtilityPrice price = utilityPriceRepository.findById(id)
+                .orElseThrow(() -> new UtilityPriceNotFoundException("Utility price not found with ID: " + id));
 
-        utilityPriceRepository.deleteById(id);
+        utilityPriceRepository.delete(price);
         log.info("Successfully deleted utility price with ID: {}", id);
+        eventPublisher.publishEvent(MeterDataChangedEvent.prices(price.getMeterType()));
     }
 
     /**
@@ -217,4 +366,30 @@ public class UtilityPriceService {
                 .updatedAt(price.getUpdatedAt())
                 .build();
     }
+
+    private List<UtilityPriceResponse> convertSummaries(List<UtilityPriceSummary> summaries) {
+        return summaries.stream()
+                .map(summary -> UtilityPriceResponse.builder()
+                        .id(summary.getId())
+                        .meterType(summary.getMeterType())
+                        .price(summary.getPrice())
+                        .validFrom(summary.getValidFrom())
+                        .validTo(summary.getValidTo())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<UtilityPriceResponse> selectFields(List<UtilityPriceResponse> prices, FieldSelection selection) {
+        return prices.stream()
+                .map(price -> UtilityPriceResponse.builder()
+                        .id(selection.includes("id") ? price.getId() : null)
+                        .meterType(selection.includes("meterType") ? price.getMeterType() : null)
+                        .price(selection.includes("price") ? price.getPrice() : null)
+                        .validFrom(selection.includes("validFrom") ? price.getValidFrom() : null)
+                        .validTo(selection.includes("validTo") ? price.getValidTo() : null)
+                        .createdAt(selection.includes("createdAt") ? price.getCreatedAt() : null)
+                        .updatedAt(selection.includes("updatedAt") ? price.getUpdatedAt() : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,164 @@
+package com.household.manager.reactive;
+
+import com.household.manager.dto.ConsumptionResponse;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterType;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reads meter readings with R2DBC.
+ * <p>
+ * Responses are identical to those of the MVC application: readings newest
+ * first, consumption and days since the last reading for the latest reading of
+ * each meter type (taken from the following reading with a window function).
+ * Series are emitted as the rows arrive and only as fast as the subscriber
+ * requests them, so a slow client holds back the query instead of buffering
+ * the series in memory.
+ */
+@Component
+@Profile(ReactiveReadApplication.PROFILE)
+public class MeterReadingReader {
+
+    private static final String COLUMNS = "SELECT id, meter_type, reading_value, reading_week, reading_date, notes,"
+            + " created_at, updated_at";
+
+    private static final String SERIES_SQL = COLUMNS
+            + ", ROW_NUMBER() OVER newest_first AS recency"
+            + ", LEAD(reading_value) OVER newest_first AS previous_value"
+            + ", LEAD(reading_date) OVER newest_first AS previous_date"
+            + " FROM meter_readings WHERE meter_type = :meterType"
+            + " WINDOW newest_first AS (ORDER BY reading_date DESC) ORDER BY reading_date DESC";
+
+    private static final String LAST_TWO_SQL = COLUMNS
+            + " FROM meter_readings WHERE meter_type = :meterType ORDER BY reading_date DESC LIMIT 2";
+
+    /** Order of the all-types list: newest first, then by meter type. */
+    private static final Comparator<MeterReadingResponse> NEWEST_FIRST =
+            Comparator.comparing(MeterReadingResponse::getReadingDate).reversed()
+                    .thenComparing(MeterReadingResponse::getMeterType);
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public MeterReadingReader(DatabaseClient databaseClient,
+                              @Value("${household.readings.stream-fetch-size:1000}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * All readings of all meter types, newest first, then by meter type.
+     * <p>
+     * Each meter type is queried on its own connection and the series are
+     * merged as they arrive, like the MVC application's all-types list.
+     */
+    public Flux<MeterReadingResponse> findAll() {
+        List<Flux<MeterReadingResponse>> series = new ArrayList<>();
+        for (MeterType meterType : MeterType.values()) {
+            series.add(findByType(meterType));
+        }
+        return Flux.mergeComparing(NEWEST_FIRST, series.toArray(Flux[]::new));
+    }
+
+    /**
+     * The readings of a meter type, newest first.
+     */
+    public Flux<MeterReadingResponse> findByType(MeterType meterType) {
+        return databaseClient.sql(SERIES_SQL)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("meterType", meterType.name())
+                .map(MeterReadingReader::toSeriesResponse)
+                .all();
+    }
+
+    /**
+     * The latest reading of a meter type with its consumption, or empty without readings.
+     */
+    public Mono<MeterReadingResponse> findLatest(MeterType meterType) {
+        return findLastTwo(meterType)
+                .filter(lastTwo -> !lastTwo.isEmpty())
+                .map(lastTwo -> {
+                    MeterReadingResponse latest = lastTwo.get(0);
+                    if (lastTwo.size() == 2) {
+                        MeterReadingResponse previous = lastTwo.get(1);
+                        latest.setConsumption(latest.getReadingValue().subtract(previous.getReadingValue()));
+                        latest.setDaysSinceLastReading((int) ChronoUnit.DAYS.between(
+                                previous.getReadingDate(), latest.getReadingDate()));
+                    }
+                    return latest;
+                });
+    }
+
+    /**
+     * The consumption between the two latest readings of a meter type, or
+     * empty with fewer than two readings.
+     */
+    public Mono<ConsumptionResponse> findConsumption(MeterType meterType) {
+        return findLastTwo(meterType)
+                .filter(lastTwo -> lastTwo.size() == 2)
+                .map(lastTwo -> toConsumption(lastTwo.get(0), lastTwo.get(1)));
+    }
+
+    private Mono<List<MeterReadingResponse>> findLastTwo(MeterType meterType) {
+        return databaseClient.sql(LAST_TWO_SQL)
+                .bind("meterType", meterType.name())
+                .map(MeterReadingReader::toResponse)
+                .all()
+                .collectList();
+    }
+
+    private static MeterReadingResponse toSeriesResponse(Readable row) {
+        MeterReadingResponse response = toResponse(row);
+        BigDecimal previousValue = row.get("previous_value", BigDecimal.class);
+        if (row.get("recency", Long.class) == 1 && previousValue != null) {
+            response.setConsumption(response.getReadingValue().subtract(previousValue));
+            response.setDaysSinceLastReading((int) ChronoUnit.DAYS.between(
+                    row.get("previous_date", LocalDateTime.class), response.getReadingDate()));
+        }
+        return response;
+    }
+
+    private static MeterReadingResponse toResponse(Readable row) {
+        return MeterReadingResponse.builder()
+                .id(row.get("id", Long.class))
+                .meterType(MeterType.valueOf(row.get("meter_type", String.class)))
+                .readingValue(row.get("reading_value", BigDecimal.class))
+                .readingWeek(row.get("reading_week", Integer.class))
+                .readingDate(row.get("reading_date", LocalDateTime.class))
+                .notes(row.get("notes", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static ConsumptionResponse toConsumption(MeterReadingResponse current, MeterReadingResponse previous) {
+        BigDecimal consumption = current.getReadingValue().subtract(previous.getReadingValue());
+        long daysBetween = ChronoUnit.DAYS.between(previous.getReadingDate(), current.getReadingDate());
+        return ConsumptionResponse.builder()
+                .meterType(current.getMeterType())
+                .currentReading(current.getReadingValue())
+                .previousReading(previous.getReadingValue())
+                .consumption(consumption)
+                .currentReadingDate(current.getReadingDate())
+                .previousReadingDate(previous.getReadingDate())
+                .daysBetweenReadings((int) daysBetween)
+                .averageDailyConsumption(daysBetween > 0
+                        ? consumption.divide(BigDecimal.valueOf(daysBetween), 2, RoundingMode.HALF_UP)
+                        : null)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.household.manager.reactive;
+
+import com.household.manager.exception.ErrorResponse;
+import com.household.manager.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Error responses of the reactive read stack, in the format of the MVC
+ * application's {@code GlobalExceptionHandler}.
+ */
+@Slf4j
+@RestControllerAdvice
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+        log.warn("Resource not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, ServerHttpRequest request) {
+        log.warn("Illegal argument: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
+    }
+
+    /**
+     * Unparsable path variables and request parameters, e.g. an unknown meter type.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex, ServerHttpRequest request) {
+        log.warn("Invalid request input: {}", ex.getReason());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                       ServerHttpRequest request) {
+        return ResponseEntity.status(status).body(ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(request.getPath().value())
+                .build());
+    }
+}
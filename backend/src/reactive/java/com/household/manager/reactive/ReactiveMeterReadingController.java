@@ -0,0 +1,87 @@
+package com.household.manager.reactive;
+
+import com.household.manager.dto.ConsumptionResponse;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.exception.MeterReadingNotFoundException;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read endpoints for meter readings.
+ * <p>
+ * Same paths and JSON as the read endpoints of the MVC
+ * {@code MeterReadingController}; sparse fieldsets ({@code fields}) are not
+ * supported, all fields are returned. Series are also available as
+ * newline-delimited JSON ({@code Accept: application/x-ndjson}), one reading
+ * per line, flushed as the readings are read.
+ */
+@RestController
+@RequestMapping("/v1/meter-readings")
+@Profile(ReactiveReadApplication.PROFILE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveMeterReadingController {
+
+    private final MeterReadingReader meterReadingReader;
+
+    /**
+     * GET /api/v1/meter-readings
+     *
+     * @return all meter readings, newest first
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<MeterReadingResponse> getAllMeterReadings() {
+        log.debug("Received request to get all meter readings");
+        return meterReadingReader.findAll();
+    }
+
+    /**
+     * GET /api/v1/meter-readings/{type}
+     *
+     * @param type the meter type (ELECTRICITY, GAS, or WATER)
+     * @return the meter readings of the type, newest first
+     */
+    @GetMapping(value = "/{type}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<MeterReadingResponse> getMeterReadingsByType(@PathVariable MeterType type) {
+        log.debug("Received request to get meter readings for type: {}", type);
+        return meterReadingReader.findByType(type);
+    }
+
+    /**
+     * GET /api/v1/meter-readings/{type}/latest
+     *
+     * @param type the meter type
+     * @return the latest meter reading of the type
+     */
+    @GetMapping("/{type}/latest")
+    public Mono<MeterReadingResponse> getLatestReading(@PathVariable MeterType type) {
+        log.debug("Received request to get latest reading for type: {}", type);
+        return meterReadingReader.findLatest(type)
+                .switchIfEmpty(Mono.error(() -> new MeterReadingNotFoundException(
+                        "No readings found for meter type: " + type)));
+    }
+
+    /**
+     * GET /api/v1/meter-readings/{type}/consumption
+     *
+     * @param type the meter type
+     * @return consumption between the two latest readings of the type
+     */
+    @GetMapping("/{type}/consumption")
+    public Mono<ConsumptionResponse> calculateConsumption(@PathVariable MeterType type) {
+        log.debug("Received request to calculate consumption for type: {}", type);
+        return meterReadingReader.findConsumption(type)
+                .switchIfEmpty(Mono.error(() -> new MeterReadingNotFoundException(
+                        "Insufficient readings to calculate consumption for meter type: " + type
+                                + ". At least two readings are required.")));
+    }
+}
@@ -0,0 +1,45 @@
+package com.household.manager.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Entry point of the reactive read stack.
+ * <p>
+ * Serves the read endpoints of meter readings and utility prices with WebFlux
+ * on Netty and queries MariaDB with R2DBC. Only this package is scanned, so
+ * none of the MVC application's controllers, JPA repositories or filters are
+ * created. The Spring profile {@code reactive} is always active; its
+ * properties switch the web stack and exclude the JDBC auto-configuration.
+ * <p>
+ * Build and run with {@code mvn spring-boot:run -Preactive}.
+ */
+@Slf4j
+@Profile(ReactiveReadApplication.PROFILE)
+@SpringBootApplication
+public class ReactiveReadApplication {
+
+    /** Spring profile of the reactive read stack; its beans are ignored by the MVC application. */
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = builder().run(args);
+        Environment env = context.getEnvironment();
+        log.info("Reactive read stack '{}' is running at http://localhost:{}{}",
+                env.getProperty("spring.application.name"),
+                env.getProperty("server.port"),
+                env.getProperty("spring.webflux.base-path", ""));
+    }
+
+    /**
+     * Application builder with the {@code reactive} profile, e.g. to start the
+     * stack next to the MVC application in tests.
+     */
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(ReactiveReadApplication.class).profiles(PROFILE);
+    }
+}
@@ -0,0 +1,79 @@
+package com.household.manager.reactive;
+
+import com.household.manager.dto.UtilityPriceResponse;
+import com.household.manager.exception.UtilityPriceNotFoundException;
+import com.household.manager.model.entity.MeterType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive read endpoints for utility prices.
+ * <p>
+ * Same paths and JSON as the read endpoints of the MVC
+ * {@code UtilityPriceController}; sparse fieldsets are not supported.
+ */
+@RestController
+@RequestMapping("/v1/utility-prices")
+@Profile(ReactiveReadApplication.PROFILE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUtilityPriceController {
+
+    private final UtilityPriceReader utilityPriceReader;
+
+    /**
+     * GET /api/v1/utility-prices
+     *
+     * @return all utility prices
+     */
+    @GetMapping
+    public Flux<UtilityPriceResponse> getAllUtilityPrices() {
+        log.debug("Received request to get all utility prices");
+        return utilityPriceReader.findAll();
+    }
+
+    /**
+     * GET /api/v1/utility-prices/{type}
+     *
+     * @param type the meter type (ELECTRICITY or GAS)
+     * @return the utility prices of the type
+     */
+    @GetMapping("/{type}")
+    public Flux<UtilityPriceResponse> getUtilityPricesByType(@PathVariable MeterType type) {
+        log.debug("Received request to get utility prices for type: {}", type);
+        return validate(type).thenMany(utilityPriceReader.findByType(type));
+    }
+
+    /**
+     * GET /api/v1/utility-prices/{type}/current
+     *
+     * @param type the meter type (ELECTRICITY or GAS)
+     * @return the price of the type valid today
+     */
+    @GetMapping("/{type}/current")
+    public Mono<UtilityPriceResponse> getCurrentPrice(@PathVariable MeterType type) {
+        log.debug("Received request to get current price for type: {}", type);
+        return validate(type)
+                .then(utilityPriceReader.findValidOn(type, LocalDate.now()))
+                .switchIfEmpty(Mono.error(() -> new UtilityPriceNotFoundException(
+                        "No current price found for meter type: " + type)));
+    }
+
+    private static Mono<Void> validate(MeterType meterType) {
+        if (meterType != MeterType.ELECTRICITY && meterType != MeterType.GAS) {
+            return Mono.error(new IllegalArgumentException(
+                    "Utility prices are only supported for ELECTRICITY and GAS meter types. "
+                            + "Provided: " + meterType));
+        }
+        return Mono.empty();
+    }
+}
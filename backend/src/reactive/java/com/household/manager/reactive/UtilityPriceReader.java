@@ -0,0 +1,72 @@
+package com.household.manager.reactive;
+
+import com.household.manager.dto.UtilityPriceResponse;
+import com.household.manager.model.entity.MeterType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Reads utility prices with R2DBC, in the order of the MVC application.
+ */
+@Component
+@Profile(ReactiveReadApplication.PROFILE)
+@RequiredArgsConstructor
+public class UtilityPriceReader {
+
+    private static final String COLUMNS =
+            "SELECT id, meter_type, price, valid_from, valid_to, created_at, updated_at FROM utility_prices";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * All utility prices, in primary key order.
+     */
+    public Flux<UtilityPriceResponse> findAll() {
+        return databaseClient.sql(COLUMNS + " ORDER BY id")
+                .map(UtilityPriceReader::toResponse)
+                .all();
+    }
+
+    /**
+     * The utility prices of a meter type, newest validity first.
+     */
+    public Flux<UtilityPriceResponse> findByType(MeterType meterType) {
+        return databaseClient.sql(COLUMNS + " WHERE meter_type = :meterType ORDER BY valid_from DESC")
+                .bind("meterType", meterType.name())
+                .map(UtilityPriceReader::toResponse)
+                .all();
+    }
+
+    /**
+     * The price of a meter type valid on a date, or empty if none is.
+     */
+    public Mono<UtilityPriceResponse> findValidOn(MeterType meterType, LocalDate date) {
+        return databaseClient.sql(COLUMNS + " WHERE meter_type = :meterType AND valid_from <= :date"
+                        + " AND (valid_to IS NULL OR valid_to > :date) ORDER BY valid_from DESC LIMIT 1")
+                .bind("meterType", meterType.name())
+                .bind("date", date)
+                .map(UtilityPriceReader::toResponse)
+                .one();
+    }
+
+    private static UtilityPriceResponse toResponse(Readable row) {
+        return UtilityPriceResponse.builder()
+                .id(row.get("id", Long.class))
+                .meterType(MeterType.valueOf(row.get("meter_type", String.class)))
+                .price(row.get("price", BigDecimal.class))
+                .validFrom(row.get("valid_from", LocalDate.class))
+                .validTo(row.get("valid_to", LocalDate.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Reactive read stack (WebFlux + R2DBC).
+ * An alternative server for the read endpoints of meter readings and utility
+ * prices, built with the Maven profile {@code reactive} and run with the Spring
+ * profile of the same name. It shares the DTOs of the MVC application and
+ * reads the same database; writes stay with the MVC application.
+ */
+package com.household.manager.reactive;
@@ -0,0 +1,80 @@
+package com.household.manager.reactive;
+
+import com.household.manager.load.HouseholdHistoryGenerator;
+import com.household.manager.load.LoadTestHarness;
+import com.household.manager.load.LoadTestHarness.Scenario;
+import com.household.manager.load.LoadTestHarness.ScenarioResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the read endpoints of the MVC application and the reactive read
+ * stack at high client concurrency.
+ * <p>
+ * Both are started as {@link ReadStacks} against the local test database,
+ * which is seeded with a synthetic history, and every scenario is measured on
+ * each. That both return the same bodies is checked by
+ * {@link ReactiveReadEquivalenceTest}.
+ * <p>
+ * Run with {@code mvn test -Preactive,benchmark -Dtest=ReactiveReadBenchmarkTest}.
+ * Options (system properties): {@code benchmark.years},
+ * {@code benchmark.concurrency}, {@code benchmark.warmup},
+ * {@code benchmark.requests} and {@code benchmark.report}.
+ */
+@Tag("benchmark")
+class ReactiveReadBenchmarkTest {
+
+    private static final int YEARS = Integer.getInteger("benchmark.years", 10);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 256);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("benchmark.warmup", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final Path REPORT = Path.of(System.getProperty("benchmark.report",
+            "target/benchmark/reactive-read.csv"));
+
+    private static ReadStacks stacks;
+
+    @BeforeAll
+    static void setUp() {
+        stacks = ReadStacks.start(CONCURRENCY);
+        new HouseholdHistoryGenerator(42).generate(YEARS, LocalDate.now()).insertInto(stacks.jdbcTemplate());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (stacks != null) {
+            stacks.close();
+        }
+    }
+
+    @Test
+    void compareStacks() throws Exception {
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : ReadStacks.SCENARIOS) {
+            results.add(stacks.mvc().run(renamed(scenario, "mvc"), WARMUP_REQUESTS, REQUESTS));
+            results.add(stacks.reactive().run(renamed(scenario, "reactive"), WARMUP_REQUESTS, REQUESTS));
+        }
+
+        System.out.printf("%n%d concurrent clients, %d requests per endpoint after %d warm-up requests%n",
+                CONCURRENCY, REQUESTS, WARMUP_REQUESTS);
+        LoadTestHarness.printReport(results, System.out);
+        LoadTestHarness.writeCsv(results, REPORT);
+        System.out.println("Report written to " + REPORT.toAbsolutePath());
+
+        assertThat(results)
+                .allSatisfy(result -> assertThat(result.errors()).as(result.name()).isZero());
+    }
+
+    private static Scenario renamed(Scenario scenario, String stack) {
+        return new Scenario(stack + " " + scenario.name(), scenario.method(), scenario.path(),
+                scenario.contentType(), scenario.body());
+    }
+}
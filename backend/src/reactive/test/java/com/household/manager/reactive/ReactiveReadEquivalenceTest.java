@@ -0,0 +1,44 @@
+package com.household.manager.reactive;
+
+import com.household.manager.load.HouseholdHistoryGenerator;
+import com.household.manager.load.LoadTestHarness.Scenario;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReactiveMeterReadingController} and {@link ReactiveUtilityPriceController}
+ * returning the same bodies as the MVC controllers for a synthetic history.
+ */
+class ReactiveReadEquivalenceTest {
+
+    private static final int YEARS = 2;
+
+    private static ReadStacks stacks;
+
+    @BeforeAll
+    static void setUp() {
+        stacks = ReadStacks.start(1);
+        new HouseholdHistoryGenerator(42).generate(YEARS, LocalDate.now()).insertInto(stacks.jdbcTemplate());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (stacks != null) {
+            stacks.jdbcTemplate().update("DELETE FROM meter_readings");
+            stacks.jdbcTemplate().update("DELETE FROM utility_prices");
+            stacks.close();
+        }
+    }
+
+    @Test
+    void readEndpoints_ShouldReturnTheBodiesOfTheMvcControllers() throws Exception {
+        for (Scenario scenario : ReadStacks.SCENARIOS) {
+            assertThat(stacks.reactive().send(scenario)).as(scenario.name()).isEqualTo(stacks.mvc().send(scenario));
+        }
+    }
+}
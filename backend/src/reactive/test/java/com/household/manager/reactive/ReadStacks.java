@@ -0,0 +1,107 @@
+package com.household.manager.reactive;
+
+import com.household.manager.HouseholdManagerApplication;
+import com.household.manager.load.LoadTestHarness;
+import com.household.manager.load.LoadTestHarness.Scenario;
+import com.household.manager.model.entity.MeterType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The MVC application and the reactive read stack, started on random ports
+ * against the local test database ({@code household_manager_test}, recreated
+ * by the MVC application).
+ */
+final class ReadStacks implements AutoCloseable {
+
+    /**
+     * The read endpoints served by both stacks.
+     */
+    static final List<Scenario> SCENARIOS = List.of(
+            Scenario.get("/v1/meter-readings"),
+            Scenario.get("/v1/meter-readings/" + MeterType.ELECTRICITY),
+            Scenario.get("/v1/meter-readings/" + MeterType.GAS + "/latest"),
+            Scenario.get("/v1/meter-readings/" + MeterType.GAS + "/consumption"),
+            Scenario.get("/v1/utility-prices/" + MeterType.ELECTRICITY),
+            Scenario.get("/v1/utility-prices/" + MeterType.ELECTRICITY + "/current"));
+
+    private final ConfigurableApplicationContext mvc;
+    private final ConfigurableApplicationContext reactive;
+    private final LoadTestHarness mvcHarness;
+    private final LoadTestHarness reactiveHarness;
+
+    private ReadStacks(ConfigurableApplicationContext mvc, ConfigurableApplicationContext reactive, int concurrency) {
+        this.mvc = mvc;
+        this.reactive = reactive;
+        mvcHarness = new LoadTestHarness(baseUrl(mvc, "server.servlet.context-path"), concurrency,
+                Duration.ofSeconds(60));
+        reactiveHarness = new LoadTestHarness(baseUrl(reactive, "spring.webflux.base-path"), concurrency,
+                Duration.ofSeconds(60));
+    }
+
+    /**
+     * Start both stacks, the reactive one with a connection pool as large as the MVC one.
+     *
+     * @param concurrency concurrent clients of the harnesses
+     */
+    static ReadStacks start(int concurrency) {
+        ConfigurableApplicationContext mvc = new SpringApplicationBuilder(HouseholdManagerApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--household.statements.mode=warn",
+                        "--household.response-cache.enabled=false",
+                        "--logging.level.com.household=WARN");
+        try {
+            String jdbcUrl = mvc.getEnvironment().getRequiredProperty("spring.datasource.url");
+            ConfigurableApplicationContext reactive = ReactiveReadApplication.builder()
+                    .run("--server.port=0",
+                            "--spring.r2dbc.url=" + r2dbcUrl(jdbcUrl),
+                            "--spring.r2dbc.username=" + mvc.getEnvironment().getProperty("spring.datasource.username"),
+                            "--spring.r2dbc.password=" + mvc.getEnvironment().getProperty("spring.datasource.password"),
+                            "--spring.r2dbc.pool.max-size=" + mvc.getEnvironment().getProperty(
+                                    "spring.datasource.hikari.maximum-pool-size", "10"),
+                            "--logging.level.com.household=WARN");
+            return new ReadStacks(mvc, reactive, concurrency);
+        } catch (RuntimeException ex) {
+            mvc.close();
+            throw ex;
+        }
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return mvc.getBean(JdbcTemplate.class);
+    }
+
+    LoadTestHarness mvc() {
+        return mvcHarness;
+    }
+
+    LoadTestHarness reactive() {
+        return reactiveHarness;
+    }
+
+    @Override
+    public void close() {
+        reactive.close();
+        mvc.close();
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context, String basePathProperty) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port + context.getEnvironment().getProperty(basePathProperty, "");
+    }
+
+    /**
+     * The R2DBC URL of a MariaDB JDBC URL, without driver options.
+     */
+    private static String r2dbcUrl(String jdbcUrl) {
+        String url = jdbcUrl.replaceFirst("^jdbc:", "r2dbc:");
+        int options = url.indexOf('?');
+        return options < 0 ? url : url.substring(0, options);
+    }
+}
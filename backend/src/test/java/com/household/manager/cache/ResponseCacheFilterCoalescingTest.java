@@ -0,0 +1,162 @@
+package com.household.manager.cache;
+
+import com.household.manager.coalescing.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent misses of {@link ResponseCacheFilter} while the first request writes to a slow client.
+ */
+class ResponseCacheFilterCoalescingTest {
+
+    private static final int MAX_ENTRY_BYTES = 1024;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCache responseCache = new ResponseCache(1024 * 1024, MAX_ENTRY_BYTES, meterRegistry);
+    private final SingleFlight<String, ResponseCache.Entry> fills =
+            new SingleFlight<>("ResponseCacheFilter.fill", meterRegistry);
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(responseCache, fills, Duration.ofMillis(200));
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch slowClient = new CountDownLatch(1);
+    private final AtomicInteger producedResponses = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        slowClient.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void waitingRequest_ShouldBeServedBeforeLeaderWritesToItsClient() throws Exception {
+        byte[] body = "[{\"meterType\":\"GAS\"}]".getBytes(StandardCharsets.UTF_8);
+
+        SlowClientResponse leaderResponse = new SlowClientResponse();
+        Future<?> leader = executor.submit(() -> doFilter(leaderResponse, chain(body)));
+        awaitLeader();
+        MockHttpServletResponse waiterResponse = new MockHttpServletResponse();
+        Future<?> waiter = executor.submit(() -> doFilter(waiterResponse, chain(body)));
+
+        waiter.get(10, TimeUnit.SECONDS);
+        assertThat(waiterResponse.getContentAsByteArray()).isEqualTo(body);
+        assertThat(leader.isDone()).isFalse();
+
+        slowClient.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+        assertThat(leaderResponse.written.toByteArray()).isEqualTo(body);
+        assertThat(producedResponses).hasValue(1);
+    }
+
+    @Test
+    void waitingRequest_ShouldProduceOwnResponseWhenLeaderStreamsUncacheableBody() throws Exception {
+        byte[] body = "x".repeat(MAX_ENTRY_BYTES + 1).getBytes(StandardCharsets.UTF_8);
+
+        SlowClientResponse leaderResponse = new SlowClientResponse();
+        Future<?> leader = executor.submit(() -> doFilter(leaderResponse, chain(body)));
+        awaitLeader();
+        MockHttpServletResponse waiterResponse = new MockHttpServletResponse();
+        Future<?> waiter = executor.submit(() -> doFilter(waiterResponse, chain(body)));
+
+        waiter.get(10, TimeUnit.SECONDS);
+        assertThat(waiterResponse.getContentAsByteArray()).isEqualTo(body);
+        assertThat(leader.isDone()).isFalse();
+        assertThat(producedResponses).hasValue(2);
+
+        slowClient.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+        assertThat(leaderResponse.written.toByteArray()).isEqualTo(body);
+    }
+
+    /**
+     * Chain producing the body once the second request has joined the first.
+     */
+    private FilterChain chain(byte[] body) {
+        return (request, response) -> {
+            if (producedResponses.incrementAndGet() == 1) {
+                awaitCoalescedCall();
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write(body);
+        };
+    }
+
+    private Void doFilter(MockHttpServletResponse response, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/meter-readings/GAS");
+        filter.doFilter(request, response, chain);
+        return null;
+    }
+
+    private void awaitLeader() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (fills.inFlight() == 0) {
+            assertThat(System.nanoTime()).as("first request did not start").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitCoalescedCall() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.counter("household.singleflight.calls",
+                "flight", "ResponseCacheFilter.fill", "result", "coalesced").count() < 1) {
+            assertThat(System.nanoTime()).as("second request did not join").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Response whose client does not accept any bytes until released.
+     */
+    private class SlowClientResponse extends MockHttpServletResponse {
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    try {
+                        slowClient.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(ex);
+                    }
+                    written.write(bytes, offset, length);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+        }
+    }
+}
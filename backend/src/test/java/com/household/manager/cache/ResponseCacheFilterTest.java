@@ -0,0 +1,129 @@
+package com.household.manager.cache;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.household.manager.monitoring.StatementCounts.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Hits, gzip encoding and invalidation of {@link ResponseCacheFilter}.
+ */
+@SpringBootTest(properties = "household.response-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResponseCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        List<MeterReading> readings = new ArrayList<>();
+        for (MeterType type : MeterType.values()) {
+            for (int i = 0; i < 50; i++) {
+                readings.add(MeterReading.builder()
+                        .meterType(type)
+                        .readingValue(BigDecimal.valueOf(1000 + 10L * i))
+                        .readingDate(LocalDateTime.of(2025, 1, 6, 0, 0).plusWeeks(i))
+                        .notes("Wöchentliche Ablesung")
+                        .build());
+            }
+        }
+        meterReadingRepository.saveAll(readings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        responseCache.invalidate(-1L);
+    }
+
+    @Test
+    void repeatedRequest_ShouldBeServedFromCacheWithoutStatements() throws Exception {
+        double hits = requests("hit");
+        byte[] first = getBody("/v1/meter-readings/GAS");
+
+        assertStatements(0, () -> assertThat(getBody("/v1/meter-readings/GAS")).isEqualTo(first));
+        assertThat(requests("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void gzipRequest_ShouldReceiveCompressedBody() throws Exception {
+        byte[] identity = getBody("/v1/meter-readings");
+
+        MvcResult result = mockMvc.perform(get("/v1/meter-readings").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        assertThat(compressed.length).isLessThan(identity.length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(identity);
+        }
+    }
+
+    @Test
+    void write_ShouldInvalidateOnlyResponsesOfAffectedMeterType() throws Exception {
+        byte[] gas = getBody("/v1/meter-readings/GAS");
+        byte[] water = getBody("/v1/meter-readings/WATER");
+        byte[] all = getBody("/v1/meter-readings");
+
+        mockMvc.perform(post("/v1/meter-readings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"meterType": "GAS", "readingValue": 5000.00, "readingDate": "2026-01-05T08:00:00"}
+                                """))
+                .andExpect(status().isCreated());
+
+        assertThat(getBody("/v1/meter-readings/GAS")).isNotEqualTo(gas);
+        assertThat(getBody("/v1/meter-readings")).isNotEqualTo(all);
+        assertStatements(0, () -> assertThat(getBody("/v1/meter-readings/WATER")).isEqualTo(water));
+    }
+
+    private byte[] getBody(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("household.response.cache.requests", "result", result).count();
+    }
+}
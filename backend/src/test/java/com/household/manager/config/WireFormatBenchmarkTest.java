@@ -0,0 +1,99 @@
+package com.household.manager.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares payload size and serialize/deserialize time of the negotiable wire
+ * formats for a 10k-reading history.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final int READINGS = 10_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 30;
+    private static final TypeReference<List<MeterReadingResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Test
+    void compareWireFormats() throws Exception {
+        List<MeterReadingResponse> history = history();
+
+        Map<String, JsonFactory> formats = new LinkedHashMap<>();
+        formats.put("JSON", new JsonFactory());
+        formats.put("CBOR", new CBORFactory());
+        formats.put("Smile", new SmileFactory());
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        System.out.printf("%-6s %12s %14s %16s%n", "format", "bytes", "serialize ms", "deserialize ms");
+        for (Map.Entry<String, JsonFactory> format : formats.entrySet()) {
+            ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().factory(format.getValue()).build();
+
+            byte[] payload = mapper.writeValueAsBytes(history);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(history), LIST_TYPE);
+            }
+
+            long serializeNanos = 0;
+            long deserializeNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                payload = mapper.writeValueAsBytes(history);
+                serializeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                List<MeterReadingResponse> decoded = mapper.readValue(payload, LIST_TYPE);
+                deserializeNanos += System.nanoTime() - start;
+                assertThat(decoded).hasSize(READINGS);
+            }
+
+            sizes.put(format.getKey(), payload.length);
+            System.out.printf("%-6s %12d %14.2f %16.2f%n", format.getKey(), payload.length,
+                    serializeNanos / 1e6 / MEASURED_ROUNDS, deserializeNanos / 1e6 / MEASURED_ROUNDS);
+        }
+
+        assertThat(sizes.get("CBOR")).isLessThan(sizes.get("JSON"));
+        assertThat(sizes.get("Smile")).isLessThan(sizes.get("JSON"));
+    }
+
+    private static List<MeterReadingResponse> history() {
+        List<MeterReadingResponse> readings = new ArrayList<>(READINGS);
+        LocalDateTime date = LocalDateTime.of(2000, 1, 3, 0, 0);
+        BigDecimal value = new BigDecimal("10000.00");
+        for (int i = 0; i < READINGS; i++) {
+            MeterType type = MeterType.values()[i % MeterType.values().length];
+            readings.add(MeterReadingResponse.builder()
+                    .id((long) i + 1)
+                    .meterType(type)
+                    .readingValue(value)
+                    .readingWeek(date.getDayOfYear() / 7 + 1)
+                    .readingDate(date)
+                    .createdAt(date.plusHours(1))
+                    .updatedAt(date.plusHours(1))
+                    .build());
+            value = value.add(new BigDecimal("42.17"));
+            date = date.plusDays(1);
+        }
+        return readings;
+    }
+}
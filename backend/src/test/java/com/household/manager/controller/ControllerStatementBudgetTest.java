@@ -0,0 +1,128 @@
+package com.household.manager.controller;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.model.entity.UtilityPrice;
+import com.household.manager.monitoring.StatementCounts;
+import com.household.manager.monitoring.StatementScope;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.repository.UtilityPriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.household.manager.monitoring.StatementCounts.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the number of SQL statements of the read routes of
+ * {@link MeterReadingController} and {@link UtilityPriceController}.
+ * <p>
+ * The counts must not depend on the number of stored rows; a growing count
+ * indicates an N+1 query.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ControllerStatementBudgetTest {
+
+    private static final int READINGS_PER_TYPE = 12;
+
+    /** Utility prices exist for electricity and gas only. */
+    private static final List<MeterType> PRICED_TYPES = List.of(MeterType.ELECTRICITY, MeterType.GAS);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private UtilityPriceRepository utilityPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<MeterReading> readings = new ArrayList<>();
+        List<UtilityPrice> prices = new ArrayList<>();
+        for (MeterType type : MeterType.values()) {
+            for (int i = 0; i < READINGS_PER_TYPE; i++) {
+                readings.add(MeterReading.builder()
+                        .meterType(type)
+                        .readingValue(BigDecimal.valueOf(1000 + 10L * i))
+                        .readingDate(LocalDateTime.of(2025, 1, 6, 0, 0).plusWeeks(i))
+                        .build());
+            }
+        }
+        for (MeterType type : PRICED_TYPES) {
+            prices.add(price(type, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+            prices.add(price(type, LocalDate.of(2025, 1, 1), null));
+        }
+        meterReadingRepository.saveAll(readings);
+        utilityPriceRepository.saveAll(prices);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        utilityPriceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void meterReadingRoutes_ShouldNotQueryPerReading() throws Exception {
+        // the same query once per meter type, loaded concurrently
+        StatementScope all = StatementCounts.count(() -> mockMvc.perform(get("/v1/meter-readings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(READINGS_PER_TYPE * MeterType.values().length)));
+        assertThat(all.getStatements()).isEqualTo(MeterType.values().length);
+        assertStatements(1, () -> mockMvc.perform(get("/v1/meter-readings/GAS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].consumption").value(10)));
+        assertStatements(1, () -> mockMvc.perform(get("/v1/meter-readings/GAS").param("fields", "readingDate"))
+                .andExpect(status().isOk()));
+        assertStatements(1, () -> mockMvc.perform(get("/v1/meter-readings/GAS/latest"))
+                .andExpect(status().isOk()));
+        assertStatements(1, () -> mockMvc.perform(get("/v1/meter-readings/GAS/consumption"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void utilityPriceRoutes_ShouldNotQueryPerPrice() throws Exception {
+        assertStatements(1, () -> mockMvc.perform(get("/v1/utility-prices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2 * PRICED_TYPES.size())));
+        assertStatements(1, () -> mockMvc.perform(get("/v1/utility-prices/GAS"))
+                .andExpect(status().isOk()));
+        assertStatements(1, () -> mockMvc.perform(get("/v1/utility-prices/GAS/current"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void statementCounts_ShouldBeAttributedToServiceMethods() throws Exception {
+        StatementScope scope = StatementCounts.count(() -> mockMvc.perform(get("/v1/meter-readings/GAS/latest")));
+
+        assertThat(scope.getMethodStatements()).containsKey("MeterReadingService.getLatestReading");
+    }
+
+    private static UtilityPrice price(MeterType type, LocalDate validFrom, LocalDate validTo) {
+        return UtilityPrice.builder()
+                .meterType(type)
+                .price(new BigDecimal("0.3000"))
+                .validFrom(validFrom)
+                .validTo(validTo)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.household.manager.controller;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.model.entity.UtilityPrice;
+import com.household.manager.monitoring.StatementCounts;
+import com.household.manager.monitoring.StatementScope;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.repository.UtilityPriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Dashboard summary of {@link DashboardController} with incomplete data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private UtilityPriceRepository utilityPriceRepository;
+
+    @BeforeEach
+    void setUp() {
+        // electricity: two readings and a current price, gas: a single reading and no price, water: nothing
+        meterReadingRepository.saveAll(List.of(
+                reading(MeterType.ELECTRICITY, 10000, LocalDateTime.of(2026, 1, 1, 12, 0)),
+                reading(MeterType.ELECTRICITY, 10250.50, LocalDateTime.of(2026, 2, 1, 12, 0)),
+                reading(MeterType.GAS, 500, LocalDateTime.of(2026, 2, 1, 12, 0))));
+        utilityPriceRepository.save(UtilityPrice.builder()
+                .meterType(MeterType.ELECTRICITY)
+                .price(new BigDecimal("0.3200"))
+                .validFrom(LocalDate.now().minusMonths(1))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        utilityPriceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void dashboard_ShouldSummarizeAllMeterTypesWithMissingParts() throws Exception {
+        StatementScope scope = StatementCounts.count(() -> mockMvc.perform(get("/v1/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partial").value(false))
+                .andExpect(jsonPath("$.meters.length()").value(3))
+                .andExpect(jsonPath("$.meters[0].meterType").value("ELECTRICITY"))
+                .andExpect(jsonPath("$.meters[0].latestReading.readingValue").value(10250.50))
+                .andExpect(jsonPath("$.meters[0].consumption.consumption").value(250.50))
+                .andExpect(jsonPath("$.meters[0].consumption.daysBetweenReadings").value(31))
+                .andExpect(jsonPath("$.meters[0].currentPrice.price").value(0.32))
+                .andExpect(jsonPath("$.meters[1].meterType").value("GAS"))
+                .andExpect(jsonPath("$.meters[1].latestReading.readingValue").value(500))
+                .andExpect(jsonPath("$.meters[1].consumption").isEmpty())
+                .andExpect(jsonPath("$.meters[1].currentPrice").isEmpty())
+                .andExpect(jsonPath("$.meters[2].meterType").value("WATER"))
+                .andExpect(jsonPath("$.meters[2].latestReading").isEmpty()));
+
+        // one query per meter type for the readings, one per priced meter type, counted across threads
+        assertThat(scope.getStatements()).isEqualTo(MeterType.values().length + 2);
+    }
+
+    private static MeterReading reading(MeterType meterType, double value, LocalDateTime date) {
+        return MeterReading.builder()
+                .meterType(meterType)
+                .readingValue(BigDecimal.valueOf(value))
+                .readingDate(date)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.household.manager.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Interval data endpoints of {@link IntervalDataController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IntervalDataControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM interval_chunks");
+    }
+
+    @Test
+    void samples_ShouldBeStoredPerDayAndQueriedByRange() throws Exception {
+        // two days of quarter-hour values, 0.25 kWh per interval
+        mockMvc.perform(post("/v1/interval-data/ELECTRICITY")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(samples(0, 192)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.added").value(192))
+                .andExpect(jsonPath("$.chunks").value(2));
+
+        // re-sent samples are unchanged, a corrected one is replaced
+        mockMvc.perform(post("/v1/interval-data/ELECTRICITY")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"samples\":[{\"timestamp\":\"2026-03-01T00:15:00\",\"value\":1000.25},"
+                                + "{\"timestamp\":\"2026-03-01T23:45:00\",\"value\":1023.80}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.replaced").value(1))
+                .andExpect(jsonPath("$.chunks").value(1));
+
+        mockMvc.perform(get("/v1/interval-data/ELECTRICITY")
+                        .param("from", "2026-03-01T23:30:00")
+                        .param("to", "2026-03-02T00:30:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].timestamp").value("2026-03-01T23:30:00"))
+                .andExpect(jsonPath("$[1].value").value(1023.80))
+                .andExpect(jsonPath("$[2].timestamp").value("2026-03-02T00:00:00"))
+                .andExpect(jsonPath("$[3].value").value(1024.25));
+
+        mockMvc.perform(get("/v1/interval-data/ELECTRICITY/days")
+                        .param("from", "2026-03-02")
+                        .param("to", "2026-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sampleCount").value(96))
+                .andExpect(jsonPath("$[0].firstValue").value(1024.00))
+                .andExpect(jsonPath("$[0].lastValue").value(1047.75))
+                // since the last sample of the previous day
+                .andExpect(jsonPath("$[0].consumption").value(23.95));
+    }
+
+    @Test
+    void invalidRequests_ShouldBeRejected() throws Exception {
+        mockMvc.perform(post("/v1/interval-data/GAS")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"samples\":[{\"timestamp\":\"2026-03-01T00:00:00\",\"value\":1.001}]}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/interval-data/GAS")
+                        .param("from", "2026-03-02T00:00:00")
+                        .param("to", "2026-03-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String samples(int from, int to) {
+        StringJoiner samples = new StringJoiner(",", "{\"samples\":[", "]}");
+        for (int i = from; i < to; i++) {
+            samples.add("{\"timestamp\":\"" + START.plusMinutes(15L * i) + ":00\",\"value\":" + (1000 + i * 0.25) + "}");
+        }
+        return samples.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.household.manager.controller;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Streamed CSV import ({@code POST /v1/meter-readings/import/stream}) of {@link MeterReadingController}.
+ */
+@SpringBootTest(properties = {
+        "household.import.max-upload-size=16KB",
+        "household.import.max-uncompressed-size=64KB"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MeterReadingImportStreamTest {
+
+    private static final String CSV = """
+            Datum,KW,Strom,,,Notiz Strom,,Gas,,,,,Wasser,Notiz
+            02.03.2026,10,5000,,,,,1000,,,,,200,
+            09.03.2026,11,5070,,,,,1012,,,,,203,
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM import_files");
+    }
+
+    @Test
+    void importStream_ShouldDecodeGzipContentEncoding() throws Exception {
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType("text/csv")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(gzip(CSV.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(6));
+
+        assertThat(meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(MeterType.WATER)).hasSize(2);
+    }
+
+    @Test
+    void importStream_ShouldDecodeZstdContentType() throws Exception {
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType("application/zstd")
+                        .content(zstd(CSV.getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(6));
+
+        // the same content again is recognised by the hash of the decompressed file
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(0))
+                .andExpect(jsonPath("$.unchangedCount").value(6));
+    }
+
+    @Test
+    void importStream_ShouldRejectDeclaredSizeOverLimit() throws Exception {
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType("text/csv")
+                        .content(new byte[17 * 1024]))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void importStream_ShouldRejectDecompressedSizeOverLimit() throws Exception {
+        byte[] emptyLines = "\n".repeat(128 * 1024).getBytes(StandardCharsets.UTF_8);
+        byte[] body = gzip(emptyLines);
+        assertThat(body.length).isLessThan(16 * 1024);
+
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType("application/gzip")
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void importStream_ShouldRejectOtherContentTypes() throws Exception {
+        mockMvc.perform(post("/v1/meter-readings/import/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] zstd(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream zstd = new ZstdOutputStream(out)) {
+            zstd.write(content);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,152 @@
+package com.household.manager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests that the streamed reading lists are byte-identical to serializing the
+ * {@link MeterReadingService} lists.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MeterReadingListStreamingTest {
+
+    private static final String[] FIELD_SELECTIONS = {
+            null,
+            "readingDate,readingValue",
+            "meterType,readingDate,readingValue,consumption",
+            "consumption,daysSinceLastReading",
+            "id,notes",
+            "readingWeek,createdAt,updatedAt"
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<MeterReading> readings = new ArrayList<>();
+        String[] notes = {null, "", "Zähler \"neu\"\nzweite Zeile", "Urlaub"};
+        for (int i = 0; i < 8; i++) {
+            // electricity and gas at the same times, so the newest-first order has ties
+            readings.add(reading(MeterType.GAS, "5000", i, 8, i + 1, notes[(i + 1) % 4]));
+            readings.add(reading(MeterType.ELECTRICITY, "10000.50", i, 8, i % 3 == 0 ? null : i + 1, notes[i % 4]));
+        }
+        readings.add(reading(MeterType.WATER, "12.345", 0, 10, null, "Einzige Ablesung"));
+        meterReadingRepository.saveAll(readings);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void allReadings_ShouldMatchSerializedServiceList() throws Exception {
+        for (String fields : FIELD_SELECTIONS) {
+            assertThat(getJson("/v1/meter-readings", fields))
+                    .as("fields=%s", fields)
+                    .isEqualTo(objectMapper.writeValueAsString(meterReadingService.getAllMeterReadings(fields)));
+        }
+    }
+
+    @Test
+    void allReadings_ShouldBeOrderedNewestFirstThenByMeterType() {
+        List<MeterReadingResponse> readings = meterReadingService.getAllMeterReadings(null);
+
+        assertThat(readings).hasSize(17);
+        assertThat(readings).isSortedAccordingTo(Comparator.comparing(MeterReadingResponse::getReadingDate).reversed()
+                .thenComparing(MeterReadingResponse::getMeterType));
+        assertThat(readings).filteredOn(reading -> reading.getConsumption() != null)
+                .extracting(MeterReadingResponse::getMeterType)
+                .containsExactly(MeterType.ELECTRICITY, MeterType.GAS);
+    }
+
+    @Test
+    void readingsByType_ShouldMatchSerializedServiceList() throws Exception {
+        for (MeterType type : MeterType.values()) {
+            for (String fields : FIELD_SELECTIONS) {
+                assertThat(getJson("/v1/meter-readings/" + type, fields))
+                        .as("%s fields=%s", type, fields)
+                        .isEqualTo(objectMapper.writeValueAsString(
+                                meterReadingService.getMeterReadingsByType(type, fields)));
+            }
+        }
+    }
+
+    @Test
+    void cborReadings_ShouldMatchSerializedServiceList() throws Exception {
+        byte[] body = mockMvc.perform(get("/v1/meter-readings/GAS").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // the streamed array has indefinite length, its decoded content is identical
+        ObjectMapper cborMapper = cborHttpMessageConverter.getObjectMapper();
+        byte[] expected = cborMapper.writeValueAsBytes(meterReadingService.getMeterReadingsByType(MeterType.GAS, null));
+        assertThat(cborMapper.readTree(body)).isEqualTo(cborMapper.readTree(expected));
+    }
+
+    @Test
+    void unknownField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/meter-readings").param("fields", "readingDate,unknown"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String getJson(String path, String fields) throws Exception {
+        var request = get(path).accept(MediaType.APPLICATION_JSON);
+        if (fields != null) {
+            request.param("fields", fields);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static MeterReading reading(MeterType type, String base, int week, int hour, Integer readingWeek,
+                                        String notes) {
+        return MeterReading.builder()
+                .meterType(type)
+                .readingValue(new BigDecimal(base).add(BigDecimal.valueOf(week * 37L, 1)))
+                .readingWeek(readingWeek)
+                .readingDate(LocalDateTime.of(2025, 1, 6, hour, 30).plusWeeks(week))
+                .notes(notes)
+                .build();
+    }
+}
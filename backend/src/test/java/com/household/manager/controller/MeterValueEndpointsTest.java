@@ -0,0 +1,118 @@
+package com.household.manager.controller;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.household.manager.monitoring.StatementCounts.assertStatements;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Interpolated meter values and billing period consumption of {@link MeterReadingController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MeterValueEndpointsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private MeterReadingIndex meterReadingIndex;
+
+    @BeforeEach
+    void setUp() {
+        // weekly readings from Monday 2025-01-06, 70 units per week (10 per day)
+        meterReadingRepository.saveAll(IntStream.range(0, 10)
+                .mapToObj(week -> MeterReading.builder()
+                        .meterType(MeterType.GAS)
+                        .readingValue(BigDecimal.valueOf(1000 + 70L * week))
+                        .readingDate(LocalDateTime.of(2025, 1, 6, 0, 0).plusWeeks(week))
+                        .build())
+                .toList());
+        // readings are written through the repository, without change events
+        meterReadingIndex.evict(MeterType.GAS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        meterReadingIndex.evict(MeterType.GAS);
+    }
+
+    @Test
+    void valueAt_ShouldInterpolateBetweenReadings() throws Exception {
+        mockMvc.perform(get("/v1/meter-readings/GAS/value-at")
+                        .param("timestamps", "2025-01-13T00:00:00,2025-01-16T12:00:00,2025-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].value").value(1070.00))
+                .andExpect(jsonPath("$[0].interpolated").value(false))
+                .andExpect(jsonPath("$[1].value").value(1105.00))
+                .andExpect(jsonPath("$[1].interpolated").value(true))
+                .andExpect(jsonPath("$[2].timestamp").value("2025-01-01T00:00:00"))
+                .andExpect(jsonPath("$[2].value").doesNotExist());
+    }
+
+    @Test
+    void billingPeriods_ShouldReturnConsumptionBetweenBoundaries() throws Exception {
+        mockMvc.perform(get("/v1/meter-readings/GAS/billing-periods")
+                        .param("boundaries", "2025-01-10T00:00:00", "2025-02-01T00:00:00", "2025-03-01T00:00:00",
+                                "2025-04-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].startValue").value(1040.00))
+                .andExpect(jsonPath("$[0].endValue").value(1260.00))
+                .andExpect(jsonPath("$[0].consumption").value(220.00))
+                .andExpect(jsonPath("$[0].days").value(22))
+                .andExpect(jsonPath("$[0].averageDailyConsumption").value(10.00))
+                .andExpect(jsonPath("$[1].consumption").value(280.00))
+                .andExpect(jsonPath("$[2].startValue").value(1540.00))
+                .andExpect(jsonPath("$[2].endValue").doesNotExist())
+                .andExpect(jsonPath("$[2].consumption").doesNotExist());
+    }
+
+    @Test
+    void valueAt_ShouldResolveManyInstantsWithAtMostOneStatement() throws Exception {
+        String timestamps = IntStream.range(0, 500)
+                .mapToObj(hour -> LocalDateTime.of(2025, 1, 6, 0, 0).plusHours(hour).toString())
+                .collect(Collectors.joining(","));
+
+        assertStatements(1, () -> mockMvc.perform(get("/v1/meter-readings/GAS/value-at").param("timestamps", timestamps))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(500))));
+        assertStatements(0, () -> mockMvc.perform(get("/v1/meter-readings/GAS/value-at").param("timestamps", timestamps))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void invalidBoundaries_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/v1/meter-readings/GAS/billing-periods")
+                        .param("boundaries", "2025-02-01T00:00:00,2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/meter-readings/GAS/billing-periods").param("boundaries", "2025-02-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/v1/meter-readings/GAS/value-at"))
+                .andExpect(status().isBadRequest());
+    }
+}
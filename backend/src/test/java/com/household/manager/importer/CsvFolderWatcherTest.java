@@ -0,0 +1,165 @@
+package com.household.manager.importer;
+
+import com.household.manager.importer.ImportOffsetStore.ImportOffset;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.service.MeterReadingBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tailing of appended, shrunk and replaced files by {@link CsvFolderWatcher#importAppended}.
+ */
+class CsvFolderWatcherTest {
+
+    private static final String HEADER = "Datum,KW,Strom,,,Notiz Strom,,Gas,,,,,Wasser,Notiz\n";
+
+    @TempDir
+    Path tempDir;
+
+    private final List<String> inserted = new ArrayList<>();
+    private final Map<String, ImportOffset> offsets = new HashMap<>();
+    private MeterReadingCsvImporter csvImporter;
+    private ImportOffsetStore offsetStore;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        MeterReadingBatchWriter writer = new MeterReadingBatchWriter(null, null, null, null, null) {
+            @Override
+            public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+                readings.forEach(reading -> inserted.add(
+                        reading.getReadingDate().toLocalDate() + "=" + reading.getReadingValue()));
+                return new BatchWriteResult(readings.size(), 0, List.of());
+            }
+        };
+        ImportFingerprintStore fingerprintStore = new ImportFingerprintStore(null) {
+            @Override
+            ReadingFingerprints loadReadingFingerprints() {
+                return new ReadingFingerprints();
+            }
+        };
+        csvImporter = new MeterReadingCsvImporter(writer, fingerprintStore);
+        offsetStore = new ImportOffsetStore(null) {
+            @Override
+            Optional<ImportOffset> find(String filePath) {
+                return Optional.ofNullable(offsets.get(filePath));
+            }
+
+            @Override
+            void save(String filePath, ImportOffset offset) {
+                offsets.put(filePath, offset);
+            }
+        };
+        file = tempDir.resolve("verbrauch.csv");
+    }
+
+    @Test
+    void importAppended_ShouldResumeFromStoredOffset() throws Exception {
+        Files.writeString(file, HEADER + row("02.03.2026", "1000") + row("09.03.2026", "1012"));
+        newWatcher().importAppended(file);
+        assertThat(inserted).containsExactly("2026-03-02=1000", "2026-03-09=1012");
+        assertThat(storedOffset()).isEqualTo(Files.size(file));
+
+        // a restarted watcher continues after the stored offset
+        append(row("16.03.2026", "1030"));
+        inserted.clear();
+        newWatcher().importAppended(file);
+        assertThat(inserted).containsExactly("2026-03-16=1030");
+        assertThat(storedOffset()).isEqualTo(Files.size(file));
+
+        // nothing new
+        inserted.clear();
+        newWatcher().importAppended(file);
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    void importAppended_ShouldLeaveHalfWrittenLastLineForNextRound() throws Exception {
+        Files.writeString(file, HEADER + row("02.03.2026", "1000") + "09.03.2026,11,,,,,,10");
+        long completeEnd = Files.size(file) - "09.03.2026,11,,,,,,10".length();
+
+        CsvFolderWatcher watcher = newWatcher();
+        watcher.importAppended(file);
+        assertThat(inserted).containsExactly("2026-03-02=1000");
+        assertThat(storedOffset()).isEqualTo(completeEnd);
+
+        append("12,,,,,,\n");
+        inserted.clear();
+        watcher.importAppended(file);
+        assertThat(inserted).containsExactly("2026-03-09=1012");
+        assertThat(storedOffset()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void importAppended_ShouldReadShrunkFileFromStart() throws Exception {
+        Files.writeString(file, HEADER + row("02.03.2026", "1000") + row("09.03.2026", "1012"));
+        CsvFolderWatcher watcher = newWatcher();
+        watcher.importAppended(file);
+
+        // truncated in place and rewritten: same file, but smaller than the stored offset
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER.length());
+        }
+        append(row("03.03.2026", "1001"));
+        inserted.clear();
+        watcher.importAppended(file);
+
+        assertThat(inserted).containsExactly("2026-03-03=1001");
+        assertThat(storedOffset()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void importAppended_ShouldReadReplacedFileFromStart() throws Exception {
+        Files.writeString(file, HEADER + row("02.03.2026", "1000"));
+        CsvFolderWatcher watcher = newWatcher();
+        watcher.importAppended(file);
+        String fileKey = offsets.get(file.toString()).fileKey();
+
+        // replaced by a new file (new inode) that is larger than the stored offset
+        Path replacement = tempDir.resolve("verbrauch.csv.tmp");
+        Files.writeString(replacement, HEADER + row("02.03.2026", "1000") + row("09.03.2026", "1012")
+                + row("16.03.2026", "1030"));
+        Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        inserted.clear();
+        watcher.importAppended(file);
+
+        assertThat(inserted).containsExactly("2026-03-02=1000", "2026-03-09=1012", "2026-03-16=1030");
+        assertThat(offsets.get(file.toString()).fileKey()).isNotEqualTo(fileKey);
+        assertThat(storedOffset()).isEqualTo(Files.size(file));
+    }
+
+    private CsvFolderWatcher newWatcher() {
+        return new CsvFolderWatcher(csvImporter, offsetStore);
+    }
+
+    private long storedOffset() {
+        return offsets.get(file.toString()).byteOffset();
+    }
+
+    /**
+     * Row in the export format with a gas reading only.
+     */
+    private static String row(String date, String gas) {
+        return date + ",," + ",,,,," + gas + ",,,,,,\n";
+    }
+
+    private void append(String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+}
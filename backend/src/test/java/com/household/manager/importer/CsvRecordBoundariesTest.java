@@ -0,0 +1,60 @@
+package com.household.manager.importer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CsvRecordBoundaries}.
+ */
+class CsvRecordBoundariesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lastRecordEnd_ShouldStopBeforePartialLastLine() throws Exception {
+        String complete = "05.01.2026,2,100\r\n12.01.2026,3,110\n";
+
+        assertThat(lastRecordEnd(complete + "19.01.2026,4,1")).isEqualTo(bytes(complete));
+        assertThat(lastRecordEnd(complete)).isEqualTo(bytes(complete));
+    }
+
+    @Test
+    void lastRecordEnd_ShouldIgnoreLineBreaksInQuotedFields() throws Exception {
+        String complete = "05.01.2026,2,\"100,5\",\"Zähler \"\"neu\"\"\ngetauscht\"\n";
+
+        assertThat(lastRecordEnd(complete + "12.01.2026,3,110,\"noch\noffen")).isEqualTo(bytes(complete));
+    }
+
+    @Test
+    void lastRecordEnd_ShouldTreatQuotesInsideUnquotedFieldsAsLiterals() throws Exception {
+        String complete = "05.01.2026,2,100,12\" Rohr\n12.01.2026,3,110\n";
+
+        assertThat(lastRecordEnd(complete + "19.01.2026")).isEqualTo(bytes(complete));
+    }
+
+    @Test
+    void lastRecordEnd_WithoutCompleteRecord_ShouldReturnStart() throws Exception {
+        assertThat(lastRecordEnd("\"offen\nweiter")).isZero();
+    }
+
+    private long lastRecordEnd(String content) throws Exception {
+        Path file = tempDir.resolve("tail.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return CsvRecordBoundaries.lastRecordEnd(channel, 0, channel.size());
+        }
+    }
+
+    private static long bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
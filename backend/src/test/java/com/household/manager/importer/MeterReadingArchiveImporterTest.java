@@ -0,0 +1,155 @@
+package com.household.manager.importer;
+
+import com.household.manager.importer.MeterReadingArchiveImporter.ArchiveImportResult;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.service.MeterReadingBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * File discovery and cross-file merging of {@link MeterReadingArchiveImporter}.
+ */
+class MeterReadingArchiveImporterTest {
+
+    private static final String HEADER = "Datum,KW,Strom,,,Notiz Strom,,Gas,,,,,Wasser,Notiz\n";
+
+    @TempDir
+    Path tempDir;
+
+    private final List<MeterReading> inserted = new CopyOnWriteArrayList<>();
+    private MeterReadingArchiveImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        MeterReadingBatchWriter writer = new MeterReadingBatchWriter(null, null, null, null, null) {
+            @Override
+            public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+                inserted.addAll(readings);
+                return new BatchWriteResult(readings.size(), 0, List.of());
+            }
+
+            @Override
+            public int updateBatch(List<MeterReading> readings) {
+                return readings.size();
+            }
+        };
+        ImportFingerprintStore fingerprintStore = new ImportFingerprintStore(null) {
+            @Override
+            ReadingFingerprints loadReadingFingerprints() {
+                return new ReadingFingerprints();
+            }
+        };
+
+        importer = new MeterReadingArchiveImporter(
+                new MeterReadingCsvImporter(writer, fingerprintStore), writer, fingerprintStore);
+        ReflectionTestUtils.setField(importer, "parallelism", 2);
+        ReflectionTestUtils.setField(importer, "flushSize", 2);
+    }
+
+    @Test
+    void importFrom_ShouldMergeCsvAndZipFilesOfDirectoryByDate() throws Exception {
+        writeCsv(tempDir.resolve("a.csv"), Map.of("02.03.2026", "1000", "16.03.2026", "1030"));
+        writeCsv(tempDir.resolve("b.CSV"), Map.of("09.03.2026", "1012"));
+        writeZip(tempDir.resolve("c.zip"), Map.of("d.csv", csv(Map.of("23.03.2026", "1041"))));
+        Files.writeString(tempDir.resolve("notes.txt"), HEADER + "30.03.2026,14,,,,,,1050,,,,,,\n");
+        Files.createDirectory(tempDir.resolve("old"));
+        writeCsv(tempDir.resolve("old").resolve("e.csv"), Map.of("30.03.2026", "1050"));
+
+        assertThat(importer.supports(tempDir.toString())).isTrue();
+        ArchiveImportResult result = importer.importFrom(tempDir.toString());
+
+        assertThat(result.files()).isEqualTo(3);
+        assertThat(result.parsed()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(4);
+        assertThat(inserted).extracting(reading -> reading.getReadingDate().toLocalDate().toString())
+                .containsExactly("2026-03-02", "2026-03-09", "2026-03-16", "2026-03-23");
+    }
+
+    @Test
+    void importFrom_ShouldOnlyImportFilesMatchingGlob() throws Exception {
+        Path exports = Files.createDirectory(tempDir.resolve("exports"));
+        writeCsv(exports.resolve("verbrauch-2025.csv"), Map.of("29.12.2025", "900"));
+        writeCsv(exports.resolve("verbrauch-2026.csv"), Map.of("05.01.2026", "910"));
+        writeCsv(exports.resolve("strom-2026.csv"), Map.of("12.01.2026", "920"));
+
+        String pattern = exports + "/verbrauch-*.csv";
+        assertThat(importer.supports(pattern)).isTrue();
+        ArchiveImportResult result = importer.importFrom(pattern);
+
+        assertThat(result.files()).isEqualTo(2);
+        assertThat(inserted).extracting(MeterReading::getReadingValue)
+                .extracting(Object::toString)
+                .containsExactly("900", "910");
+    }
+
+    @Test
+    void importFrom_ShouldReadCsvEntriesOfZipFile() throws Exception {
+        Path zip = tempDir.resolve("export.zip");
+        writeZip(zip, Map.of(
+                "2026/march.csv", csv(Map.of("02.03.2026", "1000")),
+                "february.csv", csv(Map.of("23.02.2026", "990")),
+                "readme.txt", "no readings"));
+
+        assertThat(importer.supports(zip.toString())).isTrue();
+        assertThat(importer.supports(tempDir.resolve("single.csv").toString())).isFalse();
+        ArchiveImportResult result = importer.importFrom(zip.toString());
+
+        assertThat(result.files()).isEqualTo(2);
+        assertThat(inserted).extracting(reading -> reading.getReadingDate().toLocalDate().toString())
+                .containsExactly("2026-02-23", "2026-03-02");
+    }
+
+    @Test
+    void importFrom_ShouldKeepReadingOfLastFileForDuplicateDate() throws Exception {
+        writeCsv(tempDir.resolve("2026-03-a.csv"), Map.of("02.03.2026", "1000", "09.03.2026", "1012"));
+        writeCsv(tempDir.resolve("2026-03-b.csv"), Map.of("09.03.2026", "1015"));
+
+        ArchiveImportResult result = importer.importFrom(tempDir.toString());
+
+        assertThat(result.parsed()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(inserted).extracting(MeterReading::getReadingValue)
+                .extracting(Object::toString)
+                .containsExactly("1000", "1015");
+    }
+
+    /**
+     * CSV in the export format with gas readings only.
+     */
+    private static String csv(Map<String, String> gasByDate) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        new ArrayList<>(gasByDate.keySet()).stream().sorted().forEach(date ->
+                csv.append(date).append(",,,,,,,").append(gasByDate.get(date)).append(",,,,,,\n"));
+        return csv.toString();
+    }
+
+    private static void writeCsv(Path file, Map<String, String> gasByDate) throws IOException {
+        Files.writeString(file, csv(gasByDate), StandardCharsets.UTF_8);
+    }
+
+    private static void writeZip(Path file, Map<String, String> entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.household.manager.importer;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.service.MeterReadingBatchWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the parallel, memory-mapped import of {@link MeterReadingCsvImporter}
+ * writes exactly the same batches as the sequential import.
+ */
+class MeterReadingCsvImporterTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parallelImport_ShouldWriteSameBatchesAsSequentialImport() throws Exception {
+        Path file = writeCsv("export.csv", false);
+
+        List<List<String>> sequential = importBatches(file, false);
+        List<List<String>> parallel = importBatches(file, true);
+
+        assertThat(sequential).hasSizeGreaterThan(1);
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void parallelImport_WithLiteralQuotesInUnquotedFields_ShouldWriteSameBatchesAsSequentialImport()
+            throws Exception {
+        Path file = writeCsv("export-stray-quotes.csv", true);
+
+        List<List<String>> sequential = importBatches(file, false);
+        List<List<String>> parallel = importBatches(file, true);
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    /**
+     * Writes a CSV in the export format with quoted multi-line notes, escaped
+     * quotes, delimiters inside quotes, CRLF line endings and empty lines.
+     */
+    private Path writeCsv(String name, boolean strayQuotes) throws Exception {
+        StringBuilder csv = new StringBuilder("Datum,KW,Strom,,,Notiz Strom,,Gas,,,,,Wasser,Notiz\n");
+        LocalDate date = LocalDate.of(2001, 1, 1);
+        for (int i = 0; i < 600; i++) {
+            String electricityNote = switch (i % 7) {
+                case 0 -> "\"Zähler\ngetauscht, neu\"";
+                case 3 -> "\"sagte \"\"ok\"\"\r\nzweite Zeile\"";
+                case 5 -> strayQuotes ? "12\" Rohr" : "Ablesung";
+                default -> "";
+            };
+            String gas = i % 4 == 0 ? "" : String.format("%d,%d", 1000 + i, i % 100);
+            csv.append(date.plusWeeks(i / 2).format(DATE_FORMAT)).append(',')
+                    .append(i % 52 + 1).append(',')
+                    .append("\"").append(5000 + i).append(",5\",,,")
+                    .append(electricityNote).append(",,")
+                    .append(gas.isEmpty() ? "" : "\"" + gas + "\"").append(",,,,,")
+                    .append(300 + i).append(',')
+                    .append(i % 11 == 0 ? "\"Urlaub\n(2 Wochen)\"" : "")
+                    .append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 50 == 0) {
+                csv.append('\n');
+            }
+        }
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private List<List<String>> importBatches(Path file, boolean parallel) throws Exception {
+        List<List<String>> batches = new ArrayList<>();
+        MeterReadingBatchWriter writer = new MeterReadingBatchWriter(null, null, null, null, null) {
+            @Override
+            public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+                batches.add(describe("insert", readings));
+                return new BatchWriteResult(readings.size(), 0, List.of());
+            }
+
+            @Override
+            public int updateBatch(List<MeterReading> readings) {
+                batches.add(describe("update", readings));
+                return readings.size();
+            }
+        };
+        ImportFingerprintStore fingerprintStore = new ImportFingerprintStore(null) {
+            @Override
+            ReadingFingerprints loadReadingFingerprints() {
+                return new ReadingFingerprints();
+            }
+
+            @Override
+            boolean isImported(String contentHash) {
+                return false;
+            }
+
+            @Override
+            void recordImport(String contentHash, String source, int readingCount) {
+            }
+        };
+
+        MeterReadingCsvImporter importer = new MeterReadingCsvImporter(writer, fingerprintStore);
+        ReflectionTestUtils.setField(importer, "flushSize", 100);
+        ReflectionTestUtils.setField(importer, "parallelism", 4);
+        ReflectionTestUtils.setField(importer, "parallelParseThreshold",
+                parallel ? DataSize.ofBytes(0) : DataSize.ofGigabytes(1));
+        ReflectionTestUtils.setField(importer, "parseChunkSize", DataSize.ofBytes(1024));
+
+        MeterReadingCsvImporter.ImportResult result = importer.importFromPath(file);
+
+        // every described batch starts with its operation
+        int written = batches.stream().mapToInt(batch -> batch.size() - 1).sum();
+        assertThat(result.created() + result.updated()).isEqualTo(written);
+        return batches;
+    }
+
+    private static List<String> describe(String operation, List<MeterReading> readings) {
+        List<String> described = new ArrayList<>(List.of(operation));
+        readings.forEach(reading -> described.add(reading.getMeterType() + "|" + reading.getReadingDate() + "|"
+                + reading.getReadingValue() + "|" + reading.getReadingWeek() + "|" + reading.getNotes()));
+        return described;
+    }
+}
@@ -0,0 +1,90 @@
+package com.household.manager.importer;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReadingFingerprints}.
+ */
+class ReadingFingerprintsTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2026, 1, 5, 0, 0);
+    private static final LocalDateTime DAY_2 = LocalDateTime.of(2026, 1, 12, 0, 0);
+    private static final LocalDateTime DAY_3 = LocalDateTime.of(2026, 1, 19, 0, 0);
+
+    @Test
+    void classify_ShouldSkipUnchangedRowsAndUpdateEditedAndUnfingerprintedReadings() {
+        ReadingFingerprints fingerprints = new ReadingFingerprints();
+        fingerprints.put(MeterType.GAS, DAY_1, ReadingFingerprints.fingerprint(reading(DAY_1, "100.00", "")));
+        fingerprints.put(MeterType.GAS, DAY_2, ReadingFingerprints.fingerprint(reading(DAY_2, "110.00", "")));
+        fingerprints.put(MeterType.GAS, DAY_3, null);
+
+        MeterReading unchanged = reading(DAY_1, "100.0", "");
+        MeterReading edited = reading(DAY_2, "111.00", "");
+        MeterReading unfingerprinted = reading(DAY_3, "120.00", "");
+        MeterReading added = reading(DAY_3.plusWeeks(1), "130.00", "neu");
+
+        ReadingFingerprints.Changes changes = fingerprints.classify(List.of(unchanged, edited, unfingerprinted, added));
+
+        assertThat(changes.unchanged()).isEqualTo(1);
+        assertThat(changes.updates()).containsExactly(edited, unfingerprinted);
+        assertThat(changes.inserts()).containsExactly(added);
+        assertThat(added.getImportFingerprint()).isNotNull();
+    }
+
+    @Test
+    void classify_ShouldLetLaterRowsForTheSameDateReplaceEarlierOnes() {
+        ReadingFingerprints fingerprints = new ReadingFingerprints();
+
+        MeterReading first = reading(DAY_1, "100.00", "");
+        MeterReading repeated = reading(DAY_1, "100.00", "");
+        MeterReading corrected = reading(DAY_1, "101.00", "korrigiert");
+
+        ReadingFingerprints.Changes changes = fingerprints.classify(List.of(first, repeated, corrected));
+
+        assertThat(changes.inserts()).containsExactly(first);
+        assertThat(changes.unchanged()).isEqualTo(1);
+        assertThat(changes.updates()).containsExactly(corrected);
+    }
+
+    @Test
+    void classify_ShouldSkipRowsRemovedByRetentionUnlessTheyAreKept() {
+        ReadingFingerprints fingerprints = new ReadingFingerprints();
+        // compacted to weeks before 2026-01-19 and to days before 2026-02-02
+        fingerprints.compacted(MeterType.GAS, DAY_3.plusWeeks(2), DAY_3.toLocalDate());
+        fingerprints.put(MeterType.GAS, DAY_1, null);
+        fingerprints.put(MeterType.GAS, DAY_2.plusDays(6), null);
+        fingerprints.put(MeterType.GAS, DAY_3.plusHours(20), null);
+
+        MeterReading first = reading(DAY_1.minusDays(3), "90.00", "");
+        MeterReading removedFromWeek = reading(DAY_2.plusDays(2), "112.00", "");
+        MeterReading removedFromDay = reading(DAY_3.plusHours(8), "118.00", "");
+        MeterReading annotated = reading(DAY_3.plusHours(10), "119.00", "Ablesung vor Ort");
+        MeterReading laterThanKept = reading(DAY_3.plusHours(22), "121.00", "");
+        MeterReading notCompacted = reading(DAY_3.plusWeeks(2).plusHours(1), "140.00", "");
+
+        ReadingFingerprints.Changes changes = fingerprints.classify(List.of(
+                first, removedFromWeek, removedFromDay, annotated, laterThanKept, notCompacted));
+
+        assertThat(changes.unchanged()).isEqualTo(2);
+        assertThat(changes.inserts()).containsExactly(first, annotated, laterThanKept, notCompacted);
+    }
+
+    private static MeterReading reading(LocalDateTime date, String value, String notes) {
+        return MeterReading.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal(value))
+                .readingWeek(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))
+                .readingDate(date)
+                .notes(notes)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.household.manager.ingest;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link IngestRejections#writeIsolated} retried after a failure of the database.
+ */
+class IngestRejectionsTest {
+
+    private static final BigDecimal POISON = new BigDecimal("666.00");
+    private static final BigDecimal UNLUCKY = new BigDecimal("20.00");
+
+    private final List<String> written = new ArrayList<>();
+    private final List<String> rejections = new ArrayList<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean(true);
+
+    private final MeterReadingBatchWriter writer = new MeterReadingBatchWriter(null, null, null, null, null) {
+        @Override
+        public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+            BigDecimal value = readings.get(0).getReadingValue();
+            if (value.compareTo(POISON) == 0) {
+                throw new DataIntegrityViolationException("Out of range value for column 'reading_value'");
+            }
+            if (value.compareTo(UNLUCKY) == 0 && databaseDown.getAndSet(false)) {
+                throw new TransientDataAccessResourceException("Connection reset");
+            }
+            written.add(value.toPlainString());
+            return new BatchWriteResult(1, 0, List.of());
+        }
+    };
+
+    private final IngestRejections ingestRejections = new IngestRejections(null, writer) {
+        @Override
+        public void record(String source, List<MeterReading> readings, String reason) {
+            readings.forEach(reading -> rejections.add(
+                    source + " " + reading.getReadingValue().toPlainString() + ": " + reason));
+        }
+    };
+
+    @Test
+    void writeIsolated_ShouldRecordRejectionsOnceWhenRetried() {
+        List<MeterReading> batch = List.of(reading(1, "10.00"), reading(2, "666.00"), reading(3, "20.00"));
+
+        assertThatThrownBy(() -> ingestRejections.writeIsolated("WAL", batch, true))
+                .isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(rejections).isEmpty();
+
+        BatchWriteResult result = ingestRejections.writeIsolated("WAL", batch, true);
+
+        assertThat(result.created()).isEqualTo(2);
+        // the stub does not skip duplicates like the real writer, so the first pass shows up twice
+        assertThat(written).containsExactly("10.00", "10.00", "20.00");
+        assertThat(rejections).containsExactly("WAL 666.00: Out of range value for column 'reading_value'");
+    }
+
+    private static MeterReading reading(int day, String value) {
+        return MeterReading.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal(value))
+                .readingDate(LocalDateTime.of(2026, 3, day, 8, 0))
+                .build();
+    }
+}
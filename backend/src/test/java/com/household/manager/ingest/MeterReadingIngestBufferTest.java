@@ -0,0 +1,122 @@
+package com.household.manager.ingest;
+
+import com.household.manager.dto.IngestRejectionResponse;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link MeterReadingIngestBuffer} draining readings the database refuses.
+ */
+@SpringBootTest(properties = {
+        "household.ingest.wal.enabled=true",
+        "household.ingest.wal.drain-interval-ms=20",
+        "household.ingest.wal.max-attempts=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class MeterReadingIngestBufferTest {
+
+    @Autowired
+    private MeterReadingIngestBuffer ingestBuffer;
+
+    @Autowired
+    private IngestRejections ingestRejections;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void walPath(DynamicPropertyRegistry registry) throws Exception {
+        String path = Files.createTempDirectory("wal").resolve("meter-readings.wal").toString();
+        registry.add("household.ingest.wal.path", () -> path);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM ingest_rejections");
+    }
+
+    @Test
+    void createMeterReading_ShouldRejectValuesOutsideTheStoredRangeBeforeAcknowledging() throws Exception {
+        mockMvc.perform(post("/v1/meter-readings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"meterType\":\"GAS\",\"readingValue\":1000000000,"
+                                + "\"readingDate\":\"2026-03-01T08:00:00\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/v1/meter-readings/rejections").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void drain_ShouldRecordPoisonAndRejectedReadingsAndKeepDraining() throws Exception {
+        // logged without request validation, like entries written before the range check existed
+        ingestBuffer.accept(request("2026-03-01T08:00:00", "100.00"));
+        ingestBuffer.accept(request("2026-03-02T08:00:00", "1000000000.00"));
+        ingestBuffer.accept(request("2026-03-03T08:00:00", "50.00"));
+        ingestBuffer.accept(request("2026-03-04T08:00:00", "200.00"));
+
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (meterReadingRepository.count() < 2 || ingestRejections.findRecent(10).size() < 2) {
+            assertThat(System.nanoTime()).as("timed out waiting for the drain").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        List<MeterReading> stored = meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(MeterType.GAS);
+        assertThat(stored).extracting(MeterReading::getReadingValue)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("200.00"), new BigDecimal("100.00"));
+
+        List<IngestRejectionResponse> rejections = ingestRejections.findRecent(10);
+        assertThat(rejections).extracting(IngestRejectionResponse::getReadingValue)
+                .containsExactly("50.00", "1000000000.00");
+        assertThat(rejections.get(0).getReason()).isEqualTo(IngestRejections.LESS_THAN_PREVIOUS);
+        assertThat(rejections.get(1).getReason()).isNotEqualTo(IngestRejections.LESS_THAN_PREVIOUS);
+
+        mockMvc.perform(get("/v1/meter-readings/rejections"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].source").value("WAL"))
+                .andExpect(jsonPath("$[1].readingDate").value("2026-03-02T08:00:00"));
+    }
+
+    private static MeterReadingRequest request(String readingDate, String value) {
+        return MeterReadingRequest.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal(value))
+                .readingDate(LocalDateTime.parse(readingDate))
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.household.manager.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.service.MeterReadingBatchWriter;
+import com.household.manager.service.MeterReadingBatchWriter.BatchWriteResult;
+import com.household.manager.service.MeterReadingService;
+import jakarta.validation.Validation;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MeterReadingMqttBridge} writing a batch with a reading the database refuses.
+ */
+class MeterReadingMqttBridgeRejectionTest {
+
+    private static final String TOPIC = "home/gas-meter/value";
+    private static final BigDecimal POISON = new BigDecimal("666.00");
+    private static final BigDecimal LOWER = new BigDecimal("5.00");
+
+    private final List<String> written = new CopyOnWriteArrayList<>();
+    private final List<String> rejections = new CopyOnWriteArrayList<>();
+    private MeterReadingMqttBridge bridge;
+
+    @BeforeEach
+    void setUp() {
+        MeterReadingBatchWriter writer = new MeterReadingBatchWriter(null, null, null, null, null) {
+            @Override
+            public BatchWriteResult writeBatch(List<MeterReading> readings, boolean validateMonotonic) {
+                if (readings.stream().anyMatch(reading -> reading.getReadingValue().compareTo(POISON) == 0)) {
+                    throw new DataIntegrityViolationException("Out of range value for column 'reading_value'");
+                }
+                List<MeterReading> rejected = readings.stream()
+                        .filter(reading -> reading.getReadingValue().compareTo(LOWER) == 0)
+                        .toList();
+                readings.stream()
+                        .filter(reading -> !rejected.contains(reading))
+                        .forEach(reading -> written.add(reading.getReadingValue().toPlainString()));
+                return new BatchWriteResult(readings.size() - rejected.size(), 0, rejected);
+            }
+        };
+        IngestRejections ingestRejections = new IngestRejections(null, writer) {
+            @Override
+            public void record(String source, List<MeterReading> readings, String reason) {
+                readings.forEach(reading -> rejections.add(
+                        source + " " + reading.getReadingValue().toPlainString() + ": " + reason));
+            }
+        };
+
+        MqttBridgeProperties properties = new MqttBridgeProperties();
+        // nothing listens there; the readings are passed to the callback directly
+        properties.setBrokerUrl("tcp://127.0.0.1:1");
+        properties.getTopics().put(MeterType.GAS, TOPIC);
+        properties.setMinInterval(Duration.ZERO);
+        properties.setMaxAttempts(1);
+        bridge = new MeterReadingMqttBridge(properties, new MeterReadingService(null, null, null, null, null),
+                writer, ingestRejections, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bridge.isRunning()) {
+            bridge.stop();
+        }
+    }
+
+    @Test
+    void writer_ShouldRecordPoisonAndRejectedReadingsAndKeepWriting() throws Exception {
+        // queued before the writer starts, so they are written as one batch
+        receive("2026-03-01T08:00:00", "10");
+        receive("2026-03-02T08:00:00", "666");
+        receive("2026-03-03T08:00:00", "5");
+        receive("2026-03-04T08:00:00", "20");
+        bridge.start();
+
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (rejections.size() < 2) {
+            assertThat(System.nanoTime()).as("timed out waiting for the writer").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        assertThat(written).containsExactly("10.00", "20.00");
+        assertThat(rejections).containsExactly(
+                "MQTT 666.00: Out of range value for column 'reading_value'",
+                "MQTT 5.00: " + IngestRejections.LESS_THAN_PREVIOUS);
+    }
+
+    private void receive(String time, String value) throws Exception {
+        String payload = "{\"time\":\"" + time + "\",\"value\":" + value + "}";
+        bridge.messageArrived(TOPIC, new MqttMessage(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,179 @@
+package com.household.manager.ingest;
+
+import com.household.manager.dto.IngestRejectionResponse;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import io.moquette.broker.Server;
+import io.moquette.broker.config.MemoryConfig;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MeterReadingMqttBridge} against an embedded MQTT broker.
+ */
+@SpringBootTest(properties = {
+        "household.mqtt.enabled=true",
+        "household.mqtt.topics.ELECTRICITY=tele/+/SENSOR",
+        "household.mqtt.topics.GAS=home/gas-meter/value",
+        "household.mqtt.value-pointer=/ENERGY/Total",
+        "household.mqtt.time-pointer=/Time",
+        "household.mqtt.min-interval=1h",
+        "logging.level.io.moquette=WARN"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class MeterReadingMqttBridgeTest {
+
+    private static final String ELECTRICITY_TOPIC = "tele/power-meter/SENSOR";
+
+    private static Server broker;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private IngestRejections ingestRejections;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        Properties config = new Properties();
+        config.setProperty("host", "127.0.0.1");
+        config.setProperty("port", "0");
+        config.setProperty("websocket_port", "disabled");
+        config.setProperty("allow_anonymous", "true");
+        config.setProperty("persistence_enabled", "false");
+        config.setProperty("telemetry_enabled", "false");
+        config.setProperty("data_path", Files.createTempDirectory("moquette").toString());
+        broker = new Server();
+        broker.startServer(new MemoryConfig(config));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.stopServer();
+    }
+
+    @DynamicPropertySource
+    static void brokerUrl(DynamicPropertyRegistry registry) {
+        registry.add("household.mqtt.broker-url", () -> "tcp://127.0.0.1:" + broker.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM ingest_rejections");
+    }
+
+    @Test
+    void bridge_ShouldCoalesceDeduplicateAndValidateReadings() throws Exception {
+        try (MqttClient publisher = new MqttClient("tcp://127.0.0.1:" + broker.getPort(), "meter-test",
+                new MemoryPersistence())) {
+            publisher.connect();
+            awaitSubscribed(publisher);
+
+            // one reading per hour: the last value of 10:00-11:00, then 11:05
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T10:00:00", "100.0");
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T10:20:00", "120.0");
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T10:40:00", "130.004");
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T10:50:00", "130.0");
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T11:05:00", "150.0");
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T11:05:00", "150.0");
+            // lower than the previous reading: rejected by monotonic validation
+            publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-03-03T12:30:00", "140.0");
+            // plain numbers are taken at the time of receipt; invalid: not greater than zero,
+            // more than the stored DECIMAL(10,2), not a number
+            publish(publisher, "home/gas-meter/value", "0");
+            publish(publisher, "home/gas-meter/value", "100000000");
+            publish(publisher, "home/gas-meter/value", "not a number");
+            publishEnergy(publisher, "home/gas-meter/value", "2025-03-03T09:00:00", "2048.5");
+            publisher.disconnect();
+        }
+
+        List<MeterReading> gas = await(() -> readings(MeterType.GAS), readings -> !readings.isEmpty());
+        assertThat(gas).extracting(MeterReading::getReadingValue)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("2048.50"));
+
+        List<MeterReading> electricity = await(() -> readings(MeterType.ELECTRICITY), readings -> readings.size() >= 2);
+        // give the rejected reading time to be released and written
+        Thread.sleep(2000);
+        electricity = readings(MeterType.ELECTRICITY);
+        assertThat(electricity).extracting(MeterReading::getReadingDate)
+                .containsExactly(LocalDateTime.of(2025, 3, 3, 11, 5), LocalDateTime.of(2025, 3, 3, 10, 40));
+        assertThat(electricity.get(1).getReadingValue()).isEqualByComparingTo("130.00");
+        assertThat(electricity.get(1).getReadingWeek()).isEqualTo(10);
+
+        List<IngestRejectionResponse> rejections = ingestRejections.findRecent(10);
+        assertThat(rejections).extracting(IngestRejectionResponse::getReadingValue).containsExactly("140.00");
+        assertThat(rejections.get(0).getSource()).isEqualTo("MQTT");
+        assertThat(rejections.get(0).getReason()).isEqualTo(IngestRejections.LESS_THAN_PREVIOUS);
+    }
+
+    private List<MeterReading> readings(MeterType meterType) {
+        return meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(meterType);
+    }
+
+    /**
+     * Wait until the bridge's subscription receives messages: the broker drops
+     * messages published before it.
+     */
+    private void awaitSubscribed(MqttClient publisher) throws Exception {
+        await(() -> {
+            try {
+                publishEnergy(publisher, ELECTRICITY_TOPIC, "2025-01-01T00:00:00", "1.0");
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+            return readings(MeterType.ELECTRICITY);
+        }, readings -> !readings.isEmpty());
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    private static void publishEnergy(MqttClient publisher, String topic, String time, String total)
+            throws Exception {
+        publish(publisher, topic,
+                "{\"Time\":\"" + time + "\",\"ENERGY\":{\"Total\":" + total + ",\"Power\":230}}");
+    }
+
+    private static void publish(MqttClient publisher, String topic, String payload) throws Exception {
+        publisher.publish(topic, payload.getBytes(StandardCharsets.UTF_8), 1, false);
+    }
+
+    private static <T> T await(Supplier<T> supplier, Predicate<T> condition)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        T value = supplier.get();
+        while (!condition.test(value)) {
+            assertThat(System.nanoTime()).as("timed out waiting for readings").isLessThan(deadline);
+            Thread.sleep(100);
+            value = supplier.get();
+        }
+        return value;
+    }
+}
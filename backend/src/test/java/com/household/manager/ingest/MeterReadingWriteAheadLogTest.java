@@ -0,0 +1,117 @@
+package com.household.manager.ingest;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MeterReadingWriteAheadLog}.
+ */
+class MeterReadingWriteAheadLogTest {
+
+    private static final int CAPACITY = 64 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void appendedReadings_ShouldBeReplayedAfterReopen() throws Exception {
+        Path file = tempDir.resolve("readings.wal");
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, CAPACITY, 0)) {
+            wal.awaitDurable(wal.append(reading(MeterType.ELECTRICITY, "100.50", 1, "first")));
+            wal.awaitDurable(wal.append(reading(MeterType.GAS, "20.00", 2, null)));
+        }
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, CAPACITY, 0)) {
+            MeterReadingWriteAheadLog.PendingBatch batch = wal.readPending(10);
+            assertThat(batch.readings()).hasSize(2);
+            assertThat(batch.readings().get(0).getMeterType()).isEqualTo(MeterType.ELECTRICITY);
+            assertThat(batch.readings().get(0).getReadingValue()).isEqualByComparingTo("100.50");
+            assertThat(batch.readings().get(0).getNotes()).isEqualTo("first");
+            assertThat(batch.readings().get(1).getNotes()).isNull();
+            assertThat(batch.readings().get(1).getReadingDate()).isEqualTo(LocalDateTime.of(2026, 1, 2, 0, 0));
+        }
+    }
+
+    @Test
+    void checkpointedReadings_ShouldNotBeReplayed() throws Exception {
+        Path file = tempDir.resolve("readings.wal");
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, CAPACITY, 0)) {
+            wal.awaitDurable(wal.append(reading(MeterType.WATER, "1.00", 1, null)));
+            wal.awaitDurable(wal.append(reading(MeterType.WATER, "2.00", 2, null)));
+            MeterReadingWriteAheadLog.PendingBatch first = wal.readPending(1);
+            wal.checkpoint(first.endOffset());
+        }
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, CAPACITY, 0)) {
+            MeterReadingWriteAheadLog.PendingBatch batch = wal.readPending(10);
+            assertThat(batch.readings()).extracting(MeterReading::getReadingValue)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("2.00"));
+            wal.checkpoint(batch.endOffset());
+            assertThat(wal.pendingBytes()).isZero();
+        }
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, CAPACITY, 0)) {
+            assertThat(wal.readPending(10).readings()).isEmpty();
+        }
+    }
+
+    @Test
+    void concurrentAppenders_ShouldShareGroupCommitAndWrapAroundWhenDrained() throws Exception {
+        Path file = tempDir.resolve("readings.wal");
+        int writers = 16;
+        int perWriter = 200;
+
+        try (MeterReadingWriteAheadLog wal = MeterReadingWriteAheadLog.open(file, 8 * 1024, 50_000);
+             ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        wal.awaitDurable(wal.append(reading(MeterType.ELECTRICITY, writer + "." + i, i, null)));
+                    }
+                    return null;
+                }));
+            }
+
+            int drained = 0;
+            while (drained < writers * perWriter) {
+                MeterReadingWriteAheadLog.PendingBatch batch = wal.readPending(50);
+                drained += batch.readings().size();
+                wal.checkpoint(batch.endOffset());
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertThat(drained).isEqualTo(writers * perWriter);
+            assertThat(wal.pendingBytes()).isZero();
+        }
+    }
+
+    private static MeterReading reading(MeterType type, String value, int day, String notes) {
+        return MeterReading.builder()
+                .meterType(type)
+                .readingValue(new BigDecimal(value))
+                .readingDate(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(day - 1))
+                .notes(notes)
+                .build();
+    }
+}
@@ -0,0 +1,275 @@
+package com.household.manager.load;
+
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.model.entity.UtilityPrice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a synthetic, reproducible household history: years of electricity,
+ * gas and water readings plus yearly electricity and gas prices.
+ * <p>
+ * Readings are taken every {@code intervalDays} days (weekly by default, as in
+ * the real spreadsheet) with seasonal consumption: gas mostly in the heating
+ * period, electricity slightly more in winter, water evenly. Some readings are
+ * skipped (holidays) and some rows carry notes containing delimiters, quotes and
+ * line breaks, so imports exercise the CSV quoting rules.
+ * <p>
+ * The history can be written as CSV in the format read by
+ * {@link com.household.manager.importer.MeterReadingCsvImporter} or bulk
+ * loaded into the database with JDBC batches.
+ */
+public class HouseholdHistoryGenerator {
+
+    private static final DateTimeFormatter CSV_DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final String CSV_HEADER = "Datum,KW,Strom,,,Notiz Strom,,Gas,,,,,Wasser,Notiz";
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    /** Average consumption per day and how strongly it varies with the season (0 = not at all). */
+    private static final Map<MeterType, double[]> DAILY_CONSUMPTION = Map.of(
+            MeterType.ELECTRICITY, new double[]{9.0, 0.25},
+            MeterType.GAS, new double[]{4.5, 0.9},
+            MeterType.WATER, new double[]{0.35, 0.05});
+
+    private static final Map<MeterType, BigDecimal> INITIAL_PRICE = Map.of(
+            MeterType.ELECTRICITY, new BigDecimal("0.2800"),
+            MeterType.GAS, new BigDecimal("0.0900"));
+
+    private static final String[] NOTES = {
+            "Urlaub",
+            "Zähler getauscht, neuer Stand übernommen",
+            "Ablesung durch \"Stadtwerke\"",
+            "Heizung gewartet\nBrenner neu eingestellt",
+            "Gäste (2 Wochen)"
+    };
+
+    private final Random random;
+    private final int intervalDays;
+
+    /**
+     * Create a generator for weekly readings.
+     *
+     * @param seed random seed; the same seed generates the same history
+     */
+    public HouseholdHistoryGenerator(long seed) {
+        this(seed, 7);
+    }
+
+    /**
+     * Create a generator.
+     *
+     * @param seed random seed; the same seed generates the same history
+     * @param intervalDays days between two readings, e.g. 1 for daily readings
+     */
+    public HouseholdHistoryGenerator(long seed, int intervalDays) {
+        if (intervalDays < 1) {
+            throw new IllegalArgumentException("Interval must be at least one day");
+        }
+        this.random = new Random(seed);
+        this.intervalDays = intervalDays;
+    }
+
+    /**
+     * Generate the history of {@code years} years ending before the Monday of the week of {@code until}.
+     *
+     * @param years number of years
+     * @param until end of the history (exclusive)
+     * @return generated readings (in date order) and prices
+     */
+    public HouseholdHistory generate(int years, LocalDate until) {
+        LocalDate end = until.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate start = end.minusYears(years);
+
+        List<Row> rows = new ArrayList<>();
+        Map<MeterType, Double> meterValues = new EnumMap<>(Map.of(
+                MeterType.ELECTRICITY, 10_000 + random.nextDouble() * 40_000,
+                MeterType.GAS, 1_000 + random.nextDouble() * 9_000,
+                MeterType.WATER, 100 + random.nextDouble() * 900));
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(intervalDays)) {
+            Map<MeterType, BigDecimal> values = new EnumMap<>(MeterType.class);
+            for (MeterType type : MeterType.values()) {
+                double value = meterValues.get(type) + consumption(type, date);
+                meterValues.put(type, value);
+                // about 3% of the readings are missed, the consumption is part of the next one
+                if (random.nextInt(100) >= 3) {
+                    values.put(type, BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP));
+                }
+            }
+            if (!values.isEmpty()) {
+                String note = random.nextInt(20) == 0 ? NOTES[random.nextInt(NOTES.length)] : null;
+                rows.add(new Row(date, values, note));
+            }
+        }
+
+        return new HouseholdHistory(toReadings(rows), prices(start, end), rows);
+    }
+
+    private double consumption(MeterType type, LocalDate date) {
+        double[] profile = DAILY_CONSUMPTION.get(type);
+        // peaks in mid-January, lowest in mid-July
+        double season = Math.cos(2 * Math.PI * (date.getDayOfYear() - 15) / 365.25);
+        double daily = profile[0] * (1 + profile[1] * season) * (0.8 + 0.4 * random.nextDouble());
+        return Math.max(0, daily) * intervalDays;
+    }
+
+    private static List<MeterReading> toReadings(List<Row> rows) {
+        List<MeterReading> readings = new ArrayList<>();
+        for (Row row : rows) {
+            for (Map.Entry<MeterType, BigDecimal> value : row.values().entrySet()) {
+                readings.add(MeterReading.builder()
+                        .meterType(value.getKey())
+                        .readingValue(value.getValue())
+                        .readingWeek(row.date().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))
+                        .readingDate(row.date().atStartOfDay())
+                        .notes(row.note())
+                        .build());
+            }
+        }
+        return readings;
+    }
+
+    /**
+     * One price period per calendar year and priced meter type; the last period is open-ended.
+     */
+    private List<UtilityPrice> prices(LocalDate start, LocalDate end) {
+        List<UtilityPrice> prices = new ArrayList<>();
+        for (Map.Entry<MeterType, BigDecimal> initial : INITIAL_PRICE.entrySet()) {
+            BigDecimal price = initial.getValue();
+            for (int year = start.getYear(); year <= end.getYear(); year++) {
+                prices.add(UtilityPrice.builder()
+                        .meterType(initial.getKey())
+                        .price(price)
+                        .validFrom(LocalDate.of(year, 1, 1))
+                        .validTo(year < end.getYear() ? LocalDate.of(year + 1, 1, 1) : null)
+                        .build());
+                // -3% to +12% per year
+                price = price.multiply(BigDecimal.valueOf(0.97 + random.nextDouble() * 0.15))
+                        .setScale(4, RoundingMode.HALF_UP);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * A generated household history.
+     *
+     * @param readings readings of all meter types in date order
+     * @param prices electricity and gas price periods
+     * @param rows the readings grouped by date, as in the CSV export
+     */
+    public record HouseholdHistory(List<MeterReading> readings, List<UtilityPrice> prices, List<Row> rows) {
+
+        /**
+         * Write the readings as CSV in the spreadsheet export format.
+         *
+         * @param file target file
+         * @throws IOException if writing fails
+         */
+        public void writeCsv(Path file) throws IOException {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writeCsv(writer);
+            }
+        }
+
+        /**
+         * Write the readings as CSV in the spreadsheet export format.
+         *
+         * @param writer target writer
+         * @throws IOException if writing fails
+         */
+        public void writeCsv(Writer writer) throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (Row row : rows) {
+                writer.write(row.date().format(CSV_DATE_FORMAT));
+                writer.write(',');
+                writer.write(Integer.toString(row.date().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)));
+                writer.write(',');
+                writer.write(csvValue(row.values().get(MeterType.ELECTRICITY)));
+                writer.write(",,,,,");
+                writer.write(csvValue(row.values().get(MeterType.GAS)));
+                writer.write(",,,,,");
+                writer.write(csvValue(row.values().get(MeterType.WATER)));
+                writer.write(',');
+                writer.write(row.note() != null ? quote(row.note()) : "");
+                writer.write('\n');
+            }
+        }
+
+        /**
+         * Insert readings and prices with JDBC batches, bypassing the services.
+         * <p>
+         * The tables must not contain readings for the generated dates yet.
+         *
+         * @param jdbcTemplate template of the target database
+         */
+        public void insertInto(JdbcTemplate jdbcTemplate) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO meter_readings
+                                (meter_type, reading_value, reading_week, reading_date, notes, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?, ?)""",
+                    readings, JDBC_BATCH_SIZE, (ps, reading) -> {
+                        ps.setString(1, reading.getMeterType().name());
+                        ps.setBigDecimal(2, reading.getReadingValue());
+                        ps.setInt(3, reading.getReadingWeek());
+                        ps.setTimestamp(4, Timestamp.valueOf(reading.getReadingDate()));
+                        ps.setString(5, reading.getNotes());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                    });
+            jdbcTemplate.batchUpdate("""
+                            INSERT INTO utility_prices (meter_type, price, valid_from, valid_to, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?)""",
+                    prices, JDBC_BATCH_SIZE, (ps, price) -> {
+                        ps.setString(1, price.getMeterType().name());
+                        ps.setBigDecimal(2, price.getPrice());
+                        ps.setDate(3, Date.valueOf(price.getValidFrom()));
+                        ps.setDate(4, price.getValidTo() != null ? Date.valueOf(price.getValidTo()) : null);
+                        ps.setTimestamp(5, now);
+                        ps.setTimestamp(6, now);
+                    });
+        }
+
+        private static String csvValue(BigDecimal value) {
+            // German decimal comma, quoted like the spreadsheet export
+            return value != null ? quote(value.toPlainString().replace('.', ',')) : "";
+        }
+
+        private static String quote(String value) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    /**
+     * All readings taken on one date.
+     *
+     * @param date reading date
+     * @param values reading per meter type; missed readings are absent
+     * @param note note of the row, or null
+     */
+    public record Row(LocalDate date, Map<MeterType, BigDecimal> values, String note) {
+    }
+}
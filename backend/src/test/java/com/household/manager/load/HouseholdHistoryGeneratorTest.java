@@ -0,0 +1,55 @@
+package com.household.manager.load;
+
+import com.household.manager.importer.MeterReadingCsvImporter;
+import com.household.manager.load.HouseholdHistoryGenerator.HouseholdHistory;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that generated histories are valid input for the CSV importer.
+ */
+class HouseholdHistoryGeneratorTest {
+
+    @Test
+    void generatedCsv_ShouldImportAsGeneratedReadings() throws Exception {
+        HouseholdHistory history = new HouseholdHistoryGenerator(7).generate(3, LocalDate.of(2026, 10, 19));
+        StringWriter csv = new StringWriter();
+        history.writeCsv(csv);
+
+        List<MeterReading> imported = new MeterReadingCsvImporter(null, null).parse(new StringReader(csv.toString()));
+
+        assertThat(imported.stream().map(HouseholdHistoryGeneratorTest::describe).toList())
+                .isEqualTo(history.readings().stream().map(HouseholdHistoryGeneratorTest::describe).toList());
+        assertThat(history.readings()).hasSizeGreaterThan(3 * 52 * 3 * 9 / 10);
+    }
+
+    @Test
+    void generatedReadings_ShouldIncreaseMonotonicallyPerType() {
+        HouseholdHistory history = new HouseholdHistoryGenerator(11, 1).generate(2, LocalDate.of(2026, 10, 19));
+
+        for (MeterType type : MeterType.values()) {
+            List<MeterReading> series = history.readings().stream()
+                    .filter(reading -> reading.getMeterType() == type)
+                    .toList();
+            for (int i = 1; i < series.size(); i++) {
+                assertThat(series.get(i).getReadingDate()).isAfter(series.get(i - 1).getReadingDate());
+                assertThat(series.get(i).getReadingValue()).isGreaterThanOrEqualTo(series.get(i - 1).getReadingValue());
+            }
+        }
+    }
+
+    private static String describe(MeterReading reading) {
+        // the importer reads a missing note as empty text
+        return reading.getMeterType() + "|" + reading.getReadingDate() + "|" + reading.getReadingValue() + "|"
+                + reading.getReadingWeek() + "|" + Objects.requireNonNullElse(reading.getNotes(), "");
+    }
+}
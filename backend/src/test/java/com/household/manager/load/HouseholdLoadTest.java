@@ -0,0 +1,173 @@
+package com.household.manager.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.HouseholdManagerApplication;
+import com.household.manager.dto.UtilityPriceBatchRequest;
+import com.household.manager.dto.UtilityPricePeriodRequest;
+import com.household.manager.load.HouseholdHistoryGenerator.HouseholdHistory;
+import com.household.manager.load.LoadTestHarness.Scenario;
+import com.household.manager.load.LoadTestHarness.ScenarioResult;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.model.entity.UtilityPrice;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: seeds a synthetic multi-year household history and
+ * measures throughput and latency percentiles of every read endpoint.
+ * <p>
+ * Without {@code load.base-url} the application is started on a random port
+ * with the test profile (local MariaDB, database {@code household_manager_test}
+ * recreated on start) and the history is bulk loaded with JDBC. With
+ * {@code load.base-url} a running instance is measured and the history is
+ * seeded through the CSV import endpoint (incremental, so repeated runs do
+ * not duplicate data).
+ * <p>
+ * Run with {@code mvn test -Pload-test} or {@code scripts/load-test.sh}. Options
+ * (system properties): {@code load.years}, {@code load.interval-days},
+ * {@code load.seed}, {@code load.seed-via} ({@code jdbc} or {@code http}),
+ * {@code load.concurrency}, {@code load.warmup}, {@code load.requests},
+ * {@code load.base-url} and {@code load.report}.
+ */
+@Tag("load")
+class HouseholdLoadTest {
+
+    private static final int YEARS = Integer.getInteger("load.years", 10);
+    private static final int INTERVAL_DAYS = Integer.getInteger("load.interval-days", 7);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup", 100);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 500);
+    private static final String BASE_URL = System.getProperty("load.base-url", "");
+    private static final Path REPORT = Path.of(System.getProperty("load.report", "target/load-test/report.csv"));
+
+    private static ConfigurableApplicationContext context;
+    private static LoadTestHarness harness;
+    private static HouseholdHistory history;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        String baseUrl = BASE_URL;
+        if (baseUrl.isEmpty()) {
+            context = new SpringApplicationBuilder(HouseholdManagerApplication.class)
+                    .profiles("test")
+                    // command line arguments override the test profile; per-request logging would dominate latencies
+                    .run("--server.port=0",
+                            // measure, don't enforce; budgets are asserted by ControllerStatementBudgetTest
+                            "--household.statements.mode=warn",
+                            "--logging.level.com.household=WARN");
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port
+                    + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        }
+        harness = new LoadTestHarness(baseUrl, CONCURRENCY, Duration.ofSeconds(60));
+
+        history = new HouseholdHistoryGenerator(SEED, INTERVAL_DAYS).generate(YEARS, LocalDate.now());
+        Path csv = REPORT.toAbsolutePath().resolveSibling("household-history.csv");
+        Files.createDirectories(csv.getParent());
+        history.writeCsv(csv);
+
+        long start = System.nanoTime();
+        boolean viaJdbc = context != null && !"http".equals(System.getProperty("load.seed-via"));
+        if (viaJdbc) {
+            history.insertInto(context.getBean(JdbcTemplate.class));
+        } else {
+            seedViaHttp(csv);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Seeded %d readings and %d prices over %d years via %s in %.2f s (%.0f readings/s), CSV: %s%n",
+                history.readings().size(), history.prices().size(), YEARS, viaJdbc ? "JDBC" : "HTTP",
+                seconds, history.readings().size() / seconds, csv);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void measureEndpoints() throws Exception {
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            results.add(harness.run(scenario, WARMUP_REQUESTS, REQUESTS));
+        }
+
+        System.out.printf("%n%d concurrent clients, %d requests per endpoint after %d warm-up requests%n",
+                CONCURRENCY, REQUESTS, WARMUP_REQUESTS);
+        LoadTestHarness.printReport(results, System.out);
+        LoadTestHarness.writeCsv(results, REPORT);
+        System.out.println("Report written to " + REPORT.toAbsolutePath());
+
+        assertThat(results)
+                .allSatisfy(result -> assertThat(result.errors()).as(result.name()).isZero());
+    }
+
+    private static List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(Scenario.get("/v1/health"));
+        scenarios.add(Scenario.get("/v1/meter-readings"));
+        scenarios.add(Scenario.get("/v1/meter-readings?fields=meterType,readingDate,readingValue"));
+        scenarios.add(Scenario.get("/v1/meter-readings/changes?since=0"));
+        for (MeterType type : MeterType.values()) {
+            scenarios.add(Scenario.get("/v1/meter-readings/" + type));
+            scenarios.add(Scenario.get("/v1/meter-readings/" + type + "/latest"));
+            scenarios.add(Scenario.get("/v1/meter-readings/" + type + "/consumption"));
+        }
+        scenarios.add(Scenario.get("/v1/utility-prices"));
+        for (MeterType type : List.of(MeterType.ELECTRICITY, MeterType.GAS)) {
+            scenarios.add(Scenario.get("/v1/utility-prices/" + type));
+            scenarios.add(Scenario.get("/v1/utility-prices/" + type + "/current"));
+        }
+        return scenarios;
+    }
+
+    /**
+     * Import the CSV through the streaming endpoint and upload the price
+     * schedules unless prices exist already.
+     */
+    private static void seedViaHttp(Path csv) throws Exception {
+        System.out.println(harness.send(Scenario.post("/v1/meter-readings/import/stream", "text/csv",
+                Files.readAllBytes(csv))));
+
+        if (!"[]".equals(harness.send(Scenario.get("/v1/utility-prices")).trim())) {
+            System.out.println("Utility prices exist already, not seeding prices");
+            return;
+        }
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        Map<MeterType, List<UtilityPrice>> pricesByType = history.prices().stream()
+                .collect(Collectors.groupingBy(UtilityPrice::getMeterType));
+        for (Map.Entry<MeterType, List<UtilityPrice>> prices : pricesByType.entrySet()) {
+            UtilityPriceBatchRequest request = UtilityPriceBatchRequest.builder()
+                    .meterType(prices.getKey())
+                    .prices(prices.getValue().stream()
+                            .map(price -> UtilityPricePeriodRequest.builder()
+                                    .price(price.getPrice())
+                                    .validFrom(price.getValidFrom())
+                                    .validTo(price.getValidTo())
+                                    .build())
+                            .toList())
+                    .build();
+            harness.send(Scenario.post("/v1/utility-prices/batch", "application/json",
+                    objectMapper.writeValueAsBytes(request)));
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.household.manager.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal closed-loop HTTP load generator.
+ * <p>
+ * Every scenario is run by {@code concurrency} virtual threads that send
+ * requests back to back until the scenario's request count is reached. Latency
+ * is measured per request from sending until the body is fully read, so large
+ * responses are measured including transfer. Non-2xx responses and I/O errors
+ * count as errors and are excluded from the latency percentiles.
+ */
+public class LoadTestHarness {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration timeout;
+
+    /**
+     * @param baseUrl base URL including the context path, e.g. {@code http://localhost:8080/api}
+     * @param concurrency number of concurrent clients per scenario
+     * @param timeout timeout of a single request
+     */
+    public LoadTestHarness(String baseUrl, int concurrency, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Send a single request, e.g. to seed data, and fail on a non-2xx response.
+     *
+     * @param scenario the request to send
+     * @return the response body
+     */
+    public String send(Scenario scenario) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(scenario.toRequest(baseUrl, timeout),
+                HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(scenario.name() + " failed with HTTP " + response.statusCode() + ": "
+                    + response.body());
+        }
+        return response.body();
+    }
+
+    /**
+     * Run a scenario: first {@code warmupRequests} unmeasured requests, then
+     * {@code requests} measured requests.
+     *
+     * @param scenario request to send
+     * @param warmupRequests number of requests before measuring
+     * @param requests number of measured requests
+     * @return throughput, latency and error statistics
+     */
+    public ScenarioResult run(Scenario scenario, int warmupRequests, int requests) throws InterruptedException {
+        execute(scenario, warmupRequests);
+        return execute(scenario, requests);
+    }
+
+    private ScenarioResult execute(Scenario scenario, int requests) throws InterruptedException {
+        HttpRequest request = scenario.toRequest(baseUrl, timeout);
+        AtomicInteger next = new AtomicInteger();
+        long start = System.nanoTime();
+        List<Future<ClientResult>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    ClientResult result = new ClientResult(requests / concurrency + 1);
+                    while (next.getAndIncrement() < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() / 100 == 2) {
+                                result.add(System.nanoTime() - sent, response.body().length);
+                            } else {
+                                result.errors++;
+                            }
+                        } catch (IOException ex) {
+                            result.errors++;
+                        }
+                    }
+                    return result;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] latencies = new long[0];
+        long bytes = 0;
+        int errors = 0;
+        for (Future<ClientResult> future : clients) {
+            ClientResult result;
+            try {
+                result = future.get();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Load client failed", ex.getCause());
+            }
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + result.count);
+            System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+            bytes += result.bytes;
+            errors += result.errors;
+        }
+        Arrays.sort(latencies);
+        return new ScenarioResult(scenario.name(), latencies, errors, bytes, elapsed);
+    }
+
+    /**
+     * Print a result table.
+     */
+    public static void printReport(List<ScenarioResult> results, PrintStream out) {
+        out.printf("%-64s %8s %7s %10s %9s %9s %9s %9s %9s %12s%n", "scenario", "requests", "errors",
+                "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "mean ms", "avg bytes");
+        for (ScenarioResult result : results) {
+            out.printf(Locale.ROOT, "%-64s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %12d%n",
+                    result.name(), result.latencies().length, result.errors(), result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(100), result.meanMillis(), result.averageBytes());
+        }
+    }
+
+    /**
+     * Write the results as CSV, one line per scenario.
+     */
+    public static void writeCsv(List<ScenarioResult> results, Path file) {
+        StringBuilder csv = new StringBuilder(
+                "scenario,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms,mean_ms,avg_bytes\n");
+        for (ScenarioResult result : results) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%d%n",
+                    result.name(), result.latencies().length, result.errors(), result.throughput(),
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(100), result.meanMillis(), result.averageBytes()));
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, csv, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * A request sent repeatedly.
+     *
+     * @param name name in the report
+     * @param method HTTP method
+     * @param path path relative to the base URL, including the query string
+     * @param contentType content type of the body, or null without body
+     * @param body request body, or null
+     */
+    public record Scenario(String name, String method, String path, String contentType, byte[] body) {
+
+        public static Scenario get(String path) {
+            return new Scenario("GET " + path, "GET", path, null, null);
+        }
+
+        public static Scenario post(String path, String contentType, byte[] body) {
+            return new Scenario("POST " + path, "POST", path, contentType, body);
+        }
+
+        HttpRequest toRequest(String baseUrl, Duration timeout) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+            if (body == null) {
+                return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+            }
+            return builder.header("Content-Type", contentType)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+        }
+    }
+
+    /**
+     * Statistics of a scenario run.
+     *
+     * @param name scenario name
+     * @param latencies latencies of the successful requests in nanoseconds, sorted
+     * @param errors number of failed requests
+     * @param bytes total response body bytes of the successful requests
+     * @param elapsedNanos wall-clock time of the run
+     */
+    public record ScenarioResult(String name, long[] latencies, int errors, long bytes, long elapsedNanos) {
+
+        public double throughput() {
+            return latencies.length * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Latency percentile (nearest rank) in milliseconds, 0 without successful requests.
+         */
+        public double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+            return latencies[Math.max(rank, 1) - 1] / 1e6;
+        }
+
+        public double meanMillis() {
+            return latencies.length == 0 ? 0 : Arrays.stream(latencies).average().orElse(0) / 1e6;
+        }
+
+        public long averageBytes() {
+            return latencies.length == 0 ? 0 : bytes / latencies.length;
+        }
+    }
+
+    private static final class ClientResult {
+
+        private long[] latencies;
+        private int count;
+        private long bytes;
+        private int errors;
+
+        ClientResult(int expectedRequests) {
+            latencies = new long[Math.max(expectedRequests, 16)];
+        }
+
+        void add(long latency, int responseBytes) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            bytes += responseBytes;
+        }
+    }
+}
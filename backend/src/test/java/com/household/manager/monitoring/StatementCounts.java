@@ -0,0 +1,45 @@
+package com.household.manager.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper to count the SQL statements executed by an action, e.g. a MockMvc request.
+ * <p>
+ * MockMvc handles requests on the calling thread, so every statement of the
+ * request is recorded in the scope opened here.
+ */
+public final class StatementCounts {
+
+    private StatementCounts() {
+    }
+
+    /**
+     * Run an action and return the statements it executed.
+     */
+    public static StatementScope count(ThrowingRunnable action) throws Exception {
+        try (StatementScope scope = StatementTracker.open("test")) {
+            action.run();
+            return scope;
+        }
+    }
+
+    /**
+     * Run an action and assert that it executed at most {@code maxStatements}
+     * statements and no statement repeatedly.
+     */
+    public static StatementScope assertStatements(int maxStatements, ThrowingRunnable action) throws Exception {
+        StatementScope scope = count(action);
+        assertThat(scope.getStatements())
+                .as("SQL statements: %s", scope.getStatementCounts())
+                .isLessThanOrEqualTo(maxStatements);
+        assertThat(scope.getRepeatedStatements(2))
+                .as("repeated SQL statements")
+                .isEmpty();
+        return scope;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
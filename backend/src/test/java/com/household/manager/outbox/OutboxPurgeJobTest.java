@@ -0,0 +1,97 @@
+package com.household.manager.outbox;
+
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link OutboxPurgeJob} purging recorded events while the relay is disabled.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxPurgeJobTest {
+
+    @Autowired
+    private OutboxPurgeJob purgeJob;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> seqs;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_checkpoints");
+        create("2026-03-01T08:00:00", "100.00");
+        create("2026-03-02T08:00:00", "110.00");
+        create("2026-03-03T08:00:00", "120.00");
+        seqs = jdbcTemplate.queryForList("SELECT seq FROM outbox_events ORDER BY seq", Long.class);
+        assertThat(seqs).hasSize(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_checkpoints");
+    }
+
+    @Test
+    void run_ShouldPurgeEventsOlderThanKeepDeliveredWithoutCheckpoint() {
+        age(seqs.get(1), 8);
+
+        assertThat(purgeJob.run()).isEqualTo(2);
+        assertThat(remainingSeqs()).containsExactly(seqs.get(2));
+    }
+
+    @Test
+    void run_ShouldKeepEventsAfterOldestCheckpoint() {
+        age(seqs.get(2), 30);
+        jdbcTemplate.update("INSERT INTO outbox_checkpoints (sink, seq) VALUES ('billing', ?), ('archive', ?)",
+                seqs.get(1), seqs.get(0));
+
+        assertThat(purgeJob.run()).isEqualTo(1);
+        assertThat(remainingSeqs()).containsExactly(seqs.get(1), seqs.get(2));
+    }
+
+    /**
+     * Backdate the events up to {@code seq} by some days.
+     */
+    private void age(long seq, int days) {
+        jdbcTemplate.update("UPDATE outbox_events SET created_at = created_at - INTERVAL ? DAY WHERE seq <= ?",
+                days, seq);
+    }
+
+    private List<Long> remainingSeqs() {
+        return jdbcTemplate.queryForList("SELECT seq FROM outbox_events ORDER BY seq", Long.class);
+    }
+
+    private void create(String readingDate, String value) {
+        meterReadingService.createMeterReading(MeterReadingRequest.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal(value))
+                .readingDate(LocalDateTime.parse(readingDate))
+                .build());
+    }
+}
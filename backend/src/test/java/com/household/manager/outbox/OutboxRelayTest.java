@@ -0,0 +1,217 @@
+package com.household.manager.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.dto.UtilityPriceRequest;
+import com.household.manager.dto.UtilityPriceResponse;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingService;
+import com.household.manager.service.UtilityPriceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link OutboxRelay} publishing to an application-provided sink that fails once,
+ * and around writes that commit late or roll back.
+ */
+@SpringBootTest(properties = {
+        "household.outbox.enabled=true",
+        "household.outbox.sink=test",
+        "household.outbox.poll-interval=100ms",
+        "household.outbox.retry-backoff=100ms"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class OutboxRelayTest {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO meter_readings (meter_type, reading_value, reading_date, created_at, updated_at) " +
+            "VALUES ('WATER', ?, ?, NOW(), NOW())";
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private UtilityPriceService utilityPriceService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FlakySink sink;
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM utility_prices");
+        sink.events.removeIf(event -> event.meterType() == MeterType.WATER);
+    }
+
+    @Test
+    void relay_ShouldPublishWritesInOrderAtLeastOnce() throws Exception {
+        meterReadingService.createMeterReading(MeterReadingRequest.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal("2048.50"))
+                .readingDate(LocalDateTime.of(2026, 3, 1, 8, 0))
+                .build());
+        UtilityPriceResponse price = utilityPriceService.createUtilityPrice(UtilityPriceRequest.builder()
+                .meterType(MeterType.GAS)
+                .price(new BigDecimal("0.1234"))
+                .validFrom(LocalDate.of(2026, 1, 1))
+                .build());
+        utilityPriceService.deleteUtilityPrice(price.getId());
+
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (sink.events.stream().filter(event -> event.meterType() == MeterType.GAS).count() < 3) {
+            assertThat(System.nanoTime()).as("timed out waiting for events").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+
+        // the first batch failed and was published again
+        assertThat(sink.failed).isTrue();
+        List<OutboxEvent> events = sink.events.stream().filter(event -> event.meterType() == MeterType.GAS).toList();
+        assertThat(events).extracting(event -> event.aggregate() + " " + event.operation())
+                .containsExactly("METER_READING INSERT", "UTILITY_PRICE INSERT", "UTILITY_PRICE DELETE");
+        assertThat(events).extracting(OutboxEvent::seq).isSorted().doesNotHaveDuplicates();
+
+        JsonNode published = objectMapper.readTree(objectMapper.writeValueAsString(events.get(0)));
+        assertThat(published.path("data").path("readingValue").decimalValue()).isEqualByComparingTo("2048.50");
+        assertThat(published.path("data").path("readingDate").asText()).isEqualTo("2026-03-01T08:00:00");
+        assertThat(events.get(2).aggregateId()).isEqualTo(price.getId());
+
+        Long checkpoint = jdbcTemplate.queryForObject(
+                "SELECT seq FROM outbox_checkpoints WHERE sink = 'test'", Long.class);
+        assertThat(checkpoint).isGreaterThanOrEqualTo(events.get(2).seq());
+    }
+
+    @Test
+    void relay_ShouldHoldBackEventsAfterUncommittedWriteUntilItCommits() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_SQL, new BigDecimal("7.00"), LocalDateTime.parse("2026-04-01T08:00:00"));
+                    written.countDown();
+                    await(commit);
+                }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long later = meterReadingService.createMeterReading(MeterReadingRequest.builder()
+                .meterType(MeterType.WATER)
+                .readingValue(new BigDecimal("200.00"))
+                .readingDate(LocalDateTime.of(2026, 4, 3, 8, 0))
+                .build()).getId();
+
+        // several poll intervals: the committed later write waits for the gap of the open one
+        Thread.sleep(1000);
+        assertThat(waterInserts()).isEmpty();
+
+        commit.countDown();
+        slowWrite.get(10, TimeUnit.SECONDS);
+        Long slow = jdbcTemplate.queryForObject(
+                "SELECT id FROM meter_readings WHERE meter_type = 'WATER' AND reading_date = '2026-04-01 08:00:00'",
+                Long.class);
+
+        List<OutboxEvent> events = awaitWaterInserts(2);
+        assertThat(events).extracting(OutboxEvent::aggregateId).containsExactly(slow, later);
+    }
+
+    @Test
+    void relay_ShouldPassGapOfRolledBackWrite() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_SQL, new BigDecimal("7.00"), LocalDateTime.parse("2026-04-01T08:00:00"));
+            status.setRollbackOnly();
+        });
+        long later = meterReadingService.createMeterReading(MeterReadingRequest.builder()
+                .meterType(MeterType.WATER)
+                .readingValue(new BigDecimal("200.00"))
+                .readingDate(LocalDateTime.of(2026, 4, 3, 8, 0))
+                .build()).getId();
+
+        List<OutboxEvent> events = awaitWaterInserts(1);
+        assertThat(events).extracting(OutboxEvent::aggregateId).containsExactly(later);
+    }
+
+    private List<OutboxEvent> waterInserts() {
+        return sink.events.stream()
+                .filter(event -> event.meterType() == MeterType.WATER && event.operation().equals("INSERT"))
+                .toList();
+    }
+
+    private List<OutboxEvent> awaitWaterInserts(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (waterInserts().size() < count) {
+            assertThat(System.nanoTime()).as("timed out waiting for events").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        return waterInserts();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        FlakySink flakySink() {
+            return new FlakySink();
+        }
+    }
+
+    static class FlakySink implements OutboxSink {
+
+        final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failed = new AtomicBoolean();
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> batch) throws IOException {
+            if (failed.compareAndSet(false, true)) {
+                throw new IOException("Sink unavailable");
+            }
+            events.addAll(batch);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.household.manager.retention;
+
+import com.household.manager.dto.ConsumptionResponse;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import com.household.manager.service.MeterReadingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MeterReadingRetentionJob} with small transactions.
+ */
+@SpringBootTest(properties = {
+        "household.retention.enabled=true",
+        "household.retention.cron=-",
+        "household.retention.default-policy.keep-raw=30d",
+        "household.retention.default-policy.keep-daily=365d",
+        "household.retention.batch-size=7",
+        "household.retention.pause=0"
+})
+@ActiveProfiles("test")
+class MeterReadingRetentionJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    @Autowired
+    private MeterReadingRetentionJob retentionJob;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM retention_watermarks");
+    }
+
+    @Test
+    void compact_ShouldKeepDailyAndWeeklyReadingsAndConserveConsumption() {
+        List<MeterReading> readings = new ArrayList<>();
+        // older than a year: every 6 hours in the weeks of 2025-01-06 and 2025-01-13, kept weekly
+        addReadings(readings, LocalDateTime.of(2025, 1, 6, 0, 0), 6, 56);
+        readings.get(10).setNotes("Zählerwechsel");
+        // older than 30 days: every 3 hours from 2026-08-01 to 2026-08-10, kept daily
+        addReadings(readings, LocalDateTime.of(2026, 8, 1, 0, 0), 3, 80);
+        // recent: kept as they are
+        addReadings(readings, LocalDateTime.of(2026, 10, 10, 8, 0), 24, 5);
+        meterReadingRepository.saveAll(readings);
+        ConsumptionResponse consumptionBefore = meterReadingService.calculateConsumption(MeterType.ELECTRICITY);
+
+        int deleted = retentionJob.compact(MeterType.ELECTRICITY, TODAY);
+
+        List<MeterReading> kept = meterReadingRepository.findByMeterTypeOrderByReadingDateDesc(MeterType.ELECTRICITY)
+                .reversed();
+        List<LocalDateTime> expected = new ArrayList<>(List.of(
+                LocalDateTime.of(2025, 1, 6, 0, 0),
+                LocalDateTime.of(2025, 1, 8, 12, 0),
+                LocalDateTime.of(2025, 1, 12, 18, 0),
+                LocalDateTime.of(2025, 1, 19, 18, 0)));
+        for (int day = 1; day <= 10; day++) {
+            expected.add(LocalDateTime.of(2026, 8, day, 21, 0));
+        }
+        for (int day = 10; day <= 14; day++) {
+            expected.add(LocalDateTime.of(2026, 10, day, 8, 0));
+        }
+        assertThat(kept).extracting(MeterReading::getReadingDate).containsExactlyElementsOf(expected);
+        assertThat(deleted).isEqualTo(readings.size() - expected.size());
+
+        // kept readings are unchanged, so consumption between them sums up as before
+        for (MeterReading reading : kept) {
+            MeterReading original = readings.stream()
+                    .filter(r -> r.getReadingDate().equals(reading.getReadingDate()))
+                    .findFirst().orElseThrow();
+            assertThat(reading.getReadingValue()).isEqualByComparingTo(original.getReadingValue());
+        }
+        assertThat(meterReadingService.calculateConsumption(MeterType.ELECTRICITY))
+                .usingRecursiveComparison().isEqualTo(consumptionBefore);
+
+        // a second run finds nothing left to compact
+        assertThat(retentionJob.compact(MeterType.ELECTRICITY, TODAY)).isZero();
+
+        // the compacted ranges are recorded for the importers
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT daily_before FROM retention_watermarks WHERE meter_type = 'ELECTRICITY'", LocalDateTime.class))
+                .isEqualTo(LocalDateTime.of(2026, 9, 19, 0, 0));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT weekly_before FROM retention_watermarks WHERE meter_type = 'ELECTRICITY'", LocalDate.class))
+                .isEqualTo(LocalDate.of(2025, 10, 13));
+    }
+
+    private static void addReadings(List<MeterReading> readings, LocalDateTime start, int hoursApart, int count) {
+        for (int i = 0; i < count; i++) {
+            BigDecimal previous = readings.isEmpty()
+                    ? new BigDecimal("1000.00")
+                    : readings.get(readings.size() - 1).getReadingValue();
+            readings.add(MeterReading.builder()
+                    .meterType(MeterType.ELECTRICITY)
+                    .readingDate(start.plusHours((long) i * hoursApart))
+                    .readingValue(previous.add(BigDecimal.valueOf(25 + (i * 37) % 50, 2)))
+                    .build());
+        }
+    }
+}
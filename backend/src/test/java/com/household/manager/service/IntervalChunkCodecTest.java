@@ -0,0 +1,78 @@
+package com.household.manager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link IntervalChunkCodec}.
+ */
+class IntervalChunkCodecTest {
+
+    private static final long MIDNIGHT = LocalDateTime.of(2026, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Test
+    void irregularSeries_ShouldRoundTrip() {
+        // gaps, jitter, a long pause, idle periods, a meter exchange (value drops)
+        long[] times = {MIDNIGHT, MIDNIGHT + 900, MIDNIGHT + 1800, MIDNIGHT + 2703, MIDNIGHT + 3600,
+                MIDNIGHT + 7200, MIDNIGHT + 7201, MIDNIGHT + 50_000, MIDNIGHT + 86_399};
+        long[] values = {1_234_567, 1_234_592, 1_234_617, 1_234_617, 1_234_617, 1_240_000, 12, 900, 900};
+
+        long[][] decoded = IntervalChunkCodec.decodeAll(IntervalChunkCodec.encode(times, values));
+
+        assertThat(decoded[0]).containsExactly(times);
+        assertThat(decoded[1]).containsExactly(values);
+    }
+
+    @Test
+    void decode_ShouldReturnOnlyTheRequestedRange() {
+        long[][] day = quarterHourDay(new Random(7));
+        byte[] chunk = IntervalChunkCodec.encode(day[0], day[1]);
+
+        List<Long> times = new ArrayList<>();
+        int count = IntervalChunkCodec.decode(chunk, MIDNIGHT + 3600, MIDNIGHT + 7200, (time, value) -> times.add(time));
+
+        assertThat(count).isEqualTo(4);
+        assertThat(times).containsExactly(MIDNIGHT + 3600, MIDNIGHT + 4500, MIDNIGHT + 5400, MIDNIGHT + 6300);
+        assertThat(IntervalChunkCodec.count(chunk)).isEqualTo(96);
+    }
+
+    @Test
+    void quarterHourSeries_ShouldTakeAboutTwoBytesPerSample() {
+        long[][] day = quarterHourDay(new Random(42));
+
+        byte[] chunk = IntervalChunkCodec.encode(day[0], day[1]);
+
+        // a meter_readings row takes well over 50 bytes (columns, row header, indexes)
+        assertThat(chunk.length).isLessThan(96 * 2);
+        assertThat(IntervalChunkCodec.decodeAll(chunk)[1]).containsExactly(day[1]);
+    }
+
+    @Test
+    void unorderedTimes_ShouldBeRejected() {
+        assertThatThrownBy(() -> IntervalChunkCodec.encode(new long[]{MIDNIGHT, MIDNIGHT}, new long[]{1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 96 quarter-hour values of a household electricity meter: 0 to 0.6 kWh per interval.
+     */
+    private static long[][] quarterHourDay(Random random) {
+        long[] times = new long[96];
+        long[] values = new long[96];
+        long value = 4_200_000;
+        for (int i = 0; i < 96; i++) {
+            times[i] = MIDNIGHT + i * 900L;
+            values[i] = value;
+            value += random.nextInt(60);
+        }
+        return new long[][]{times, values};
+    }
+}
@@ -0,0 +1,127 @@
+package com.household.manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent all-types streams of {@link MeterReadingJsonStreamer} on a connection pool
+ * smaller than the connections they need together.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.minimum-idle=3",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class MeterReadingJsonStreamerPoolTest {
+
+    /** More rows per meter type than the merge buffers, so every query holds its connection. */
+    private static final int READINGS_PER_TYPE = 1500;
+    private static final int STREAMS = 12;
+
+    @Autowired
+    private MeterReadingJsonStreamer streamer;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2000, 1, 3, 8, 0);
+        for (MeterType meterType : MeterType.values()) {
+            for (int i = 0; i < READINGS_PER_TYPE; i++) {
+                Timestamp date = Timestamp.valueOf(start.plusWeeks(i));
+                rows.add(new Object[]{meterType.name(), 1000 + i, date, date, date});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meter_readings (meter_type, reading_value, reading_date, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentStreamAll_ShouldCompleteWithoutExhaustingPool() throws Exception {
+        CyclicBarrier start = new CyclicBarrier(STREAMS);
+        Callable<JsonNode> stream = () -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            start.await(10, TimeUnit.SECONDS);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new SlowClient(out))) {
+                streamer.streamAll("id,readingDate").writeTo(generator);
+            }
+            return objectMapper.readTree(out.toByteArray());
+        };
+
+        List<Future<JsonNode>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(STREAMS)) {
+            for (int i = 0; i < STREAMS; i++) {
+                results.add(executor.submit(stream));
+            }
+            for (Future<JsonNode> result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS).size())
+                        .isEqualTo(READINGS_PER_TYPE * MeterType.values().length);
+            }
+        }
+    }
+
+    /**
+     * Client that takes a moment for every chunk of the response, so the queries run ahead of it.
+     */
+    private static final class SlowClient extends FilterOutputStream {
+
+        SlowClient(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            out.write(bytes, offset, length);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.household.manager.service;
+
+import com.household.manager.coalescing.Coalesced;
+import com.household.manager.coalescing.CoalescingInterceptor;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.exception.MeterReadingNotFoundException;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Single-flight coalescing of {@link MeterReadingService} reads.
+ * <p>
+ * The repository blocks the first query until all callers have joined it, so
+ * every caller is guaranteed to arrive while the query is in flight.
+ */
+class MeterReadingServiceCoalescingTest {
+
+    private static final int CALLERS = 32;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeterReadingRepository repository;
+    private MeterReadingService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(MeterReadingRepository.class);
+        ObjectProvider<MeterRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getObject()).thenReturn(meterRegistry);
+
+        ProxyFactory proxyFactory = new ProxyFactory(new MeterReadingService(repository, new MeterTypeLocks(),
+                new TransactionTemplate(new NoOpTransactionManager()), event -> { }, new MeterTypeFanOut()));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class),
+                new CoalescingInterceptor(registryProvider)));
+        service = (MeterReadingService) proxyFactory.getProxy();
+    }
+
+    @Test
+    void concurrentIdenticalCalls_ShouldShareOneQuery() throws Exception {
+        when(repository.findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.GAS)).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(reading(1200, 14), reading(1000, 7));
+        });
+
+        List<MeterReadingResponse> results = callConcurrently("MeterReadingService.getLatestReading",
+                () -> service.getLatestReading(MeterType.GAS));
+
+        verify(repository, times(1)).findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.GAS);
+        assertThat(results).hasSize(CALLERS).allSatisfy(result -> {
+            assertThat(result.getReadingValue()).isEqualByComparingTo("1200");
+            assertThat(result.getConsumption()).isEqualByComparingTo("200");
+        });
+        assertThat(calls("MeterReadingService.getLatestReading", "leader")).isEqualTo(1);
+
+        // nothing is kept once the query completed
+        service.getLatestReading(MeterType.GAS);
+        verify(repository, times(2)).findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.GAS);
+    }
+
+    @Test
+    void concurrentCalls_ShouldShareFailureButNotDifferentArguments() throws Exception {
+        when(repository.findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.WATER)).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<MeterReadingResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> service.getLatestReading(MeterType.WATER)));
+            }
+            awaitJoined("MeterReadingService.getLatestReading");
+
+            // a different meter type is not coalesced with the query in flight
+            when(repository.findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.ELECTRICITY))
+                    .thenReturn(List.of(reading(50, 0)));
+            assertThat(service.getLatestReading(MeterType.ELECTRICITY).getReadingValue()).isEqualByComparingTo("50");
+
+            release.countDown();
+            for (Future<MeterReadingResponse> future : futures) {
+                assertThatThrownBy(future::get).hasCauseInstanceOf(MeterReadingNotFoundException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(repository, times(1)).findTop2ByMeterTypeOrderByReadingDateDesc(MeterType.WATER);
+        verify(repository, times(1)).findTop2ByMeterTypeOrderByReadingDateDesc(eq(MeterType.ELECTRICITY));
+        verify(repository, times(2)).findTop2ByMeterTypeOrderByReadingDateDesc(any());
+    }
+
+    private <T> List<T> callConcurrently(String flight, Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(call));
+            }
+            awaitJoined(flight);
+            release.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitJoined(String flight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calls(flight, "coalesced") < CALLERS - 1) {
+            assertThat(System.nanoTime()).as("callers joined in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private double calls(String flight, String result) {
+        return meterRegistry.counter("household.singleflight.calls", "flight", flight, "result", result).count();
+    }
+
+    private static MeterReading reading(int value, int day) {
+        return MeterReading.builder()
+                .id((long) day)
+                .meterType(MeterType.GAS)
+                .readingValue(BigDecimal.valueOf(value))
+                .readingDate(LocalDateTime.of(2026, 1, 1, 0, 0).plusDays(day))
+                .build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.model.entity.MeterReading;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrency stress test for {@link MeterReadingService#createMeterReading}.
+ * <p>
+ * 64 writers create readings for all meter types against an in-memory repository
+ * that, like the table before the unique key, enforces no constraints. The
+ * service must never store a duplicate (meter type, reading date) or a reading
+ * lower than the latest one, and writers of different meter types must not block each other.
+ * Throughput against the database is measured by {@link MeterReadingWriteBenchmarkTest}.
+ */
+class MeterReadingServiceConcurrencyTest {
+
+    private static final int WRITERS = 64;
+    private static final int OPERATIONS_PER_WRITER = 150;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private final Map<MeterType, List<MeterReading>> store = new EnumMap<>(MeterType.class);
+    private final AtomicLong ids = new AtomicLong();
+    private final MeterTypeLocks locks = new MeterTypeLocks();
+    private MeterReadingRepository repository;
+    private MeterReadingService service;
+
+    @BeforeEach
+    void setUp() {
+        for (MeterType type : MeterType.values()) {
+            store.put(type, new ArrayList<>());
+        }
+
+        repository = mock(MeterReadingRepository.class);
+        when(repository.existsByMeterTypeAndReadingDate(any(), any())).thenAnswer(invocation -> {
+            MeterType type = invocation.getArgument(0);
+            LocalDateTime date = invocation.getArgument(1);
+            return snapshot(type).stream().anyMatch(r -> r.getReadingDate().equals(date));
+        });
+        when(repository.findTopByMeterTypeOrderByReadingDateDesc(any())).thenAnswer(invocation -> {
+            List<MeterReading> readings = snapshot(invocation.getArgument(0));
+            // Widen the check-then-act window so unsynchronized writers would interleave
+            Thread.yield();
+            return readings.stream().max(Comparator.comparing(MeterReading::getReadingDate));
+        });
+        when(repository.findTop2ByMeterTypeOrderByReadingDateDesc(any())).thenAnswer(invocation ->
+                snapshot(invocation.getArgument(0)).stream()
+                        .sorted(Comparator.comparing(MeterReading::getReadingDate).reversed())
+                        .limit(2)
+                        .toList());
+        when(repository.save(any(MeterReading.class))).thenAnswer(invocation -> {
+            MeterReading reading = invocation.getArgument(0);
+            reading.setId(ids.incrementAndGet());
+            List<MeterReading> readings = store.get(reading.getMeterType());
+            synchronized (readings) {
+                readings.add(reading);
+            }
+            return reading;
+        });
+
+        service = new MeterReadingService(repository, locks,
+                new TransactionTemplate(new NoOpTransactionManager()), event -> {
+                }, new MeterTypeFanOut());
+    }
+
+    @Test
+    void parallelWriters_ShouldNeverStoreDuplicatesOrDecreasingValues() throws Exception {
+        Map<MeterType, AtomicLong> ticks = new EnumMap<>(MeterType.class);
+        for (MeterType type : MeterType.values()) {
+            ticks.put(type, new AtomicLong());
+        }
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int w = 0; w < WRITERS; w++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                        MeterType type = MeterType.values()[random.nextInt(MeterType.values().length)];
+                        long tick = ticks.get(type).get();
+                        // Every fifth operation re-submits an already used date
+                        if (i % 5 != 0 || tick == 0) {
+                            tick = ticks.get(type).incrementAndGet();
+                        }
+                        try {
+                            service.createMeterReading(request(type, tick));
+                            created.incrementAndGet();
+                        } catch (IllegalArgumentException ex) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int operations = WRITERS * OPERATIONS_PER_WRITER;
+        assertThat(created.get() + rejected.get()).isEqualTo(operations);
+        int stored = 0;
+        for (MeterType type : MeterType.values()) {
+            List<MeterReading> readings = snapshot(type);
+            stored += readings.size();
+
+            Set<LocalDateTime> dates = new HashSet<>();
+            BigDecimal previous = BigDecimal.ZERO;
+            for (MeterReading reading : readings) {
+                assertThat(dates.add(reading.getReadingDate()))
+                        .as("duplicate %s reading at %s", type, reading.getReadingDate())
+                        .isTrue();
+                assertThat(reading.getReadingValue())
+                        .as("%s reading stored out of order", type)
+                        .isGreaterThanOrEqualTo(previous);
+                previous = reading.getReadingValue();
+            }
+        }
+        assertThat(stored).isEqualTo(created.get());
+    }
+
+    @Test
+    void writerOfOtherMeterType_ShouldNotWaitForLockedMeterType() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            Future<?> holder = executor.submit(() -> locks.withLock(MeterType.ELECTRICITY, () -> {
+                locked.countDown();
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> electricity = executor.submit(() -> service.createMeterReading(request(MeterType.ELECTRICITY, 1)));
+            Future<?> gas = executor.submit(() -> service.createMeterReading(request(MeterType.GAS, 1)));
+
+            gas.get(5, TimeUnit.SECONDS);
+            assertThat(snapshot(MeterType.GAS)).hasSize(1);
+            assertThat(electricity.isDone()).isFalse();
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            electricity.get(5, TimeUnit.SECONDS);
+            assertThat(snapshot(MeterType.ELECTRICITY)).hasSize(1);
+        }
+    }
+
+    @Test
+    void integrityViolation_ShouldOnlyBeDuplicateReadingForUniqueKey() {
+        when(repository.save(any(MeterReading.class))).thenThrow(new DataIntegrityViolationException("insert failed",
+                new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062)));
+        assertThatThrownBy(() -> service.createMeterReading(request(MeterType.GAS, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already exists");
+
+        DataIntegrityViolationException notNull = new DataIntegrityViolationException("insert failed",
+                new SQLIntegrityConstraintViolationException("Column 'reading_value' cannot be null", "23000", 1048));
+        when(repository.save(any(MeterReading.class))).thenThrow(notNull);
+        assertThatThrownBy(() -> service.createMeterReading(request(MeterType.GAS, 1))).isSameAs(notNull);
+    }
+
+    private List<MeterReading> snapshot(MeterType type) {
+        List<MeterReading> readings = store.get(type);
+        synchronized (readings) {
+            return new ArrayList<>(readings);
+        }
+    }
+
+    private static MeterReadingRequest request(MeterType type, long tick) {
+        return MeterReadingRequest.builder()
+                .meterType(type)
+                .readingValue(BigDecimal.valueOf(tick))
+                .readingDate(BASE_DATE.plusHours(tick))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.household.manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.manager.load.HouseholdHistoryGenerator;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares allocation and CPU time per row of the streamed reading lists with
+ * loading entities, converting them to {@code MeterReadingResponse} objects and
+ * serializing those, for a 45-year daily history (about 48k readings).
+ * <p>
+ * Both paths include the database query. Run with {@code mvn test -Pbenchmark}
+ * against the local MariaDB test database.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.household=WARN")
+@ActiveProfiles("test")
+class MeterReadingStreamBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private MeterReadingJsonStreamer meterReadingJsonStreamer;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private int rows;
+
+    @BeforeEach
+    void setUp() {
+        HouseholdHistoryGenerator.HouseholdHistory history =
+                new HouseholdHistoryGenerator(42, 1).generate(45, LocalDate.of(2026, 10, 19));
+        history.insertInto(jdbcTemplate);
+        rows = history.readings().size();
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM utility_prices");
+    }
+
+    @Test
+    void compareSerializationPaths() throws Exception {
+        ByteArrayOutputStream dto = new ByteArrayOutputStream();
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        objectMapper.writeValue(dto, meterReadingService.getAllMeterReadings(null));
+        writeStream(streamed, null);
+        assertThat(streamed.toString()).isEqualTo(dto.toString());
+
+        System.out.printf("%d readings%n%-34s %14s %14s%n", rows, "path", "bytes/row", "cpu ns/row");
+        for (String fields : new String[]{null, "meterType,readingDate,readingValue"}) {
+            String label = fields == null ? "all fields" : "chart fields";
+            Measurement dtoPath = measure(() -> objectMapper.writeValue(OutputStream.nullOutputStream(),
+                    meterReadingService.getAllMeterReadings(fields)));
+            Measurement streamPath = measure(() -> writeStream(OutputStream.nullOutputStream(), fields));
+            print("DTO list, " + label, dtoPath);
+            print("streamed, " + label, streamPath);
+
+            assertThat(streamPath.allocatedBytes()).isLessThan(dtoPath.allocatedBytes());
+        }
+    }
+
+    private void writeStream(OutputStream out, String fields) throws Exception {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            meterReadingJsonStreamer.streamAll(fields).writeTo(generator);
+        }
+    }
+
+    private Measurement measure(Action action) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            action.run();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            action.run();
+        }
+        return new Measurement(THREADS.getCurrentThreadAllocatedBytes() - allocated,
+                THREADS.getCurrentThreadCpuTime() - cpu);
+    }
+
+    private void print(String label, Measurement measurement) {
+        long measuredRows = (long) rows * MEASURED_ROUNDS;
+        System.out.printf("%-34s %14d %14d%n", label,
+                measurement.allocatedBytes() / measuredRows, measurement.cpuNanos() / measuredRows);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private record Measurement(long allocatedBytes, long cpuNanos) {
+    }
+}
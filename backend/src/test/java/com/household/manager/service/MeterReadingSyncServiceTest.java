@@ -0,0 +1,164 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.MeterReadingChangesResponse;
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.dto.MeterReadingResponse;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MeterReadingSyncService} change tokens around writes that commit late or roll back.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MeterReadingSyncServiceTest {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO meter_readings (meter_type, reading_value, reading_date, created_at, updated_at) " +
+            "VALUES ('WATER', ?, ?, NOW(), NOW())";
+
+    @Autowired
+    private MeterReadingSyncService syncService;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getChangesSince_ShouldNotPassGapOfSlowTransactionUntilItCommits() throws Exception {
+        create("2026-03-01T08:00:00", "100.00");
+        long token = syncService.getLatestToken();
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(INSERT_SQL, new BigDecimal("7.00"), LocalDateTime.parse("2026-03-02T08:00:00"));
+                    written.countDown();
+                    await(commit);
+                }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+        MeterReadingResponse later = create("2026-03-03T08:00:00", "200.00");
+        long laterSeq = syncService.getLatestToken();
+
+        MeterReadingChangesResponse pending = syncService.getChangesSince(token);
+        assertThat(pending.getUpserts()).extracting(MeterReadingResponse::getId).contains(later.getId());
+        assertThat(pending.getNextToken()).isEqualTo(token);
+        assertThat(pending.isHasMore()).isFalse();
+
+        commit.countDown();
+        slowWrite.get(10, TimeUnit.SECONDS);
+
+        MeterReadingChangesResponse committed = syncService.getChangesSince(pending.getNextToken());
+        assertThat(committed.getUpserts()).extracting(MeterReadingResponse::getMeterType)
+                .contains(MeterType.WATER, MeterType.GAS);
+        assertThat(committed.getNextToken()).isEqualTo(laterSeq);
+    }
+
+    @Test
+    void getChangesSince_ShouldPassGapOfRolledBackTransaction() throws Exception {
+        create("2026-03-01T08:00:00", "100.00");
+        long token = syncService.getLatestToken();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_SQL, new BigDecimal("7.00"), LocalDateTime.parse("2026-03-02T08:00:00"));
+            status.setRollbackOnly();
+        });
+        create("2026-03-03T08:00:00", "200.00");
+        long laterSeq = syncService.getLatestToken();
+
+        // writers of other test contexts may hold the gap open for a moment
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        MeterReadingChangesResponse changes = syncService.getChangesSince(token);
+        while (changes.getNextToken() != laterSeq) {
+            assertThat(System.nanoTime()).as("gap of rolled back write was never passed").isLessThan(deadline);
+            Thread.sleep(50);
+            changes = syncService.getChangesSince(token);
+        }
+        assertThat(changes.getUpserts()).extracting(MeterReadingResponse::getMeterType).containsOnly(MeterType.GAS);
+    }
+
+    @Test
+    void getChangesSince_ShouldPassGapOfRolledBackTransactionWhileLaterWritesAreOpen() throws Exception {
+        create("2026-03-01T08:00:00", "100.00");
+        long token = syncService.getLatestToken();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_SQL, new BigDecimal("7.00"), LocalDateTime.parse("2026-03-02T08:00:00"));
+            status.setRollbackOnly();
+        });
+        create("2026-03-03T08:00:00", "200.00");
+        long laterSeq = syncService.getLatestToken();
+        // the gap is seen before the unrelated write below starts
+        syncService.getChangesSince(token);
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> unrelatedWrite = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update("UPDATE meter_readings SET notes = 'pending' WHERE meter_type = 'GAS'");
+                    written.countDown();
+                    await(commit);
+                    status.setRollbackOnly();
+                }));
+        try {
+            assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            MeterReadingChangesResponse changes = syncService.getChangesSince(token);
+            while (changes.getNextToken() != laterSeq) {
+                assertThat(System.nanoTime()).as("gap stalled behind an unrelated open write").isLessThan(deadline);
+                Thread.sleep(50);
+                changes = syncService.getChangesSince(token);
+            }
+        } finally {
+            commit.countDown();
+            unrelatedWrite.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private MeterReadingResponse create(String readingDate, String value) {
+        return meterReadingService.createMeterReading(MeterReadingRequest.builder()
+                .meterType(MeterType.GAS)
+                .readingValue(new BigDecimal(value))
+                .readingDate(LocalDateTime.parse(readingDate))
+                .build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
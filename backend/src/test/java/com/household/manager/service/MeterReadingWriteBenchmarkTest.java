@@ -0,0 +1,138 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.MeterReadingRequest;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.repository.MeterReadingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the throughput of {@link MeterReadingService#createMeterReading}
+ * with 64 parallel writers against the database.
+ * <p>
+ * Half of the writers go through a second service instance with its own
+ * {@link MeterTypeLocks}, like a second application instance, so besides the
+ * meter type locks the unique key on {@code (meter_type, reading_date)} is
+ * under contention. Every fifth operation re-submits a date already used.
+ * Run with {@code mvn test -Pbenchmark} against the local MariaDB test database.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.household=ERROR")
+@ActiveProfiles("test")
+class MeterReadingWriteBenchmarkTest {
+
+    private static final int WRITERS = 64;
+    private static final int OPERATIONS_PER_WRITER = 100;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final String DUPLICATES_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM meter_readings GROUP BY meter_type, reading_date " +
+            "HAVING COUNT(*) > 1) duplicates";
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private MeterReadingRepository meterReadingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterTypeFanOut meterTypeFanOut;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        meterReadingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void measureParallelWriters() throws Exception {
+        MeterReadingService otherInstance = new MeterReadingService(meterReadingRepository, new MeterTypeLocks(),
+                transactionTemplate, eventPublisher, meterTypeFanOut);
+        Map<MeterType, AtomicLong> ticks = new EnumMap<>(MeterType.class);
+        for (MeterType type : MeterType.values()) {
+            ticks.put(type, new AtomicLong());
+        }
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        long startNanos;
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int w = 0; w < WRITERS; w++) {
+                MeterReadingService service = w % 2 == 0 ? meterReadingService : otherInstance;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                        MeterType type = MeterType.values()[random.nextInt(MeterType.values().length)];
+                        long tick = ticks.get(type).get();
+                        if (i % 5 != 0 || tick == 0) {
+                            tick = ticks.get(type).incrementAndGet();
+                        }
+                        try {
+                            service.createMeterReading(request(type, tick));
+                            created.incrementAndGet();
+                        } catch (IllegalArgumentException ex) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        int operations = WRITERS * OPERATIONS_PER_WRITER;
+        System.out.printf("%d writers, %d operations (%d created, %d rejected) in %.3f s: %.0f ops/s%n",
+                WRITERS, operations, created.get(), rejected.get(), seconds, operations / seconds);
+
+        assertThat(created.get() + rejected.get()).isEqualTo(operations);
+        assertThat(meterReadingRepository.count()).isEqualTo(created.get());
+        assertThat(jdbcTemplate.queryForObject(DUPLICATES_SQL, Long.class)).isZero();
+    }
+
+    private static MeterReadingRequest request(MeterType type, long tick) {
+        return MeterReadingRequest.builder()
+                .meterType(type)
+                .readingValue(BigDecimal.valueOf(tick))
+                .readingDate(BASE_DATE.plusHours(tick))
+                .build();
+    }
+}
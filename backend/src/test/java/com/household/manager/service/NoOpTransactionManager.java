@@ -0,0 +1,31 @@
+package com.household.manager.service;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager for service unit tests that run against mocked repositories.
+ */
+class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        // nothing to begin
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        // nothing to commit
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        // nothing to roll back
+    }
+}
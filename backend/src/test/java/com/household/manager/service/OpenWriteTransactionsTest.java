@@ -0,0 +1,41 @@
+package com.household.manager.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link OpenWriteTransactions} with a database user lacking the {@code PROCESS} privilege.
+ */
+class OpenWriteTransactionsTest {
+
+    private final JdbcTemplate withoutProcess = new JdbcTemplate() {
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType) throws DataAccessException {
+            throw new BadSqlGrammarException("innodb_trx", sql, new SQLException(
+                    "Access denied; you need (at least one of) the PROCESS privilege(s) for this operation",
+                    "42000", 1227));
+        }
+    };
+
+    @Test
+    void afterPropertiesSet_ShouldFailWithoutProcessPrivilege() {
+        OpenWriteTransactions openWriteTransactions = new OpenWriteTransactions(withoutProcess);
+
+        assertThatThrownBy(openWriteTransactions::afterPropertiesSet)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PROCESS privilege");
+    }
+
+    @Test
+    void find_ShouldBeEmptyWithoutProcessPrivilege() {
+        assertThat(new OpenWriteTransactions(withoutProcess).find()).isEmpty();
+    }
+}
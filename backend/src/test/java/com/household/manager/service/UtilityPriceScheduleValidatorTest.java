@@ -0,0 +1,79 @@
+package com.household.manager.service;
+
+import com.household.manager.dto.UtilityPricePeriodRequest;
+import com.household.manager.exception.BatchItemError;
+import com.household.manager.model.entity.MeterType;
+import com.household.manager.model.entity.UtilityPrice;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link UtilityPriceScheduleValidator}.
+ */
+class UtilityPriceScheduleValidatorTest {
+
+    @Test
+    void adjacentPeriods_ShouldNotConflict() {
+        List<UtilityPricePeriodRequest> schedule = List.of(
+                period("2025-01-01", "2026-01-01"),
+                period("2023-01-01", "2024-01-01"),
+                period("2024-01-01", "2025-01-01"),
+                period("2026-01-01", null));
+
+        assertThat(UtilityPriceScheduleValidator.findConflicts(schedule, List.of())).isEmpty();
+    }
+
+    @Test
+    void overlappingUploadedPeriods_ShouldReportBothItems() {
+        List<UtilityPricePeriodRequest> schedule = List.of(
+                period("2024-01-01", "2024-07-01"),
+                period("2024-06-01", "2025-01-01"));
+
+        List<BatchItemError> errors = UtilityPriceScheduleValidator.findConflicts(schedule, List.of());
+
+        assertThat(errors).extracting(BatchItemError::getIndex).containsExactly(0, 1);
+        assertThat(errors.get(1).getConflictingIndex()).isEqualTo(0);
+    }
+
+    @Test
+    void periodOverlappingExistingPrice_ShouldReferenceExistingId() {
+        UtilityPrice existing = UtilityPrice.builder()
+                .id(42L)
+                .meterType(MeterType.ELECTRICITY)
+                .price(new BigDecimal("0.3000"))
+                .validFrom(LocalDate.parse("2020-01-01"))
+                .build();
+
+        List<BatchItemError> errors = UtilityPriceScheduleValidator.findConflicts(
+                List.of(period("2019-01-01", "2020-01-01"), period("2021-01-01", "2022-01-01")),
+                List.of(existing));
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getIndex()).isEqualTo(1);
+        assertThat(errors.get(0).getConflictingId()).isEqualTo(42L);
+    }
+
+    @Test
+    void invertedPeriod_ShouldBeReportedWithoutOverlapCheck() {
+        List<BatchItemError> errors = UtilityPriceScheduleValidator.findConflicts(
+                List.of(period("2024-01-01", "2023-01-01")), List.of());
+
+        assertThat(errors).singleElement()
+                .extracting(BatchItemError::getMessage)
+                .asString()
+                .contains("must be before");
+    }
+
+    private static UtilityPricePeriodRequest period(String from, String to) {
+        return UtilityPricePeriodRequest.builder()
+                .price(new BigDecimal("0.3000"))
+                .validFrom(LocalDate.parse(from))
+                .validTo(to != null ? LocalDate.parse(to) : null)
+                .build();
+    }
+}
@@ -46,7 +46,10 @@ export class MeterReadingImportComponent {
     this.meterReadingService.importCsv(this.selectedFile).subscribe({
       next: (result) => {
         this.isUploading = false;
-        this.successMessage = `Import abgeschlossen: ${result.createdCount} Einträge erstellt.`;
+        this.successMessage = result.alreadyImported
+          ? 'Diese Datei wurde bereits importiert.'
+          : `Import abgeschlossen: ${result.createdCount} Einträge erstellt, ${result.updatedCount} aktualisiert, `
+            + `${result.unchangedCount} unverändert.`;
         this.importCompleted.emit();
       },
       error: (error: Error) => {
@@ -0,0 +1,34 @@
+import { ConsumptionResponse, MeterReading, MeterType } from './meter-reading.model';
+import { UtilityPrice } from './utility-price.model';
+
+/**
+ * Dashboard-Daten eines Zählertyps
+ * Fehlende Teile (keine Ablesung, nur eine Ablesung, kein aktueller Preis) sind null
+ */
+export interface DashboardMeter {
+  /** Typ des Zählers */
+  meterType: MeterType;
+
+  /** Neueste Ablesung */
+  latestReading: MeterReading | null;
+
+  /** Verbrauch zwischen den beiden neuesten Ablesungen */
+  consumption: ConsumptionResponse | null;
+
+  /** Heute gültiger Preis (nur Strom und Gas) */
+  currentPrice: UtilityPrice | null;
+}
+
+/**
+ * Response-Interface für die Dashboard-Zusammenfassung
+ */
+export interface DashboardSummary {
+  /** Ein Eintrag je Zählertyp */
+  meters: DashboardMeter[];
+
+  /** Einzelne Teile konnten nicht geladen werden */
+  partial: boolean;
+
+  /** Zeitpunkt der Berechnung */
+  generatedAt: string;
+}
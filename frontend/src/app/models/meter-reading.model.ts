@@ -90,3 +90,40 @@ export interface ConsumptionResponse {
   /** Durchschnittlicher täglicher Verbrauch */
   averageDailyConsumption: number;
 }
+
+/**
+ * Response-Interface für die inkrementelle Synchronisation der Ablesungen
+ */
+export interface MeterReadingChanges {
+  /** Änderungs-Token für die nächste Anfrage */
+  nextToken: number;
+
+  /** Lokale Kopie verwerfen, bevor die Änderungen angewendet werden */
+  reset: boolean;
+
+  /** Weitere Änderungen verfügbar - erneut mit nextToken anfragen */
+  hasMore: boolean;
+
+  /** Neue oder geänderte Ablesungen im aktuellen Stand */
+  upserts: MeterReading[];
+
+  /** IDs gelöschter Ablesungen */
+  deletedIds: number[];
+}
+
+/**
+ * Response-Interface für das Ergebnis eines CSV-Imports
+ */
+export interface MeterReadingImportResult {
+  /** Anzahl neu angelegter Ablesungen */
+  createdCount: number;
+
+  /** Anzahl aktualisierter Ablesungen (Zeile seit dem letzten Import geändert) */
+  updatedCount: number;
+
+  /** Anzahl unveränderter Zeilen, die übersprungen wurden */
+  unchangedCount: number;
+
+  /** Datei wurde bereits unverändert importiert und daher übersprungen */
+  alreadyImported: boolean;
+}
@@ -336,7 +336,7 @@ export class ConsumptionChartsComponent implements OnInit {
     this.errorMessage = null;
 
     const requests = this.meterTypes.map(type =>
-      this.meterReadingService.getReadingsByType(type)
+      this.meterReadingService.getReadingSeries(type)
     );
 
     let completed = 0;
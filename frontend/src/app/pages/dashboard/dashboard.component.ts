@@ -1,11 +1,8 @@
 import { Component, OnInit, inject } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { RouterLink } from '@angular/router';
-import { forkJoin } from 'rxjs';
 import { IconComponent } from '../../shared/components/icon/icon.component';
-import { MeterReadingService } from '../../services/meter-reading.service';
-import { UtilityPriceService } from '../../services/utility-price.service';
-import { UtilityPrice } from '../../models/utility-price.model';
+import { DashboardService } from '../../services/dashboard.service';
 import { MeterType, ConsumptionResponse } from '../../models/meter-reading.model';
 import { MeterTypeUtils } from '../../utils/meter-type.utils';
 
@@ -21,8 +18,7 @@ import { MeterTypeUtils } from '../../utils/meter-type.utils';
   styleUrl: './dashboard.component.scss'
 })
 export class DashboardComponent implements OnInit {
-  private readonly meterReadingService = inject(MeterReadingService);
-  private readonly utilityPriceService = inject(UtilityPriceService);
+  private readonly dashboardService = inject(DashboardService);
 
   private static readonly GAS_ZUSTANDSZAHL = 0.95;
   private static readonly GAS_BRENNWERT = 11.5;
@@ -41,31 +37,22 @@ export class DashboardComponent implements OnInit {
   }
 
   /**
-   * Loads meter data from backend API for all meter types
+   * Loads meter data for all meter types with a single dashboard request
    */
   private loadMeterData(): void {
     this.isLoading = true;
     this.errorMessage = null;
 
-    const allTypes = MeterTypeUtils.getAllTypes();
-
-    // Load latest reading and consumption for each meter type in parallel
-    const requests = allTypes.map(type =>
-      forkJoin({
-        type: [type],
-        latestReading: this.meterReadingService.getLatestReading(type),
-        consumption: this.meterReadingService.getConsumptionStats(type),
-        currentPrice: this.loadCurrentPrice(type)
-      })
-    );
-
-    forkJoin(requests).subscribe({
-      next: (results) => {
-        this.meterData = results.map(result => {
-          const type = result.type;
-          const latest = result.latestReading;
-          const consumption = result.consumption;
-          const currentPrice = result.currentPrice;
+    this.dashboardService.getSummary().subscribe({
+      next: (summary) => {
+        if (summary.partial) {
+          console.warn('Dashboard summary is incomplete');
+        }
+        this.meterData = summary.meters.map(meter => {
+          const type = meter.meterType;
+          const latest = meter.latestReading;
+          const consumption = meter.consumption;
+          const currentPrice = meter.currentPrice;
           const consumptionLast7Days = this.calculateConsumptionLast7Days(consumption);
           const pricePerUnit = currentPrice?.price ?? null;
           const costLast7Days = this.calculateCostLast7Days(
@@ -179,13 +166,6 @@ export class DashboardComponent implements OnInit {
     }).format(value);
   }
 
-  private loadCurrentPrice(type: MeterType) {
-    if (type !== MeterType.ELECTRICITY && type !== MeterType.GAS) {
-      return [null as UtilityPrice | null];
-    }
-    return this.utilityPriceService.getCurrentPrice(type);
-  }
-
   private calculateConsumptionLast7Days(consumption: ConsumptionResponse | null): number {
     if (!consumption || consumption.averageDailyConsumption == null) {
       return 0;
@@ -0,0 +1,37 @@
+import { Injectable, inject } from '@angular/core';
+import { HttpClient, HttpErrorResponse } from '@angular/common/http';
+import { Observable, throwError } from 'rxjs';
+import { catchError } from 'rxjs/operators';
+import { DashboardSummary } from '../models/dashboard.model';
+
+/**
+ * Service für die Dashboard-Zusammenfassung
+ * Lädt neueste Ablesung, Verbrauch und aktuellen Preis aller Zählertypen mit einem Request
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class DashboardService {
+  private readonly http = inject(HttpClient);
+  private readonly baseUrl = 'http://localhost:8080/api/v1/dashboard';
+
+  /**
+   * Lädt die Zusammenfassung aller Zählertypen
+   */
+  getSummary(): Observable<DashboardSummary> {
+    return this.http.get<DashboardSummary>(this.baseUrl).pipe(
+      catchError(this.handleError)
+    );
+  }
+
+  /**
+   * Zentrale Fehlerbehandlung
+   */
+  private handleError(error: HttpErrorResponse): Observable<never> {
+    console.error('API-Fehler:', error);
+    const errorMessage = error.error instanceof ErrorEvent
+      ? `Fehler: ${error.error.message}`
+      : `Server-Fehler: ${error.status}`;
+    return throwError(() => new Error(errorMessage));
+  }
+}
@@ -0,0 +1,145 @@
+import { Injectable } from '@angular/core';
+import { MeterReading, MeterReadingChanges } from '../models/meter-reading.model';
+
+/**
+ * Zwischengespeicherter Stand der Ablesungen
+ */
+export interface CachedMeterReadings {
+  /** Änderungs-Token des gespeicherten Stands (0 = leer) */
+  token: number;
+
+  /** Ablesungen im Rohformat der API (Datumswerte als ISO-Strings) */
+  readings: MeterReading[];
+}
+
+const DB_NAME = 'household-manager';
+const DB_VERSION = 1;
+const READINGS_STORE = 'meter-readings';
+const STATE_STORE = 'sync-state';
+const TOKEN_KEY = 'meterReadingsToken';
+
+/**
+ * Persistenter Cache für Zählerablesungen in IndexedDB
+ * Hält eine lokale Kopie aller Ablesungen samt Änderungs-Token, damit nach
+ * dem ersten Laden nur noch Änderungen übertragen werden müssen.
+ * Ist IndexedDB nicht verfügbar, verhält sich der Cache wie ein leerer Cache.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class MeterReadingCacheService {
+  private dbPromise: Promise<IDBDatabase | null> | null = null;
+
+  /**
+   * Lädt den gespeicherten Stand
+   */
+  async load(): Promise<CachedMeterReadings> {
+    const db = await this.openDb();
+    if (!db) {
+      return { token: 0, readings: [] };
+    }
+
+    try {
+      const tx = db.transaction([READINGS_STORE, STATE_STORE], 'readonly');
+      const [readings, token] = await Promise.all([
+        this.request<MeterReading[]>(tx.objectStore(READINGS_STORE).getAll()),
+        this.request<number | undefined>(tx.objectStore(STATE_STORE).get(TOKEN_KEY))
+      ]);
+      return { token: token ?? 0, readings };
+    } catch (error) {
+      console.warn('Cache konnte nicht gelesen werden:', error);
+      return { token: 0, readings: [] };
+    }
+  }
+
+  /**
+   * Wendet eine Änderungsantwort der API in einer Transaktion an
+   */
+  async apply(changes: MeterReadingChanges): Promise<void> {
+    const db = await this.openDb();
+    if (!db) {
+      return;
+    }
+
+    try {
+      const tx = db.transaction([READINGS_STORE, STATE_STORE], 'readwrite');
+      const readings = tx.objectStore(READINGS_STORE);
+      if (changes.reset) {
+        readings.clear();
+      }
+      changes.deletedIds.forEach(id => readings.delete(id));
+      changes.upserts.forEach(reading => readings.put(reading));
+      tx.objectStore(STATE_STORE).put(changes.nextToken, TOKEN_KEY);
+      await this.complete(tx);
+    } catch (error) {
+      // Ohne gültigen Cache beim nächsten Mal vollständig synchronisieren
+      console.warn('Cache konnte nicht aktualisiert werden:', error);
+      await this.clear();
+    }
+  }
+
+  /**
+   * Leert den Cache
+   */
+  async clear(): Promise<void> {
+    const db = await this.openDb();
+    if (!db) {
+      return;
+    }
+
+    try {
+      const tx = db.transaction([READINGS_STORE, STATE_STORE], 'readwrite');
+      tx.objectStore(READINGS_STORE).clear();
+      tx.objectStore(STATE_STORE).clear();
+      await this.complete(tx);
+    } catch (error) {
+      console.warn('Cache konnte nicht geleert werden:', error);
+    }
+  }
+
+  /**
+   * Öffnet die Datenbank einmalig und legt die Object Stores an
+   */
+  private openDb(): Promise<IDBDatabase | null> {
+    if (!this.dbPromise) {
+      this.dbPromise = new Promise(resolve => {
+        if (typeof indexedDB === 'undefined') {
+          resolve(null);
+          return;
+        }
+
+        const request = indexedDB.open(DB_NAME, DB_VERSION);
+        request.onupgradeneeded = () => {
+          const db = request.result;
+          if (!db.objectStoreNames.contains(READINGS_STORE)) {
+            db.createObjectStore(READINGS_STORE, { keyPath: 'id' });
+          }
+          if (!db.objectStoreNames.contains(STATE_STORE)) {
+            db.createObjectStore(STATE_STORE);
+          }
+        };
+        request.onsuccess = () => resolve(request.result);
+        request.onerror = () => {
+          console.warn('IndexedDB nicht verfügbar:', request.error);
+          resolve(null);
+        };
+      });
+    }
+    return this.dbPromise;
+  }
+
+  private request<T>(request: IDBRequest): Promise<T> {
+    return new Promise((resolve, reject) => {
+      request.onsuccess = () => resolve(request.result as T);
+      request.onerror = () => reject(request.error);
+    });
+  }
+
+  private complete(tx: IDBTransaction): Promise<void> {
+    return new Promise((resolve, reject) => {
+      tx.oncomplete = () => resolve();
+      tx.onerror = () => reject(tx.error);
+      tx.onabort = () => reject(tx.error);
+    });
+  }
+}
@@ -1,13 +1,16 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient, HttpErrorResponse, HttpParams } from '@angular/common/http';
-import { Observable, throwError } from 'rxjs';
-import { catchError, map } from 'rxjs/operators';
+import { HttpClient, HttpErrorResponse, HttpHeaders, HttpParams } from '@angular/common/http';
+import { Observable, defer, firstValueFrom, throwError } from 'rxjs';
+import { catchError, map, switchMap } from 'rxjs/operators';
 import {
   MeterReading,
+  MeterReadingChanges,
+  MeterReadingImportResult,
   MeterReadingRequest,
   MeterType,
   ConsumptionResponse
 } from '../models/meter-reading.model';
+import { MeterReadingCacheService } from './meter-reading-cache.service';
 
 /**
  * Service für Zählerablesungen
@@ -18,23 +21,40 @@ import {
 })
 export class MeterReadingService {
   private readonly http = inject(HttpClient);
+  private readonly cache = inject(MeterReadingCacheService);
   private readonly baseUrl = 'http://localhost:8080/api/v1/meter-readings';
 
+  /** Laufende Synchronisation, die parallele Aufrufe gemeinsam nutzen */
+  private pendingSync: Promise<MeterReading[]> | null = null;
+
   /**
-   * Lädt alle Ablesungen
+   * Lädt alle Ablesungen (neueste zuerst)
+   * Synchronisiert die lokale Kopie und überträgt nur Änderungen seit dem letzten Abruf
    */
   getAllReadings(): Observable<MeterReading[]> {
-    return this.http.get<MeterReading[]>(this.baseUrl).pipe(
+    return defer(() => this.sync()).pipe(
       map(readings => this.convertDates(readings)),
       catchError(this.handleError)
     );
   }
 
   /**
-   * Lädt Ablesungen für einen bestimmten Zählertyp
+   * Lädt Ablesungen für einen bestimmten Zählertyp (neueste zuerst)
    */
   getReadingsByType(type: MeterType): Observable<MeterReading[]> {
-    return this.http.get<MeterReading[]>(`${this.baseUrl}/${type}`).pipe(
+    return defer(() => this.sync()).pipe(
+      map(readings => this.convertDates(readings.filter(reading => reading.meterType === type))),
+      catchError(this.handleError)
+    );
+  }
+
+  /**
+   * Lädt nur Datum und Zählerstand eines Zählertyps für Diagramme (neueste zuerst)
+   * Das Backend liest dafür weder Notizen noch Zeitstempel aus der Datenbank
+   */
+  getReadingSeries(type: MeterType): Observable<MeterReading[]> {
+    const params = new HttpParams().set('fields', 'meterType,readingDate,readingValue');
+    return this.http.get<MeterReading[]>(`${this.baseUrl}/${type}`, { params }).pipe(
       map(readings => this.convertDates(readings)),
       catchError(this.handleError)
     );
@@ -72,13 +92,24 @@ export class MeterReadingService {
   }
 
   /**
-   * Importiert ZÃ¤hlerstÃ¤nde aus einer CSV-Datei
+   * Importiert Zählerstände aus einer CSV-Datei
+   * Die Datei wird als roher Request-Body (ohne Multipart) gesendet und, sofern vom Browser unterstützt,
+   * vorher gzip-komprimiert. Der Browser hält den Body dabei vollständig im Speicher; gestreamt verarbeitet
+   * wird er erst auf dem Server, der schon während des Empfangs importiert.
+   * Der mitgesendete SHA-256 der Datei erlaubt dem Server, eine bereits importierte Datei sofort zu überspringen.
    */
-  importCsv(file: File): Observable<{ createdCount: number }> {
-    const formData = new FormData();
-    formData.append('file', file, file.name);
-
-    return this.http.post<{ createdCount: number }>(`${this.baseUrl}/import`, formData).pipe(
+  importCsv(file: File): Observable<MeterReadingImportResult> {
+    return defer(() => Promise.all([this.compressCsv(file), this.hashCsv(file)])).pipe(
+      switchMap(([{ body, encoding }, contentHash]) => {
+        let headers = new HttpHeaders({ 'Content-Type': 'text/csv' });
+        if (encoding) {
+          headers = headers.set('Content-Encoding', encoding);
+        }
+        if (contentHash) {
+          headers = headers.set('X-Content-SHA256', contentHash);
+        }
+        return this.http.post<MeterReadingImportResult>(`${this.baseUrl}/import/stream`, body, { headers });
+      }),
       catchError(this.handleError)
     );
   }
@@ -93,6 +124,87 @@ export class MeterReadingService {
     );
   }
 
+  /**
+   * Gleicht die lokale Kopie mit dem Server ab
+   * Parallele Aufrufe teilen sich eine Synchronisation
+   */
+  private sync(): Promise<MeterReading[]> {
+    if (!this.pendingSync) {
+      this.pendingSync = this.fetchChanges().finally(() => this.pendingSync = null);
+    }
+    return this.pendingSync;
+  }
+
+  /**
+   * Lädt alle Änderungen seit dem gespeicherten Token und übernimmt sie in den Cache
+   */
+  private async fetchChanges(): Promise<MeterReading[]> {
+    const cached = await this.cache.load();
+    const readings = new Map<number, MeterReading>();
+    cached.readings.forEach(reading => readings.set(reading.id!, reading));
+
+    let token = cached.token;
+    let hasMore = true;
+    while (hasMore) {
+      const changes = await firstValueFrom(this.http.get<MeterReadingChanges>(`${this.baseUrl}/changes`, {
+        params: new HttpParams().set('since', token)
+      }));
+
+      if (changes.reset) {
+        readings.clear();
+      }
+      changes.deletedIds.forEach(id => readings.delete(id));
+      changes.upserts.forEach(reading => readings.set(reading.id!, reading));
+      await this.cache.apply(changes);
+
+      token = changes.nextToken;
+      hasMore = changes.hasMore;
+    }
+
+    return this.withLatestConsumption(Array.from(readings.values())
+      .sort((a, b) => String(b.readingDate).localeCompare(String(a.readingDate))));
+  }
+
+  /**
+   * Wie im Backend trägt nur die jeweils neueste Ablesung eines Zählertyps Verbrauchswerte.
+   * Im Cache können ältere Ablesungen noch Werte aus der Zeit tragen, als sie die neueste waren.
+   */
+  private withLatestConsumption(sortedReadings: MeterReading[]): MeterReading[] {
+    const seenTypes = new Set<MeterType>();
+    return sortedReadings.map(reading => {
+      if (!seenTypes.has(reading.meterType)) {
+        seenTypes.add(reading.meterType);
+        return reading;
+      }
+      const { consumption, daysSinceLastReading, ...rest } = reading;
+      return rest;
+    });
+  }
+
+  /**
+   * Komprimiert eine CSV-Datei mit gzip (CompressionStream), falls verfügbar
+   * Das Ergebnis wird als Blob gepuffert, da HttpClient keine Stream-Bodies senden kann
+   */
+  private async compressCsv(file: File): Promise<{ body: Blob; encoding: string | null }> {
+    if (typeof CompressionStream === 'undefined') {
+      return { body: file, encoding: null };
+    }
+    const compressed = await new Response(file.stream().pipeThrough(new CompressionStream('gzip'))).blob();
+    return { body: compressed, encoding: 'gzip' };
+  }
+
+  /**
+   * Berechnet den SHA-256 der Datei als Hex-String
+   * Nur für Dateien bis 64 MB und in sicheren Kontexten (crypto.subtle), sonst null
+   */
+  private async hashCsv(file: File): Promise<string | null> {
+    if (typeof crypto === 'undefined' || !crypto.subtle || file.size > 64 * 1024 * 1024) {
+      return null;
+    }
+    const digest = await crypto.subtle.digest('SHA-256', await file.arrayBuffer());
+    return Array.from(new Uint8Array(digest), byte => byte.toString(16).padStart(2, '0')).join('');
+  }
+
   /**
    * Konvertiert ISO-Date-Strings zu Date-Objekten für ein Array
    */
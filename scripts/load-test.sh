@@ -0,0 +1,53 @@
+#!/bin/bash
+# Lasttest für Household Manager
+# Erzeugt eine synthetische Haushaltshistorie und misst Durchsatz und Latenzen
+# (p50/p90/p99) aller lesenden Endpunkte.
+#
+# Verwendung: ./scripts/load-test.sh [Optionen]
+#   --years N          Jahre an Historie (Standard: 10)
+#   --daily            tägliche statt wöchentliche Ablesungen
+#   --concurrency N    gleichzeitige Clients (Standard: 8)
+#   --requests N       gemessene Anfragen je Endpunkt (Standard: 500)
+#   --warmup N         Aufwärm-Anfragen je Endpunkt (Standard: 100)
+#   --seed-via MODUS   jdbc (Bulk-Load) oder http (CSV-Import), Standard: jdbc
+#   --base-url URL     laufende Instanz messen, z.B. http://localhost:8080/api
+#                      (ohne: Backend wird mit dem Test-Profil gegen die lokale
+#                      MariaDB-Datenbank household_manager_test gestartet)
+#
+# Ergebnis: backend/target/load-test/report.csv, erzeugte Daten in
+# backend/target/load-test/household-history.csv
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$SCRIPT_DIR/../backend"
+
+# Farben für Output
+RED='\033[0;31m'
+CYAN='\033[0;36m'
+NC='\033[0m' # No Color
+
+MVN_ARGS=()
+while [ $# -gt 0 ]; do
+    case "$1" in
+        --years) MVN_ARGS+=("-Dload.years=$2"); shift 2 ;;
+        --daily) MVN_ARGS+=("-Dload.interval-days=1"); shift ;;
+        --concurrency) MVN_ARGS+=("-Dload.concurrency=$2"); shift 2 ;;
+        --requests) MVN_ARGS+=("-Dload.requests=$2"); shift 2 ;;
+        --warmup) MVN_ARGS+=("-Dload.warmup=$2"); shift 2 ;;
+        --seed-via) MVN_ARGS+=("-Dload.seed-via=$2"); shift 2 ;;
+        --base-url) MVN_ARGS+=("-Dload.base-url=$2"); shift 2 ;;
+        *)
+            echo -e "${RED}✗${NC} Unbekannte Option: $1"
+            sed -n '6,16p' "$0"
+            exit 1
+            ;;
+    esac
+done
+
+echo -e "${CYAN}==================================${NC}"
+echo -e "${CYAN}Household Manager - Lasttest${NC}"
+echo -e "${CYAN}==================================${NC}"
+
+cd "$BACKEND_DIR"
+mvn -B test -Pload-test "${MVN_ARGS[@]}"